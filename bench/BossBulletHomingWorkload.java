@@ -0,0 +1,38 @@
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BossBullet.update() for a batch of homing bullets. Redirects are unlimited
+ * so every call runs the full steering math instead of flying straight.
+ */
+public class BossBulletHomingWorkload extends GameWorkload {
+    private static final long STEP_MS = 16;
+
+    private final int count;
+    private final List<BossBullet> bullets = new ArrayList<>();
+    private final Player player = new Player(World.WORLD_WIDTH / 2, World.WORLD_HEIGHT / 2);
+    private final Random random = new Random(17);
+
+    public BossBulletHomingWorkload(String count) {
+        this.count = Integer.parseInt(count);
+    }
+
+    @Override
+    public void setupIteration() {
+        bullets.clear();
+        for (int i = 0; i < count; i++) {
+            bullets.add(new BossBullet().reset(random.nextInt(World.WORLD_WIDTH), random.nextInt(World.WORLD_HEIGHT),
+                    10, Color.YELLOW, true, Integer.MAX_VALUE));
+        }
+    }
+
+    @Override
+    public Object run() {
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).update(player, STEP_MS);
+        }
+        return bullets;
+    }
+}
@@ -0,0 +1,50 @@
+import entities.GameObject;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import managers.CollisionManager;
+
+/**
+ * CollisionManager.checkCollisions between two lists of the same size spread
+ * over the whole world (bullets vs enemies in the worst case).
+ */
+public class CollisionWorkload extends GameWorkload {
+    private final CollisionManager collisionManager = new CollisionManager();
+    private final List<Body> first = new ArrayList<>();
+    private final List<Body> second = new ArrayList<>();
+    private int hits = 0;
+    private final CollisionManager.CollisionHandler<Body, Body> handler = (a, b) -> hits++;
+
+    public CollisionWorkload(String param) {
+        int count = Integer.parseInt(param);
+        Random random = new Random(11);
+        for (int i = 0; i < count; i++) {
+            first.add(new Body(random.nextInt(World.WORLD_WIDTH), random.nextInt(World.WORLD_HEIGHT), 8));
+            second.add(new Body(random.nextInt(World.WORLD_WIDTH), random.nextInt(World.WORLD_HEIGHT), 60));
+        }
+    }
+
+    @Override
+    public Object run() {
+        collisionManager.checkCollisions(first, second, handler);
+        return hits;
+    }
+
+    /**
+     * Stationary collidable of a given size
+     */
+    static final class Body extends GameObject {
+        Body(int x, int y, int size) {
+            super(x, y, size, size);
+        }
+
+        @Override
+        public void draw(Graphics2D g2d) {
+        }
+
+        @Override
+        public void update(long deltaMs) {
+        }
+    }
+}
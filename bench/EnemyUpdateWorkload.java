@@ -0,0 +1,43 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Enemy.update(Player, Player, ...) (co-op targeting) for a batch of enemies,
+ * one 16ms step per call.
+ * Enemies drift toward the players during an iteration, so they are
+ * re-created at random positions before each one.
+ */
+public class EnemyUpdateWorkload extends GameWorkload {
+    private static final long STEP_MS = 16;
+
+    private final int count;
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final Player player = new Player(World.WORLD_WIDTH / 2, World.WORLD_HEIGHT / 2);
+    private final Player player2 = new Player(World.WORLD_WIDTH / 2 - 50, World.WORLD_HEIGHT / 2);
+    private final Random random = new Random(13);
+    private long now;
+
+    public EnemyUpdateWorkload(String count) {
+        this.count = Integer.parseInt(count);
+    }
+
+    @Override
+    public void setupIteration() {
+        enemies.clear();
+        Enemy.EnemyType[] types = Enemy.EnemyType.values();
+        for (int i = 0; i < count; i++) {
+            enemies.add(new Enemy(random.nextInt(World.WORLD_WIDTH), random.nextInt(World.WORLD_HEIGHT),
+                    types[random.nextInt(types.length)]));
+        }
+    }
+
+    @Override
+    public Object run() {
+        now += STEP_MS;
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).update(player, player2, now, STEP_MS);
+        }
+        return enemies;
+    }
+}
@@ -0,0 +1,13 @@
+import benchmarks.Workload;
+
+/**
+ * Base of the workloads under bench/: sets the game up for measuring once,
+ * before the first workload is created.
+ */
+public abstract class GameWorkload extends Workload {
+    static {
+        // Keep the game's own logging out of the measurements
+        Log.setLevel(Log.Level.ERROR);
+        AssetCache.preloadDefaults();
+    }
+}
@@ -0,0 +1,100 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * Draws one entity of a given type into an offscreen image the size of the
+ * game view, with the same rendering hints paintFrame() uses. PARTICLES draws
+ * a published View of a full explosion field instead of a single object.
+ */
+public class RenderWorkload extends GameWorkload {
+    private static final int PARTICLE_COUNT = 1000;
+
+    public enum Target {
+        PLAYER, ENEMY, BULLET, ENEMY_BULLET, BOSS_BULLET, BOSS_LASER, POWER_UP, DAMAGE_POPUP, BOSS, PARTICLES
+    }
+
+    private final Target target;
+    private final BufferedImage canvas = new BufferedImage(World.VIEW_WIDTH, World.VIEW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    private final Graphics2D g2d;
+    private Runnable draw;
+
+    public RenderWorkload(String target) {
+        this.target = Target.valueOf(target);
+        this.g2d = canvas.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @Override
+    public void setupIteration() {
+        int cx = World.VIEW_WIDTH / 2;
+        int cy = World.VIEW_HEIGHT / 2;
+        switch (target) {
+            case PLAYER: {
+                Player player = new Player(cx, cy);
+                draw = () -> player.draw(g2d);
+                break;
+            }
+            case ENEMY: {
+                Enemy enemy = new Enemy(cx, cy, Enemy.EnemyType.TYPE1);
+                draw = () -> enemy.draw(g2d);
+                break;
+            }
+            case BULLET: {
+                Bullet bullet = new Bullet().reset(cx, cy, 0.5, World.PLAYER_BULLET_SPEED);
+                draw = () -> bullet.draw(g2d);
+                break;
+            }
+            case ENEMY_BULLET: {
+                EnemyBullet bullet = new EnemyBullet().reset(cx, cy, cx + 100, cy + 50);
+                draw = () -> bullet.draw(g2d);
+                break;
+            }
+            case BOSS_BULLET: {
+                BossBullet bullet = new BossBullet().reset(cx, cy, 10, Color.YELLOW, true, 3);
+                draw = () -> bullet.draw(g2d);
+                break;
+            }
+            case BOSS_LASER: {
+                BossLaser laser = new BossLaser(cx, cy, 0.3, 800, 15, Color.RED, 120);
+                draw = () -> laser.draw(g2d);
+                break;
+            }
+            case POWER_UP: {
+                PowerUp powerUp = new PowerUp(cx, cy);
+                draw = () -> powerUp.draw(g2d);
+                break;
+            }
+            case DAMAGE_POPUP: {
+                DamagePopup popup = new DamagePopup().reset(cx, cy, 42, Color.ORANGE);
+                draw = () -> popup.draw(g2d, SimContext.now());
+                break;
+            }
+            case BOSS: {
+                Boss boss = new Boss(cx, cy, 100, World.WORLD_WIDTH - 100, 50);
+                draw = () -> boss.draw(g2d);
+                break;
+            }
+            case PARTICLES: {
+                ParticleSystem particles = new ParticleSystem(PARTICLE_COUNT, PARTICLE_COUNT);
+                Random random = new Random(19);
+                while (particles.getCount() < PARTICLE_COUNT) {
+                    particles.spawnExplosion(random.nextInt(World.VIEW_WIDTH), random.nextInt(World.VIEW_HEIGHT), random);
+                }
+                particles.update(100, JobSystem.shared());
+                ParticleSystem.View view = particles.newView();
+                particles.publish(view);
+                draw = () -> view.draw(g2d);
+                break;
+            }
+        }
+    }
+
+    @Override
+    public Object run() {
+        draw.run();
+        return canvas;
+    }
+}
@@ -0,0 +1,67 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One World.update() step (what SpaceGame.tick() runs) with a fixed number of
+ * enemies, player bullets and enemy bullets on the field.
+ *
+ * The world is refilled before every measured tick, so each tick sees exactly
+ * the requested population: enemies spread over the camera view around the
+ * player (with shot timers staggered as in normal play), and bullets flying in
+ * random directions. The bullets come from the world's own pools, so they are
+ * handed back and reused each time instead of piling up on the free lists.
+ */
+public class WorldTickWorkload extends GameWorkload {
+    private static final long STEP_NANOS = 1_000_000_000L / 60;
+    private static final int SAFE_RADIUS = 150; // keep enemies off the player so the run doesn't end
+
+    private final int count;
+    private final GameClock clock = new GameClock(1_000_000L);
+    private final World world = new World(clock, 1L, new World.Listener() {});
+    private final Random random = new Random(7);
+    private long delta;
+
+    public WorldTickWorkload(String count) {
+        this.count = Integer.parseInt(count);
+    }
+
+    @Override
+    public void prepare() {
+        delta = clock.advance(STEP_NANOS);
+        world.startGame(2, 0, 400, 70, 60);
+        // startGame() released the last tick's bullets; make them reusable below
+        world.recyclePools();
+        Player player = world.getPlayer();
+        long now = clock.millis();
+
+        List<Enemy> enemies = world.getEnemies();
+        Enemy.EnemyType[] types = Enemy.EnemyType.values();
+        while (enemies.size() < count) {
+            int x = player.getX() - World.VIEW_WIDTH / 2 + random.nextInt(World.VIEW_WIDTH);
+            int y = player.getY() - World.VIEW_HEIGHT / 2 + random.nextInt(World.VIEW_HEIGHT);
+            int dx = x - player.getX();
+            int dy = y - player.getY();
+            if (dx * dx + dy * dy < SAFE_RADIUS * SAFE_RADIUS) continue;
+            Enemy enemy = new Enemy(x, y, types[random.nextInt(types.length)]);
+            enemy.setLastShotTime(now - random.nextInt(enemy.getFireRate()));
+            enemies.add(enemy);
+        }
+
+        List<Bullet> bullets = world.getBullets();
+        List<EnemyBullet> enemyBullets = world.getEnemyBullets();
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(World.WORLD_WIDTH);
+            int y = random.nextInt(World.WORLD_HEIGHT);
+            double angle = random.nextDouble() * Math.PI * 2;
+            bullets.add(world.acquireBullet().reset(x, y, angle, World.PLAYER_BULLET_SPEED));
+            enemyBullets.add(world.acquireEnemyBullet().reset(x, y, x + (int) (Math.cos(angle) * 100), y + (int) (Math.sin(angle) * 100)));
+        }
+    }
+
+    @Override
+    public Object run() {
+        world.update(delta);
+        world.recyclePools();
+        return world;
+    }
+}
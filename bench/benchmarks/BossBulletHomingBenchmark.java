@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BossBullet.update() homing math for a batch of bullets (see BossBulletHomingWorkload)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BossBulletHomingBenchmark {
+    @Param({ "50", "500", "5000" })
+    public String count;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void create() {
+        workload = Workload.create("BossBulletHomingWorkload", count);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        workload.setupIteration();
+    }
+
+    @Benchmark
+    public Object update() {
+        return workload.run();
+    }
+}
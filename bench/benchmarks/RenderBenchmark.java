@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Drawing one entity of each type into an offscreen BufferedImage (see RenderWorkload)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    @Param({ "PLAYER", "ENEMY", "BULLET", "ENEMY_BULLET", "BOSS_BULLET", "BOSS_LASER", "POWER_UP", "DAMAGE_POPUP", "BOSS", "PARTICLES" })
+    public String target;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void create() {
+        workload = Workload.create("RenderWorkload", target);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        workload.setupIteration();
+    }
+
+    @Benchmark
+    public Object draw() {
+        return workload.run();
+    }
+}
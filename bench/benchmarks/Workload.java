@@ -0,0 +1,44 @@
+package benchmarks;
+
+/**
+ * One piece of game work measured by a JMH benchmark in this package.
+ *
+ * The game classes live in the default package, which JMH benchmarks (and
+ * any other named package) cannot refer to, so each workload is written next
+ * to them in bench/ and the benchmark here creates it by class name and only
+ * calls it through this class. The call site sees a single implementation, so
+ * the JIT inlines it and the indirection costs nothing measurable.
+ */
+public abstract class Workload {
+
+    /**
+     * Untimed, before each iteration
+     */
+    public void setupIteration() {
+    }
+
+    /**
+     * Untimed, before every run() in benchmarks that need fresh state per call
+     * (only worth it when run() takes well over a microsecond)
+     */
+    public void prepare() {
+    }
+
+    /**
+     * The measured operation.
+     * @return something that depends on the work done, so the JIT cannot drop it
+     */
+    public abstract Object run();
+
+    /**
+     * Create a default-package workload from its class name
+     * @param param Passed to the workload's (String) constructor, e.g. an entity count
+     */
+    public static Workload create(String className, String param) {
+        try {
+            return (Workload) Class.forName(className).getConstructor(String.class).newInstance(param);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create workload " + className + "(" + param + ")", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * World.update() tick cost with 50/500/5000 enemies and bullets on the field (see WorldTickWorkload)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WorldTickBenchmark {
+    @Param({ "50", "500", "5000" })
+    public String count;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void create() {
+        workload = Workload.create("WorldTickWorkload", count);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        workload.setupIteration();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        workload.prepare();
+    }
+
+    @Benchmark
+    public Object tick() {
+        return workload.run();
+    }
+}
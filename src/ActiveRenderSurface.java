@@ -0,0 +1,80 @@
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Heavyweight canvas used for active rendering.
+ * Frames are drawn straight into a page-flipped BufferStrategy from the game
+ * loop thread instead of going through repaint()/paintComponent.
+ */
+public class ActiveRenderSurface extends Canvas {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Draws one frame into the back buffer
+     */
+    public interface Painter {
+        void paintFrame(Graphics2D g2d, int width, int height);
+    }
+
+    private final int bufferCount;
+    private volatile boolean sync = true;
+
+    public ActiveRenderSurface(int bufferCount) {
+        this.bufferCount = bufferCount;
+        setIgnoreRepaint(true);
+        setFocusable(true);
+        setBackground(Color.BLACK);
+    }
+
+    /**
+     * Create the buffer strategy if the canvas is on screen and has none yet.
+     * Call on the EDT; the strategy is lost whenever the peer is recreated
+     * (e.g. after the frame is disposed for a fullscreen switch).
+     */
+    public void ensureBufferStrategy() {
+        if (isDisplayable() && getBufferStrategy() == null) {
+            // Falls back from page flipping to blitting if flipping is unavailable
+            createBufferStrategy(bufferCount);
+        }
+    }
+
+    /**
+     * Render and present a frame. Safe to call from the game loop thread.
+     * @return false if the surface is not ready yet (no strategy, not displayable)
+     */
+    public boolean renderFrame(Painter painter) {
+        if (!isDisplayable()) return false;
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) return false;
+
+        int width = getWidth();
+        int height = getHeight();
+        try {
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        g2d.setColor(getBackground());
+                        g2d.fillRect(0, 0, width, height);
+                        painter.paintFrame(g2d, width, height);
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // Peer went away mid-frame (window being reconfigured); try again next frame
+            return false;
+        }
+        if (sync) Toolkit.getDefaultToolkit().sync();
+        return true;
+    }
+
+    /**
+     * Whether to Toolkit.sync() after each frame (VSync option)
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+}
@@ -1,10 +1,17 @@
 import javax.swing.*;
+import java.io.File;
 
 public class App {
+    // Usage: java App [--replay replays/replay-....rpl]  (plays the recording at normal speed)
     public static void main(String[] args) throws Exception {
+        Replay playback = null;
+        if (args.length == 2 && args[0].equals("--replay")) {
+            playback = Replay.load(new File(args[1]));
+        }
+        final Replay replay = playback;
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Beyond the Red Eclipse: Exodus");
-            SpaceGame game = new SpaceGame();
+            SpaceGame game = new SpaceGame(replay);
             
             frame.add(game);
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -0,0 +1,212 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared sprite cache.
+ * Each image under Pic/ is located and decoded once, packed into the
+ * TextureAtlas, and the same instance is handed to every caller. Names that
+ * could not be found are remembered too, so a missing sprite is only probed once.
+ * Code that draws a sprite every frame should use region() and draw from the
+ * atlas page; get() returns a view of the same pixels as a plain image.
+ */
+public final class AssetCache {
+
+    // Sprites used by the game, decoded up front by preloadDefaults()
+    private static final String[] DEFAULT_SPRITES = {
+        "enemy1.png", "enemy_1.png", "enemy2.png", "enemy_2.png", "enemy3.png", "enemy_3.png",
+        "boss.png", "Boss.png",
+        "Spacecraft-Large.png", "Spacecraft-Medium.png", "spacecraft.png",
+        "Spacecraft-LargeP2.png", "Spacecraft-MediumP2.png", "spacecraftP2.png",
+        "Menu_Spacecraft-Large.png", "Menu_Spacecraft-Medium_.png", "Menu_Spacecraft.png",
+        "Ani/BOOM_0.png", "Ani/BOOM2_0.png", "Ani/BOOM3_0.png"
+    };
+
+    private static final String[] BASE_PATHS = {
+        "src/Pic/",
+        "./src/Pic/",
+        "Pic/",
+        "./Pic/",
+        "bin/Pic/",
+        "resources/Pic/"
+    };
+
+    private static final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private AssetCache() {
+    }
+
+    /**
+     * Get the first of the given sprite names that exists
+     * @return shared image, or null if none of the names could be loaded
+     */
+    public static BufferedImage get(String... names) {
+        for (String name : names) {
+            BufferedImage image = get(name);
+            if (image != null) return image;
+        }
+        return null;
+    }
+
+    /**
+     * Get a sprite by its path relative to Pic/ (e.g. "Ani/BOOM_0.png")
+     * @return shared image, or null if it could not be loaded
+     */
+    public static BufferedImage get(String name) {
+        BufferedImage image = images.get(name);
+        if (image != null || missing.contains(name)) {
+            hits.incrementAndGet();
+            return image;
+        }
+        misses.incrementAndGet();
+        // Two threads racing on the same name both decode; the atlas keeps the first
+        image = load(name);
+        if (image == null) {
+            missing.add(name);
+            return null;
+        }
+        image = TextureAtlas.add(name, image).toImage();
+        BufferedImage existing = images.putIfAbsent(name, image);
+        return existing != null ? existing : image;
+    }
+
+    /**
+     * Atlas region of the first of the given sprite names that exists
+     * @return region, or null if none of the names could be loaded
+     */
+    public static TextureAtlas.Region region(String... names) {
+        for (String name : names) {
+            if (get(name) != null) return TextureAtlas.get(name);
+        }
+        return null;
+    }
+
+    /**
+     * Decode the given sprites now so later lookups never touch the disk
+     */
+    public static void preload(String... names) {
+        long start = System.currentTimeMillis();
+        int loaded = 0;
+        for (String name : names) {
+            if (get(name) != null) loaded++;
+        }
+        Log.info(Log.Category.RENDER, "AssetCache: preloaded " + loaded + "/" + names.length + " sprites in "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    public static void preloadDefaults() {
+        packAll();
+        preload(DEFAULT_SPRITES);
+    }
+
+    /**
+     * Pack every PNG under the first Pic/ directory found (including subdirectories)
+     * into the TextureAtlas, tallest first so the shelves stay tight
+     */
+    public static void packAll() {
+        File dir = null;
+        for (String base : BASE_PATHS) {
+            File f = new File(base);
+            if (f.isDirectory()) {
+                dir = f;
+                break;
+            }
+        }
+        if (dir == null) {
+            Log.warn(Log.Category.RENDER, "AssetCache: no Pic/ directory found, sprites are packed as they are requested");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<String> names = new ArrayList<>();
+        collectPngs(dir, "", names);
+        List<String> decodedNames = new ArrayList<>();
+        List<BufferedImage> decoded = new ArrayList<>();
+        for (String name : names) {
+            if (TextureAtlas.get(name) != null) continue;
+            try {
+                BufferedImage image = ImageIO.read(new File(dir, name));
+                if (image != null) {
+                    decodedNames.add(name);
+                    decoded.add(image);
+                }
+            } catch (IOException ex) {
+                Log.warn(Log.Category.RENDER, "AssetCache: could not decode " + name + ": " + ex.getMessage());
+            }
+        }
+        Integer[] order = new Integer[decoded.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> decoded.get(b).getHeight() - decoded.get(a).getHeight());
+        for (int i : order) {
+            String name = decodedNames.get(i);
+            images.putIfAbsent(name, TextureAtlas.add(name, decoded.get(i)).toImage());
+        }
+        Log.info(Log.Category.RENDER, "AssetCache: packed " + order.length + " sprites into "
+                + TextureAtlas.getSpritePageCount() + " atlas pages in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private static void collectPngs(File dir, String prefix, List<String> out) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        Arrays.sort(files);
+        for (File f : files) {
+            if (f.isDirectory()) {
+                collectPngs(f, prefix + f.getName() + "/", out);
+            } else if (f.getName().toLowerCase().endsWith(".png")) {
+                out.add(prefix + f.getName());
+            }
+        }
+    }
+
+    /**
+     * Drop all cached images (e.g. after the display mode changed)
+     */
+    public static void clear() {
+        images.clear();
+        missing.clear();
+    }
+
+    private static BufferedImage load(String name) {
+        // Try classpath first
+        try (InputStream is = AssetCache.class.getResourceAsStream("/Pic/" + name)) {
+            if (is != null) {
+                BufferedImage image = ImageIO.read(is);
+                if (image != null) return image;
+            }
+        } catch (IOException ex) {
+            // continue
+        }
+
+        // Try filesystem paths
+        for (String base : BASE_PATHS) {
+            try {
+                File f = new File(base + name);
+                if (f.exists()) {
+                    BufferedImage image = ImageIO.read(f);
+                    if (image != null) return image;
+                }
+            } catch (IOException ex) {
+                // continue
+            }
+        }
+        return null;
+    }
+
+    // Stats
+    public static long getHits() { return hits.get(); }
+    public static long getMisses() { return misses.get(); }
+    public static int getLoadedCount() { return images.size(); }
+    public static int getMissingCount() { return missing.size(); }
+}
@@ -1,22 +1,23 @@
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
 import java.util.Random;
+import interfaces.Interpolated;
 
-public class Boss {
+public class Boss implements Interpolated {
     private double x, y;
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private int width, height;
     private int health;
     private int maxHealth;
     private double speed;
     private BufferedImage sprite;
+    private RotationAtlas spriteAtlas; // sprite pre-scaled to width x height
     private int hitboxRadius;
     private long lastShotTime = 0;
     private int fireRate = 2000; // 2 seconds between shots (not used in phase system)
     private boolean isDead = false;
+    private static final Font PHASE_FONT = UiResources.font(Font.BOLD, 14);
+    private static final Font HP_FONT = UiResources.font(Font.BOLD, 12);
     
     // Movement pattern
     private double moveTimer = 0;
@@ -32,7 +33,7 @@ public class Boss {
     private AttackPhase currentPhase = AttackPhase.BARRAGE;
     private double phaseTimer = 0;
     private double phaseDuration = 0;
-    private Random random = new Random();
+    private final Random random = SimContext.random(); // shared with the World so seeded runs repeat
     private int phaseCompletionCount = 0; // นับจำนวนเฟสที่ผ่านไปแล้ว
     
     // Phase-specific timers
@@ -47,13 +48,22 @@ public class Boss {
     private long nextEnemySpawnTime = 0;
     
     // Movement
-    private double moveSpeed = 0.5; // ช้ามาก
+    private double moveSpeed = 30.0; // pixels per second, ช้ามาก
     private double targetX, targetY; // เป้าหมายการเคลื่อนที่
+    private final int roamMinX, roamMaxX, roamTop; // area the movement targets are picked from
     private double movementTimer = 0;
     
-    public Boss(int x, int y) {
+    /**
+     * @param roamMinX Leftmost movement target
+     * @param roamMaxX Rightmost movement target
+     * @param roamTop Top of the band (150px high) movement targets are picked in
+     */
+    public Boss(int x, int y, int roamMinX, int roamMaxX, int roamTop) {
         this.x = x;
         this.y = y;
+        this.roamMinX = roamMinX;
+        this.roamMaxX = Math.max(roamMinX, roamMaxX);
+        this.roamTop = roamTop;
         this.width = 120;
         this.height = 120;
         this.maxHealth = 10;
@@ -72,27 +82,47 @@ public class Boss {
         startBarragePhase();
         
         // Set first enemy spawn time
-        nextEnemySpawnTime = System.currentTimeMillis() + ENEMY_SPAWN_COOLDOWN_MIN + 
+        nextEnemySpawnTime = SimContext.now() + ENEMY_SPAWN_COOLDOWN_MIN + 
                             (long)(random.nextDouble() * (ENEMY_SPAWN_COOLDOWN_MAX - ENEMY_SPAWN_COOLDOWN_MIN));
+        storePrevious();
+    }
+    
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    public Boss() {
+        this.roamMinX = 0;
+        this.roamMaxX = 0;
+        this.roamTop = 0;
+    }
+    
+    /**
+     * Copy what draw() reads from the live boss, for a render snapshot
+     */
+    public Boss copyFrom(Boss other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.width = other.width;
+        this.height = other.height;
+        this.hitboxRadius = other.hitboxRadius;
+        this.health = other.health;
+        this.maxHealth = other.maxHealth;
+        this.isDead = other.isDead;
+        if (sprite != other.sprite) {
+            sprite = other.sprite;
+            spriteAtlas = null;
+        }
+        this.currentPhase = other.currentPhase;
+        this.phaseTimer = other.phaseTimer;
+        this.phaseDuration = other.phaseDuration;
+        return this;
     }
     
     private void loadSprite(String... possibleNames) {
-        String[] searchPaths = {"src/Pic/", "Pic/", "bin/Pic/"};
-        for (String name : possibleNames) {
-            for (String basePath : searchPaths) {
-                try {
-                    File imgFile = new File(basePath + name);
-                    if (imgFile.exists()) {
-                        sprite = ImageIO.read(imgFile);
-                        System.out.println("Boss sprite loaded from: " + basePath + name);
-                        return;
-                    }
-                } catch (IOException e) {
-                    // Continue searching
-                }
-            }
+        sprite = AssetCache.get(possibleNames);
+        if (sprite == null) {
+            Log.warn(Log.Category.BOSS, "Boss sprite not found, using colored rectangle");
         }
-        System.out.println("Boss sprite not found, using colored rectangle");
     }
     
     private void startBarragePhase() {
@@ -101,21 +131,21 @@ public class Boss {
         phaseTimer = 0;
         barrageTimer = 0;
         barrageShots = 0;
-        System.out.println("Boss: Starting BARRAGE phase for " + phaseDuration + "s");
+        Log.info(Log.Category.BOSS, "Boss: Starting BARRAGE phase for " + phaseDuration + "s");
     }
     
     private void startLaserPhase() {
         currentPhase = AttackPhase.LASER_SPIN;
         phaseDuration = 4.0 + random.nextDouble() * 4.0; // 4-8 seconds
         phaseTimer = 0;
-        System.out.println("Boss: Starting LASER_SPIN phase for " + phaseDuration + "s");
+        Log.info(Log.Category.BOSS, "Boss: Starting LASER_SPIN phase for " + phaseDuration + "s");
     }
     
     private void startHomingPhase() {
         currentPhase = AttackPhase.HOMING;
         phaseDuration = 3.0; // Fixed 3 seconds for homing phase
         phaseTimer = 0;
-        System.out.println("Boss: Starting HOMING phase for " + phaseDuration + "s");
+        Log.info(Log.Category.BOSS, "Boss: Starting HOMING phase for " + phaseDuration + "s");
     }
     
     public void update(Player player, long deltaMs) {
@@ -182,8 +212,8 @@ public class Boss {
         if (movementTimer > 3.0) { // เปลี่ยนทิศทุก 3 วินาที
             movementTimer = 0;
             // สุ่มตำแหน่งเป้าหมายใหม่ในพื้นที่บนๆ ของหน้าจอ
-            targetX = 100 + random.nextDouble() * (3000 - 200); // WORLD_WIDTH = 3000
-            targetY = 50 + random.nextDouble() * 150; // พื้นที่บนสุด
+            targetX = roamMinX + random.nextDouble() * (roamMaxX - roamMinX);
+            targetY = roamTop + random.nextDouble() * 150; // พื้นที่บนสุด
         }
         
         // เคลื่อนที่ไปยังเป้าหมายอย่างช้าๆ
@@ -191,9 +221,10 @@ public class Boss {
         double dy = targetY - y;
         double distance = Math.sqrt(dx * dx + dy * dy);
         
-        if (distance > moveSpeed) {
-            x += (dx / distance) * moveSpeed;
-            y += (dy / distance) * moveSpeed;
+        double step = moveSpeed * dt;
+        if (distance > step) {
+            x += (dx / distance) * step;
+            y += (dy / distance) * step;
         }
         
         // Boss movement pattern: slow circular motion
@@ -201,12 +232,18 @@ public class Boss {
         angle = moveTimer * 0.5;
     }
     
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
+    }
+    
     public void draw(Graphics2D g2d) {
         if (sprite != null) {
-            AffineTransform old = g2d.getTransform();
-            g2d.translate((int)x, (int)y);
-            g2d.drawImage(sprite, -width/2, -height/2, width, height, null);
-            g2d.setTransform(old);
+            if (spriteAtlas == null || spriteAtlas.isStale()) {
+                spriteAtlas = RotationAtlas.forSprite(sprite, width, height, 0);
+            }
+            spriteAtlas.draw(g2d, 0, (int)x, (int)y);
         } else {
             g2d.setColor(Color.MAGENTA);
             g2d.fillRect((int)x - width/2, (int)y - height/2, width, height);
@@ -220,31 +257,28 @@ public class Boss {
     }
     
     private void drawPhaseIndicator(Graphics2D g2d) {
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
         String phaseText = "PHASE: ";
         Color phaseColor = Color.WHITE;
         
         switch (currentPhase) {
             case BARRAGE:
-                phaseText += "BARRAGE";
+                phaseText = "PHASE: BARRAGE";
                 phaseColor = Color.ORANGE;
                 break;
             case LASER_SPIN:
-                phaseText += "LASER SPIN";
+                phaseText = "PHASE: LASER SPIN";
                 phaseColor = Color.CYAN;
                 break;
             case HOMING:
-                phaseText += "HOMING";
+                phaseText = "PHASE: HOMING";
                 phaseColor = Color.YELLOW;
                 break;
         }
         
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = (int)x - fm.stringWidth(phaseText)/2;
+        int textX = (int)x - GlyphCache.textWidth(phaseText, PHASE_FONT)/2;
         int textY = (int)y - height/2 - 20;
         
-        g2d.setColor(phaseColor);
-        g2d.drawString(phaseText, textX, textY);
+        GlyphCache.drawText(g2d, phaseText, PHASE_FONT, phaseColor, textX, textY);
         
         // Draw phase timer bar
         int timerBarWidth = 100;
@@ -279,13 +313,14 @@ public class Boss {
         g2d.setColor(Color.WHITE);
         g2d.drawRect(barX, barY, barWidth, barHeight);
         
-        // Text
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
-        String hpText = health + "/" + maxHealth;
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = (int)x - fm.stringWidth(hpText)/2;
+        // Text: "health/maxHealth" from cached glyphs
+        int textWidth = GlyphCache.numberWidth(health, HP_FONT) + GlyphCache.textWidth("/", HP_FONT)
+                + GlyphCache.numberWidth(maxHealth, HP_FONT);
+        int textX = (int)x - textWidth/2;
         int textY = barY + barHeight + 15;
-        g2d.drawString(hpText, textX, textY);
+        textX += GlyphCache.drawNumber(g2d, health, HP_FONT, Color.WHITE, textX, textY);
+        textX += GlyphCache.drawText(g2d, "/", HP_FONT, Color.WHITE, textX, textY);
+        GlyphCache.drawNumber(g2d, maxHealth, HP_FONT, Color.WHITE, textX, textY);
     }
     
     public void takeDamage(int damage) {
@@ -313,6 +348,8 @@ public class Boss {
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public int getHealth() { return health; }
     public int getMaxHealth() { return maxHealth; }
     public boolean isDead() { return isDead; }
@@ -334,11 +371,10 @@ public class Boss {
     public double getBarrageShotInterval() { return BARRAGE_SHOT_INTERVAL; }
     
     // Enemy spawn system
-    public boolean shouldSpawnEnemies() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime >= nextEnemySpawnTime) {
-            lastEnemySpawn = currentTime;
-            nextEnemySpawnTime = currentTime + ENEMY_SPAWN_COOLDOWN_MIN + 
+    public boolean shouldSpawnEnemies(long now) {
+        if (now >= nextEnemySpawnTime) {
+            lastEnemySpawn = now;
+            nextEnemySpawnTime = now + ENEMY_SPAWN_COOLDOWN_MIN + 
                                 (long)(random.nextDouble() * (ENEMY_SPAWN_COOLDOWN_MAX - ENEMY_SPAWN_COOLDOWN_MIN));
             return true;
         }
@@ -1,41 +1,75 @@
 import java.awt.*;
+import interfaces.Interpolated;
 
-public class BossBullet {
+public class BossBullet implements Interpolated {
     private double x, y;
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private double vx, vy;
     private int damage;
     private int radius;
     private Color color;
+    private RotationAtlas atlas; // pre-rotated frames for atlasColor
+    private Color atlasColor;
     private boolean isHoming;
     private int redirectCount = 0;
     private int maxRedirects = 1;
-    private static final double HOMING_SPEED = 7.0; // เร็วขึ้น จาก 4.0
-    private static final double TURN_RATE = 0.03; // หันได้น้อยลง จาก 0.08 (missile-like)
+    private static final double BARRAGE_SPEED = 300.0; // pixels per second
+    private static final double HOMING_SPEED = 420.0; // pixels per second, เร็วขึ้น จาก 240
+    private static final double TURN_RATE = 1.83; // per second, หันได้น้อยลง จาก 5.0 (missile-like)
     private long creationTime; // เวลาที่สร้าง
     private static final long LIFETIME_MS = 60000; // 1 นาที
     
+    // Blank instance for ObjectPool and render snapshots; call reset(...) or copyFrom(...) before use
+    public BossBullet() {
+    }
+
+    /**
+     * Copy what draw() reads from a live bullet, for a render snapshot
+     */
+    public BossBullet copyFrom(BossBullet other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.vx = other.vx;
+        this.vy = other.vy;
+        this.radius = other.radius;
+        this.color = other.color;
+        this.isHoming = other.isHoming;
+        this.redirectCount = other.redirectCount;
+        this.maxRedirects = other.maxRedirects;
+        return this;
+    }
+    
     // Regular bullet (barrage phase)
-    public BossBullet(double x, double y, double targetX, double targetY, int damage, Color color) {
+    public BossBullet reset(double x, double y, double targetX, double targetY, int damage, Color color) {
         this.x = x;
         this.y = y;
         this.damage = damage;
         this.radius = 6;
         this.color = color;
         this.isHoming = false;
-        this.creationTime = System.currentTimeMillis();
+        this.redirectCount = 0;
+        this.maxRedirects = 1;
+        this.creationTime = SimContext.now();
         
         // Calculate direction
         double dx = targetX - x;
         double dy = targetY - y;
         double dist = Math.sqrt(dx * dx + dy * dy);
         if (dist > 0) {
-            this.vx = (dx / dist) * 5.0;
-            this.vy = (dy / dist) * 5.0;
+            this.vx = (dx / dist) * BARRAGE_SPEED;
+            this.vy = (dy / dist) * BARRAGE_SPEED;
+        } else {
+            this.vx = 0;
+            this.vy = 0;
         }
+        storePrevious();
+        return this;
     }
     
     // Homing bullet (phase 3)
-    public BossBullet(double x, double y, int damage, Color color, boolean isHoming, int maxRedirects) {
+    public BossBullet reset(double x, double y, int damage, Color color, boolean isHoming, int maxRedirects) {
         this.x = x;
         this.y = y;
         this.damage = damage;
@@ -43,12 +77,16 @@ public class BossBullet {
         this.color = color;
         this.isHoming = isHoming;
         this.maxRedirects = maxRedirects;
+        this.redirectCount = 0;
         this.vx = 0;
         this.vy = 0;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = SimContext.now();
+        storePrevious();
+        return this;
     }
     
-    public void update(Player player) {
+    public void update(Player player, long deltaMs) {
+        double dt = deltaMs / 1000.0;
         if (isHoming && redirectCount <= maxRedirects) {
             // Calculate direction to player
             double dx = player.getX() - x;
@@ -59,9 +97,10 @@ public class BossBullet {
                 double targetVx = (dx / dist) * HOMING_SPEED;
                 double targetVy = (dy / dist) * HOMING_SPEED;
                 
-                // Smoothly turn toward target
-                vx += (targetVx - vx) * TURN_RATE;
-                vy += (targetVy - vy) * TURN_RATE;
+                // Smoothly turn toward target (exponential, so the turn per second is the same at any tick rate)
+                double turn = 1.0 - Math.exp(-TURN_RATE * dt);
+                vx += (targetVx - vx) * turn;
+                vy += (targetVy - vy) * turn;
                 
                 // Normalize speed
                 double speed = Math.sqrt(vx * vx + vy * vy);
@@ -72,12 +111,12 @@ public class BossBullet {
                 
                 // Check if bullet passed player
                 double currentDist = dist;
-                double nextX = x + vx;
-                double nextY = y + vy;
+                double nextX = x + vx * dt;
+                double nextY = y + vy * dt;
                 double nextDist = Math.sqrt((player.getX() - nextX) * (player.getX() - nextX) + 
                                            (player.getY() - nextY) * (player.getY() - nextY));
                 
-                if (nextDist > currentDist && speed > 1) {
+                if (nextDist > currentDist && speed > 60) {
                     // Bullet passed player, increment redirect count
                     redirectCount++;
                     if (redirectCount > maxRedirects) {
@@ -88,33 +127,41 @@ public class BossBullet {
             }
         }
         
-        x += vx;
-        y += vy;
+        x += vx * dt;
+        y += vy * dt;
+    }
+    
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
     }
     
     public void draw(Graphics2D g2d) {
         // ทุกกระสุน (ทั้งติดตามและธรรมดา) ใช้รูปสี่เหลี่ยม
         double bulletAngle = Math.atan2(vy, vx);
-        int width = 12;
-        int height = 4;
-        
-        g2d.setColor(color);
-        g2d.translate((int)x, (int)y);
-        g2d.rotate(bulletAngle);
-        g2d.fillRect(-width/2, -height/2, width, height);
-        g2d.rotate(-bulletAngle);
-        g2d.translate(-(int)x, -(int)y);
+        atlas().draw(g2d, bulletAngle, (int)x, (int)y);
         
         // เพิ่ม glow สำหรับกระสุนติดตามที่ยังใช้งานอยู่
         if (isHoming && redirectCount <= maxRedirects) {
-            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
+            g2d.setComposite(UiResources.alpha(0.3f));
             g2d.setColor(Color.YELLOW);
             g2d.fillOval((int)(x - radius * 1.5), (int)(y - radius * 1.5), 
                         (int)(radius * 3), (int)(radius * 3));
-            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+            g2d.setComposite(AlphaComposite.SrcOver);
         }
     }
     
+    private RotationAtlas atlas() {
+        int width = 12;
+        int height = 4;
+        if (atlas == null || atlas.isStale() || atlasColor != color) {
+            atlas = RotationAtlas.forBar(width, height, color, null, true);
+            atlasColor = color;
+        }
+        return atlas;
+    }
+    
     public boolean collidesWith(Player player) {
         double dx = x - player.getX();
         double dy = y - player.getY();
@@ -122,15 +169,20 @@ public class BossBullet {
         return dist < (radius + player.getHitboxRadius());
     }
     
+    // Lifetime (1 minute)
+    public boolean isExpired(long now) {
+        return now - creationTime > LIFETIME_MS;
+    }
+    
     public boolean isOffScreen(int worldWidth, int worldHeight) {
-        // Check lifetime (1 minute)
-        if (System.currentTimeMillis() - creationTime > LIFETIME_MS) {
-            return true;
-        }
         return x < -50 || x > worldWidth + 50 || y < -50 || y > worldHeight + 50;
     }
     
     public int getDamage() { return damage; }
+    public int getAtlasPage() { return atlas().pageOf(Math.atan2(vy, vx)); } // page draw() will use
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
+    public int getRadius() { return radius; }
 }
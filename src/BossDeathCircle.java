@@ -31,14 +31,14 @@ public class BossDeathCircle {
 
     public void draw(Graphics2D g2d) {
         float a = Math.max(0, Math.min(1, alpha));
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, a));
+        g2d.setComposite(UiResources.alpha(a));
         g2d.setColor(color);
         float r = radius;
         g2d.fillOval(Math.round(x - r), Math.round(y - r), Math.round(r * 2), Math.round(r * 2));
         
         // Draw ring outline
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, a * 0.6f));
-        g2d.setStroke(new BasicStroke(2.0f));
+        g2d.setComposite(UiResources.alpha(a * 0.6f));
+        g2d.setStroke(UiResources.stroke(2));
         g2d.drawOval(Math.round(x - r), Math.round(y - r), Math.round(r * 2), Math.round(r * 2));
     }
 }
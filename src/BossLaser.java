@@ -27,6 +27,25 @@ public class BossLaser {
         this.bossHitboxRadius = bossHitboxRadius;
     }
     
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    public BossLaser() {
+    }
+    
+    /**
+     * Copy what draw() reads from a live laser, for a render snapshot
+     */
+    public BossLaser copyFrom(BossLaser other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.angle = other.angle;
+        this.length = other.length;
+        this.color = other.color;
+        this.isActive = other.isActive;
+        this.bossHitboxRadius = other.bossHitboxRadius;
+        this.warmupTimer = other.warmupTimer;
+        return this;
+    }
+    
     public void startRotation(double rotationSpeed) {
         this.isRotating = true;
         this.rotationSpeed = rotationSpeed;
@@ -66,22 +85,27 @@ public class BossLaser {
         double endX = startX + Math.cos(angle) * length;
         double endY = startY + Math.sin(angle) * length;
         
+        // Only stroke the part of the beam that is on screen
+        double[] beam = { startX, startY, endX, endY };
+        if (!ViewCuller.clipLine(beam, g2d.getClipBounds())) return;
+        Line2D.Double line = new Line2D.Double(beam[0], beam[1], beam[2], beam[3]);
+        
         // Draw laser beam
         float alpha = (warmupTimer < WARMUP_DURATION) ? 
                      (float)(warmupTimer / WARMUP_DURATION) * 0.7f : 0.7f;
         
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g2d.setComposite(UiResources.alpha(alpha));
         g2d.setColor(color);
-        g2d.setStroke(new BasicStroke(8, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2d.draw(new Line2D.Double(startX, startY, endX, endY));
+        g2d.setStroke(UiResources.roundStroke(8));
+        g2d.draw(line);
         
         // Draw glow
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.3f));
-        g2d.setStroke(new BasicStroke(16, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2d.draw(new Line2D.Double(startX, startY, endX, endY));
+        g2d.setComposite(UiResources.alpha(alpha * 0.3f));
+        g2d.setStroke(UiResources.roundStroke(16));
+        g2d.draw(line);
         
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        g2d.setStroke(new BasicStroke(1));
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.setStroke(UiResources.stroke(1));
     }
     
     public boolean collidesWith(Player player) {
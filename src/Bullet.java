@@ -1,87 +1,128 @@
 import java.awt.*;
-import java.awt.geom.AffineTransform;
-import java.util.Random;
+import interfaces.Interpolated;
 
-public class Bullet {
-    private static Random rand = new Random();
+public class Bullet implements Interpolated {
     private double x, y;
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private double dx, dy;
     private int width, height;
-    private double speed;
+    private double speed; // pixels per second
     private long creationTime;
     private static final long BULLET_LIFETIME = 60000; // 1 minute in milliseconds
     private int damage; // Random damage
     private Color color = Color.YELLOW; // Default color (can be changed)
+    private RotationAtlas atlas; // pre-rotated frames for atlasColor/atlasLength
+    private Color atlasColor;
+    private int atlasLength;
     
-    public Bullet(int startX, int startY, int targetX, int targetY) {
+    // Blank instance for ObjectPool and render snapshots; call reset(...) or copyFrom(...) before use
+    public Bullet() {
+    }
+
+    /**
+     * Copy what draw() reads from a live bullet, for a render snapshot
+     */
+    public Bullet copyFrom(Bullet other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.dx = other.dx;
+        this.dy = other.dy;
+        this.width = other.width;
+        this.height = other.height;
+        this.speed = other.speed;
+        this.color = other.color;
+        return this;
+    }
+    
+    public Bullet reset(int startX, int startY, int targetX, int targetY) {
         this.x = startX;
         this.y = startY;
         this.width = 8;
         this.height = 8;
-        this.speed = 10;
-        this.creationTime = System.currentTimeMillis();
-        this.damage = 8 + rand.nextInt(5); // 8-12 damage
+        this.speed = 600;
+        this.creationTime = SimContext.now();
+        this.damage = 8 + SimContext.random().nextInt(5); // 8-12 damage
         
         // Calculate direction towards target
         double distance = Math.sqrt(Math.pow(targetX - startX, 2) + Math.pow(targetY - startY, 2));
         if (distance > 0) {
             this.dx = ((targetX - startX) / distance) * speed;
             this.dy = ((targetY - startY) / distance) * speed;
+        } else {
+            this.dx = 0;
+            this.dy = 0;
         }
+        this.color = Color.YELLOW;
+        storePrevious();
+        return this;
     }
 
-    // New constructor: fire from startX,startY at a given angle (radians)
-    public Bullet(int startX, int startY, double angle, double speed) {
+    // Fire from startX,startY at a given angle (radians)
+    public Bullet reset(int startX, int startY, double angle, double speed) {
         this.x = startX;
         this.y = startY;
         this.width = 8;
         this.height = 8;
         this.speed = speed;
-        this.creationTime = System.currentTimeMillis();
-        this.damage = 8 + rand.nextInt(5); // 8-12 damage
+        this.creationTime = SimContext.now();
+        this.damage = 8 + SimContext.random().nextInt(5); // 8-12 damage
 
         this.dx = Math.cos(angle) * speed;
         this.dy = Math.sin(angle) * speed;
+        this.color = Color.YELLOW;
+        storePrevious();
+        return this;
     }
     
-    // Constructor with custom damage multiplier for manual mode
-    public Bullet(int startX, int startY, double angle, double speed, double damageMultiplier) {
+    // Custom damage multiplier for manual mode
+    public Bullet reset(int startX, int startY, double angle, double speed, double damageMultiplier) {
         this.x = startX;
         this.y = startY;
         this.width = 8;
         this.height = 8;
         this.speed = speed;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = SimContext.now();
         // Apply damage multiplier
-        int baseDamage = 8 + rand.nextInt(5); // 8-12 damage
+        int baseDamage = 8 + SimContext.random().nextInt(5); // 8-12 damage
         this.damage = (int) Math.round(baseDamage * damageMultiplier);
 
         this.dx = Math.cos(angle) * speed;
         this.dy = Math.sin(angle) * speed;
+        this.color = Color.YELLOW;
+        storePrevious();
+        return this;
     }
 
     
-    public void update() {
-        x += dx;
-        y += dy;
+    public void update(long deltaMs) {
+        double dt = deltaMs / 1000.0;
+        x += dx * dt;
+        y += dy * dt;
+    }
+    
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
     }
     
     public void draw(Graphics2D g2d) {
         // Draw thin rectangular bullet aligned with velocity
-        double angle = Math.atan2(dy, dx);
-        int len = Math.max(8, (int) Math.round(speed * 1.5));
-        int h = 3; // thin height
-
-        AffineTransform old = g2d.getTransform();
-        g2d.translate(x, y);
-        g2d.rotate(angle);
-
-        g2d.setColor(color); // Use custom color
-        g2d.fillRect(0, -h/2, len, h);
-        g2d.setColor(Color.WHITE);
-        g2d.drawRect(0, -h/2, len, h);
+        atlas().draw(g2d, Math.atan2(dy, dx), (int) Math.round(x), (int) Math.round(y));
+    }
 
-        g2d.setTransform(old);
+    // Custom color with a white outline, from the shared rotation atlas
+    private RotationAtlas atlas() {
+        int len = getDrawLength();
+        int h = 3; // thin height
+        if (atlas == null || atlas.isStale() || atlasColor != color || atlasLength != len) {
+            atlas = RotationAtlas.forBar(len, h, color, Color.WHITE, false);
+            atlasColor = color;
+            atlasLength = len;
+        }
+        return atlas;
     }
     
     public boolean collidesWith(Enemy enemy) {
@@ -102,13 +143,17 @@ public class Bullet {
         return x < 0 || x > gameWidth || y < 0 || y > gameHeight;
     }
     
-    public boolean isExpired() {
-        return System.currentTimeMillis() - creationTime > BULLET_LIFETIME;
+    public boolean isExpired(long now) {
+        return now - creationTime > BULLET_LIFETIME;
     }
     
     // Getters
+    public int getAtlasPage() { return atlas().pageOf(Math.atan2(dy, dx)); } // page draw() will use
+    public int getDrawLength() { return Math.max(8, (int) Math.round(speed * 0.025)); } // trail length, grows with speed
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public int getDamage() { return damage; }
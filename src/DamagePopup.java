@@ -7,38 +7,64 @@ public class DamagePopup {
     private static final long LIFETIME = 1000; // 1 second
     private Color color;
     private double offsetY = 0;
+    private static final double RISE_SPEED = 30.0; // pixels per second
+    private static final Font FONT = UiResources.font(Font.BOLD, 16);
     
-    public DamagePopup(double x, double y, int damage, Color color) {
+    // Blank instance for ObjectPool and render snapshots; call reset(...) or copyFrom(...) before use
+    public DamagePopup() {
+    }
+    
+    /**
+     * Copy what draw() reads from a live popup, for a render snapshot
+     */
+    public DamagePopup copyFrom(DamagePopup other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.damage = other.damage;
+        this.color = other.color;
+        this.offsetY = other.offsetY;
+        this.creationTime = other.creationTime;
+        return this;
+    }
+    
+    public DamagePopup reset(double x, double y, int damage, Color color) {
         this.x = x;
         this.y = y;
         this.damage = damage;
         this.color = color;
-        this.creationTime = System.currentTimeMillis();
+        this.offsetY = 0;
+        this.creationTime = SimContext.now();
+        return this;
     }
     
     public void update(long deltaMs) {
         // Float upward
-        offsetY -= 0.5;
+        offsetY -= RISE_SPEED * (deltaMs / 1000.0);
     }
     
-    public void draw(Graphics2D g2d) {
-        long age = System.currentTimeMillis() - creationTime;
+    /**
+     * @param now Simulation time of the frame being drawn (fades the number out)
+     */
+    public void draw(Graphics2D g2d, long now) {
+        long age = now - creationTime;
         float alpha = 1.0f - (float)age / (float)LIFETIME;
         if (alpha < 0) alpha = 0;
         if (alpha > 1) alpha = 1;
         
-        // Draw damage number with fade
-        Color c = new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(alpha * 255));
-        g2d.setColor(c);
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        FontMetrics fm = g2d.getFontMetrics();
-        String text = String.valueOf(damage);
-        int textX = (int)x - fm.stringWidth(text) / 2;
+        // Draw the cached damage number, faded with the shared composite ramp
+        Composite old = g2d.getComposite();
+        g2d.setComposite(UiResources.alpha(alpha));
+        int textX = (int)x - GlyphCache.numberWidth(damage, FONT) / 2;
         int textY = (int)(y + offsetY);
-        g2d.drawString(text, textX, textY);
+        GlyphCache.drawNumber(g2d, damage, FONT, color, textX, textY);
+        g2d.setComposite(old);
     }
     
-    public boolean isExpired() {
-        return System.currentTimeMillis() - creationTime > LIFETIME;
+    public boolean isExpired(long now) {
+        return now - creationTime > LIFETIME;
     }
+    
+    // Getters
+    public double getX() { return x; }
+    public double getY() { return y + offsetY; }
 }
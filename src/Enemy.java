@@ -1,10 +1,8 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
+import interfaces.Interpolated;
 
-public class Enemy {
+public class Enemy implements Interpolated {
     public enum EnemyType {
         TYPE1,  // enemy1.png - common, shoots 1 bullet
         TYPE2,  // enemy2.png - rare, shoots 6 bullets in circle, 1.5x size
@@ -13,12 +11,14 @@ public class Enemy {
     
     private EnemyType type;
     private double x, y;
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private int width, height;
     private int health;
     private int maxHealth; // For TYPE2 HP tracking
-    private double speed;
+    private double speed; // pixels per second
     private Color color;
     private BufferedImage sprite;
+    private RotationAtlas spriteAtlas; // sprite pre-scaled to width x height (upright and flipped)
     private int hitboxRadius; // circular hitbox
     private long lastShotTime = 0;
     private int fireRate; // ms between shots
@@ -27,6 +27,8 @@ public class Enemy {
     
     // TYPE1 laser
     private LaserBeam activeLaser = null;
+    private LaserBeam laserCopy; // reused by render snapshots for activeLaser
+    private static final Font PLACEHOLDER_FONT = UiResources.font(Font.BOLD, 12);
     
     public Enemy(int x, int y, EnemyType type) {
         this.type = type;
@@ -40,7 +42,7 @@ public class Enemy {
                 this.height = 30;
                 this.health = 1;  // 1 hit to kill
                 this.maxHealth = 1;
-                this.speed = 1.5;
+                this.speed = 90;
                 this.color = Color.RED;
                 this.fireRate = 3000; // 3 seconds (not used for laser, laser has own timing)
                 loadSprite("enemy1.png", "enemy_1.png");
@@ -50,7 +52,7 @@ public class Enemy {
                 this.height = 45;
                 this.health = 3; // 3 hits to kill
                 this.maxHealth = 3;
-                this.speed = 1.0;
+                this.speed = 60;
                 this.color = Color.MAGENTA;
                 this.fireRate = 5000; // 5 seconds
                 loadSprite("enemy2.png", "enemy_2.png");
@@ -60,7 +62,7 @@ public class Enemy {
                 this.height = 30;
                 this.health = 1;  // 1 hit to kill
                 this.maxHealth = 1;
-                this.speed = 1.5;
+                this.speed = 90;
                 this.color = Color.ORANGE;
                 this.fireRate = 3000; // 3 seconds
                 loadSprite("enemy3.png", "enemy_3.png");
@@ -70,6 +72,7 @@ public class Enemy {
         // Circular hitbox = sprite size
         int minDim = Math.min(this.width, this.height);
         this.hitboxRadius = minDim / 2;
+        storePrevious();
     }
 
     // New constructor: size relative to player dimensions
@@ -85,7 +88,7 @@ public class Enemy {
                 this.height = playerHeight;
                 this.health = 1;  // 1 hit to kill
                 this.maxHealth = 1;
-                this.speed = 1.5;
+                this.speed = 90;
                 this.color = Color.RED;
                 this.fireRate = 3000; // 3 seconds
                 loadSprite("enemy1.png", "enemy_1.png");
@@ -95,7 +98,7 @@ public class Enemy {
                 this.height = playerHeight * 2;
                 this.health = 30; // 3 hits to kill
                 this.maxHealth = 30;
-                this.speed = 1.0;
+                this.speed = 60;
                 this.color = Color.MAGENTA;
                 this.fireRate = 5000; // 5 seconds
                 loadSprite("enemy2.png", "enemy_2.png");
@@ -105,7 +108,7 @@ public class Enemy {
                 this.height = playerHeight;
                 this.health = 1;  // 1 hit to kill
                 this.maxHealth = 1;
-                this.speed = 1.5;
+                this.speed = 90;
                 this.color = Color.ORANGE;
                 this.fireRate = 3000; // 3 seconds
                 loadSprite("enemy3.png", "enemy_3.png");
@@ -114,51 +117,52 @@ public class Enemy {
 
         int minDim = Math.min(this.width, this.height);
         this.hitboxRadius = minDim / 2;
+        storePrevious();
     }
     
-    private void loadSprite(String... names) {
-        String[] basePaths = {
-            "src/Pic/",
-            "./src/Pic/",
-            "Pic/",
-            "./Pic/",
-            "bin/Pic/"
-        };
-        
-        for (String name : names) {
-            // Try classpath first
-            try {
-                java.io.InputStream is = getClass().getResourceAsStream("/Pic/" + name);
-                if (is != null) {
-                    sprite = ImageIO.read(is);
-                    is.close();
-                    return;
-                }
-            } catch (IOException ex) {
-                // continue
-            }
-            
-            // Try filesystem paths
-            for (String base : basePaths) {
-                try {
-                    File f = new File(base + name);
-                    if (f.exists()) {
-                        sprite = ImageIO.read(f);
-                        return;
-                    }
-                } catch (IOException ex) {
-                    // continue
-                }
-            }
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    public Enemy() {
+    }
+    
+    /**
+     * Copy what draw() reads from a live enemy, for a render snapshot
+     */
+    public Enemy copyFrom(Enemy other) {
+        this.type = other.type;
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.width = other.width;
+        this.height = other.height;
+        this.health = other.health;
+        this.maxHealth = other.maxHealth;
+        this.color = other.color;
+        if (sprite != other.sprite) {
+            sprite = other.sprite;
+            spriteAtlas = null;
         }
-        // If not found, sprite remains null and we'll draw placeholder
+        this.showHealthBar = other.showHealthBar;
+        if (other.activeLaser == null) {
+            activeLaser = null;
+        } else {
+            if (laserCopy == null) laserCopy = new LaserBeam();
+            activeLaser = laserCopy.copyFrom(other.activeLaser);
+        }
+        return this;
     }
     
-    public void update(Player player) {
-        update(player, null);
+    private void loadSprite(String... names) {
+        // Shared, already-decoded image; null means we'll draw placeholder
+        sprite = AssetCache.get(names);
     }
     
-    public void update(Player player, Player player2) {
+    /**
+     * @param player2 Second player in co-op mode, or null
+     * @param now Simulation time of this tick
+     * @param deltaMs Length of this tick in milliseconds
+     */
+    public void update(Player player, Player player2, long now, long deltaMs) {
         // Find nearest player target
         Player target = player;
         
@@ -182,53 +186,50 @@ public class Enemy {
         double distance = Math.sqrt(dx*dx + dy*dy);
         
         if (distance > 0) {
-            x += (dx / distance) * speed;
-            y += (dy / distance) * speed;
+            double step = speed * (deltaMs / 1000.0);
+            x += (dx / distance) * step;
+            y += (dy / distance) * step;
         }
         
         // TYPE1: update laser if active (pass player position for tracking)
         if (type == EnemyType.TYPE1 && activeLaser != null) {
-            activeLaser.update(getX(), getY(), playerX, playerY);
-            if (activeLaser.isFinished()) {
+            activeLaser.update(getX(), getY(), playerX, playerY, now);
+            if (activeLaser.isFinished(now)) {
                 activeLaser = null; // Remove finished laser
             }
         }
         
         // Hide health bar after 2 seconds
-        if (showHealthBar && System.currentTimeMillis() - healthBarShowTime > 2000) {
+        if (showHealthBar && now - healthBarShowTime > 2000) {
             showHealthBar = false;
         }
     }
     
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
+    }
+    
     public void draw(Graphics2D g2d) {
     int drawX = (int) x;
     int drawY = (int) y;
+        LaserBeam laser = activeLaser;
         
         // Draw sprite if available, otherwise placeholder
         if (sprite != null) {
-            // TYPE1: rotate sprite to south (180 degrees) when charging laser
-            if (type == EnemyType.TYPE1 && activeLaser != null) {
-                java.awt.geom.AffineTransform old = g2d.getTransform();
-                g2d.translate(drawX + width/2, drawY + height/2);
-                g2d.rotate(Math.PI); // 180 degrees
-                g2d.drawImage(sprite, -width/2, -height/2, width, height, null);
-                g2d.setTransform(old);
-            } else {
-                g2d.drawImage(sprite, drawX, drawY, width, height, null);
-            }
+            spriteAtlas().draw(g2d, spriteAngle(), drawX + width/2, drawY + height/2);
         } else {
             // Draw simple enemy placeholder
             g2d.setColor(color);
             g2d.fillRect(drawX, drawY, width, height);
             
             // Draw "E" for Enemy
-            g2d.setColor(Color.BLACK);
-            g2d.setFont(new Font("Arial", Font.BOLD, 12));
-            FontMetrics fm = g2d.getFontMetrics();
+            FontMetrics fm = UiResources.metrics(PLACEHOLDER_FONT);
             String text = "E";
             int textX = drawX + (width - fm.stringWidth(text)) / 2;
             int textY = drawY + (height + fm.getHeight()) / 2 - 2;
-            g2d.drawString(text, textX, textY);
+            GlyphCache.drawText(g2d, text, PLACEHOLDER_FONT, Color.BLACK, textX, textY);
         }
         
         // TYPE2: Draw health bar if visible
@@ -237,11 +238,23 @@ public class Enemy {
         }
         
         // TYPE1: Draw laser if active
-        if (type == EnemyType.TYPE1 && activeLaser != null) {
-            activeLaser.draw(g2d);
+        if (type == EnemyType.TYPE1 && laser != null) {
+            laser.draw(g2d);
         }
     }
     
+    private RotationAtlas spriteAtlas() {
+        if (spriteAtlas == null || spriteAtlas.isStale()) {
+            spriteAtlas = RotationAtlas.forSprite(sprite, width, height, 0);
+        }
+        return spriteAtlas;
+    }
+    
+    // TYPE1: rotate sprite to south (180 degrees) when charging laser
+    private double spriteAngle() {
+        return type == EnemyType.TYPE1 && activeLaser != null ? Math.PI : 0;
+    }
+    
     private void drawHealthBar(Graphics2D g2d) {
         int barW = 40;
         int barH = 5;
@@ -286,8 +299,11 @@ public class Enemy {
     }
     
     // Getters
+    public int getAtlasPage() { return sprite == null ? -1 : spriteAtlas().pageOf(spriteAngle()); } // page draw() will use
     public int getX() { return (int)(x + width/2); } // Center X
     public int getY() { return (int)(y + height/2); } // Center Y
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public int getHealth() { return health; }
@@ -307,7 +323,7 @@ public class Enemy {
         // TYPE2: show health bar when hit
         if (type == EnemyType.TYPE2) {
             showHealthBar = true;
-            healthBarShowTime = System.currentTimeMillis();
+            healthBarShowTime = SimContext.now();
         }
     }
     
@@ -1,67 +1,100 @@
 import java.awt.*;
-import java.awt.geom.AffineTransform;
-import java.util.Random;
+import interfaces.Interpolated;
 
-public class EnemyBullet {
-    private static Random rand = new Random();
+public class EnemyBullet implements Interpolated {
     private double x, y;
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private double dx, dy;
     private int width, height;
-    private double speed;
+    private double speed; // pixels per second
     private long creationTime;
     private static final long BULLET_LIFETIME = 60000; // 1 minute in milliseconds
     private int damage; // Random damage
+    private RotationAtlas atlas; // pre-rotated frames for atlasLength
+    private int atlasLength;
     
     // For TYPE2 bullets: acceleration toward player
     private boolean hasAcceleration;
     private int targetPlayerX, targetPlayerY;
-    private double acceleration = 0.05; // pixels per frame^2
+    private double acceleration = 180.0; // pixels per second^2
     // Remember the initial aimed point; once bullet passes this point, stop homing
     private double aimedX = Double.NaN;
     private double aimedY = Double.NaN;
     private boolean passedAimedPoint = false;
     
-    // Constructor for TYPE1/TYPE3: simple bullet toward player
-    public EnemyBullet(int startX, int startY, int targetX, int targetY) {
+    // Blank instance for ObjectPool and render snapshots; call reset(...) or copyFrom(...) before use
+    public EnemyBullet() {
+    }
+
+    /**
+     * Copy what draw() reads from a live bullet, for a render snapshot
+     */
+    public EnemyBullet copyFrom(EnemyBullet other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.dx = other.dx;
+        this.dy = other.dy;
+        this.width = other.width;
+        this.height = other.height;
+        this.speed = other.speed;
+        return this;
+    }
+    
+    // TYPE1/TYPE3: simple bullet toward player
+    public EnemyBullet reset(int startX, int startY, int targetX, int targetY) {
         this.x = startX;
         this.y = startY;
         this.width = 6;
         this.height = 6;
-        this.speed = 3; // ช้ากว่ากระสุนผู้เล่น
-        this.creationTime = System.currentTimeMillis();
+        this.speed = 180; // ช้ากว่ากระสุนผู้เล่น
+        this.creationTime = SimContext.now();
         this.hasAcceleration = false;
-        this.damage = 3 + rand.nextInt(4); // 3-6 damage
+        this.aimedX = Double.NaN;
+        this.aimedY = Double.NaN;
+        this.passedAimedPoint = false;
+        this.damage = 3 + SimContext.random().nextInt(4); // 3-6 damage
         
         // Calculate direction towards player
         double distance = Math.sqrt(Math.pow(targetX - startX, 2) + Math.pow(targetY - startY, 2));
         if (distance > 0) {
             this.dx = ((targetX - startX) / distance) * speed;
             this.dy = ((targetY - startY) / distance) * speed;
+        } else {
+            this.dx = 0;
+            this.dy = 0;
         }
+        storePrevious();
+        return this;
     }
     
-    // Constructor for TYPE2: bullet fired at angle with acceleration toward player
-    public EnemyBullet(int startX, int startY, double initialAngle, int targetPlayerX, int targetPlayerY) {
+    // TYPE2: bullet fired at angle with acceleration toward player
+    public EnemyBullet reset(int startX, int startY, double initialAngle, int targetPlayerX, int targetPlayerY) {
         this.x = startX;
         this.y = startY;
         this.width = 6;
         this.height = 6;
-        this.speed = 2; // start slower
-        this.creationTime = System.currentTimeMillis();
+        this.speed = 120; // start slower
+        this.creationTime = SimContext.now();
         this.hasAcceleration = true;
         this.targetPlayerX = targetPlayerX;
         this.targetPlayerY = targetPlayerY;
         // set aimed point as the player's position at firing time
         this.aimedX = targetPlayerX;
         this.aimedY = targetPlayerY;
-        this.damage = 4 + rand.nextInt(5); // 4-8 damage
+        this.passedAimedPoint = false;
+        this.damage = 4 + SimContext.random().nextInt(5); // 4-8 damage
         
         // Initial velocity from angle
         this.dx = Math.cos(initialAngle) * speed;
         this.dy = Math.sin(initialAngle) * speed;
+        storePrevious();
+        return this;
     }
     
-    public void update() {
+    public void update(long deltaMs) {
+        double dt = deltaMs / 1000.0;
         if (hasAcceleration) {
             if (!passedAimedPoint) {
                 // Check whether we've passed the aimed point: compute vector from bullet to aimed point
@@ -81,31 +114,35 @@ public class EnemyBullet {
             double toPlayerY = targetPlayerY - y;
             double dist = Math.sqrt(toPlayerX*toPlayerX + toPlayerY*toPlayerY);
             if (dist > 0) {
-                dx += (toPlayerX / dist) * acceleration;
-                dy += (toPlayerY / dist) * acceleration;
+                dx += (toPlayerX / dist) * acceleration * dt;
+                dy += (toPlayerY / dist) * acceleration * dt;
             }
             }
         }
-        x += dx;
-        y += dy;
+        x += dx * dt;
+        y += dy * dt;
+    }
+    
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
     }
     
     public void draw(Graphics2D g2d) {
         // Draw thin rectangular enemy bullet aligned with velocity
-        double angle = Math.atan2(dy, dx);
-        int len = Math.max(6, (int) Math.round(speed * 1.5));
-        int h = 3;
-
-        AffineTransform old = g2d.getTransform();
-        g2d.translate(x, y);
-        g2d.rotate(angle);
-
-        g2d.setColor(Color.RED);
-        g2d.fillRect(0, -h/2, len, h);
-        g2d.setColor(Color.ORANGE);
-        g2d.drawRect(0, -h/2, len, h);
+        atlas().draw(g2d, Math.atan2(dy, dx), (int) Math.round(x), (int) Math.round(y));
+    }
 
-        g2d.setTransform(old);
+    // Length grows with speed for accelerating bullets, so re-fetch when it changes
+    private RotationAtlas atlas() {
+        int len = getDrawLength();
+        int h = 3;
+        if (atlas == null || atlas.isStale() || atlasLength != len) {
+            atlas = RotationAtlas.forBar(len, h, Color.RED, Color.ORANGE, false);
+            atlasLength = len;
+        }
+        return atlas;
     }
     
     public boolean collidesWith(Player player) {
@@ -123,15 +160,19 @@ public class EnemyBullet {
         return x < -50 || x > gameWidth + 50 || y < -50 || y > gameHeight + 50;
     }
     
-    public boolean isExpired() {
-        return System.currentTimeMillis() - creationTime > BULLET_LIFETIME;
+    public boolean isExpired(long now) {
+        return now - creationTime > BULLET_LIFETIME;
     }
     
     public int getDamage() { return damage; }
     
     // Getters
+    public int getAtlasPage() { return atlas().pageOf(Math.atan2(dy, dx)); } // page draw() will use
+    public int getDrawLength() { return Math.max(6, (int) Math.round(speed * 0.025)); } // trail length, grows with speed
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
 }
\ No newline at end of file
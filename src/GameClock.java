@@ -0,0 +1,101 @@
+/**
+ * Simulation time for a World, read once per tick and passed down.
+ *
+ * Every loop tick asks stepsDue() how many fixed simulation steps to run:
+ * normally one, none while paused (unless a single step was requested),
+ * and more or fewer under a time scale (0.25x runs a step every fourth loop
+ * tick, 2x runs two per loop tick). Each step then calls advance(), which
+ * moves the clock on by the step and returns the whole milliseconds to hand
+ * to World.update(); the sub-millisecond rest carries over, so 60Hz steps
+ * average out to exactly 1/60s.
+ *
+ * The World only ever sees whole, unscaled steps, so slow motion, pausing
+ * and stepping change how often ticks run but never what a tick does, and
+ * a replay recorded at any speed plays back in sync.
+ */
+public final class GameClock {
+    public static final double MIN_TIME_SCALE = 0.05;
+    public static final double MAX_TIME_SCALE = 8.0;
+
+    private long nowMillis;
+    private long carryNanos; // step time not yet handed out as whole milliseconds
+    private double timeScale = 1.0;
+    private double owedSteps = 0.0; // fractional steps accumulated under the time scale
+    private boolean paused = false;
+    private int requestedSteps = 0; // single steps asked for while paused
+
+    public GameClock(long startMillis) {
+        this(startMillis, 0);
+    }
+
+    /**
+     * @param carryNanos Step time already accumulated towards the next millisecond (see getCarryNanos())
+     */
+    public GameClock(long startMillis, long carryNanos) {
+        this.nowMillis = startMillis;
+        this.carryNanos = carryNanos;
+    }
+
+    /**
+     * Simulation steps to run for this loop tick
+     */
+    public int stepsDue() {
+        if (paused) {
+            int steps = requestedSteps;
+            requestedSteps = 0;
+            return steps;
+        }
+        owedSteps += timeScale;
+        int steps = (int) owedSteps;
+        owedSteps -= steps;
+        return steps;
+    }
+
+    /**
+     * How far simulated time has got past the last step, in steps, for
+     * frames drawn between ticks: 0 just after a step, 1 when the next is due
+     * @param loopAlpha Fraction of the current loop tick elapsed (GameLoop's alpha)
+     */
+    public double stepAlpha(double loopAlpha) {
+        if (paused) return 1.0; // frozen on the last step
+        return Math.min(1.0, owedSteps + loopAlpha * timeScale);
+    }
+
+    /**
+     * Move time on by one simulation step
+     * @return Whole milliseconds to pass to World.update()
+     */
+    public long advance(long stepNanos) {
+        carryNanos += stepNanos;
+        long delta = carryNanos / 1_000_000L;
+        carryNanos -= delta * 1_000_000L;
+        nowMillis += delta;
+        return delta;
+    }
+
+    /**
+     * Speed of simulated time relative to the loop, clamped to MIN_TIME_SCALE..MAX_TIME_SCALE
+     */
+    public void setTimeScale(double scale) {
+        timeScale = Math.max(MIN_TIME_SCALE, Math.min(MAX_TIME_SCALE, scale));
+        owedSteps = 0.0;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        requestedSteps = 0;
+    }
+
+    /**
+     * Run exactly one step on the next loop tick (only while paused)
+     */
+    public void requestStep() {
+        if (paused) requestedSteps++;
+    }
+
+    // Getters
+    public long millis() { return nowMillis; }
+    public long getCarryNanos() { return carryNanos; }
+    public double getTimeScale() { return timeScale; }
+    public boolean isPaused() { return paused; }
+}
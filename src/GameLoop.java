@@ -0,0 +1,156 @@
+/**
+ * Fixed-timestep game loop running on its own thread.
+ *
+ * Simulation advances in constant steps of 1/ticksPerSecond using an
+ * accumulator fed by System.nanoTime(); rendering happens as often as the
+ * frame cap allows and receives an interpolation factor (0..1) describing how
+ * far the real clock is between the last tick and the next one.
+ */
+public class GameLoop implements Runnable {
+
+    /**
+     * Callbacks driven by the loop thread
+     */
+    public interface Listener {
+        /**
+         * Advance the simulation by exactly one fixed step
+         * @param stepNanos Length of the step in nanoseconds
+         */
+        void tick(long stepNanos);
+
+        /**
+         * Present a frame
+         * @param alpha Fraction of a step elapsed since the last tick (0..1)
+         */
+        void render(double alpha);
+    }
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int DEFAULT_MAX_UPDATES_PER_FRAME = 5;
+
+    private final Listener listener;
+    private volatile long stepNanos;
+    private volatile long frameNanos; // 0 = uncapped
+    private volatile int maxUpdatesPerFrame = DEFAULT_MAX_UPDATES_PER_FRAME;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    // Stats (written by loop thread only)
+    private volatile long tickCount = 0;
+    private volatile long frameCount = 0;
+    private volatile long droppedNanos = 0;
+
+    public GameLoop(Listener listener, int ticksPerSecond, int maxFps) {
+        this.listener = listener;
+        setTicksPerSecond(ticksPerSecond);
+        setMaxFps(maxFps);
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long lastRender = previous - frameNanos;
+
+        while (running) {
+            long step = stepNanos;
+            long now = System.nanoTime();
+            long elapsed = now - previous;
+            previous = now;
+
+            // Spiral-of-death guard: never try to catch up more than a few steps per frame
+            long maxElapsed = step * maxUpdatesPerFrame;
+            if (elapsed > maxElapsed) {
+                droppedNanos += elapsed - maxElapsed;
+                elapsed = maxElapsed;
+            }
+            accumulator += elapsed;
+
+            int updates = 0;
+            while (accumulator >= step && updates < maxUpdatesPerFrame) {
+                listener.tick(step);
+                tickCount++;
+                accumulator -= step;
+                updates++;
+            }
+            if (accumulator >= step) {
+                // Still behind after the update cap - drop whole steps, keep the fraction
+                droppedNanos += accumulator - (accumulator % step);
+                accumulator %= step;
+            }
+
+            long frame = frameNanos;
+            now = System.nanoTime();
+            if (frame == 0 || now - lastRender >= frame) {
+                listener.render((double) accumulator / step);
+                frameCount++;
+                lastRender = now;
+            }
+
+            // Sleep until the next tick or the next frame, whichever comes first
+            long untilTick = step - accumulator - (System.nanoTime() - previous);
+            long untilFrame = frame == 0 ? 0 : frame - (System.nanoTime() - lastRender);
+            // Uncapped renders again straight away, so frames keep coming between ticks
+            long wait = frame == 0 ? 0 : Math.min(untilTick, untilFrame);
+            sleepNanos(wait);
+        }
+    }
+
+    private void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            Thread.yield();
+            return;
+        }
+        long deadline = System.nanoTime() + nanos;
+        try {
+            // Coarse sleep, then yield for the last millisecond to limit oversleep
+            while (deadline - System.nanoTime() > 1_500_000L) {
+                Thread.sleep(1);
+            }
+            while (System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Configuration
+    public void setTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) throw new IllegalArgumentException("ticksPerSecond must be > 0");
+        this.stepNanos = NANOS_PER_SECOND / ticksPerSecond;
+    }
+
+    public void setMaxFps(int maxFps) {
+        this.frameNanos = maxFps > 0 ? NANOS_PER_SECOND / maxFps : 0;
+    }
+
+    public void setMaxUpdatesPerFrame(int maxUpdatesPerFrame) {
+        this.maxUpdatesPerFrame = Math.max(1, maxUpdatesPerFrame);
+    }
+
+    // Getters
+    public boolean isRunning() { return running; }
+    public long getStepNanos() { return stepNanos; }
+    public int getTicksPerSecond() { return (int) (NANOS_PER_SECOND / stepNanos); }
+    public int getMaxFps() { return frameNanos == 0 ? 0 : (int) (NANOS_PER_SECOND / frameNanos); }
+    public long getTickCount() { return tickCount; }
+    public long getFrameCount() { return frameCount; }
+    public long getDroppedNanos() { return droppedNanos; }
+}
@@ -0,0 +1,196 @@
+import java.awt.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered text for the HUD and damage popups.
+ *
+ * Each distinct (font, colour, string) is drawn once into a TextureAtlas
+ * frame region and blitted after that, so a frame of HUD text does no glyph
+ * layout and allocates nothing. Numbers 0-999 are cached as whole strings;
+ * larger ones are put together from cached digits. All draw methods take the
+ * baseline like drawString and return the advance, so text can be chained.
+ *
+ * The cache is dropped whenever TextureAtlas.clearFrames() releases the frame
+ * pages, so the old pages can be freed, and holds at most MAX_GLYPHS strings:
+ * atlas space is never handed back, so past that new text is drawn directly.
+ */
+public final class GlyphCache {
+    private static final int PAD = 1; // keeps antialiased edges inside the region
+    private static final int CACHED_NUMBERS = 1000;
+    private static final int MAX_GLYPHS = 4096;
+
+    /**
+     * One pre-rendered string
+     */
+    private static final class Glyph {
+        final TextureAtlas.Region region;
+        final int ascent;
+        final int advance;
+
+        Glyph(TextureAtlas.Region region, int ascent, int advance) {
+            this.region = region;
+            this.ascent = ascent;
+            this.advance = advance;
+        }
+    }
+
+    /**
+     * Everything cached for one font in one colour
+     */
+    private static final class Style {
+        final Font font;
+        final Color color;
+        final Map<String, Glyph> texts = new ConcurrentHashMap<>();
+        final Glyph[] numbers = new Glyph[CACHED_NUMBERS];
+
+        Style(Font font, Color color) {
+            this.font = font;
+            this.color = color;
+        }
+    }
+
+    private static final Map<Font, Map<Color, Style>> styles = new ConcurrentHashMap<>();
+    private static int glyphCount = 0; // guarded by GlyphCache.class
+    private static volatile int frameGeneration = TextureAtlas.getFrameGeneration();
+
+    private GlyphCache() {
+    }
+
+    /**
+     * Draw a string with its baseline at y
+     * @return advance width
+     */
+    public static int drawText(Graphics2D g2d, String text, Font font, Color color, int x, int y) {
+        Style style = style(font, color);
+        Glyph glyph = style.texts.get(text);
+        if (glyph == null) {
+            if (!reserve()) return drawUncached(g2d, style, text, x, y);
+            glyph = render(style, text);
+            style.texts.put(text, glyph);
+        }
+        return draw(g2d, glyph, x, y);
+    }
+
+    /**
+     * Draw a whole number with its baseline at y
+     * @return advance width
+     */
+    public static int drawNumber(Graphics2D g2d, int value, Font font, Color color, int x, int y) {
+        Style style = style(font, color);
+        if (value >= 0 && value < CACHED_NUMBERS) {
+            Glyph glyph = number(style, value);
+            return glyph != null ? draw(g2d, glyph, x, y) : drawUncached(g2d, style, Integer.toString(value), x, y);
+        }
+        // Everything else: sign, then one digit at a time, most significant first
+        int width = 0;
+        long abs = Math.abs((long) value);
+        if (value < 0) {
+            width += drawText(g2d, "-", font, color, x, y);
+        }
+        for (long div = highestPowerOfTen(abs); div > 0; div /= 10) {
+            width += drawNumber(g2d, (int) (abs / div % 10), font, color, x + width, y);
+        }
+        return width;
+    }
+
+    /**
+     * Width drawText() would advance by
+     */
+    public static int textWidth(String text, Font font) {
+        return UiResources.metrics(font).stringWidth(text);
+    }
+
+    /**
+     * Width drawNumber() would advance by
+     */
+    public static int numberWidth(int value, Font font) {
+        FontMetrics fm = UiResources.metrics(font);
+        long abs = Math.abs((long) value);
+        int width = value < 0 ? fm.charWidth('-') : 0;
+        for (long div = highestPowerOfTen(abs); div > 0; div /= 10) {
+            width += fm.charWidth((char) ('0' + abs / div % 10));
+        }
+        return width;
+    }
+
+    private static long highestPowerOfTen(long value) {
+        long div = 1;
+        while (value / div >= 10) div *= 10;
+        return div;
+    }
+
+    // The cached number, or null if the cache is full
+    private static Glyph number(Style style, int value) {
+        Glyph glyph = style.numbers[value];
+        if (glyph == null) {
+            if (!reserve()) return null;
+            glyph = render(style, Integer.toString(value));
+            style.numbers[value] = glyph;
+        }
+        return glyph;
+    }
+
+    // Count one more cached string; false once MAX_GLYPHS are cached
+    private static synchronized boolean reserve() {
+        if (glyphCount < MAX_GLYPHS) {
+            glyphCount++;
+            return true;
+        }
+        if (glyphCount == MAX_GLYPHS) {
+            glyphCount++; // warn once
+            Log.warn(Log.Category.RENDER, "GlyphCache full (" + MAX_GLYPHS + " strings), drawing new text uncached");
+        }
+        return false;
+    }
+
+    private static Style style(Font font, Color color) {
+        if (frameGeneration != TextureAtlas.getFrameGeneration()) {
+            invalidate();
+        }
+        Map<Color, Style> byColor = styles.get(font);
+        if (byColor == null) {
+            byColor = styles.computeIfAbsent(font, f -> new ConcurrentHashMap<>());
+        }
+        Style style = byColor.get(color);
+        if (style == null) {
+            style = byColor.computeIfAbsent(color, c -> new Style(font, c));
+        }
+        return style;
+    }
+
+    // The frame pages were cleared: forget every region on them and start over
+    private static synchronized void invalidate() {
+        int generation = TextureAtlas.getFrameGeneration();
+        if (frameGeneration == generation) return;
+        styles.clear();
+        glyphCount = 0;
+        frameGeneration = generation;
+    }
+
+    private static int drawUncached(Graphics2D g2d, Style style, String text, int x, int y) {
+        g2d.setFont(style.font);
+        g2d.setColor(style.color);
+        g2d.drawString(text, x, y);
+        return UiResources.metrics(style.font).stringWidth(text);
+    }
+
+    private static int draw(Graphics2D g2d, Glyph glyph, int x, int y) {
+        glyph.region.draw(g2d, x - PAD, y - glyph.ascent - PAD);
+        return glyph.advance;
+    }
+
+    private static Glyph render(Style style, String text) {
+        FontMetrics fm = UiResources.metrics(style.font);
+        int advance = fm.stringWidth(text);
+        int ascent = fm.getAscent();
+        TextureAtlas.Region region = TextureAtlas.allocateFrame(advance + 2 * PAD, ascent + fm.getDescent() + 2 * PAD);
+        Graphics2D g2d = region.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setFont(style.font);
+        g2d.setColor(style.color);
+        g2d.drawString(text, PAD, PAD + ascent);
+        g2d.dispose();
+        return new Glyph(region, ascent, advance);
+    }
+}
@@ -0,0 +1,175 @@
+import java.util.Random;
+
+/**
+ * Runs the World without Swing, as fast as the CPU allows.
+ *
+ * Simulated time comes from a GameClock advanced by one fixed step per tick
+ * (60Hz unless -Dbrex.tickRate says otherwise, as in SpaceGame), so an hour
+ * of Level 2 endless mode takes only as long as its ticks cost. A simple bot wanders around and always picks the next Level Up
+ * upgrade; when the player dies a new run starts with the same settings.
+ * Prints one line per simulated minute (tick cost and entity counts) and a
+ * summary at the end.
+ *
+ * Usage: java HeadlessRunner [--minutes N] [--seed S] [--level 1|2] [--spacecraft 0-2] [--verbose]
+ */
+public class HeadlessRunner {
+    private static final int TICKS_PER_SECOND = Integer.getInteger("brex.tickRate", 60); // same fixed rate as SpaceGame
+    private static final long STEP_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    private static final long TICKS_PER_MINUTE = TICKS_PER_SECOND * 60L;
+    private static final int BOT_TURN_TICKS = TICKS_PER_SECOND; // bot picks a new direction every second
+
+    // Base stats per spacecraft, same table as the spacecraft select screen
+    private static final int[][] SPACECRAFT_STATS = {
+        {400, 200, 75},  // HP
+        {70, 100, 170},  // Speed
+        {60, 85, 120}    // Firerate (shots per minute)
+    };
+
+    private final long minutes;
+    private final long seed;
+    private final int levelNumber;
+    private final int spacecraft;
+
+    private final GameClock clock = new GameClock(0);
+    private final World world;
+    private final Random botRandom;
+    private int pendingUpgrades = 0;
+    private int runs = 0;
+
+    // Tick cost stats
+    private final Metrics.Histogram tickCost = Metrics.histogram("headless.tick.time");
+    private int peakEntities = 0;
+
+    public HeadlessRunner(long minutes, long seed, int levelNumber, int spacecraft) {
+        this.minutes = minutes;
+        this.seed = seed;
+        this.levelNumber = levelNumber;
+        this.spacecraft = spacecraft;
+        this.botRandom = new Random(seed ^ 0x5DEECE66DL);
+        this.world = new World(clock, seed, new World.Listener() {
+            @Override
+            public void levelUp(int newLevel) {
+                pendingUpgrades++;
+            }
+        });
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        long minutes = 10;
+        long seed = 42;
+        int levelNumber = 2;
+        int spacecraft = 0;
+        boolean verbose = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--minutes": minutes = Long.parseLong(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--level": levelNumber = Integer.parseInt(args[++i]); break;
+                case "--spacecraft": spacecraft = Integer.parseInt(args[++i]); break;
+                case "--verbose": verbose = true; break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.err.println("Usage: java HeadlessRunner [--minutes N] [--seed S] [--level 1|2] [--spacecraft 0-2] [--verbose]");
+                    System.exit(2);
+            }
+        }
+        // Game events would otherwise flood the console at thousands of ticks per second
+        if (!verbose) Log.setLevel(Log.Level.WARN);
+
+        new HeadlessRunner(minutes, seed, levelNumber, Math.max(0, Math.min(2, spacecraft))).run();
+        Log.flush();
+    }
+
+    public void run() {
+        System.out.println("Headless run: level " + levelNumber + ", spacecraft " + spacecraft
+                + ", seed " + seed + ", " + minutes + " simulated minutes, world " + World.WORLD_WIDTH + "x" + World.WORLD_HEIGHT
+                + " (" + world.getChunks().getChunkCount() + " chunks)");
+        startRun();
+
+        long totalTicks = minutes * TICKS_PER_MINUTE;
+        long wallStart = System.nanoTime();
+
+        long minuteTickNanos = 0;
+        long minuteMaxNanos = 0;
+        for (long tick = 1; tick <= totalTicks; tick++) {
+            if (tick % BOT_TURN_TICKS == 0) steerBot();
+            long delta = clock.advance(STEP_NANOS); // whole-ms steps averaging 1/TICKS_PER_SECOND s
+
+            long start = System.nanoTime();
+            world.storePreviousPositions();
+            world.update(delta);
+            world.recyclePools();
+            long cost = System.nanoTime() - start;
+
+            record(cost);
+            minuteTickNanos += cost;
+            if (cost > minuteMaxNanos) minuteMaxNanos = cost;
+
+            while (pendingUpgrades > 0) {
+                // Cycle HP -> Speed -> Fire Rate like a player spreading their picks
+                world.applyLevelUpgrade(world.getLevel() % 3);
+                pendingUpgrades--;
+            }
+            if (!world.isGameRunning()) {
+                startRun();
+            }
+
+            if (tick % TICKS_PER_MINUTE == 0) {
+                System.out.printf("min %5d | tick mean %6.1fus max %8.1fus | entities %5d (enemies %4d, bullets %5d) | particles %6d | score %7d | runs %d%n",
+                        tick / TICKS_PER_MINUTE,
+                        minuteTickNanos / 1000.0 / TICKS_PER_MINUTE, minuteMaxNanos / 1000.0,
+                        world.getEntityCount(), world.getEnemies().size(),
+                        world.getBullets().size() + world.getEnemyBullets().size() + world.getBossBullets().size(),
+                        world.getParticles().getCount(), world.getScore(), runs);
+                minuteTickNanos = 0;
+                minuteMaxNanos = 0;
+            }
+        }
+
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+        double simSeconds = totalTicks / (double) TICKS_PER_SECOND;
+        System.out.println("----");
+        System.out.printf("%d ticks (%.1f simulated min) in %.2fs wall, %.0fx real time%n",
+                totalTicks, simSeconds / 60.0, wallSeconds, simSeconds / Math.max(1e-9, wallSeconds));
+        System.out.println("tick cost: " + tickCostSummary(tickCost));
+        System.out.println("peak entities: " + peakEntities + ", runs: " + runs);
+        System.out.println(world.getPoolStats());
+    }
+
+    private void startRun() {
+        runs++;
+        world.startGame(levelNumber, spacecraft,
+                SPACECRAFT_STATS[0][spacecraft], SPACECRAFT_STATS[1][spacecraft], SPACECRAFT_STATS[2][spacecraft]);
+        world.setInputMask(0);
+    }
+
+    // Wander: hold a random combination of WASD, sometimes none
+    private void steerBot() {
+        int mask = 0;
+        int h = botRandom.nextInt(3);
+        int v = botRandom.nextInt(3);
+        if (h == 1) mask |= World.INPUT_LEFT;
+        if (h == 2) mask |= World.INPUT_RIGHT;
+        if (v == 1) mask |= World.INPUT_UP;
+        if (v == 2) mask |= World.INPUT_DOWN;
+        world.setInputMask(mask);
+    }
+
+    private void record(long nanos) {
+        tickCost.record(nanos);
+        int entities = world.getEntityCount();
+        if (entities > peakEntities) peakEntities = entities;
+    }
+
+    /**
+     * Mean, percentiles and max of a tick cost histogram in microseconds, as both runners print it
+     */
+    static String tickCostSummary(Metrics.Histogram nanos) {
+        return String.format("mean %.1fus, p50 %dus, p99 %dus, p99.9 %dus, max %.1fus",
+                nanos.getMean() / 1000.0, nanos.getValueAtPercentile(50) / 1000,
+                nanos.getValueAtPercentile(99) / 1000, nanos.getValueAtPercentile(99.9) / 1000,
+                nanos.getMax() / 1000.0);
+    }
+}
@@ -0,0 +1,76 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Offscreen copy of the HUD, repainted only when what it shows changes.
+ *
+ * The caller fills a small int array with every value the HUD depends on
+ * (score, health, cooldown seconds, ...) and passes it to needsRepaint().
+ * If it matches the values of the last repaint, the cached image is blitted
+ * as is; otherwise the caller paints into beginRepaint() first. Comparing
+ * the array is a few int compares, so an unchanged frame builds no strings.
+ */
+public class HudLayer {
+    private final int width, height;
+    private final int[] paintedState;
+    private BufferedImage image;
+    private boolean valid = false;
+    private final Metrics.Counter repaints = Metrics.counter("hud.repaints");
+
+    /**
+     * @param stateSize Length of the state arrays passed to needsRepaint()
+     */
+    public HudLayer(int width, int height, int stateSize) {
+        this.width = width;
+        this.height = height;
+        this.paintedState = new int[stateSize];
+    }
+
+    /**
+     * Whether the image is missing or was painted for different values.
+     * Remembers state as the painted values when it returns true.
+     */
+    public boolean needsRepaint(int[] state) {
+        if (valid && Arrays.equals(state, paintedState)) return false;
+        System.arraycopy(state, 0, paintedState, 0, paintedState.length);
+        return true;
+    }
+
+    /**
+     * Cleared graphics for the image, with the frame's rendering hints. Call endRepaint() after.
+     */
+    public Graphics2D beginRepaint(Graphics2D frame) {
+        if (image == null) {
+            image = frame.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, width, height);
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.setRenderingHints(frame.getRenderingHints());
+        return g2d;
+    }
+
+    public void endRepaint(Graphics2D g2d) {
+        g2d.dispose();
+        valid = true;
+        repaints.increment();
+    }
+
+    /**
+     * Force a repaint on the next frame
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Blit the cached HUD with its top-left at (x, y)
+     */
+    public void draw(Graphics2D g2d, int x, int y) {
+        if (image != null) {
+            g2d.drawImage(image, x, y, null);
+        }
+    }
+}
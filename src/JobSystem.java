@@ -0,0 +1,108 @@
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Splits per-entity work across a ForkJoinPool.
+ *
+ * forRange() cuts 0..count into chunks of at least CHUNK_SIZE and runs them
+ * on the pool, returning once all are done. Only work that touches nothing
+ * but its own entity may go through here (movement, homing, particle
+ * integration); anything with shared effects (damage, removals, spawns,
+ * random rolls) stays in the caller's sequential loop afterwards, in list
+ * order, so a tick gives the same result on any number of threads.
+ *
+ * Small lists run inline on the calling thread. The thread count comes from
+ * -Dbrex.threads (default: all cores); 1 turns the pool off entirely.
+ */
+public final class JobSystem {
+    public static final int CHUNK_SIZE = 256;
+
+    private static final JobSystem SHARED = new JobSystem(
+            Integer.getInteger("brex.threads", Runtime.getRuntime().availableProcessors()));
+
+    private final ForkJoinPool pool; // null = single-threaded
+
+    /**
+     * Work on the index range [from, to)
+     */
+    public interface RangeJob {
+        void run(int from, int to);
+    }
+
+    public JobSystem(int threads) {
+        if (threads > 1) {
+            pool = new ForkJoinPool(threads, JobSystem::newWorker, null, false);
+            Log.info(Log.Category.GAME, "Job system: " + threads + " threads");
+        } else {
+            pool = null;
+        }
+    }
+
+    /**
+     * Pool shared by every World (simulation steps never overlap)
+     */
+    public static JobSystem shared() {
+        return SHARED;
+    }
+
+    /**
+     * Run job over [0, count), in parallel chunks when count is large enough
+     */
+    public void forRange(int count, RangeJob job) {
+        if (count <= 0) return;
+        if (pool == null || count < 2 * CHUNK_SIZE) {
+            job.run(0, count);
+            return;
+        }
+        pool.invoke(new RangeTask(job, 0, count));
+    }
+
+    /**
+     * Apply action to every element. The list must not change until this returns.
+     */
+    public <T> void forEach(List<T> list, Consumer<? super T> action) {
+        forRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(list.get(i));
+            }
+        });
+    }
+
+    // Getters
+    public int getThreadCount() { return pool == null ? 1 : pool.getParallelism(); }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("SimWorker-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Halves its range until it is at most CHUNK_SIZE long
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L; // never serialized; ForkJoinTask is Serializable
+        private final RangeJob job;
+        private final int from, to;
+
+        RangeTask(RangeJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                job.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(job, from, mid), new RangeTask(job, mid, to));
+        }
+    }
+}
@@ -27,6 +27,12 @@ public class LaserBeam {
     private static final long CHARGE_TIME = 2000;  // 2 seconds
     private static final long LOCK_TIME = 700;     // 0.7 seconds
     
+    // Colours by state
+    private static final Color CHARGING_COLOR = new Color(255, 0, 0, 150);
+    private static final Color LOCKED_COLOR = new Color(255, 0, 0, 200);
+    private static final Color FIRING_COLOR = new Color(255, 255, 100, 255);
+    private static final Color GLOW_COLOR = new Color(255, 200, 0, 100);
+    
     public LaserBeam(double startX, double startY, double targetX, double targetY) {
         this.startX = startX;
         this.startY = startY;
@@ -34,12 +40,29 @@ public class LaserBeam {
         this.targetY = targetY;
         this.angle = Math.atan2(targetY - startY, targetX - startX);
         this.state = LaserState.CHARGING;
-        this.stateStartTime = System.currentTimeMillis();
+        this.stateStartTime = SimContext.now();
         this.chargeProgress = 0.0;
-        this.damage = 20 + (int)(Math.random() * 11); // 20-30
+        this.damage = 20 + SimContext.random().nextInt(11); // 20-30
+    }
+    
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    LaserBeam() {
     }
     
-    public void update(double enemyX, double enemyY, double playerX, double playerY) {
+    /**
+     * Copy what draw() reads from a live beam, for a render snapshot
+     */
+    LaserBeam copyFrom(LaserBeam other) {
+        this.startX = other.startX;
+        this.startY = other.startY;
+        this.angle = other.angle;
+        this.state = other.state;
+        this.chargeProgress = other.chargeProgress;
+        this.onCooldown = other.onCooldown;
+        return this;
+    }
+    
+    public void update(double enemyX, double enemyY, double playerX, double playerY, long now) {
         this.startX = enemyX;
         this.startY = enemyY;
         
@@ -48,7 +71,6 @@ public class LaserBeam {
             this.angle = Math.atan2(playerY - enemyY, playerX - enemyX);
         }
         
-        long now = System.currentTimeMillis();
         long elapsed = now - stateStartTime;
         
         if (onCooldown) {
@@ -91,37 +113,43 @@ public class LaserBeam {
         double endX = startX + Math.cos(angle) * length;
         double endY = startY + Math.sin(angle) * length;
         
+        // Only stroke the part of the beam that is on screen
+        double[] beam = { startX, startY, endX, endY };
+        if (!ViewCuller.clipLine(beam, g2d.getClipBounds())) return;
+        int x1 = (int) beam[0], y1 = (int) beam[1];
+        int x2 = (int) beam[2], y2 = (int) beam[3];
+        
         switch (state) {
             case CHARGING:
                 // Thin line getting thicker
                 int thickness = 1 + (int)(chargeProgress * 4); // 1 to 5
-                g2d.setColor(new Color(255, 0, 0, 150));
-                g2d.setStroke(new BasicStroke(thickness));
-                g2d.drawLine((int)startX, (int)startY, (int)endX, (int)endY);
+                g2d.setColor(CHARGING_COLOR);
+                g2d.setStroke(UiResources.stroke(thickness));
+                g2d.drawLine(x1, y1, x2, y2);
                 break;
                 
             case LOCKED:
                 // Thick red line
-                g2d.setColor(new Color(255, 0, 0, 200));
-                g2d.setStroke(new BasicStroke(5));
-                g2d.drawLine((int)startX, (int)startY, (int)endX, (int)endY);
+                g2d.setColor(LOCKED_COLOR);
+                g2d.setStroke(UiResources.stroke(5));
+                g2d.drawLine(x1, y1, x2, y2);
                 break;
                 
             case FIRING:
                 // Bright thick beam
-                g2d.setColor(new Color(255, 255, 100, 255));
-                g2d.setStroke(new BasicStroke(8));
-                g2d.drawLine((int)startX, (int)startY, (int)endX, (int)endY);
+                g2d.setColor(FIRING_COLOR);
+                g2d.setStroke(UiResources.stroke(8));
+                g2d.drawLine(x1, y1, x2, y2);
                 
                 // Glow
-                g2d.setColor(new Color(255, 200, 0, 100));
-                g2d.setStroke(new BasicStroke(12));
-                g2d.drawLine((int)startX, (int)startY, (int)endX, (int)endY);
+                g2d.setColor(GLOW_COLOR);
+                g2d.setStroke(UiResources.stroke(12));
+                g2d.drawLine(x1, y1, x2, y2);
                 break;
         }
         
         // Reset stroke
-        g2d.setStroke(new BasicStroke(1));
+        g2d.setStroke(UiResources.stroke(1));
     }
     
     public boolean shouldDealDamage() {
@@ -161,9 +189,9 @@ public class LaserBeam {
         return damage;
     }
     
-    public boolean isFinished() {
+    public boolean isFinished(long now) {
         if (!onCooldown) return false;
-        return System.currentTimeMillis() - cooldownStartTime >= COOLDOWN_DURATION;
+        return now - cooldownStartTime >= COOLDOWN_DURATION;
     }
     
     public boolean isOnCooldown() {
@@ -0,0 +1,252 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Small asynchronous logging facade.
+ *
+ * Callers only format a message and push it onto a lock-free ring buffer; a
+ * background "LogWriter" thread drains the buffer to stdout, so the game loop
+ * and the EDT never block on console output. Hot-path messages go through
+ * debug(), guarded by isDebug(category): DEBUG_BUILD is a static final
+ * constant, so with -Dbrex.debug unset the JIT removes the guarded block,
+ * string building included. For per-event noise (shots, spawns) use a Counter,
+ * which is reported as one aggregated line per second.
+ *
+ * System properties:
+ *   brex.debug=true          enable DEBUG level (read once at startup)
+ *   brex.log.level=WARN      minimum level printed (default INFO)
+ *   brex.log.off=COMBAT,...  categories to silence
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    public enum Category { GAME, SPAWN, COMBAT, BOSS, AUDIO, SETTINGS, RENDER }
+
+    // Compile-time style switch for hot-path debug logging
+    public static final boolean DEBUG_BUILD = Boolean.getBoolean("brex.debug");
+
+    private static final int CAPACITY = 4096; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long COUNTER_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+
+    private static volatile Level minLevel = Level.INFO;
+    private static final boolean[] categoryEnabled = new boolean[Category.values().length];
+
+    // Multi-producer / single-consumer ring: producers claim a sequence with CAS,
+    // then publish their entry into the slot; the writer thread nulls slots it consumed
+    private static final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static volatile long head = 0;
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private static final List<Counter> counters = new ArrayList<>();
+    private static final PrintStream out = System.out;
+    private static final Thread writer;
+
+    static {
+        for (int i = 0; i < categoryEnabled.length; i++) {
+            categoryEnabled[i] = true;
+        }
+        String level = System.getProperty("brex.log.level");
+        if (level != null) {
+            try {
+                minLevel = Level.valueOf(level.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // keep default
+            }
+        }
+        if (DEBUG_BUILD) minLevel = Level.DEBUG;
+        String off = System.getProperty("brex.log.off");
+        if (off != null) {
+            for (String name : off.split(",")) {
+                try {
+                    categoryEnabled[Category.valueOf(name.trim().toUpperCase()).ordinal()] = false;
+                } catch (IllegalArgumentException e) {
+                    // unknown category, ignore
+                }
+            }
+        }
+
+        writer = new Thread(Log::drainLoop, "LogWriter");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "LogFlush"));
+    }
+
+    private Log() {
+    }
+
+    /**
+     * Single log record; created only when the message passes the level/category filter
+     */
+    private static final class Entry {
+        final Level level;
+        final Category category;
+        final String message;
+
+        Entry(Level level, Category category, String message) {
+            this.level = level;
+            this.category = category;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Event counter reported as "N <label> in the last second" instead of one line per event
+     */
+    public static final class Counter {
+        private final Category category;
+        private final String label;
+        private final LongAdder pending = new LongAdder();
+        private long total = 0;
+
+        private Counter(Category category, String label) {
+            this.category = category;
+            this.label = label;
+        }
+
+        public void increment() {
+            pending.increment();
+        }
+
+        public void add(long amount) {
+            pending.add(amount);
+        }
+
+        // Writer thread only
+        private void report() {
+            long n = pending.sumThenReset();
+            if (n == 0) return;
+            total += n;
+            if (isEnabled(Level.INFO, category)) {
+                write(Level.INFO, category, n + " " + label + " in the last second (" + total + " total)");
+            }
+        }
+    }
+
+    /**
+     * Create a counter that is reported once per second while non-zero
+     */
+    public static Counter counter(Category category, String label) {
+        Counter counter = new Counter(category, label);
+        synchronized (counters) {
+            counters.add(counter);
+        }
+        return counter;
+    }
+
+    // Cheap guards
+    public static boolean isDebug(Category category) {
+        return DEBUG_BUILD && categoryEnabled[category.ordinal()];
+    }
+
+    public static boolean isEnabled(Level level, Category category) {
+        return level.ordinal() >= minLevel.ordinal() && categoryEnabled[category.ordinal()];
+    }
+
+    // Logging
+    public static void debug(Category category, String message) {
+        if (isDebug(category)) write(Level.DEBUG, category, message);
+    }
+
+    public static void info(Category category, String message) {
+        if (isEnabled(Level.INFO, category)) write(Level.INFO, category, message);
+    }
+
+    public static void warn(Category category, String message) {
+        if (isEnabled(Level.WARN, category)) write(Level.WARN, category, message);
+    }
+
+    public static void error(Category category, String message) {
+        if (isEnabled(Level.ERROR, category)) write(Level.ERROR, category, message);
+    }
+
+    // Configuration
+    public static void setLevel(Level level) { minLevel = level; }
+    public static Level getLevel() { return minLevel; }
+    public static void setEnabled(Category category, boolean enabled) { categoryEnabled[category.ordinal()] = enabled; }
+    public static boolean isEnabled(Category category) { return categoryEnabled[category.ordinal()]; }
+    public static long getDropped() { return dropped.get(); }
+
+    private static void write(Level level, Category category, String message) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head >= CAPACITY) {
+                // Buffer full: never block the caller, just count the loss
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+        slots.set((int) (seq & MASK), new Entry(level, category, message));
+    }
+
+    private static void drainLoop() {
+        StringBuilder sb = new StringBuilder(1024);
+        long nextCounterReport = System.nanoTime() + COUNTER_INTERVAL_NANOS;
+        long reportedDrops = 0;
+        while (true) {
+            int drained = drain(sb);
+
+            long now = System.nanoTime();
+            if (now >= nextCounterReport) {
+                nextCounterReport = now + COUNTER_INTERVAL_NANOS;
+                synchronized (counters) {
+                    for (Counter counter : counters) {
+                        counter.report();
+                    }
+                }
+                long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    write(Level.WARN, Category.GAME, (drops - reportedDrops) + " log messages dropped (buffer full)");
+                    reportedDrops = drops;
+                }
+            }
+
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    // Writer thread only (or the shutdown hook once the game is exiting)
+    private static synchronized int drain(StringBuilder sb) {
+        int drained = 0;
+        long h = head;
+        while (true) {
+            int index = (int) (h & MASK);
+            Entry entry = slots.get(index);
+            if (entry == null) break; // nothing published at this sequence yet
+            slots.set(index, null);
+            h++;
+            head = h;
+            drained++;
+
+            sb.setLength(0);
+            if (entry.level != Level.INFO) {
+                sb.append('[').append(entry.level).append("] ");
+            }
+            if (entry.category != Category.GAME) {
+                sb.append(entry.category).append(": ");
+            }
+            sb.append(entry.message);
+            out.println(sb);
+        }
+        return drained;
+    }
+
+    /**
+     * Write out everything queued so far (called automatically at shutdown)
+     */
+    public static void flush() {
+        drain(new StringBuilder(256));
+        out.flush();
+    }
+}
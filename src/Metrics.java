@@ -0,0 +1,250 @@
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Process-wide registry of counters, gauges and histograms.
+ *
+ * Instruments are created on first lookup by name and live for the whole
+ * process; look them up once and keep the reference on hot paths. Histograms
+ * are HDR-style: log-linear buckets with about 3% relative error over the
+ * full long range, so recording is a few shifts and one atomic increment and
+ * never allocates. Time histograms record nanoseconds.
+ *
+ * installGcListener() adds GC pauses (from the GarbageCollectorMXBean
+ * notifications) and heap usage; exportCsv() writes every instrument to a
+ * file, one row each.
+ */
+public final class Metrics {
+
+    public static final String GC_PAUSE = "jvm.gc.pause";
+    public static final String GC_COUNT = "jvm.gc.count";
+    public static final String HEAP_USED = "jvm.heap.used";
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static boolean gcListenerInstalled = false;
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public static Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, Gauge::new);
+    }
+
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Record every GC into the jvm.gc.pause histogram and jvm.gc.count counter.
+     * Safe to call more than once.
+     */
+    public static synchronized void installGcListener() {
+        if (gcListenerInstalled) return;
+        gcListenerInstalled = true;
+        Histogram pauses = histogram(GC_PAUSE);
+        Counter count = counter(GC_COUNT);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter)) continue;
+            ((NotificationEmitter) gc).addNotificationListener((Notification n, Object handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType())) return;
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) n.getUserData());
+                // GcInfo durations are whole milliseconds
+                pauses.record(info.getGcInfo().getDuration() * 1_000_000L);
+                count.increment();
+            }, null, null);
+        }
+    }
+
+    /**
+     * Refresh the jvm.heap.used gauge (bytes)
+     */
+    public static long sampleHeap() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        gauge(HEAP_USED).set(heap.getUsed());
+        return heap.getUsed();
+    }
+
+    /**
+     * Clear all histograms and counters (gauges keep their last value), e.g. at the start of a run
+     */
+    public static void reset() {
+        for (Counter c : counters.values()) c.reset();
+        for (Histogram h : histograms.values()) h.reset();
+    }
+
+    /**
+     * Write all instruments as CSV, sorted by type and name. Histogram values are
+     * in milliseconds when the name marks a time (".time", ".pause", ".interval"),
+     * raw otherwise.
+     */
+    public static void exportCsv(String path) throws IOException {
+        sampleHeap();
+        List<String> rows = new ArrayList<>();
+        for (Counter c : new TreeMap<>(counters).values()) {
+            rows.add("counter," + c.getName() + "," + c.get() + "," + c.get() + ",,,,,,,");
+        }
+        for (Gauge g : new TreeMap<>(gauges).values()) {
+            rows.add("gauge," + g.getName() + ",1," + g.get() + ",,,,,,,");
+        }
+        for (Histogram h : new TreeMap<>(histograms).values()) {
+            double scale = isTime(h.getName()) ? 1e-6 : 1.0;
+            rows.add(String.format(Locale.ROOT, "histogram,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    h.getName(), h.getCount(), h.getLast() * scale, h.getMin() * scale, h.getMean() * scale,
+                    h.getValueAtPercentile(50) * scale, h.getValueAtPercentile(90) * scale,
+                    h.getValueAtPercentile(99) * scale, h.getValueAtPercentile(99.9) * scale, h.getMax() * scale));
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(path))) {
+            writer.write("type,name,count,value,min,mean,p50,p90,p99,p99.9,max\n");
+            for (String row : rows) {
+                writer.write(row);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static boolean isTime(String name) {
+        return name.endsWith(".time") || name.endsWith(".pause") || name.endsWith(".interval");
+    }
+
+    /**
+     * Monotonic event count
+     */
+    public static final class Counter {
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public void increment() { value.increment(); }
+        public void add(long amount) { value.add(amount); }
+        void reset() { value.reset(); }
+
+        // Getters
+        public String getName() { return name; }
+        public long get() { return value.sum(); }
+    }
+
+    /**
+     * Last reported value of something (a list size, bytes in use)
+     */
+    public static final class Gauge {
+        private final String name;
+        private volatile long value;
+
+        private Gauge(String name) {
+            this.name = name;
+        }
+
+        public void set(long value) { this.value = value; }
+
+        // Getters
+        public String getName() { return name; }
+        public long get() { return value; }
+    }
+
+    /**
+     * Log-linear histogram of non-negative longs.
+     * Values below 2*SUB_BUCKETS are exact; above that each power of two is
+     * split into SUB_BUCKETS equal buckets. Recording is lock-free and safe from
+     * any thread; readers see a consistent-enough view for display and export.
+     */
+    public static final class Histogram {
+        private static final int SUB_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS; // 32 -> ~3% relative error
+        private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+        private final String name;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong();
+        private volatile long last;
+
+        private Histogram(String name) {
+            this.name = name;
+        }
+
+        public void record(long value) {
+            if (value < 0) value = 0;
+            counts.incrementAndGet(indexOf(value));
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            last = value;
+            long m;
+            while (value < (m = min.get()) && !min.compareAndSet(m, value)) { }
+            while (value > (m = max.get()) && !max.compareAndSet(m, value)) { }
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+            count.set(0);
+            sum.set(0);
+            min.set(Long.MAX_VALUE);
+            max.set(0);
+            last = 0;
+        }
+
+        /**
+         * Value at or below which the given percentage (0..100) of recordings fall
+         */
+        public long getValueAtPercentile(double percentile) {
+            long total = count.get();
+            if (total == 0) return 0;
+            long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= target) return Math.min(max.get(), highestValueIn(i));
+            }
+            return max.get();
+        }
+
+        static int indexOf(long value) {
+            if (value < 2 * SUB_BUCKETS) return (int) value;
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+            return shift * SUB_BUCKETS + (int) (value >>> shift);
+        }
+
+        static long highestValueIn(int index) {
+            if (index < 2 * SUB_BUCKETS) return index;
+            int shift = index / SUB_BUCKETS - 1;
+            long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+            return ((sub + 1) << shift) - 1;
+        }
+
+        // Getters
+        public String getName() { return name; }
+        public long getCount() { return count.get(); }
+        public long getLast() { return last; }
+        public long getMin() { return count.get() == 0 ? 0 : min.get(); }
+        public long getMax() { return max.get(); }
+        public double getMean() { long n = count.get(); return n == 0 ? 0 : sum.get() / (double) n; }
+    }
+}
@@ -0,0 +1,407 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import javax.sound.sampled.*;
+
+/**
+ * Streaming background music player.
+ *
+ * A "MusicPlayer" thread decodes the current track a small buffer at a time
+ * and writes it to a SourceDataLine, so a multi-minute WAV is never held in
+ * the heap and starting one never blocks the caller: every public method only
+ * posts a command to that thread. Tracks are mixed in software, which gives
+ * sample-accurate equal-power crossfades and gapless hand-over to a queued
+ * track. prebuffer() opens a track and decodes its first second on a loader
+ * thread ahead of time, so switching to it later costs nothing.
+ */
+public class MusicPlayer {
+
+    /**
+     * Called on the player thread whenever a track starts playing
+     */
+    public interface Listener {
+        void trackStarted(String path);
+    }
+
+    // Every track is converted to this before mixing
+    private static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+    private static final int FRAME_BYTES = 4;
+    private static final int BUFFER_FRAMES = 1024;      // ~23ms mixed per write
+    private static final int LINE_BUFFER_FRAMES = 8192; // ~186ms queued in the line
+    private static final int PREBUFFER_FRAMES = 44100;  // 1s decoded ahead by prebuffer()
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final Map<String, Future<Track>> prebuffered = new ConcurrentHashMap<>();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "MusicLoader");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Thread thread;
+    private volatile Listener listener;
+    private volatile float targetGain = 1f;
+
+    // Owned by the player thread
+    private SourceDataLine line;
+    private boolean lineFailed = false;
+    private Track current;
+    private Track incoming; // crossfade target, null = fading to silence
+    private Future<Track> queued; // starts when current ends, without a gap; resolved only then
+    private String queuedPath;
+    private boolean fading = false;
+    private long fadeFrames, fadePosition;
+    private float gain = 1f;
+    private final byte[] bytes = new byte[BUFFER_FRAMES * FRAME_BYTES];
+    private final float[] currentSamples = new float[BUFFER_FRAMES * 2];
+    private final float[] incomingSamples = new float[BUFFER_FRAMES * 2];
+    private final float[] mix = new float[BUFFER_FRAMES * 2];
+
+    public MusicPlayer() {
+        thread = new Thread(this::run, "MusicPlayer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Cut to a track immediately (dropping anything queued or fading)
+     */
+    public void play(String path, boolean loop) {
+        post(() -> {
+            closeAll();
+            current = take(path, loop);
+            if (current != null) started(current);
+        });
+    }
+
+    /**
+     * Crossfade from whatever is playing to a track over the given time
+     * @param path Track to fade in, or null to fade to silence
+     */
+    public void crossfadeTo(String path, boolean loop, long millis) {
+        post(() -> {
+            if (fading) {
+                // Finish the fade in progress instantly
+                if (current != null) current.close();
+                current = incoming;
+            }
+            discard(queued);
+            queued = null;
+            incoming = path == null ? null : take(path, loop);
+            fading = current != null || incoming != null;
+            fadeFrames = Math.max(1, millis * (long) FORMAT.getSampleRate() / 1000);
+            fadePosition = 0;
+            if (incoming != null) started(incoming);
+        });
+    }
+
+    public void fadeOut(long millis) {
+        crossfadeTo(null, false, millis);
+    }
+
+    /**
+     * Play a track right after the current one ends, with no gap.
+     * Replaces any track queued earlier; it is prebuffered now and only picked
+     * up when the current track runs out, so the player thread never waits on
+     * the loader while it still has audio to mix.
+     */
+    public void queue(String path) {
+        prebuffer(path);
+        post(() -> {
+            discard(queued);
+            prebuffer(path); // in case a play() since took the prebuffered copy
+            queued = prebuffered.remove(path);
+            queuedPath = path;
+        });
+    }
+
+    public void stop() {
+        post(this::closeAll);
+    }
+
+    /**
+     * Open a track and decode its start in the background, ahead of play/crossfade/queue
+     */
+    public void prebuffer(String path) {
+        prebuffered.computeIfAbsent(path, p -> loader.submit(() -> Track.open(p, false, PREBUFFER_FRAMES)));
+    }
+
+    /**
+     * @param volume 0-100, same curve the Clip MASTER_GAIN setting used
+     */
+    public void setVolume(int volume) {
+        // dB = 20 * ln(v/100) as before, i.e. amplitude (v/100)^ln(10)
+        targetGain = volume <= 0 ? 0f : (float) Math.pow(volume / 100.0, Math.log(10));
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    private void post(Runnable command) {
+        commands.add(command);
+        LockSupport.unpark(thread);
+    }
+
+    private void run() {
+        while (true) {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+            if ((current == null && !fading) || !ensureLine()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            mixBuffer();
+            // Blocks while the line is full, which paces this thread
+            line.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private boolean ensureLine() {
+        if (line != null) return true;
+        if (lineFailed) {
+            closeAll();
+            return false;
+        }
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, LINE_BUFFER_FRAMES * FRAME_BYTES);
+            line.start();
+            return true;
+        } catch (Exception e) {
+            lineFailed = true;
+            line = null;
+            Log.warn(Log.Category.AUDIO, "Music output unavailable: " + e.getMessage());
+            closeAll();
+            return false;
+        }
+    }
+
+    // Mix one buffer of current (+ queued) and incoming into bytes
+    private void mixBuffer() {
+        int frames = BUFFER_FRAMES;
+        int got = current == null ? 0 : read(current, currentSamples, 0, frames);
+        if (got < frames && current != null && !fading && queued != null) {
+            // Gapless: continue with the queued track in the same buffer
+            // (waits only if its first second is somehow still decoding)
+            current.close();
+            current = resolve(queued, queuedPath, false);
+            queued = null;
+            if (current != null) {
+                started(current);
+                got += read(current, currentSamples, got, frames - got);
+            }
+        }
+        Arrays.fill(currentSamples, got * 2, frames * 2, 0f);
+        if (current != null && current.isFinished()) {
+            current.close();
+            current = null;
+        }
+
+        if (fading) {
+            int gotIn = incoming == null ? 0 : read(incoming, incomingSamples, 0, frames);
+            Arrays.fill(incomingSamples, gotIn * 2, frames * 2, 0f);
+            for (int i = 0; i < frames; i++) {
+                double t = Math.min(1.0, (fadePosition + i) / (double) fadeFrames) * Math.PI / 2;
+                float out = (float) Math.cos(t);
+                float in = (float) Math.sin(t);
+                mix[2 * i] = currentSamples[2 * i] * out + incomingSamples[2 * i] * in;
+                mix[2 * i + 1] = currentSamples[2 * i + 1] * out + incomingSamples[2 * i + 1] * in;
+            }
+            fadePosition += frames;
+            if (incoming != null && incoming.isFinished()) {
+                incoming.close();
+                incoming = null;
+            }
+            if (fadePosition >= fadeFrames) {
+                if (current != null) current.close();
+                current = incoming;
+                incoming = null;
+                fading = false;
+            }
+        } else {
+            System.arraycopy(currentSamples, 0, mix, 0, frames * 2);
+        }
+
+        // Ramp volume changes across the buffer so they don't click
+        float from = gain;
+        float to = targetGain;
+        for (int i = 0; i < frames; i++) {
+            float g = from + (to - from) * i / frames;
+            for (int c = 0; c < 2; c++) {
+                float v = mix[2 * i + c] * g;
+                if (v > 1f) v = 1f;
+                if (v < -1f) v = -1f;
+                int s = (int) (v * 32767f);
+                int b = (2 * i + c) * 2;
+                bytes[b] = (byte) s;
+                bytes[b + 1] = (byte) (s >> 8);
+            }
+        }
+        gain = to;
+    }
+
+    // Decode up to frames from a track into interleaved stereo floats
+    private int read(Track track, float[] dst, int frameOffset, int frames) {
+        int len = track.read(bytes, frames * FRAME_BYTES);
+        int samples = len / 2;
+        int o = frameOffset * 2;
+        for (int i = 0; i < samples; i++) {
+            dst[o + i] = (short) ((bytes[2 * i + 1] << 8) | (bytes[2 * i] & 0xff)) / 32768f;
+        }
+        return len / FRAME_BYTES;
+    }
+
+    // Prebuffered copy if there is one, otherwise open it now
+    private Track take(String path, boolean loop) {
+        return resolve(prebuffered.remove(path), path, loop);
+    }
+
+    // The loaded track (waiting for the loader if needed), or open it now without a future
+    private Track resolve(Future<Track> future, String path, boolean loop) {
+        try {
+            Track track = future != null ? future.get() : Track.open(path, loop, 0);
+            track.loop = loop;
+            return track;
+        } catch (Exception e) {
+            Log.warn(Log.Category.AUDIO, "Could not open music track " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Close a track that may still be loading, without waiting for it
+    private void discard(Future<Track> future) {
+        if (future == null) return;
+        if (future.isDone()) {
+            closeLoaded(future);
+        } else {
+            // The loader is single-threaded, so this runs once the load has finished
+            loader.execute(() -> closeLoaded(future));
+        }
+    }
+
+    private static void closeLoaded(Future<Track> future) {
+        try {
+            future.get().close();
+        } catch (Exception e) {
+            // Failed to load: nothing was left open
+        }
+    }
+
+    private void started(Track track) {
+        Listener l = listener;
+        if (l != null) l.trackStarted(track.path);
+    }
+
+    private void closeAll() {
+        if (current != null) current.close();
+        if (incoming != null) incoming.close();
+        discard(queued);
+        current = incoming = null;
+        queued = null;
+        fading = false;
+    }
+
+    /**
+     * Open decoder for one track, converted to FORMAT, with an optional decoded head
+     */
+    private static final class Track {
+        final String path;
+        boolean loop;
+        private AudioInputStream stream;
+        private byte[] head = new byte[0];
+        private int headPosition = 0;
+        private boolean readSinceOpen = false;
+        private boolean finished = false;
+
+        private Track(String path) {
+            this.path = path;
+        }
+
+        static Track open(String path, boolean loop, int prebufferFrames) throws IOException, UnsupportedAudioFileException {
+            Track track = new Track(path);
+            track.loop = loop;
+            track.stream = openStream(path);
+            if (prebufferFrames > 0) {
+                byte[] head = new byte[prebufferFrames * FRAME_BYTES];
+                int filled = 0;
+                int r;
+                while (filled < head.length && (r = track.stream.read(head, filled, head.length - filled)) > 0) {
+                    filled += r;
+                }
+                track.head = Arrays.copyOf(head, filled - filled % FRAME_BYTES);
+            }
+            return track;
+        }
+
+        private static AudioInputStream openStream(String path) throws IOException, UnsupportedAudioFileException {
+            AudioInputStream source = AudioSystem.getAudioInputStream(new File(path));
+            if (source.getFormat().matches(FORMAT)) return source;
+            return AudioSystem.getAudioInputStream(FORMAT, source);
+        }
+
+        // Fill up to len bytes (whole frames); loops by reopening the file
+        int read(byte[] buffer, int len) {
+            int total = 0;
+            while (total < len && !finished) {
+                int r;
+                if (headPosition < head.length) {
+                    r = Math.min(len - total, head.length - headPosition);
+                    System.arraycopy(head, headPosition, buffer, total, r);
+                    headPosition += r;
+                } else {
+                    try {
+                        r = stream.read(buffer, total, len - total);
+                    } catch (IOException e) {
+                        Log.warn(Log.Category.AUDIO, "Music read failed for " + path + ": " + e.getMessage());
+                        r = -1;
+                    }
+                    if (r <= 0) {
+                        if (loop && readSinceOpen && reopen()) continue;
+                        finished = true;
+                        break;
+                    }
+                }
+                readSinceOpen = true;
+                total += r;
+            }
+            return total - total % FRAME_BYTES;
+        }
+
+        private boolean reopen() {
+            close();
+            try {
+                stream = openStream(path);
+                head = new byte[0];
+                headPosition = 0;
+                readSinceOpen = false;
+                return true;
+            } catch (Exception e) {
+                Log.warn(Log.Category.AUDIO, "Could not loop music track " + path + ": " + e.getMessage());
+                return false;
+            }
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        void close() {
+            try {
+                if (stream != null) stream.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
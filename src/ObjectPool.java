@@ -0,0 +1,96 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Free-list pool for short-lived game objects (bullets, popups, particles).
+ *
+ * Released objects are parked until recycle() is called, so an object freed
+ * during a tick is never handed out again within that same tick while the last
+ * published render snapshot may still reference it.
+ */
+public class ObjectPool<T> {
+    private final String name;
+    private final Supplier<T> factory;
+    private final ArrayList<T> free;
+    private final ArrayList<T> pending = new ArrayList<>();
+
+    // Stats
+    private int inUse = 0;
+    private int highWaterMark = 0;
+    private long acquired = 0;
+    private long misses = 0;
+
+    /**
+     * @param name Label used in stats output
+     * @param factory Creates a blank object when the free list is empty
+     * @param prefill Number of objects created up front
+     */
+    public ObjectPool(String name, Supplier<T> factory, int prefill) {
+        this.name = name;
+        this.factory = factory;
+        this.free = new ArrayList<>(Math.max(16, prefill));
+        for (int i = 0; i < prefill; i++) {
+            free.add(factory.get());
+        }
+    }
+
+    /**
+     * Take an object from the free list (or allocate one on a miss).
+     * The caller must initialise it with the type's reset(...) method.
+     */
+    public T acquire() {
+        acquired++;
+        inUse++;
+        if (inUse > highWaterMark) highWaterMark = inUse;
+        int last = free.size() - 1;
+        if (last >= 0) {
+            return free.remove(last);
+        }
+        misses++;
+        return factory.get();
+    }
+
+    /**
+     * Give an object back; it becomes reusable after the next recycle()
+     */
+    public void release(T obj) {
+        if (obj == null) return;
+        pending.add(obj);
+        inUse--;
+    }
+
+    /**
+     * Return every object in the list to the pool and clear the list
+     */
+    public void releaseAll(List<? extends T> list) {
+        if (list == null) return;
+        for (int i = 0; i < list.size(); i++) {
+            release(list.get(i));
+        }
+        list.clear();
+    }
+
+    /**
+     * Move released objects onto the free list (call once per tick)
+     */
+    public void recycle() {
+        if (pending.isEmpty()) return;
+        free.addAll(pending);
+        pending.clear();
+    }
+
+    @Override
+    public String toString() {
+        return name + " pool: inUse=" + inUse + " free=" + (free.size() + pending.size())
+                + " high=" + highWaterMark + " misses=" + misses + "/" + acquired;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getInUse() { return inUse; }
+    public int getFreeCount() { return free.size() + pending.size(); }
+    public int getHighWaterMark() { return highWaterMark; }
+    public long getAcquired() { return acquired; }
+    public long getMisses() { return misses; }
+}
@@ -0,0 +1,307 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Explosion particles stored as parallel primitive arrays (structure of arrays).
+ *
+ * Spawning writes into the next free slot, dead particles are removed by
+ * swapping the last live particle into their slot, and update() is one tight
+ * loop over the arrays. For drawing, publish() copies the live particles into
+ * a View sorted by colour/alpha bucket; each bucket is drawn by stamping a
+ * pre-rendered sprite, so nothing is allocated or rasterised per particle.
+ * The View keeps each particle's position from the start of the tick too, so
+ * frames drawn between ticks can place it part way along its path.
+ */
+public class ParticleSystem {
+    // Same bright palette the old ExplosionParticle picked from
+    private static final Color[] PALETTE = { Color.YELLOW, Color.ORANGE, Color.RED, Color.WHITE };
+    private static final int ALPHA_BUCKETS = 16;
+    private static final int BUCKET_COUNT = PALETTE.length * ALPHA_BUCKETS;
+    private static final float DRAG = 1.21f; // velocity decay per second (about 2% per 60Hz tick)
+    private static final float DEFAULT_LIFETIME_MS = 1500f; // 1.5 seconds
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 7;
+
+    // Pre-rendered particle (core + glow) for every bucket and size.
+    // Blitting a tiny image is far cheaper than rasterising two ovals per particle.
+    private static final BufferedImage[][] SPRITES = new BufferedImage[BUCKET_COUNT][MAX_SIZE + 1];
+    static {
+        for (int c = 0; c < PALETTE.length; c++) {
+            Color base = PALETTE[c];
+            for (int b = 0; b < ALPHA_BUCKETS; b++) {
+                float alpha = (b + 1) / (float) ALPHA_BUCKETS;
+                Color core = new Color(base.getRed(), base.getGreen(), base.getBlue(), (int) (alpha * 255));
+                Color glow = new Color(255, 255, 255, (int) (alpha * 100));
+                for (int size = MIN_SIZE; size <= MAX_SIZE; size++) {
+                    BufferedImage sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+                    Graphics2D g = sprite.createGraphics();
+                    g.setColor(core);
+                    g.fillOval(0, 0, size, size);
+                    g.setColor(glow);
+                    g.fillOval(size / 2 - size / 4, size / 2 - size / 4, size / 2, size / 2);
+                    g.dispose();
+                    SPRITES[c * ALPHA_BUCKETS + b][size] = sprite;
+                }
+            }
+        }
+    }
+
+    private final int maxParticles;
+    private int count = 0;
+    private int peakCount = 0;
+    private long dropped = 0;
+
+    private float[] x, y, vx, vy, age, life;
+    private float[] prevX, prevY; // positions at the start of the last tick
+    private byte[] size, colour;
+
+    /**
+     * @param initialCapacity Slots allocated up front
+     * @param maxParticles Hard cap; spawns beyond it are dropped
+     */
+    public ParticleSystem(int initialCapacity, int maxParticles) {
+        this.maxParticles = maxParticles;
+        int cap = Math.max(16, Math.min(initialCapacity, maxParticles));
+        x = new float[cap];
+        y = new float[cap];
+        vx = new float[cap];
+        vy = new float[cap];
+        prevX = new float[cap];
+        prevY = new float[cap];
+        age = new float[cap];
+        life = new float[cap];
+        size = new byte[cap];
+        colour = new byte[cap];
+    }
+
+    /**
+     * Add one particle
+     * @param pvx Velocity in pixels per second (pvy likewise)
+     * @param colourIndex Index into the palette (0-3)
+     */
+    public void spawn(float px, float py, float pvx, float pvy, int psize, int colourIndex, float lifeMs) {
+        if (count == x.length && !grow()) {
+            dropped++;
+            return;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        age[i] = 0f;
+        life[i] = lifeMs;
+        size[i] = (byte) Math.max(MIN_SIZE, Math.min(MAX_SIZE, psize));
+        colour[i] = (byte) colourIndex;
+        if (count > peakCount) peakCount = count;
+    }
+
+    /**
+     * Add one explosion particle flying outward in a random direction
+     */
+    public void spawnExplosion(double px, double py, Random rand) {
+        double angle = rand.nextDouble() * Math.PI * 2;
+        double speed = 120 + rand.nextDouble() * 360; // pixels per second
+        spawn((float) px, (float) py,
+              (float) (Math.cos(angle) * speed), (float) (Math.sin(angle) * speed),
+              3 + rand.nextInt(5), rand.nextInt(PALETTE.length), DEFAULT_LIFETIME_MS);
+    }
+
+    /**
+     * Add several explosion particles at once (e.g. an enemy dying)
+     */
+    public void burst(double px, double py, int amount, Random rand) {
+        for (int i = 0; i < amount; i++) {
+            spawnExplosion(px, py, rand);
+        }
+    }
+
+    /**
+     * Advance all particles and drop the expired ones.
+     * Integration is split across jobs; removal stays one ordered pass, so the
+     * resulting slot order is the same on any thread count.
+     */
+    public void update(long deltaMs, JobSystem jobs) {
+        float dt = deltaMs;
+        float seconds = deltaMs / 1000f;
+        float damp = (float) Math.exp(-DRAG * seconds);
+        jobs.forRange(count, (from, to) -> integrate(from, to, dt, seconds, damp));
+        int i = 0;
+        while (i < count) {
+            if (age[i] > life[i]) {
+                // Swap-remove: move the last live particle into this slot and re-check it
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                prevX[i] = prevX[last];
+                prevY[i] = prevY[last];
+                age[i] = age[last];
+                life[i] = life[last];
+                size[i] = size[last];
+                colour[i] = colour[last];
+                continue;
+            }
+            i++;
+        }
+    }
+
+    // Age and move particles [from, to); expired ones are only aged (past their life)
+    private void integrate(int from, int to, float dt, float seconds, float damp) {
+        for (int i = from; i < to; i++) {
+            float a = age[i] + dt;
+            age[i] = a;
+            if (a > life[i]) continue;
+            x[i] += vx[i] * seconds;
+            y[i] += vy[i] * seconds;
+            // Slow down
+            vx[i] *= damp;
+            vy[i] *= damp;
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Remember the current positions as where the coming tick starts from
+     */
+    public void storePrevious() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    /**
+     * Empty View sized for this system, for publish(View)
+     */
+    public View newView() {
+        return new View(x.length);
+    }
+
+    /**
+     * Copy the live particles into a reusable View, bucket-sorted for drawing.
+     * Call from the simulation thread, into a View no frame is drawing.
+     */
+    public void publish(View view) {
+        view.fill(this);
+    }
+
+    private boolean grow() {
+        if (x.length >= maxParticles) return false;
+        int cap = Math.min(maxParticles, x.length * 2);
+        x = Arrays.copyOf(x, cap);
+        y = Arrays.copyOf(y, cap);
+        vx = Arrays.copyOf(vx, cap);
+        vy = Arrays.copyOf(vy, cap);
+        prevX = Arrays.copyOf(prevX, cap);
+        prevY = Arrays.copyOf(prevY, cap);
+        age = Arrays.copyOf(age, cap);
+        life = Arrays.copyOf(life, cap);
+        size = Arrays.copyOf(size, cap);
+        colour = Arrays.copyOf(colour, cap);
+        return true;
+    }
+
+    // Getters
+    public int getCount() { return count; }
+    public int getCapacity() { return x.length; }
+    public int getPeakCount() { return peakCount; }
+    public long getDropped() { return dropped; }
+
+    /**
+     * Render-side copy of the particles, ordered by colour/alpha bucket
+     */
+    public static final class View {
+        private int count = 0;
+        private int[] px, py;
+        private int[] ppx, ppy; // positions at the start of the tick
+        private byte[] psize;
+        private final int[] bucketEnd = new int[BUCKET_COUNT];
+        private final int[] cursor = new int[BUCKET_COUNT];
+        private short[] bucketOf;
+
+        private View(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            px = new int[capacity];
+            py = new int[capacity];
+            ppx = new int[capacity];
+            ppy = new int[capacity];
+            psize = new byte[capacity];
+            bucketOf = new short[capacity];
+        }
+
+        // Counting sort by bucket: one pass to count, one pass to place
+        private void fill(ParticleSystem src) {
+            int n = src.count;
+            if (px.length < n) allocate(src.x.length);
+
+            Arrays.fill(cursor, 0);
+            for (int i = 0; i < n; i++) {
+                float alpha = 1f - src.age[i] / src.life[i];
+                int a = (int) (alpha * ALPHA_BUCKETS);
+                if (a >= ALPHA_BUCKETS) a = ALPHA_BUCKETS - 1;
+                if (a < 0) a = 0;
+                int bucket = src.colour[i] * ALPHA_BUCKETS + a;
+                bucketOf[i] = (short) bucket;
+                cursor[bucket]++;
+            }
+            int start = 0;
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                int c = cursor[b];
+                cursor[b] = start;
+                start += c;
+                bucketEnd[b] = start;
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = cursor[bucketOf[i]]++;
+                px[slot] = (int) src.x[i];
+                py[slot] = (int) src.y[i];
+                ppx[slot] = (int) src.prevX[i];
+                ppy[slot] = (int) src.prevY[i];
+                psize[slot] = src.size[i];
+            }
+            count = n;
+        }
+
+        /**
+         * Draw in world coordinates (camera transform already applied)
+         */
+        public void draw(Graphics2D g2d) {
+            draw(g2d, null, 1.0);
+        }
+
+        /**
+         * Draw only the particles inside the culler's area
+         * @param view Culler for this frame, or null to draw all
+         * @param alpha How far between the start (0) and end (1) of the tick to place them
+         */
+        public void draw(Graphics2D g2d, ViewCuller view, double alpha) {
+            float a = (float) alpha;
+            if (count == 0) return;
+            int start = 0;
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                int end = bucketEnd[b];
+                BufferedImage[] sprites = SPRITES[b];
+                for (int i = start; i < end; i++) {
+                    int s = psize[i];
+                    int x = ppx[i] + Math.round((px[i] - ppx[i]) * a);
+                    int y = ppy[i] + Math.round((py[i] - ppy[i]) * a);
+                    if (view != null && !view.isVisible(x, y, s)) continue;
+                    g2d.drawImage(sprites[s], x - s / 2, y - s / 2, null);
+                }
+                start = end;
+            }
+        }
+
+        public int getCount() { return count; }
+    }
+}
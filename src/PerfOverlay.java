@@ -0,0 +1,202 @@
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Performance overlay toggled in game with F3.
+ *
+ * The game reports each tick and each painted frame here; the numbers go into
+ * the Metrics registry, and the overlay shows update/paint time, GC pauses,
+ * heap use, the size of every entity list, how many objects were drawn versus
+ * culled off-screen and a graph of the last few seconds of frame times. When a
+ * run ends with the overlay on, all metrics are written to
+ * metrics-<date>-<time>.csv in the working directory.
+ *
+ * Unlike the HUD, the text is drawn with drawString rather than GlyphCache:
+ * it is reformatted four times a second, and caching every one of those
+ * strings would only fill the cache and its atlas pages.
+ */
+public class PerfOverlay {
+    private static final int GRAPH_SAMPLES = 240; // ~4s at 60fps
+    private static final double GRAPH_MAX_MS = 50.0;
+    private static final long TEXT_REFRESH_INTERVAL_NANOS = 250_000_000L; // heap sample and text, 4x a second
+    private static final int TIMING_LINES = 5; // white; the rest (list sizes) are light gray
+    private static final int PANEL_WIDTH = 300;
+    private static final int PANEL_HEIGHT = 225;
+    private static final int GRAPH_HEIGHT = 60;
+    private static final Font FONT = UiResources.monospaced(12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final Color BUDGET_LINE = new Color(255, 255, 255, 90);
+
+    // Recorded on the loop thread by recordTick()
+    private final Metrics.Histogram updateTime = Metrics.histogram("tick.update.time");
+    private final Metrics.Histogram tickTime = Metrics.histogram("tick.total.time");
+    private final Metrics.Gauge enemies = Metrics.gauge("list.enemies");
+    private final Metrics.Gauge bullets = Metrics.gauge("list.bullets");
+    private final Metrics.Gauge bullets2 = Metrics.gauge("list.bullets2");
+    private final Metrics.Gauge enemyBullets = Metrics.gauge("list.enemyBullets");
+    private final Metrics.Gauge bossBullets = Metrics.gauge("list.bossBullets");
+    private final Metrics.Gauge damagePopups = Metrics.gauge("list.damagePopups");
+    private final Metrics.Gauge explosionParticles = Metrics.gauge("list.explosionParticles");
+
+    // Recorded by whichever thread paints (EDT or loop thread)
+    private final Metrics.Histogram paintTime = Metrics.histogram("frame.paint.time");
+    private final Metrics.Histogram frameInterval = Metrics.histogram("frame.interval");
+    private final Metrics.Gauge culledDrawn = Metrics.gauge("cull.drawn");
+    private final Metrics.Gauge culledSkipped = Metrics.gauge("cull.culled");
+    private final float[] frameMs = new float[GRAPH_SAMPLES];
+    private int frameIndex = 0;
+    private long lastFrameNanos = 0;
+    private long lastTextRefresh = 0;
+    private long heapUsed = 0;
+    private final String[] lines = new String[9]; // formatted by refreshText()
+
+    private final Metrics.Histogram gcPauses = Metrics.histogram(Metrics.GC_PAUSE);
+    private final Metrics.Counter gcCount = Metrics.counter(Metrics.GC_COUNT);
+    private final long heapMax = Runtime.getRuntime().maxMemory();
+    private volatile boolean visible = false;
+
+    public PerfOverlay() {
+        Metrics.installGcListener();
+    }
+
+    /**
+     * Record one simulation tick and the list sizes after it
+     */
+    public void recordTick(World world, long updateNanos, long tickNanos) {
+        updateTime.record(updateNanos);
+        tickTime.record(tickNanos);
+        enemies.set(world.getEnemies().size());
+        bullets.set(world.getBullets().size());
+        bullets2.set(world.getBullets2().size());
+        enemyBullets.set(world.getEnemyBullets().size());
+        bossBullets.set(world.getBossBullets().size());
+        damagePopups.set(world.getDamagePopups().size());
+        explosionParticles.set(world.getParticles().getCount());
+    }
+
+    /**
+     * Record one painted frame
+     * @param paintNanos Time spent drawing it
+     */
+    public void recordFrame(long paintNanos) {
+        paintTime.record(paintNanos);
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            long interval = now - lastFrameNanos;
+            frameInterval.record(interval);
+            frameMs[frameIndex] = interval / 1_000_000f;
+            frameIndex = (frameIndex + 1) % GRAPH_SAMPLES;
+        }
+        lastFrameNanos = now;
+    }
+
+    /**
+     * Record how many world objects the last frame drew and how many it culled as off-screen
+     */
+    public void recordCulling(int drawn, int culled) {
+        culledDrawn.set(drawn);
+        culledSkipped.set(culled);
+    }
+
+    /**
+     * Start a new run: histograms and counters cover one run each
+     */
+    public void reset() {
+        Metrics.reset();
+    }
+
+    /**
+     * Write the metrics of the finished run to a CSV file, off the calling thread.
+     * Does nothing unless the overlay is visible.
+     */
+    public void exportIfVisible() {
+        if (!visible) return;
+        String path = "metrics-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv";
+        Thread exporter = new Thread(() -> {
+            try {
+                Metrics.exportCsv(path);
+                Log.info(Log.Category.GAME, "Metrics exported to " + path);
+            } catch (Exception e) {
+                Log.warn(Log.Category.GAME, "Could not export metrics: " + e.getMessage());
+            }
+        }, "MetricsExport");
+        exporter.setDaemon(true);
+        exporter.start();
+    }
+
+    /**
+     * Draw in screen space (bottom-left corner)
+     */
+    public void draw(Graphics2D g2d, int screenWidth, int screenHeight) {
+        long now = System.nanoTime();
+        if (lines[0] == null || now - lastTextRefresh >= TEXT_REFRESH_INTERVAL_NANOS) {
+            refreshText();
+            lastTextRefresh = now;
+        }
+
+        int x = 10;
+        int y = screenHeight - PANEL_HEIGHT - 10;
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(x, y, PANEL_WIDTH, PANEL_HEIGHT);
+
+        g2d.setFont(FONT);
+        g2d.setColor(Color.WHITE);
+        int line = y + 16;
+        for (int i = 0; i < lines.length; i++) {
+            if (i == TIMING_LINES) {
+                line += 4;
+                g2d.setColor(Color.LIGHT_GRAY);
+            }
+            g2d.drawString(lines[i], x + 8, line);
+            line += 15;
+        }
+
+        drawGraph(g2d, x + 8, y + PANEL_HEIGHT - GRAPH_HEIGHT - 8, PANEL_WIDTH - 16, GRAPH_HEIGHT);
+    }
+
+    // Format the text lines; only a few times a second, so draw() itself formats nothing
+    private void refreshText() {
+        heapUsed = Metrics.sampleHeap();
+        double frame = frameInterval.getMean() / 1e6;
+        lines[0] = String.format("frame  %5.1f fps  p99 %5.2f ms", frame > 0 ? 1000.0 / frame : 0.0,
+                frameInterval.getValueAtPercentile(99) / 1e6);
+        lines[1] = String.format("update %5.2f ms   p99 %5.2f ms", updateTime.getLast() / 1e6,
+                updateTime.getValueAtPercentile(99) / 1e6);
+        lines[2] = String.format("paint  %5.2f ms   p99 %5.2f ms", paintTime.getLast() / 1e6,
+                paintTime.getValueAtPercentile(99) / 1e6);
+        lines[3] = String.format("gc     %d  last %d ms  max %d ms", gcCount.get(),
+                gcPauses.getLast() / 1_000_000L, gcPauses.getMax() / 1_000_000L);
+        lines[4] = String.format("heap   %d / %d MB", heapUsed >> 20, heapMax >> 20);
+        lines[5] = String.format("enemies %-5d bullets %-5d bullets2 %d", enemies.get(), bullets.get(), bullets2.get());
+        lines[6] = String.format("enemyBullets %-5d bossBullets %d", enemyBullets.get(), bossBullets.get());
+        lines[7] = String.format("damagePopups %-5d particles %d", damagePopups.get(), explosionParticles.get());
+        lines[8] = String.format("drawn %-5d culled %d", culledDrawn.get(), culledSkipped.get());
+    }
+
+    // Frame times oldest to newest, with 60fps and 30fps budget lines
+    private void drawGraph(Graphics2D g2d, int gx, int gy, int gw, int gh) {
+        g2d.setColor(BUDGET_LINE);
+        int y60 = gy + gh - (int) (gh * (1000.0 / 60) / GRAPH_MAX_MS);
+        int y30 = gy + gh - (int) (gh * (1000.0 / 30) / GRAPH_MAX_MS);
+        g2d.drawLine(gx, y60, gx + gw, y60);
+        g2d.drawLine(gx, y30, gx + gw, y30);
+
+        double step = gw / (double) GRAPH_SAMPLES;
+        for (int i = 0; i < GRAPH_SAMPLES; i++) {
+            float ms = frameMs[(frameIndex + i) % GRAPH_SAMPLES];
+            if (ms <= 0) continue;
+            int h = (int) Math.min(gh, gh * ms / GRAPH_MAX_MS);
+            g2d.setColor(ms > 1000.0 / 30 ? Color.RED : ms > 1000.0 / 55 ? Color.YELLOW : Color.GREEN);
+            int bx = gx + (int) (i * step);
+            g2d.fillRect(bx, gy + gh - h, Math.max(1, (int) step), h);
+        }
+    }
+
+    public void toggle() {
+        visible = !visible;
+    }
+
+    // Getters
+    public boolean isVisible() { return visible; }
+}
@@ -1,12 +1,12 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.geom.AffineTransform;
-import javax.imageio.ImageIO;
-import java.io.File;
-import java.io.IOException;
+import interfaces.Damageable;
+import interfaces.Interpolated;
 
-public class Player {
-    private int x, y;
+public class Player implements Damageable, Interpolated {
+    private double x, y; // top-left; kept fractional so short steps at high tick rates are not rounded away
+    private double prevX, prevY; // position at the start of the last tick, for drawing between ticks
     private int width, height;
     private int health;
     private int maxHealth;
@@ -14,6 +14,7 @@ public class Player {
     private long lastShotTime;
     private int fireRate; // milliseconds between shots
     private BufferedImage spriteHighFire;
+    private RotationAtlas spriteAtlas; // rotations of spriteHighFire at its 2x draw size
     private double facingAngle = -Math.PI / 2.0; // radians, 0 = right; set to face up initially
     // Smooth rotation target and speed
     private double targetFacingAngle = facingAngle;
@@ -50,6 +51,38 @@ public class Player {
         this(x, y, 0, 400, 300, 60); // Default to Large spacecraft
     }
     
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    public Player() {
+    }
+    
+    /**
+     * Copy what draw() and the HUD read from a live player, for a render snapshot
+     */
+    public Player copyFrom(Player other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.width = other.width;
+        this.height = other.height;
+        this.hitboxRadius = other.hitboxRadius;
+        this.health = other.health;
+        this.maxHealth = other.maxHealth;
+        this.speed = other.speed;
+        this.fireRate = other.fireRate;
+        this.facingAngle = other.facingAngle;
+        if (spriteHighFire != other.spriteHighFire) {
+            spriteHighFire = other.spriteHighFire;
+            spriteAtlas = null;
+        }
+        this.spacecraftType = other.spacecraftType;
+        this.lastSpecialUseTime = other.lastSpecialUseTime;
+        this.shieldMax = other.shieldMax;
+        this.shieldCurrent = other.shieldCurrent;
+        this.doubleFireActive = other.doubleFireActive;
+        return this;
+    }
+    
     // Constructor with spacecraft selection
     // spacecraftType: 0=Large, 1=Medium, 2=Small
     // stats: HP, Speed, Firerate (shots/min), Special ability index
@@ -90,47 +123,15 @@ public class Player {
             String spriteName = spriteNames[spacecraftType];
             loadSprite(spriteName);
         }
+        storePrevious();
     }
     
     private void loadSprite(String spriteName) {
-        // Try to load sprite from resources or Pic folder
-        try {
-            // Try classpath resource first
-            java.io.InputStream is = getClass().getResourceAsStream("/Pic/" + spriteName);
-            if (is != null) {
-                spriteHighFire = ImageIO.read(is);
-                is.close();
-                return;
-            }
-        } catch (IOException ex) {
-            spriteHighFire = null;
-        }
-
-        // If not found in classpath, try several fallback paths
-        String cwd = new File(".").getAbsolutePath();
-        System.out.println("Current working dir: " + cwd);
-        String[] basePaths = {
-            "Pic/",
-            "./Pic/",
-            "src/Pic/",
-            "bin/Pic/",
-            "resources/Pic/"
-        };
-        for (String base : basePaths) {
-            try {
-                File f = new File(base + spriteName);
-                System.out.println("Trying: " + f.getAbsolutePath());
-                if (f.exists()) {
-                    spriteHighFire = ImageIO.read(f);
-                    System.out.println("Loaded player sprite from: " + f.getAbsolutePath());
-                    return;
-                }
-            } catch (IOException ex) {
-                // continue trying
-            }
+        // Shared image from the sprite cache (decoded once per name)
+        spriteHighFire = AssetCache.get(spriteName);
+        if (spriteHighFire == null) {
+            Log.warn(Log.Category.RENDER, "Player sprite not found (" + spriteName + "). Using placeholder.");
         }
-
-        System.out.println("Player sprite not found (" + spriteName + "). Using placeholder.");
     }
     
     // Update with delta time in milliseconds; smooth-rotate toward targetFacingAngle
@@ -210,8 +211,8 @@ public class Player {
             vy = 0;
         }
 
-        x = (int) Math.round(nx);
-        y = (int) Math.round(ny);
+        x = nx;
+        y = ny;
     }
     
     public void move(int dx, int dy, int worldWidth, int worldHeight) {
@@ -254,7 +255,7 @@ public class Player {
     // Special ability: use when player presses 'F'
     // worldWidth/worldHeight used for teleport bounds
     public void useSpecial(int worldWidth, int worldHeight) {
-        long now = System.currentTimeMillis();
+        long now = SimContext.now();
         // Check cooldown
         long cd = getSpecialCooldownMsForType(spacecraftType);
         if (now - lastSpecialUseTime < cd) return; // still cooling down
@@ -297,8 +298,9 @@ public class Player {
                 if (nx > worldWidth - width) nx = worldWidth - width;
                 if (ny < 0) ny = 0;
                 if (ny > worldHeight - height) ny = worldHeight - height;
-                x = (int)Math.round(nx);
-                y = (int)Math.round(ny);
+                x = nx;
+                y = ny;
+                storePrevious(); // jump straight there instead of sliding across the gap
                 break;
         }
     }
@@ -313,8 +315,7 @@ public class Player {
     }
 
     // Call this per-frame to update timed effects
-    public void updateSpecials() {
-        long now = System.currentTimeMillis();
+    public void updateSpecials(long now) {
         if (doubleFireActive && now >= doubleFireEndTime) {
             doubleFireActive = false;
             if (fireRateBackup > 0) {
@@ -325,6 +326,7 @@ public class Player {
     }
 
     // Consume damage - respects shield first
+    @Override
     public void consumeDamage(int dmg) {
         if (shieldCurrent > 0) {
             int taken = Math.min(shieldCurrent, dmg);
@@ -341,6 +343,12 @@ public class Player {
     public long getSpecialCooldownMs() { return getSpecialCooldownMsForType(spacecraftType); }
     public boolean isDoubleFireActive() { return doubleFireActive; }
     
+    @Override
+    public void storePrevious() {
+        prevX = getX();
+        prevY = getY();
+    }
+    
     public void draw(Graphics2D g2d) {
 
         // Draw sprite at 2x scale (centered on player center) and glow behind it
@@ -348,23 +356,27 @@ public class Player {
         int spriteDrawH = height * 2;
     // sprite draw coordinates are computed when drawing with transform (centered at 0,0)
 
-        int cx = x + width/2;
-        int cy = y + height/2;
+        int cx = getX();
+        int cy = getY();
         // No glow: draw only the sprite (or fallback rectangle)
 
         // Draw sprite if available, otherwise fallback to cyan rect (2x)
-        AffineTransform old = g2d.getTransform();
     // rotate around player center; add +90deg offset so the image's right side is the nose
     double rotationOffset = Math.PI / 2.0; // 90 degrees
-    g2d.translate(cx, cy);
-    g2d.rotate(facingAngle + rotationOffset);
         if (spriteHighFire != null) {
-            g2d.drawImage(spriteHighFire, -spriteDrawW/2, -spriteDrawH/2, spriteDrawW, spriteDrawH, null);
+            // Pre-rotated, pre-scaled frames: a plain blit instead of a transformed one
+            if (spriteAtlas == null || spriteAtlas.isStale()) {
+                spriteAtlas = RotationAtlas.forSprite(spriteHighFire, spriteDrawW, spriteDrawH, rotationOffset);
+            }
+            spriteAtlas.draw(g2d, facingAngle, cx, cy);
         } else {
+            AffineTransform old = g2d.getTransform();
+            g2d.translate(cx, cy);
+            g2d.rotate(facingAngle + rotationOffset);
             g2d.setColor(Color.CYAN);
             g2d.fillRect(-spriteDrawW/2, -spriteDrawH/2, spriteDrawW, spriteDrawH);
+            g2d.setTransform(old);
         }
-        g2d.setTransform(old);
 
         // (Hitbox drawing removed; collisions still use hitboxRadius internally)
     }
@@ -372,8 +384,8 @@ public class Player {
     // Rectangle-circle collision: other is axis-aligned rectangle
     public boolean collidesWith(int otherX, int otherY, int otherWidth, int otherHeight) {
         // circle center
-        int cxHit = x + width/2;
-        int cyHit = y + height/2;
+        int cxHit = getX();
+        int cyHit = getY();
         int radius = hitboxRadius;
 
         // Find closest point on rect to circle center
@@ -386,8 +398,10 @@ public class Player {
     }
     
     // Getters
-    public int getX() { return x + width/2; } // Center X
-    public int getY() { return y + height/2; } // Center Y
+    public int getX() { return (int) Math.round(x) + width/2; } // Center X
+    public int getY() { return (int) Math.round(y) + height/2; } // Center Y
+    public double getPrevX() { return prevX; }
+    public double getPrevY() { return prevY; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     // Hitbox radius getter
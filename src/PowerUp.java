@@ -11,16 +11,17 @@ public class PowerUp {
     private Color color;
     private long spawnTime;
     private static final long EXPIRE_TIME = 10000; // 10 seconds
+    private static final Font LETTER_FONT = UiResources.font(Font.BOLD, 10);
     
     public PowerUp(int x, int y) {
         this.x = x;
         this.y = y;
         this.width = 20;
         this.height = 20;
-        this.spawnTime = System.currentTimeMillis();
+        this.spawnTime = SimContext.now();
         
         // Random power-up type
-        int typeChoice = (int)(Math.random() * 3);
+        int typeChoice = SimContext.random().nextInt(3);
         switch(typeChoice) {
             case 0: 
                 type = PowerUpType.HEALTH;
@@ -37,6 +38,23 @@ public class PowerUp {
         }
     }
     
+    // Blank instance for render snapshots; fill with copyFrom(...)
+    public PowerUp() {
+    }
+    
+    /**
+     * Copy what draw() reads from a live power-up, for a render snapshot
+     */
+    public PowerUp copyFrom(PowerUp other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.width = other.width;
+        this.height = other.height;
+        this.type = other.type;
+        this.color = other.color;
+        return this;
+    }
+    
     public void draw(Graphics2D g2d) {
         // Draw simple power-up placeholder
         g2d.setColor(color);
@@ -47,9 +65,7 @@ public class PowerUp {
         g2d.drawRect(x - width/2, y - height/2, width, height);
         
         // Draw type letter
-        g2d.setColor(Color.BLACK);
-        g2d.setFont(new Font("Arial", Font.BOLD, 10));
-        FontMetrics fm = g2d.getFontMetrics();
+        FontMetrics fm = UiResources.metrics(LETTER_FONT);
         
         String letter = "";
         switch(type) {
@@ -60,7 +76,7 @@ public class PowerUp {
         
         int textX = x - fm.stringWidth(letter)/2;
         int textY = y + fm.getHeight()/3;
-        g2d.drawString(letter, textX, textY);
+        GlyphCache.drawText(g2d, letter, LETTER_FONT, Color.BLACK, textX, textY);
     }
     
     public boolean collidesWith(Player player) {
@@ -70,8 +86,8 @@ public class PowerUp {
                y + height/2 > player.getY() - player.getHeight()/2;
     }
     
-    public boolean isExpired() {
-        return System.currentTimeMillis() - spawnTime > EXPIRE_TIME;
+    public boolean isExpired(long now) {
+        return now - spawnTime > EXPIRE_TIME;
     }
     
     // Getters
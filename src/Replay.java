@@ -0,0 +1,234 @@
+import java.io.*;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * A recorded run: how it was started plus the input mask of every tick.
+ *
+ * The World only changes through its seed, its clock and the input mask
+ * (held keys and queued actions), so replaying the same masks from the same
+ * start reproduces the run tick for tick. The file is a small header followed
+ * by run-length encoded masks; held keys rarely change between ticks, so an
+ * hour of play is a few kilobytes. A state checksum taken when recording
+ * stopped lets playback tell whether it stayed in sync.
+ *
+ * Playback starts a GameClock at the recorded reading and sub-millisecond
+ * carry and advances it by the recorded step, as SpaceGame does live.
+ */
+public final class Replay {
+    public static final String DIRECTORY = "replays";
+    private static final int MAGIC = 0x42525250; // "BRRP"
+    private static final int VERSION = 3; // bumped whenever the simulation changes so old recordings would desync
+    private static final int KEEP_FILES = 20; // oldest recordings beyond this are deleted
+
+    private final long seed;
+    private final int levelNumber;
+    private final int spacecraft;
+    private final int hp, speed, firerate;
+    private final long stepNanos;
+    private final long startMillis;
+    private final long startCarryNanos;
+    private int[] masks = new int[1024];
+    private int ticks = 0;
+    private int checksum = 0;
+
+    /**
+     * @param seed Seed given to World.setSeed() before startGame()
+     * @param stepNanos Fixed step length the ticks were run with
+     * @param startMillis GameClock reading at startGame()
+     * @param startCarryNanos GameClock.getCarryNanos() at startGame()
+     */
+    public Replay(long seed, int levelNumber, int spacecraft, int hp, int speed, int firerate,
+                  long stepNanos, long startMillis, long startCarryNanos) {
+        this.seed = seed;
+        this.levelNumber = levelNumber;
+        this.spacecraft = spacecraft;
+        this.hp = hp;
+        this.speed = speed;
+        this.firerate = firerate;
+        this.stepNanos = stepNanos;
+        this.startMillis = startMillis;
+        this.startCarryNanos = startCarryNanos;
+    }
+
+    /**
+     * Append the input mask of the tick that just ran (World.getTickInput())
+     */
+    public void record(int mask) {
+        if (ticks == masks.length) {
+            masks = Arrays.copyOf(masks, ticks * 2);
+        }
+        masks[ticks++] = mask;
+    }
+
+    /**
+     * Remember the World's state after the last recorded tick
+     */
+    public void finish(int stateChecksum) {
+        checksum = stateChecksum;
+    }
+
+    /**
+     * Start a World on this recording: seed, clock and run parameters as recorded
+     */
+    public Playback play(World.Listener listener) {
+        return new Playback(listener);
+    }
+
+    /**
+     * Write to a new timestamped file in DIRECTORY, dropping the oldest recordings past KEEP_FILES
+     */
+    public File save() throws IOException {
+        File dir = new File(DIRECTORY);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        File file = new File(dir, "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".rpl");
+        save(file);
+
+        File[] old = dir.listFiles((d, name) -> name.startsWith("replay-") && name.endsWith(".rpl"));
+        if (old != null && old.length > KEEP_FILES) {
+            Arrays.sort(old); // timestamped names sort oldest first
+            for (int i = 0; i < old.length - KEEP_FILES; i++) {
+                old[i].delete();
+            }
+        }
+        return file;
+    }
+
+    public void save(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeByte(levelNumber);
+            out.writeByte(spacecraft);
+            out.writeInt(hp);
+            out.writeInt(speed);
+            out.writeInt(firerate);
+            out.writeLong(stepNanos);
+            out.writeLong(startMillis);
+            out.writeLong(startCarryNanos);
+            out.writeInt(World.WORLD_WIDTH);
+            out.writeInt(World.WORLD_HEIGHT);
+            out.writeInt(ticks);
+            out.writeInt(checksum);
+            // (mask, run length) pairs
+            int i = 0;
+            while (i < ticks) {
+                int mask = masks[i];
+                int run = 1;
+                while (i + run < ticks && masks[i + run] == mask) run++;
+                writeVarInt(out, mask);
+                writeVarInt(out, run);
+                i += run;
+            }
+        }
+    }
+
+    public static Replay load(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a replay");
+            }
+            int version = in.readUnsignedShort();
+            if (version != VERSION) {
+                throw new IOException(file + ": unsupported replay version " + version);
+            }
+            Replay replay = new Replay(in.readLong(), in.readUnsignedByte(), in.readUnsignedByte(),
+                    in.readInt(), in.readInt(), in.readInt(), in.readLong(), in.readLong(), in.readLong());
+            int worldWidth = in.readInt();
+            int worldHeight = in.readInt();
+            if (worldWidth != World.WORLD_WIDTH || worldHeight != World.WORLD_HEIGHT) {
+                throw new IOException(file + " was recorded on a " + worldWidth + "x" + worldHeight + " world, this one is "
+                        + World.WORLD_WIDTH + "x" + World.WORLD_HEIGHT + " (see -Dbrex.worldWidth/-Dbrex.worldHeight)");
+            }
+            int ticks = in.readInt();
+            replay.checksum = in.readInt();
+            replay.masks = new int[Math.max(1, ticks)];
+            while (replay.ticks < ticks) {
+                int mask = readVarInt(in);
+                int run = readVarInt(in);
+                if (run <= 0 || run > ticks - replay.ticks) {
+                    throw new IOException(file + ": corrupt input run at tick " + replay.ticks);
+                }
+                Arrays.fill(replay.masks, replay.ticks, replay.ticks + run, mask);
+                replay.ticks += run;
+            }
+            return replay;
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Steps a World through the recording, one tick per step() call
+     */
+    public final class Playback {
+        private final GameClock clock = new GameClock(startMillis, startCarryNanos);
+        private final World world;
+        private int tick = 0;
+
+        private Playback(World.Listener listener) {
+            world = new World(clock, seed, listener);
+            world.setSeed(seed);
+            world.startGame(levelNumber, spacecraft, hp, speed, firerate);
+        }
+
+        /**
+         * Run the next recorded tick
+         * @return false once every tick has been played
+         */
+        public boolean step() {
+            if (tick >= ticks) return false;
+            long delta = clock.advance(stepNanos);
+            world.setInputMask(masks[tick++]);
+            world.storePreviousPositions();
+            world.update(delta);
+            world.recyclePools();
+            return true;
+        }
+
+        /**
+         * Whether the World ended up where the recording did (only meaningful after the last tick)
+         */
+        public boolean inSync() {
+            return world.stateChecksum() == checksum;
+        }
+
+        // Getters
+        public World getWorld() { return world; }
+        public int getTick() { return tick; }
+    }
+
+    // Getters
+    public long getSeed() { return seed; }
+    public int getLevelNumber() { return levelNumber; }
+    public int getSpacecraft() { return spacecraft; }
+    public int getHp() { return hp; }
+    public int getSpeed() { return speed; }
+    public int getFirerate() { return firerate; }
+    public long getStepNanos() { return stepNanos; }
+    public long getStartMillis() { return startMillis; }
+    public long getStartCarryNanos() { return startCarryNanos; }
+    public int getTicks() { return ticks; }
+    public int getMask(int tick) { return masks[tick]; }
+    public int getChecksum() { return checksum; }
+}
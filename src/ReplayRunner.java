@@ -0,0 +1,106 @@
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Plays a recorded run without Swing, for profiling a captured session.
+ *
+ * Each pass rebuilds the World from the recording and steps through every
+ * tick, paced to 1x or 10x real time or as fast as the CPU allows (the
+ * default). Nothing is drawn. After each pass it prints the tick cost and
+ * whether the final state matches the checksum taken when recording, so a
+ * bad session can be looped under a profiler and checked for desyncs.
+ *
+ * Usage: java ReplayRunner FILE [--speed 1|10|0] [--loop N] [--verbose]
+ *        (--speed 0 = unlimited, --loop 0 = until killed)
+ */
+public class ReplayRunner {
+    private final Replay replay;
+    private final int speed;
+    private final Metrics.Histogram tickCost = Metrics.histogram("replay.tick.time");
+
+    public ReplayRunner(Replay replay, int speed) {
+        this.replay = replay;
+        this.speed = speed;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        String path = null;
+        int speed = 0;
+        int loops = 1;
+        boolean verbose = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--speed": speed = Integer.parseInt(args[++i]); break;
+                case "--loop": loops = Integer.parseInt(args[++i]); break;
+                case "--verbose": verbose = true; break;
+                default:
+                    if (path == null && !args[i].startsWith("--")) {
+                        path = args[i];
+                        break;
+                    }
+                    System.err.println("Unknown argument: " + args[i]);
+                    path = null;
+                    i = args.length;
+            }
+        }
+        if (path == null) {
+            System.err.println("Usage: java ReplayRunner FILE [--speed 1|10|0] [--loop N] [--verbose]");
+            System.exit(2);
+        }
+        if (!verbose) Log.setLevel(Log.Level.WARN);
+
+        Replay replay;
+        try {
+            replay = Replay.load(new File(path));
+        } catch (IOException e) {
+            System.err.println("Could not load replay: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.printf("Replay %s: level %d, spacecraft %d, seed %d, %d ticks (%.1f simulated min)%n",
+                path, replay.getLevelNumber(), replay.getSpacecraft(), replay.getSeed(), replay.getTicks(),
+                replay.getTicks() * replay.getStepNanos() / 60e9);
+
+        ReplayRunner runner = new ReplayRunner(replay, Math.max(0, speed));
+        boolean inSync = true;
+        for (int pass = 1; loops <= 0 || pass <= loops; pass++) {
+            inSync &= runner.runPass(pass);
+        }
+        Log.flush();
+        System.exit(inSync ? 0 : 3);
+    }
+
+    // One full playback; returns whether it ended in sync
+    private boolean runPass(int pass) {
+        Metrics.reset(); // tick cost covers one pass
+
+        Replay.Playback playback = replay.play(new World.Listener() {});
+        long stepNanos = speed == 0 ? 0 : replay.getStepNanos() / speed;
+        long wallStart = System.nanoTime();
+        while (true) {
+            long start = System.nanoTime();
+            if (!playback.step()) break;
+            tickCost.record(System.nanoTime() - start);
+
+            if (stepNanos > 0) {
+                long wait = wallStart + playback.getTick() * stepNanos - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        Thread.sleep(wait / 1_000_000L, (int) (wait % 1_000_000L));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+
+        boolean inSync = playback.inSync();
+        System.out.printf("pass %d | %.2fs wall | tick %s | score %d | %s%n",
+                pass, (System.nanoTime() - wallStart) / 1e9, HeadlessRunner.tickCostSummary(tickCost),
+                playback.getWorld().getScore(), inSync ? "in sync" : "DESYNCED");
+        return inSync;
+    }
+}
@@ -0,0 +1,194 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered rotations of a sprite or simple shape.
+ *
+ * Each atlas holds one image per quantised angle (getAngleSteps() of them,
+ * 64 by default), already scaled to the in-game size and cropped to the
+ * rotated bounds, and packed into the TextureAtlas frame pages. Drawing is
+ * then a plain untransformed blit from a page instead of a rotated and scaled
+ * drawImage. Frames are rendered on first use, so angles that never appear
+ * cost nothing.
+ *
+ * Atlases are shared through a cache keyed by what they draw. Changing the
+ * number of steps drops the cache; callers keep their atlas in a field and
+ * fetch a new one when isStale() says so.
+ */
+public final class RotationAtlas {
+    public static final int[] ANGLE_STEP_OPTIONS = { 16, 32, 64, 128 };
+    public static final int DEFAULT_ANGLE_STEPS = 64;
+
+    private static final double TWO_PI = Math.PI * 2;
+    private static final Map<Key, RotationAtlas> cache = new ConcurrentHashMap<>();
+    private static volatile int angleSteps = DEFAULT_ANGLE_STEPS;
+    private static volatile int generation = 0;
+
+    /**
+     * Draws the unrotated shape around the pivot (0,0)
+     */
+    private interface Painter {
+        void paint(Graphics2D g2d);
+    }
+
+    private final Painter painter;
+    private final Rectangle2D bounds; // unrotated extent around the pivot
+    private final double angleOffset;
+    private final int steps;
+    private final int atlasGeneration;
+    private final TextureAtlas.Region[] frames;
+    private final int[] frameX, frameY; // frame top-left relative to the pivot
+
+    private RotationAtlas(Painter painter, Rectangle2D bounds, double angleOffset) {
+        this.painter = painter;
+        this.bounds = bounds;
+        this.angleOffset = angleOffset;
+        this.steps = angleSteps;
+        this.atlasGeneration = generation;
+        this.frames = new TextureAtlas.Region[steps];
+        this.frameX = new int[steps];
+        this.frameY = new int[steps];
+    }
+
+    /**
+     * Sprite scaled to width x height, rotating around its centre
+     * @param angleOffset Added to every angle (e.g. PI/2 when the image's nose points up)
+     */
+    public static RotationAtlas forSprite(BufferedImage sprite, int width, int height, double angleOffset) {
+        return cache.computeIfAbsent(new Key(sprite, width, height, angleOffset, null, null, true), k ->
+                new RotationAtlas(g2d -> g2d.drawImage(sprite, -width / 2, -height / 2, width, height, null),
+                        new Rectangle2D.Double(-width / 2, -height / 2, width, height), angleOffset));
+    }
+
+    /**
+     * Filled rectangle (optionally outlined) pointing along the angle
+     * @param centered Rotate around the centre; otherwise around the middle of the back edge
+     */
+    public static RotationAtlas forBar(int length, int thickness, Color fill, Color outline, boolean centered) {
+        return cache.computeIfAbsent(new Key(null, length, thickness, 0, fill, outline, centered), k -> {
+            int left = centered ? -length / 2 : 0;
+            int top = -thickness / 2;
+            int extra = outline != null ? 1 : 0; // drawRect covers one more pixel
+            return new RotationAtlas(g2d -> {
+                g2d.setColor(fill);
+                g2d.fillRect(left, top, length, thickness);
+                if (outline != null) {
+                    g2d.setColor(outline);
+                    g2d.drawRect(left, top, length, thickness);
+                }
+            }, new Rectangle2D.Double(left, top, length + extra, thickness + extra), 0);
+        });
+    }
+
+    /**
+     * Draw the frame nearest to the angle with its pivot at (pivotX, pivotY)
+     * @return atlas page the frame was drawn from, for sorting draws by page
+     */
+    public int draw(Graphics2D g2d, double angle, int pivotX, int pivotY) {
+        int index = indexOf(angle);
+        TextureAtlas.Region frame = frame(index);
+        frame.draw(g2d, pivotX + frameX[index], pivotY + frameY[index]);
+        return frame.getPage();
+    }
+
+    /**
+     * Atlas page draw() would use for the angle (renders the frame if it is new)
+     */
+    public int pageOf(double angle) {
+        return frame(indexOf(angle)).getPage();
+    }
+
+    private int indexOf(double angle) {
+        return Math.floorMod((int) Math.round(angle * steps / TWO_PI), steps);
+    }
+
+    private TextureAtlas.Region frame(int index) {
+        TextureAtlas.Region frame = frames[index];
+        return frame != null ? frame : renderFrame(index);
+    }
+
+    private TextureAtlas.Region renderFrame(int index) {
+        AffineTransform rotation = AffineTransform.getRotateInstance(index * TWO_PI / steps + angleOffset);
+        Rectangle2D rotated = rotation.createTransformedShape(bounds).getBounds2D();
+        int x = (int) Math.floor(rotated.getMinX()) - 1;
+        int y = (int) Math.floor(rotated.getMinY()) - 1;
+        int w = (int) Math.ceil(rotated.getMaxX()) + 1 - x;
+        int h = (int) Math.ceil(rotated.getMaxY()) + 1 - y;
+
+        TextureAtlas.Region frame = TextureAtlas.allocateFrame(w, h);
+        Graphics2D g2d = frame.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.translate(-x, -y);
+        g2d.transform(rotation);
+        painter.paint(g2d);
+        g2d.dispose();
+
+        frameX[index] = x;
+        frameY[index] = y;
+        frames[index] = frame;
+        return frame;
+    }
+
+    /**
+     * True once the angle step setting changed after this atlas was built
+     */
+    public boolean isStale() {
+        return atlasGeneration != generation;
+    }
+
+    /**
+     * Quality setting: number of pre-rendered angles per atlas
+     */
+    public static void setAngleSteps(int steps) {
+        if (steps == angleSteps) return;
+        angleSteps = Math.max(4, steps);
+        generation++;
+        cache.clear();
+        TextureAtlas.clearFrames();
+    }
+
+    public static int getAngleSteps() {
+        return angleSteps;
+    }
+
+    /**
+     * Cache key; the sprite is compared by identity (AssetCache hands out shared instances)
+     */
+    private static final class Key {
+        final Object image;
+        final int a, b;
+        final double offset;
+        final Color fill, outline;
+        final boolean centered;
+
+        Key(Object image, int a, int b, double offset, Color fill, Color outline, boolean centered) {
+            this.image = image;
+            this.a = a;
+            this.b = b;
+            this.offset = offset;
+            this.fill = fill;
+            this.outline = outline;
+            this.centered = centered;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return image == k.image && a == k.a && b == k.b && offset == k.offset
+                    && Objects.equals(fill, k.fill) && Objects.equals(outline, k.outline) && centered == k.centered;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(image), a, b, offset, fill, outline, centered);
+        }
+    }
+}
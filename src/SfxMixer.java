@@ -0,0 +1,311 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import javax.sound.sampled.*;
+
+/**
+ * Software mixer for sound effects.
+ *
+ * Sounds are decoded once by load() and kept in memory as mono float PCM. One
+ * "SfxMixer" thread owns a single SourceDataLine and mixes up to MAX_VOICES
+ * playing voices into it, each with its own gain and constant-power pan.
+ * play() only writes a command into a pre-allocated lock-free ring (no
+ * allocation, no locks, never blocks), so it is safe to call from the game
+ * loop for every shot.
+ *
+ * When all voices are busy a new sound steals the voice with the lowest
+ * priority (the oldest one among equals) if that priority is not higher than
+ * its own, otherwise it is dropped. Each sound also has an instance limit, so
+ * rapid fire reuses its own oldest voice instead of pushing other sounds out.
+ */
+public class SfxMixer {
+    public static final int MAX_VOICES = 24;
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    private static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+    private static final int FRAME_BYTES = 4;
+    private static final int BUFFER_FRAMES = 512;       // ~12ms mixed per write
+    private static final int LINE_BUFFER_FRAMES = 2048; // ~46ms latency
+    private static final int COMMAND_CAPACITY = 256;    // power of two
+    private static final int COMMAND_MASK = COMMAND_CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+
+    // Loaded sounds, replaced (copy-on-write) by load()
+    private volatile float[][] sounds = new float[0][];
+    private volatile int[] maxInstances = new int[0];
+    private final Map<String, Integer> soundIds = new HashMap<>();
+
+    // Multi-producer / single-consumer command ring: producers claim a sequence
+    // with CAS, fill the slot, then publish it; the mixer thread consumes in order
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+    private final AtomicLongArray published = new AtomicLongArray(COMMAND_CAPACITY);
+    private final int[] commandSound = new int[COMMAND_CAPACITY];
+    private final float[] commandGain = new float[COMMAND_CAPACITY];
+    private final float[] commandPan = new float[COMMAND_CAPACITY];
+    private final int[] commandPriority = new int[COMMAND_CAPACITY];
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Voices, owned by the mixer thread
+    private final int[] voiceSound = new int[MAX_VOICES];
+    private final int[] voicePosition = new int[MAX_VOICES];
+    private final float[] voiceLeft = new float[MAX_VOICES];
+    private final float[] voiceRight = new float[MAX_VOICES];
+    private final int[] voicePriority = new int[MAX_VOICES];
+    private final long[] voiceStarted = new long[MAX_VOICES];
+    private long voiceCounter = 0;
+    private long stolen = 0;
+    private volatile int activeVoices = 0;
+
+    private final Thread thread;
+    private SourceDataLine line;
+    private boolean lineFailed = false;
+    private volatile float targetGain = 1f;
+    private float gain = 1f;
+    private final float[] mixLeft = new float[BUFFER_FRAMES];
+    private final float[] mixRight = new float[BUFFER_FRAMES];
+    private final byte[] bytes = new byte[BUFFER_FRAMES * FRAME_BYTES];
+
+    public SfxMixer() {
+        Arrays.fill(voiceSound, -1);
+        for (int i = 0; i < COMMAND_CAPACITY; i++) {
+            published.set(i, -1);
+        }
+        thread = new Thread(this::run, "SfxMixer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Decode a sound into memory (on the calling thread). Loading the same path again returns the same id.
+     * @param instanceLimit How many copies of this sound may play at once
+     * @return sound id for play(), or -1 if it could not be loaded
+     */
+    public synchronized int load(String path, int instanceLimit) {
+        Integer existing = soundIds.get(path);
+        if (existing != null) return existing;
+        float[] samples;
+        try {
+            samples = decode(path);
+        } catch (Exception e) {
+            Log.warn(Log.Category.AUDIO, "Could not load SFX " + path + ": " + e.getMessage());
+            return -1;
+        }
+        int id = sounds.length;
+        float[][] newSounds = Arrays.copyOf(sounds, id + 1);
+        newSounds[id] = samples;
+        int[] newLimits = Arrays.copyOf(maxInstances, id + 1);
+        newLimits[id] = Math.max(1, instanceLimit);
+        maxInstances = newLimits;
+        sounds = newSounds;
+        soundIds.put(path, id);
+        Log.info(Log.Category.AUDIO, "SFX loaded: " + path + " (" + samples.length + " frames)");
+        return id;
+    }
+
+    /**
+     * Queue a sound to start on the next mixed buffer. Never blocks; drops the
+     * sound if the command ring is full.
+     * @param gain 0..1 on top of the master volume
+     * @param pan -1 (left) .. 1 (right)
+     */
+    public void play(int soundId, float gain, float pan, int priority) {
+        if (soundId < 0) return;
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head >= COMMAND_CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+        int slot = (int) (seq & COMMAND_MASK);
+        commandSound[slot] = soundId;
+        commandGain[slot] = gain;
+        commandPan[slot] = pan;
+        commandPriority[slot] = priority;
+        published.set(slot, seq);
+        if (activeVoices == 0) LockSupport.unpark(thread);
+    }
+
+    /**
+     * @param volume 0-100, same curve the Clip MASTER_GAIN setting used
+     */
+    public void setVolume(int volume) {
+        // dB = 20 * ln(v/100) as before, i.e. amplitude (v/100)^ln(10)
+        targetGain = volume <= 0 ? 0f : (float) Math.pow(volume / 100.0, Math.log(10));
+    }
+
+    private void run() {
+        while (true) {
+            drainCommands();
+            if (activeVoices == 0 || !ensureLine()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            mixBuffer();
+            // Blocks while the line is full, which paces this thread
+            line.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private void drainCommands() {
+        long h = head;
+        while (true) {
+            int slot = (int) (h & COMMAND_MASK);
+            if (published.get(slot) != h) break;
+            start(commandSound[slot], commandGain[slot], commandPan[slot], commandPriority[slot]);
+            h++;
+            head = h;
+        }
+    }
+
+    // Pick a voice: free one, else this sound's oldest copy past its limit, else steal by priority
+    private void start(int soundId, float volume, float pan, int priority) {
+        int voice = -1;
+        int instances = 0;
+        int oldestSame = -1;
+        int free = -1;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            if (voiceSound[v] < 0) {
+                if (free < 0) free = v;
+            } else if (voiceSound[v] == soundId) {
+                instances++;
+                if (oldestSame < 0 || voiceStarted[v] < voiceStarted[oldestSame]) oldestSame = v;
+            }
+        }
+        if (instances >= maxInstances[soundId]) {
+            voice = oldestSame;
+        } else if (free >= 0) {
+            voice = free;
+        } else {
+            int victim = -1;
+            for (int v = 0; v < MAX_VOICES; v++) {
+                if (victim < 0 || voicePriority[v] < voicePriority[victim]
+                        || (voicePriority[v] == voicePriority[victim] && voiceStarted[v] < voiceStarted[victim])) {
+                    victim = v;
+                }
+            }
+            if (voicePriority[victim] > priority) return;
+            voice = victim;
+        }
+        if (voiceSound[voice] >= 0) stolen++;
+        else activeVoices++;
+
+        // Constant-power pan
+        double angle = (Math.max(-1f, Math.min(1f, pan)) + 1) * Math.PI / 4;
+        voiceSound[voice] = soundId;
+        voicePosition[voice] = 0;
+        voiceLeft[voice] = volume * (float) Math.cos(angle);
+        voiceRight[voice] = volume * (float) Math.sin(angle);
+        voicePriority[voice] = priority;
+        voiceStarted[voice] = voiceCounter++;
+    }
+
+    private boolean ensureLine() {
+        if (line != null) return true;
+        if (lineFailed) {
+            stopAllVoices();
+            return false;
+        }
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, LINE_BUFFER_FRAMES * FRAME_BYTES);
+            line.start();
+            return true;
+        } catch (Exception e) {
+            lineFailed = true;
+            line = null;
+            Log.warn(Log.Category.AUDIO, "SFX output unavailable: " + e.getMessage());
+            stopAllVoices();
+            return false;
+        }
+    }
+
+    private void mixBuffer() {
+        Arrays.fill(mixLeft, 0f);
+        Arrays.fill(mixRight, 0f);
+        float[][] loaded = sounds;
+        for (int v = 0; v < MAX_VOICES; v++) {
+            int id = voiceSound[v];
+            if (id < 0) continue;
+            float[] samples = loaded[id];
+            int position = voicePosition[v];
+            int n = Math.min(BUFFER_FRAMES, samples.length - position);
+            float left = voiceLeft[v];
+            float right = voiceRight[v];
+            for (int i = 0; i < n; i++) {
+                float s = samples[position + i];
+                mixLeft[i] += s * left;
+                mixRight[i] += s * right;
+            }
+            voicePosition[v] = position + n;
+            if (position + n >= samples.length) {
+                voiceSound[v] = -1;
+                activeVoices--;
+            }
+        }
+
+        // Ramp master volume across the buffer so changes don't click
+        float from = gain;
+        float to = targetGain;
+        for (int i = 0; i < BUFFER_FRAMES; i++) {
+            float g = from + (to - from) * i / BUFFER_FRAMES;
+            int l = toSample(mixLeft[i] * g);
+            int r = toSample(mixRight[i] * g);
+            int b = i * FRAME_BYTES;
+            bytes[b] = (byte) l;
+            bytes[b + 1] = (byte) (l >> 8);
+            bytes[b + 2] = (byte) r;
+            bytes[b + 3] = (byte) (r >> 8);
+        }
+        gain = to;
+    }
+
+    private static int toSample(float v) {
+        if (v > 1f) v = 1f;
+        if (v < -1f) v = -1f;
+        return (int) (v * 32767f);
+    }
+
+    private void stopAllVoices() {
+        Arrays.fill(voiceSound, -1);
+        activeVoices = 0;
+    }
+
+    // Whole file as mono float samples at the mixer rate
+    private static float[] decode(String path) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new File(path));
+             AudioInputStream pcm = source.getFormat().matches(FORMAT) ? source : AudioSystem.getAudioInputStream(FORMAT, source)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[16384];
+            int read;
+            while ((read = pcm.read(chunk)) > 0) {
+                buffer.write(chunk, 0, read);
+            }
+            byte[] data = buffer.toByteArray();
+            int frames = data.length / FRAME_BYTES;
+            float[] samples = new float[frames];
+            for (int i = 0; i < frames; i++) {
+                int b = i * FRAME_BYTES;
+                short l = (short) ((data[b + 1] << 8) | (data[b] & 0xff));
+                short r = (short) ((data[b + 3] << 8) | (data[b + 2] & 0xff));
+                samples[i] = (l + r) / 65536f;
+            }
+            return samples;
+        }
+    }
+
+    // Stats
+    public int getActiveVoices() { return activeVoices; }
+    public long getStolen() { return stolen; }
+    public long getDropped() { return dropped.get(); }
+}
@@ -0,0 +1,37 @@
+import java.util.Random;
+
+/**
+ * Time and randomness seen by the entities while the World is being stepped.
+ *
+ * World reads its GameClock once at the start of every update and installs
+ * that reading here with its seeded Random, so a run started from the same
+ * seed makes the same rolls. Per-tick checks (lifetimes, laser states,
+ * cooldowns) get the tick time passed in; now() is for stamping the time an
+ * entity is spawned or hit, from code that has no tick time at hand.
+ */
+public final class SimContext {
+    private static volatile long now = System.currentTimeMillis();
+    private static Random random = new Random();
+
+    private SimContext() {
+    }
+
+    /**
+     * Current simulation time in milliseconds
+     */
+    public static long now() {
+        return now;
+    }
+
+    /**
+     * Random source of the World currently being stepped
+     */
+    public static Random random() {
+        return random;
+    }
+
+    static void install(long nowMillis, Random rng) {
+        now = nowMillis;
+        random = rng;
+    }
+}
@@ -2,76 +2,75 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.IOException;
 import java.io.*;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import javax.sound.sampled.*;
+import interfaces.Interpolated;
 
-public class SpaceGame extends JPanel implements ActionListener, KeyListener {
+public class SpaceGame extends JPanel implements GameLoop.Listener, World.Listener, KeyListener {
     
     // Game States
     public enum GameState {
         MENU, LEVEL_SELECT, SPACECRAFT_SELECT, GAME, OPTIONS, EXIT_CONFIRM, PAUSED, LEVEL1_WIN, LEVEL_UP
     }
     
-    private static final int SCREEN_WIDTH = 1000;  // หน้าจอที่เห็น
-    private static final int SCREEN_HEIGHT = 700;  // หน้าจอที่เห็น
-    private static final int WORLD_WIDTH = 3000;   // โลกทั้งหมด (3x ใหญ่กว่า)
-    private static final int WORLD_HEIGHT = 2100;  // โลกทั้งหมด (3x ใหญ่กว่า)
-    private static final int DELAY = 16; // ~60 FPS
-    
-    private Timer timer;
-    private Player player;
-    private Player player2; // Co-op mode player 2
-    private boolean coopMode = false; // Co-op mode active
-    private ArrayList<Bullet> bullets2; // Player 2 bullets
-    private ArrayList<Enemy> enemies;
-    private ArrayList<Bullet> bullets;
-    private ArrayList<EnemyBullet> enemyBullets;
-    private ArrayList<PowerUp> powerUps;
-    private ArrayList<DamagePopup> damagePopups;
-    private ArrayList<ExplosionParticle> explosionParticles;
-    private Random random;
-    private int score;
-    private int level;
-    private int enemySpawnRate;
-    private long gameStartTime;
-    private long lastEnemySpawn;
-    private boolean gameRunning;
-    private long lastUpdateTimeMillis = System.currentTimeMillis();
-    
-    // Boss
-    private Boss boss;
-    private boolean bossSpawned = false;
-    private static final long BOSS_SPAWN_TIME = 25000; // 3.5 minutes in milliseconds
-    
-    // Boss attack system
-    private ArrayList<BossBullet> bossBullets = new ArrayList<>();
-    private ArrayList<BossLaser> bossLasers = new ArrayList<>();
-    private boolean bossLasersCreated = false;
-    private double laserRotationDirection = 1.0; // 1.0 = clockwise, -1.0 = counter-clockwise
-    private long lastHomingBulletSpawn = 0; // เวลาที่ spawn homing bullet ครั้งล่าสุด
-    private static final long HOMING_SPAWN_INTERVAL = 2000; // spawn ทุก 2 วินาที
-    
-    // Boss damage cooldowns
-    private long lastBossCollisionDamage = 0;
-    private long lastBossLaserDamage = 0;
-    private static final long BOSS_DAMAGE_COOLDOWN = 500; // 0.5 วินาที
-    
-    // Boss death animation
-    private boolean bossDeathAnimationActive = false;
-    private long bossDeathStartTime = 0;
-    private static final long BOSS_DEATH_DURATION = 8000; // 8 seconds
-    private int bossFinalX, bossFinalY; // Store boss position when it dies
-    private float bossDeathAlpha = 1.0f; // For fading boss sprite
+    private static final int SCREEN_WIDTH = World.VIEW_WIDTH;  // หน้าจอที่เห็น
+    private static final int SCREEN_HEIGHT = World.VIEW_HEIGHT;  // หน้าจอที่เห็น
+    private static final int WORLD_WIDTH = World.WORLD_WIDTH;   // โลกทั้งหมด (3x ใหญ่กว่า)
+    private static final int WORLD_HEIGHT = World.WORLD_HEIGHT;  // โลกทั้งหมด (3x ใหญ่กว่า)
+    private static final int TICKS_PER_SECOND = Integer.getInteger("brex.tickRate", 60); // fixed simulation rate
+    private static final double[] TIME_SCALES = {0.25, 0.5, 1.0, 2.0, 4.0}; // F6 cycles upwards through these
+    private static final int FRAME_CAP_DISPLAY = -1; // render at the monitor's refresh rate
+    private static final int[] FRAME_CAP_OPTIONS = {FRAME_CAP_DISPLAY, 60, 120, 144, 240, 0}; // 0 = uncapped
+    private static final int DEFAULT_REFRESH_RATE = 60; // when the display doesn't report one
+    
+    // HUD text (drawn through GlyphCache) and shared UI colours
+    private static final Font HUD_FONT = UiResources.font(Font.BOLD, 16);
+    private static final Font HUD_SMALL_FONT = UiResources.font(Font.PLAIN, 12);
+    private static final Font HUD_SPECIAL_FONT = UiResources.font(Font.PLAIN, 14);
+    private static final Font BANNER_FONT = UiResources.font(Font.BOLD, 18);
+    private static final int HUD_HEIGHT = 180; // everything drawHud() paints is above this
+    private static final int HUD_STATE_SIZE = 12;
+    private static final Color PLAYER2_UI_COLOR = new Color(255, 105, 180);
+    private static final Color PLAYER2_HEALTH_COLOR = new Color(255, 50, 100);
+    private static final Color OVERLAY_COLOR = new Color(0, 0, 0, 150);      // pause / win backdrop
+    private static final Color DARK_OVERLAY_COLOR = new Color(0, 0, 0, 180); // level-up backdrop
+    private static final Color GOLD_COLOR = new Color(255, 215, 0);
+    private static final Color SELECTION_GLOW_COLOR = new Color(255, 255, 0, 100);
+    
+    private GameLoop gameLoop;
+    // Guards all simulation state; held by the loop thread during a tick and by input handlers
+    private final Object simLock = new Object();
+    // Render snapshots, triple-buffered: the loop fills one while a frame paints another,
+    // and the third holds the newest finished tick. Only swapped under snapshotLock.
+    private final Object snapshotLock = new Object();
+    private RenderSnapshot fillingSnapshot = new RenderSnapshot();
+    private RenderSnapshot readySnapshot = new RenderSnapshot();
+    private RenderSnapshot paintingSnapshot = new RenderSnapshot();
+    private boolean snapshotReady = false; // readySnapshot is newer than paintingSnapshot
+    private volatile double renderAlpha = 0.0;
+    private boolean simulating = false; // last loop tick ran the World (loop thread only)
+    private GameClock simClock; // only moves on ticks that update the World; F6-F8 scale, freeze and step it
+    private World world; // simulation state and rules, stepped under simLock
+    private Replay recording; // current run's seed and inputs, saved when the run ends
+    private Replay playback; // recording fed to the World instead of the keyboard, or null
+    private int playbackTick = 0;
+    private final Random random = new Random(); // stars and music picks; the World has its own seeded Random
+    private final PerfOverlay perfOverlay = new PerfOverlay(); // toggled with F3
+    private final ViewCuller viewCuller = new ViewCuller(); // used by whichever thread paints
+    private final HudLayer hudLayer = new HudLayer(SCREEN_WIDTH, HUD_HEIGHT, HUD_STATE_SIZE);
+    private final int[] hudState = new int[HUD_STATE_SIZE]; // see hudState()
     
     // Level 1 Win Screen Animation
-    private BufferedImage[] winAnimFrames = new BufferedImage[3]; // BOOM_0, BOOM2_0, BOOM3_0
+    private TextureAtlas.Region[] winAnimFrames = new TextureAtlas.Region[3]; // BOOM_0, BOOM2_0, BOOM3_0
     private int winAnimCurrentFrame = 0;
     private long winAnimLastFrameTime = 0;
     private static final long WIN_ANIM_FRAME_DURATION = 1000; // 0.5 fps = 2000ms per frame
@@ -84,7 +83,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     private int savedSpacecraftType = 0;
     
     // Level 2 (Endless mode)
-    private int currentLevel = 1; // 1 or 2
+    private int currentLevel = 1; // 1 or 2 (chosen on the level select screen)
     private boolean level2Unlocked = false;
     private int level2HighScore = 0;
     private Color level2BackgroundColor = new Color(20, 4, 0); // #140200ff
@@ -93,20 +92,10 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     // Level Up System
     private int selectedLevelUpOption = 0; // 0=HP, 1=Speed, 2=Fire Rate
     private GameState stateBeforeLevelUp = GameState.GAME;
-    private int pendingHealthUpgrade = 0;
-    private int pendingSpeedUpgrade = 0;
-    private int pendingFireRateUpgrade = 0;
-    
-    // TYPE1 enemy spawn cap
-    private int type1MaxCap = 1; // Random 1-6
-    private long lastCapUpdate = 0;
-    
-    // Camera System
-    private int cameraX, cameraY;
     
     // Background System
-    private final int STAR_COUNT = 200;
-    private int[] starX, starY, starZ; // Z for depth/size
+    private static final double STAR_DENSITY = 200 / (3000.0 * 2100.0); // stars per square pixel: 200 on the original 3000x2100 map
+    private StarField starField; // baked parallax tiles, Z (1-3) picks the depth layer
     
     // Game State Management
     private GameState currentState;
@@ -124,10 +113,19 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     private int bgmVolume; // 0-100
     private int sfxVolume; // 0-100
     private boolean fullscreen;
+    private volatile boolean activeRendering; // true = BufferStrategy canvas, false = repaint()/paintComponent
+    private int frameCap; // one of FRAME_CAP_OPTIONS (or a hand-edited fps)
+    private volatile boolean vsync; // Toolkit.sync() after every frame
+    
+    // Active rendering surface (created on demand when activeRendering is on)
+    private static final int ACTIVE_BUFFER_COUNT = 3; // triple buffering, falls back to 2 or blit
+    private ActiveRenderSurface renderSurface;
+    private volatile boolean renderSurfaceRequested = false;
+    private final ActiveRenderSurface.Painter framePainter = this::paintFrame;
     
     // Spacecraft selection
     private int selectedSpacecraft = 0; // 0=Large, 1=Medium, 2=Small
-    private BufferedImage[] spacecraftMenuSprites = new BufferedImage[3];
+    private TextureAtlas.Region[] spacecraftMenuSprites = new TextureAtlas.Region[3];
     // Spacecraft stats: [stat][spacecraft] where spacecraft: 0=Large, 1=Medium, 2=Small
     // Stats: 0=HP, 1=Speed, 2=Firerate, 3=Special (description stored separately)
     private int[][] spacecraftStats = {
@@ -142,17 +140,6 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         "Teleport in direction (CD 8s)"
     };
     
-    // Controls
-    private boolean upPressed, downPressed, leftPressed, rightPressed;
-    
-    // Manual control mode
-    private boolean manualControlMode = false;
-    private boolean arrowUpPressed, arrowDownPressed, arrowLeftPressed, arrowRightPressed;
-    
-    // Special ability keys
-    private boolean fPressed = false; // F key for player1 special
-    private boolean rightShiftPressed = false; // Right Shift for player2 special
-    
     // Easter Egg System
     private static final String EASTER_EGG_FILE = "easter_egg.dat";
     private int easterEggMode = 0; // 0 = normal, 1 = special mode
@@ -164,26 +151,37 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     private static final String SETTINGS_FILE = "settings.dat";
     
     // Audio System
-    private Clip bgmClip;
-    private static final int SFX_POOL_SIZE = 8; // Pool size for simultaneous sound effects
-    private Clip[] sfxPool = new Clip[SFX_POOL_SIZE];
-    private int sfxPoolIndex = 0; // Round-robin index for pool
+    private final MusicPlayer musicPlayer = new MusicPlayer(); // streams BGM on its own thread
+    private static final String BOSS_BGM_PATH = "bin/Sound/BMG/BossSong.wav";
+    private final SfxMixer sfxMixer = new SfxMixer(); // mixes all sound effects on its own thread
+    private static final int BULLET_SOUND_INSTANCES = 6; // rapid fire reuses its own oldest voice past this
+    private static final float SHOT_PAN_WIDTH = 0.6f; // how far left/right a shot at the screen edge pans
+    private int bulletSoundId = -1;
     private boolean audioInitialized = false;
     private boolean isInGameBGM = false; // Track if we're in game (for BGM management)
     private boolean isFirstGameBGM = true; // Track if this is the first in-game BGM
     private boolean isFadingOut = false; // Track if BGM is fading out
-    private long fadeStartTime = 0; // When fade-out started
     private static final long FADE_DURATION = 5000; // 5 seconds fade-out
     private static final long FADE_START_BEFORE_BOSS = 10000; // Start fading 10 seconds before boss
     
     public SpaceGame() {
+        this(null);
+    }
+    
+    /**
+     * @param playback Recording to play back at normal speed instead of starting at the menu, or null
+     */
+    public SpaceGame(Replay playback) {
+        this.playback = playback;
         this.setPreferredSize(new Dimension(SCREEN_WIDTH, SCREEN_HEIGHT));
         this.setBackground(Color.BLACK);
         this.setFocusable(true);
         this.addKeyListener(this);
+        this.setLayout(new BorderLayout());
         
         // Load settings (including fullscreen)
         loadSettings();
+        applyRenderMode();
         
         // Load Easter egg mode from file
         loadEasterEggMode();
@@ -194,6 +192,9 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         // Initialize audio system
         initializeAudio();
         
+        // Decode every sprite once up front so spawns never hit the disk
+        AssetCache.preloadDefaults();
+        
         // Load win animation frames
         loadWinAnimationFrames();
         
@@ -205,8 +206,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         initializeGame();
         loadSpacecraftMenuSprites();
         
-        // Play menu BGM
-        playBGM();
+        if (playback != null) {
+            currentLevel = playback.getLevelNumber();
+            selectedSpacecraft = playback.getSpacecraft();
+            startNewGame();
+        } else {
+            // Play menu BGM
+            playBGM();
+        }
     }
     
     private void loadSpacecraftMenuSprites() {
@@ -215,40 +222,9 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             "Menu_Spacecraft-Medium_.png",
             "Menu_Spacecraft.png"
         };
-        String[] basePaths = {
-            "src/Pic/",
-            "./src/Pic/",
-            "Pic/",
-            "./Pic/",
-            "bin/Pic/"
-        };
         
         for (int i = 0; i < menuSpriteNames.length; i++) {
-            String name = menuSpriteNames[i];
-            // Try classpath first
-            try {
-                java.io.InputStream is = getClass().getResourceAsStream("/Pic/" + name);
-                if (is != null) {
-                    spacecraftMenuSprites[i] = ImageIO.read(is);
-                    is.close();
-                    continue;
-                }
-            } catch (IOException ex) {
-                // continue
-            }
-            
-            // Try filesystem paths
-            for (String base : basePaths) {
-                try {
-                    File f = new File(base + name);
-                    if (f.exists()) {
-                        spacecraftMenuSprites[i] = ImageIO.read(f);
-                        break;
-                    }
-                } catch (IOException ex) {
-                    // continue
-                }
-            }
+            spacecraftMenuSprites[i] = AssetCache.region(menuSpriteNames[i]);
         }
     }
     
@@ -260,104 +236,47 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             "Ani/BOOM3_0.png"
         };
         
-        String[] basePaths = {
-            "src/Pic/",
-            "./src/Pic/",
-            "Pic/",
-            "./Pic/",
-            "bin/Pic/"
-        };
-        
         for (int i = 0; i < frameNames.length; i++) {
-            String name = frameNames[i];
-            
-            // Try classpath first
-            try {
-                java.io.InputStream is = getClass().getResourceAsStream("/Pic/" + name);
-                if (is != null) {
-                    winAnimFrames[i] = ImageIO.read(is);
-                    is.close();
-                    System.out.println("Loaded win animation frame " + i + " from classpath");
-                    continue;
-                }
-            } catch (IOException ex) {
-                // continue
-            }
-            
-            // Try filesystem paths
-            for (String base : basePaths) {
-                try {
-                    File f = new File(base + name);
-                    if (f.exists()) {
-                        winAnimFrames[i] = ImageIO.read(f);
-                        System.out.println("Loaded win animation frame " + i + " from: " + f.getAbsolutePath());
-                        break;
-                    }
-                } catch (IOException ex) {
-                    // continue
-                }
-            }
-            
+            winAnimFrames[i] = AssetCache.region(frameNames[i]);
             if (winAnimFrames[i] == null) {
-                System.out.println("Warning: Could not load win animation frame: " + name);
+                Log.warn(Log.Category.RENDER, "Warning: Could not load win animation frame: " + frameNames[i]);
             }
         }
     }
     
     private void initializeGame() {
-        player = new Player(WORLD_WIDTH / 2, WORLD_HEIGHT / 2);
-        player2 = null; // Co-op player starts as null
-        bullets2 = new ArrayList<>(); // Initialize bullets2 list
-        enemies = new ArrayList<>();
-        bullets = new ArrayList<>();
-        enemyBullets = new ArrayList<>();
-        powerUps = new ArrayList<>();
-        damagePopups = new ArrayList<>();
-        explosionParticles = new ArrayList<>();
-        random = new Random();
-        boss = null;
-        bossSpawned = false;
-        type1MaxCap = 1 + random.nextInt(6); // Random 1-6
-        lastCapUpdate = System.currentTimeMillis();
+        // Start at wall-clock time like the old system clock did (timers that start at 0 are ready at once)
+        if (playback != null) {
+            simClock = new GameClock(playback.getStartMillis(), playback.getStartCarryNanos());
+        } else {
+            simClock = new GameClock(System.currentTimeMillis());
+        }
+        world = new World(simClock, System.nanoTime(), this);
         
         // Initialize background stars
         initializeBackground();
         
-        // Initialize camera
-        cameraX = 0;
-        cameraY = 0;
-        score = 0;
-        level = 1;
-        enemySpawnRate = 1000; // milliseconds between spawns
-        gameStartTime = System.currentTimeMillis();
-        lastEnemySpawn = System.currentTimeMillis();
-        gameRunning = true;
-        
-        timer = new Timer(DELAY, this);
+        gameLoop = new GameLoop(this, TICKS_PER_SECOND, DEFAULT_REFRESH_RATE);
         // Initialize options state
         initializeOptions();
     }
     
     public void startGame() {
-        timer.start();
+        synchronized (simLock) {
+            publishSnapshot();
+        }
+        gameLoop.start();
     }
     
     private void initializeBackground() {
-        starX = new int[STAR_COUNT];
-        starY = new int[STAR_COUNT];
-        starZ = new int[STAR_COUNT];
-        
         // Generate random stars across the entire world space
-        for (int i = 0; i < STAR_COUNT; i++) {
-            starX[i] = random.nextInt(WORLD_WIDTH);
-            starY[i] = random.nextInt(WORLD_HEIGHT);
-            starZ[i] = random.nextInt(3) + 1; // Size 1-3
-        }
+        starField = new StarField(random.nextLong(), STAR_DENSITY, WORLD_WIDTH, WORLD_HEIGHT, SCREEN_WIDTH, SCREEN_HEIGHT);
     }
 
     private void initializeOptions() {
         // Load settings from file, or use defaults
         loadSettings();
+        applyFrameCap();
         refreshOptionsItems();
     }
 
@@ -366,1269 +285,396 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             "BGM Volume: " + bgmVolume,
             "SFX Volume: " + sfxVolume,
             "Fullscreen: " + (fullscreen ? "ON" : "OFF"),
+            "Renderer: " + (activeRendering ? "Active" : "Passive"),
+            "Rotation Quality: " + RotationAtlas.getAngleSteps() + " angles",
+            "Frame Cap: " + frameCapLabel(),
+            "VSync: " + (vsync ? "ON" : "OFF"),
             "Back to Menu"
         };
     }
     
+    // Runs on the game loop thread
     @Override
-    public void actionPerformed(ActionEvent e) {
-        if (currentState == GameState.GAME && gameRunning) {
-            update();
-        }
-        repaint();
-    }
-    
-    private void update() {
-        // Compute delta time
-        long now = System.currentTimeMillis();
-        long delta = now - lastUpdateTimeMillis;
-        if (delta < 0) delta = 0;
-        lastUpdateTimeMillis = now;
-
-    // Update player: movement & rotation
-    updatePlayerMovement();
-    // integrate movement with inertia
-    player.integrateMovement(delta, WORLD_WIDTH, WORLD_HEIGHT);
-    // update rotation smoothing
-    player.update(delta);
-    // update any timed special effects (double-fire expiration, etc.)
-    player.updateSpecials();
-    
-    // Update player2 if co-op mode active
-    if (coopMode && player2 != null) {
-        updatePlayer2Movement();
-        player2.integrateMovement(delta, WORLD_WIDTH, WORLD_HEIGHT);
-        player2.update(delta);
-        player2.updateSpecials();
-    }
-        
-        // Update camera to follow player
-        updateCamera();
-        
-        // Update TYPE1 max cap every 15 seconds
-        if (System.currentTimeMillis() - lastCapUpdate > 15000) {
-            type1MaxCap = 1 + random.nextInt(6); // Random 1-6
-            lastCapUpdate = System.currentTimeMillis();
-            System.out.println("TYPE1 max cap updated: " + type1MaxCap);
-        }
-        
-        // BGM fade-out and boss music management (skip in Easter Egg mode)
-        long elapsedTime = System.currentTimeMillis() - gameStartTime;
-        long timeUntilBoss = BOSS_SPAWN_TIME - elapsedTime;
-        
-        // Start fading out 10 seconds before boss (only in normal mode)
-        if (easterEggMode == 0 && !bossSpawned && !isFadingOut && timeUntilBoss <= FADE_START_BEFORE_BOSS && timeUntilBoss > 0) {
-            isFadingOut = true;
-            fadeStartTime = System.currentTimeMillis();
-            System.out.println("Starting BGM fade-out (10 seconds before boss)");
-        }
-        
-        // Apply fade-out (only in normal mode)
-        if (easterEggMode == 0 && isFadingOut && !bossSpawned) {
-            long fadeDuration = System.currentTimeMillis() - fadeStartTime;
-            if (fadeDuration < FADE_DURATION) {
-                // Gradually reduce volume over 5 seconds
-                float fadeProgress = fadeDuration / (float) FADE_DURATION;
-                int currentVolume = (int) (bgmVolume * (1.0f - fadeProgress));
-                
-                if (bgmClip != null && bgmClip.isOpen()) {
-                    try {
-                        FloatControl volumeControl = (FloatControl) bgmClip.getControl(FloatControl.Type.MASTER_GAIN);
-                        float dB = (float) (Math.log(Math.max(1, currentVolume) / 100.0) * 20.0);
-                        dB = Math.max(volumeControl.getMinimum(), Math.min(dB, volumeControl.getMaximum()));
-                        volumeControl.setValue(dB);
-                    } catch (Exception e) {
-                        // Ignore volume control errors during fade
-                    }
+    public void tick(long stepNanos) {
+        synchronized (simLock) {
+            long tickStart = System.nanoTime();
+            long updateNanos = 0;
+            simulating = currentState == GameState.GAME && world.isGameRunning();
+            if (simulating) {
+                // Time scale, freeze and single-step decide how many fixed steps this loop tick runs.
+                // Loop ticks without a step keep the previous positions, so frames carry on moving
+                // across the last step in slow motion instead of snapping to it.
+                int steps = simClock.stepsDue();
+                for (int i = 0; i < steps && currentState == GameState.GAME && world.isGameRunning(); i++) {
+                    world.storePreviousPositions();
+                    stepWorld(playback != null ? playback.getStepNanos() : stepNanos);
                 }
+                updateNanos = System.nanoTime() - tickStart;
             } else {
-                // Fade complete - stop BGM
-                stopBGM();
-            }
-        }
-        
-        // Check for Boss spawn at 3.5 minutes (only in Level 1)
-        if (currentLevel == 1 && !bossSpawned && elapsedTime >= BOSS_SPAWN_TIME) {
-            spawnBoss();
-            bossSpawned = true;
-            // Play boss music (only in normal mode)
-            if (easterEggMode == 0) {
-                playBossBGM();
-            }
-        }
-        
-        // Spawn enemies
-        // In Level 1: stop spawning when boss appears
-        // In Level 2: spawn continuously (endless mode)
-        boolean shouldSpawnEnemies = (currentLevel == 1 && !bossSpawned) || (currentLevel == 2);
-        if (shouldSpawnEnemies && System.currentTimeMillis() - lastEnemySpawn > enemySpawnRate) {
-            spawnEnemy();
-            lastEnemySpawn = System.currentTimeMillis();
-            System.out.println("Enemy spawned! Total enemies: " + enemies.size());
-        }
-        
-        // Update enemies
-        Iterator<Enemy> enemyIterator = enemies.iterator();
-        while (enemyIterator.hasNext()) {
-            Enemy enemy = enemyIterator.next();
-            // Update enemy targeting - consider player2 if in co-op mode
-            if (coopMode && player2 != null) {
-                enemy.update(player, player2);
-            } else {
-                enemy.update(player);
-            }
-            
-            // Remove if off screen
-            if (enemy.isOffScreen(SCREEN_WIDTH, SCREEN_HEIGHT, cameraX, cameraY)) {
-                enemyIterator.remove();
-                System.out.println("Enemy removed (off screen). Total enemies: " + enemies.size());
-            }
-            
-            // Check collision with player
-            if (enemy.collidesWith(player)) {
-                // consumeDamage respects shield first
-                player.consumeDamage(10);
-                enemyIterator.remove();
-                System.out.println("Player hit! Health: " + player.getHealth());
-                
-                if (player.getHealth() <= 0) {
-                    System.out.println("Game Over! Final Score: " + score);
-                    gameRunning = false;
-                    
-                    // Handle Level 2 completion/high score
-                    if (currentLevel == 2) {
-                        handleLevel2GameOver();
-                    }
-                    
-                    // ลบ Player2 ออกเมื่อ Game Over
-                    if (coopMode && player2 != null) {
-                        player2 = null;
-                        coopMode = false;
-                    }
-                }
-            }
-            
-            // Check collision with player2 (co-op mode)
-            if (coopMode && player2 != null && enemy.collidesWith(player2)) {
-                player2.consumeDamage(10);
-                enemyIterator.remove();
-                System.out.println("Player 2 hit! Health: " + player2.getHealth());
-                
-                if (player2.getHealth() <= 0) {
-                    System.out.println("Player 2 destroyed!");
-                    player2 = null;
-                    coopMode = false;
-                    bullets2.clear();
-                }
-            }
-            
-            // Enemy shooting based on fire rate
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - enemy.getLastShotTime() > enemy.getFireRate()) {
-                shootEnemyBullets(enemy);
-                enemy.setLastShotTime(currentTime);
-            }
-        }
-        
-        // Update bullets
-        Iterator<Bullet> bulletIterator = bullets.iterator();
-        while (bulletIterator.hasNext()) {
-            Bullet bullet = bulletIterator.next();
-            bullet.update();
-            
-            // Remove if expired (1 minute)
-            if (bullet.isExpired()) {
-                bulletIterator.remove();
-                System.out.println("Bullet expired! Total bullets: " + bullets.size());
-                continue;
-            }
-
-            // Track whether this bullet was removed during collision handling
-            boolean bulletRemoved = false;
-
-            // Check bullet-enemy collision
-            Iterator<Enemy> enemyIterator2 = enemies.iterator();
-            while (enemyIterator2.hasNext()) {
-                Enemy enemy = enemyIterator2.next();
-                if (bullet.collidesWith(enemy)) {
-                    int dmg = bullet.getDamage();
-                    enemy.takeDamage(dmg);
-                    damagePopups.add(new DamagePopup(enemy.getX(), enemy.getY(), dmg, Color.YELLOW));
-                    bulletIterator.remove();
-                    bulletRemoved = true;
-
-                    if (enemy.isDead()) {
-                        enemyIterator2.remove();
-                        score += 10;
-                        System.out.println("Enemy destroyed! Score: " + score);
-
-                        // Chance to spawn power-up
-                        // Level 1: 10% chance (1/10)
-                        // Level 2: 5% chance (1/20) - harder to get powerups
-                        int dropChance = (currentLevel == 2) ? 20 : 10;
-                        if (random.nextInt(dropChance) == 0) {
-                            powerUps.add(new PowerUp(enemy.getX(), enemy.getY()));
-                        }
-                    } else {
-                        System.out.println("Enemy hit! HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
-                    }
-                    break;
-                }
-            }
-
-            // If bullet was removed due to colliding with an enemy, skip further processing for this bullet
-            if (bulletRemoved) continue;
-
-            // Check bullet-boss collision
-            if (boss != null && !boss.isDead() && bullet.collidesWith(boss)) {
-                int dmg = bullet.getDamage();
-                boss.takeDamage(dmg);
-                damagePopups.add(new DamagePopup(boss.getX(), boss.getY(), dmg, Color.RED));
-                bulletIterator.remove();
-                System.out.println("Boss hit! HP: " + boss.getHealth() + "/" + boss.getMaxHealth());
-
-                if (boss.isDead()) {
-                    System.out.println("=== BOSS DEFEATED ===");
-                    // Deactivate all boss lasers
-                    for (BossLaser laser : bossLasers) {
-                        laser.deactivate();
-                    }
-                    // Start boss death animation
-                    if (!bossDeathAnimationActive) {
-                        bossDeathAnimationActive = true;
-                        bossDeathStartTime = System.currentTimeMillis();
-                        bossFinalX = (int) boss.getX();
-                        bossFinalY = (int) boss.getY();
-                    }
-                    score += 500;
-                }
-            }
-        }
-        
-        // Update player2 bullets (co-op mode)
-        if (coopMode && player2 != null) {
-            Iterator<Bullet> bullet2Iterator = bullets2.iterator();
-            while (bullet2Iterator.hasNext()) {
-                Bullet bullet = bullet2Iterator.next();
-                bullet.update();
-                
-                // Remove if expired
-                if (bullet.isExpired()) {
-                    bullet2Iterator.remove();
-                    continue;
-                }
-                
-                // Check bullet-enemy collision
-                Iterator<Enemy> enemyIterator3 = enemies.iterator();
-                while (enemyIterator3.hasNext()) {
-                    Enemy enemy = enemyIterator3.next();
-                    if (bullet.collidesWith(enemy)) {
-                        int dmg = bullet.getDamage();
-                        enemy.takeDamage(dmg);
-                        damagePopups.add(new DamagePopup(enemy.getX(), enemy.getY(), dmg, new Color(255, 105, 180)));
-                        bullet2Iterator.remove();
-                        
-                        if (enemy.isDead()) {
-                            enemyIterator3.remove();
-                            score += 10;
-                            
-                            // Level 2: harder powerup drops (5% vs 10%)
-                            int dropChance = (currentLevel == 2) ? 20 : 10;
-                            if (random.nextInt(dropChance) == 0) {
-                                powerUps.add(new PowerUp(enemy.getX(), enemy.getY()));
-                            }
-                        }
-                        break;
-                    }
-                }
-                
-                // Check bullet-boss collision
-                if (boss != null && !boss.isDead() && bullet.collidesWith(boss)) {
-                    int dmg = bullet.getDamage();
-                    boss.takeDamage(dmg);
-                    damagePopups.add(new DamagePopup((int)boss.getX(), (int)boss.getY(), dmg, new Color(255, 105, 180)));
-                    bullet2Iterator.remove();
-                    
-                    if (boss.isDead()) {
-                        System.out.println("=== BOSS DEFEATED (by Player2) ===");
-                        // Deactivate all boss lasers
-                        for (BossLaser laser : bossLasers) {
-                            laser.deactivate();
-                        }
-                        // Start boss death animation
-                        if (!bossDeathAnimationActive) {
-                            bossDeathAnimationActive = true;
-                            bossDeathStartTime = System.currentTimeMillis();
-                            bossFinalX = (int) boss.getX();
-                            bossFinalY = (int) boss.getY();
-                        }
-                        score += 500;
-                    }
-                }
+                // Menus and overlays show the world standing still
+                world.storePreviousPositions();
             }
+            publishSnapshot();
+            world.recyclePools();
+            perfOverlay.recordTick(world, updateNanos, System.nanoTime() - tickStart);
         }
-        
-        // Update enemy bullets
-        Iterator<EnemyBullet> enemyBulletIterator = enemyBullets.iterator();
-        while (enemyBulletIterator.hasNext()) {
-            EnemyBullet enemyBullet = enemyBulletIterator.next();
-            enemyBullet.update();
-            
-            // Remove if expired (1 minute)
-            if (enemyBullet.isExpired()) {
-                enemyBulletIterator.remove();
-                System.out.println("Enemy bullet expired! Total enemy bullets: " + enemyBullets.size());
-                continue;
-            }
-            
-            // Check collision with player
-            if (enemyBullet.collidesWith(player)) {
-                int dmg = enemyBullet.getDamage();
-                player.consumeDamage(dmg);
-                damagePopups.add(new DamagePopup(player.getX(), player.getY(), dmg, Color.RED));
-                enemyBulletIterator.remove();
-                System.out.println("Player hit by bullet! Health: " + player.getHealth() + " (damage: " + dmg + ")");
-                
-                if (player.getHealth() <= 0) {
-                    System.out.println("Game Over! Final Score: " + score);
-                    gameRunning = false;
-                    
-                    // Handle Level 2 completion/high score
-                    if (currentLevel == 2) {
-                        handleLevel2GameOver();
-                    }
-                    
-                    // ลบ Player2 ออกเมื่อ Game Over
-                    if (coopMode && player2 != null) {
-                        player2 = null;
-                        coopMode = false;
-                    }
-                }
-                continue;
-            }
-            
-            // Check collision with player2 (co-op mode) - ใช้เลือดร่วมกับ Player1
-            if (coopMode && player2 != null && enemyBullet.collidesWith(player2)) {
-                int dmg = enemyBullet.getDamage();
-                player.consumeDamage(dmg); // หัก HP จาก Player1 (ใช้เลือดร่วมกัน)
-                damagePopups.add(new DamagePopup(player2.getX(), player2.getY(), dmg, Color.RED));
-                enemyBulletIterator.remove();
-                System.out.println("Player2 hit by bullet! Shared Health: " + player.getHealth() + " (damage: " + dmg + ")");
-                
-                if (player.getHealth() <= 0) {
-                    // เลือดหมด = Game Over
-                    System.out.println("Game Over! Final Score: " + score);
-                    gameRunning = false;
-                    
-                    // Handle Level 2 completion/high score
-                    if (currentLevel == 2) {
-                        handleLevel2GameOver();
-                    }
-                    
-                    // ลบ Player2 ออก
-                    player2 = null;
-                    coopMode = false;
-                }
-                continue;
-            }
+    }
+    
+    // One simulation step. Time only advances here, so pauses and menus don't run the World's timers.
+    private void stepWorld(long stepNanos) {
+        long delta = simClock.advance(stepNanos);
+        if (playback != null) {
+            world.setInputMask(playback.getMask(playbackTick++));
         }
-        
-        // Update Boss
-        if (boss != null && !boss.isDead()) {
-            // Update boss targeting - consider player2 if in co-op mode
-            if (coopMode && player2 != null) {
-                boss.update(player, player2, delta);
-            } else {
-                boss.update(player, delta);
-            }
-            
-            // Boss attack phase system
-            handleBossAttacks(delta);
-            
-            // Boss enemy spawn system (5-10 enemies, cooldown 10-15s)
-            if (boss.shouldSpawnEnemies()) {
-                spawnBossEnemies();
-            }
-            
-            // Boss collision with player (10-20 damage per 0.5s)
-            if (boss.collidesWith(player)) {
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastBossCollisionDamage >= BOSS_DAMAGE_COOLDOWN) {
-                    int damage = 10 + random.nextInt(11); // 10-20
-                    player.consumeDamage(damage);
-                    damagePopups.add(new DamagePopup(player.getX(), player.getY(), damage, Color.RED)); // สีเดียวกับศัตรู
-                    lastBossCollisionDamage = currentTime;
-                    System.out.println("Player hit by Boss collision! Damage: " + damage + " Health: " + player.getHealth());
-                    
-                    if (player.getHealth() <= 0) {
-                        System.out.println("Game Over! Final Score: " + score);
-                        gameRunning = false;
-                        
-                        // Handle Level 2 completion/high score
-                        if (currentLevel == 2) {
-                            handleLevel2GameOver();
-                        }
-                        
-                        // ลบ Player2 ออกเมื่อ Game Over
-                        if (coopMode && player2 != null) {
-                            player2 = null;
-                            coopMode = false;
-                        }
-                    }
-                }
-            }
-            
-            // Boss collision with player2 (co-op mode)
-            if (coopMode && player2 != null && boss.collidesWith(player2)) {
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastBossCollisionDamage >= BOSS_DAMAGE_COOLDOWN) {
-                    int damage = 10 + random.nextInt(11); // 10-20
-                    player2.consumeDamage(damage);
-                    damagePopups.add(new DamagePopup(player2.getX(), player2.getY(), damage, Color.RED));
-                    lastBossCollisionDamage = currentTime;
-                    System.out.println("Player 2 hit by Boss collision! Damage: " + damage + " Health: " + player2.getHealth());
-                    
-                    if (player2.getHealth() <= 0) {
-                        System.out.println("Player 2 destroyed!");
-                        player2 = null;
-                        coopMode = false;
-                        bullets2.clear();
-                    }
-                }
-            }
+        world.update(delta);
+        if (recording != null) {
+            recording.record(world.getTickInput());
         }
-        
-        // Update boss bullets
-        Iterator<BossBullet> bossBulletIterator = bossBullets.iterator();
-        while (bossBulletIterator.hasNext()) {
-            BossBullet bullet = bossBulletIterator.next();
-            // Find nearest player for homing bullets
-            if (coopMode && player2 != null) {
-                // Calculate distance to both players
-                double distToP1 = Math.sqrt(Math.pow(player.getX() - bullet.getX(), 2) + Math.pow(player.getY() - bullet.getY(), 2));
-                double distToP2 = Math.sqrt(Math.pow(player2.getX() - bullet.getX(), 2) + Math.pow(player2.getY() - bullet.getY(), 2));
-                
-                // Update towards closer player
-                if (distToP2 < distToP1) {
-                    bullet.update(player2);
-                } else {
-                    bullet.update(player);
-                }
-            } else {
-                bullet.update(player);
-            }
-            
-            // Check collision with player 1
-            if (bullet.collidesWith(player)) {
-                player.consumeDamage(bullet.getDamage());
-                damagePopups.add(new DamagePopup(player.getX(), player.getY(), bullet.getDamage(), Color.RED)); // สีเดียวกับศัตรู
-                bossBulletIterator.remove();
-                System.out.println("Player hit by boss bullet! Health: " + player.getHealth());
-                
-                if (player.getHealth() <= 0) {
-                    System.out.println("Game Over! Final Score: " + score);
-                    gameRunning = false;
-                    
-                    // Handle Level 2 completion/high score
-                    if (currentLevel == 2) {
-                        handleLevel2GameOver();
-                    }
-                    
-                    // ลบ Player2 ออกเมื่อ Game Over
-                    if (coopMode && player2 != null) {
-                        player2 = null;
-                        coopMode = false;
-                    }
-                }
-            } 
-            // Check collision with player 2 (co-op mode)
-            else if (coopMode && player2 != null && bullet.collidesWith(player2)) {
-                player2.consumeDamage(bullet.getDamage());
-                damagePopups.add(new DamagePopup(player2.getX(), player2.getY(), bullet.getDamage(), Color.RED));
-                bossBulletIterator.remove();
-                System.out.println("Player 2 hit by boss bullet! Health: " + player2.getHealth());
-                
-                if (player2.getHealth() <= 0) {
-                    System.out.println("Player 2 destroyed!");
-                    player2 = null;
-                    coopMode = false;
-                    bullets2.clear();
-                }
-            } 
-            else if (bullet.isOffScreen(WORLD_WIDTH, WORLD_HEIGHT)) {
-                bossBulletIterator.remove();
-            }
+        updateBGMFade();
+        if (playback != null && playbackTick == playback.getTicks()) {
+            finishPlayback();
         }
-        
-        // Update boss lasers
-        double dt = delta / 1000.0;
-        for (BossLaser laser : bossLasers) {
-            if (laser.isActive() && boss != null && !boss.isDead()) {
-                laser.updatePosition(boss.getX(), boss.getY());
-                laser.update(dt);
-                
-                // Boss laser damage to player 1 (17-30 per 0.5s)
-                if (laser.collidesWith(player)) {
-                    long currentTime = System.currentTimeMillis();
-                    if (currentTime - lastBossLaserDamage >= BOSS_DAMAGE_COOLDOWN) {
-                        int damage = 17 + random.nextInt(14); // 17-30
-                        player.consumeDamage(damage);
-                        damagePopups.add(new DamagePopup(player.getX(), player.getY(), damage, Color.RED)); // สีเดียวกับศัตรู
-                        lastBossLaserDamage = currentTime;
-                        System.out.println("Player hit by boss laser! Damage: " + damage + " Health: " + player.getHealth());
-                        
-                        if (player.getHealth() <= 0) {
-                            System.out.println("Game Over! Final Score: " + score);
-                            gameRunning = false;
-                            
-                            // Handle Level 2 completion/high score
-                            if (currentLevel == 2) {
-                                handleLevel2GameOver();
-                            }
-                            
-                            // ลบ Player2 ออกเมื่อ Game Over
-                            if (coopMode && player2 != null) {
-                                player2 = null;
-                                coopMode = false;
-                            }
-                        }
-                    }
-                }
-                
-                // Boss laser damage to player 2 (co-op mode)
-                if (coopMode && player2 != null && laser.collidesWith(player2)) {
-                    long currentTime = System.currentTimeMillis();
-                    if (currentTime - lastBossLaserDamage >= BOSS_DAMAGE_COOLDOWN) {
-                        int damage = 17 + random.nextInt(14); // 17-30
-                        player2.consumeDamage(damage);
-                        damagePopups.add(new DamagePopup(player2.getX(), player2.getY(), damage, Color.RED));
-                        lastBossLaserDamage = currentTime;
-                        System.out.println("Player 2 hit by boss laser! Damage: " + damage + " Health: " + player2.getHealth());
-                        
-                        if (player2.getHealth() <= 0) {
-                            System.out.println("Player 2 destroyed!");
-                            player2 = null;
-                            coopMode = false;
-                            bullets2.clear();
-                        }
-                    }
-                }
-            }
-        }
-        
-        // Check laser hits from TYPE1 enemies
-        for (Enemy enemy : enemies) {
-            if (enemy.getType() == Enemy.EnemyType.TYPE1) {
-                LaserBeam laser = enemy.getActiveLaser();
-                // Check player 1
-                if (laser != null && laser.hitsPlayer(player)) {
-                    int dmg = laser.getDamage();
-                    player.consumeDamage(dmg);
-                    damagePopups.add(new DamagePopup(player.getX(), player.getY(), dmg, Color.ORANGE));
-                    System.out.println("Player hit by laser! Health: " + player.getHealth() + " (damage: " + dmg + ")");
-                    
-                    if (player.getHealth() <= 0) {
-                        System.out.println("Game Over! Final Score: " + score);
-                        gameRunning = false;
-                        
-                        // Handle Level 2 completion/high score
-                        if (currentLevel == 2) {
-                            handleLevel2GameOver();
-                        }
-                        
-                        // ลบ Player2 ออกเมื่อ Game Over
-                        if (coopMode && player2 != null) {
-                            player2 = null;
-                            coopMode = false;
-                        }
-                    }
-                }
-                
-                // Check player 2 (co-op mode)
-                if (coopMode && player2 != null && laser != null && laser.hitsPlayer(player2)) {
-                    int dmg = laser.getDamage();
-                    player2.consumeDamage(dmg);
-                    damagePopups.add(new DamagePopup(player2.getX(), player2.getY(), dmg, Color.ORANGE));
-                    System.out.println("Player 2 hit by laser! Health: " + player2.getHealth() + " (damage: " + dmg + ")");
-                    
-                    if (player2.getHealth() <= 0) {
-                        System.out.println("Player 2 destroyed!");
-                        player2 = null;
-                        coopMode = false;
-                        bullets2.clear();
-                    }
-                }
-            }
+        if (!world.isGameRunning()) {
+            // Player died this tick
+            perfOverlay.exportIfVisible();
         }
-        
-        // Update damage popups
-        Iterator<DamagePopup> popupIterator = damagePopups.iterator();
-        while (popupIterator.hasNext()) {
-            DamagePopup popup = popupIterator.next();
-            popup.update(delta);
-            if (popup.isExpired()) {
-                popupIterator.remove();
-            }
+        if (!world.isGameRunning() || currentState == GameState.LEVEL1_WIN) {
+            saveRecording();
         }
-        
-        // Update explosion particles
-        Iterator<ExplosionParticle> particleIterator = explosionParticles.iterator();
-        while (particleIterator.hasNext()) {
-            ExplosionParticle particle = particleIterator.next();
-            particle.update();
-            if (particle.isExpired()) {
-                particleIterator.remove();
-            }
+    }
+    
+    // Runs on the game loop thread
+    @Override
+    public void render(double alpha) {
+        synchronized (simLock) {
+            // Under a time scale one step spans several loop ticks (or less than one), so place
+            // frames by the clock's progress through the step rather than the loop's
+            renderAlpha = simulating ? simClock.stepAlpha(alpha) : 1.0;
         }
-        
-        // Update boss death animation
-        if (bossDeathAnimationActive) {
-            long elapsed = System.currentTimeMillis() - bossDeathStartTime;
-            
-            // Continuously spawn explosion particles during death animation
-            for (int i = 0; i < 3; i++) { // Spawn 3 particles per frame
-                spawnBossExplosionParticle();
+        ActiveRenderSurface surface = renderSurface;
+        if (activeRendering && surface != null) {
+            if (!surface.renderFrame(framePainter)) {
+                requestRenderSurface();
             }
-            
-            // Fade boss sprite over 8 seconds
-            bossDeathAlpha = Math.max(0f, 1f - ((float)elapsed / (float)BOSS_DEATH_DURATION));
-            
-            // End animation after duration
-            if (elapsed >= BOSS_DEATH_DURATION) {
-                bossDeathAnimationActive = false;
-                boss = null; // Finally remove boss
-                
-                // Save player stats for level 2 (use the better stats from either player in co-op)
-                if (coopMode && player2 != null) {
-                    // In co-op mode, both players should have same stats, but just in case
-                    savedMaxHealth = Math.max(player.getMaxHealth(), player2.getMaxHealth());
-                    savedSpeed = Math.max(player.getSpeed(), player2.getSpeed());
-                    savedFireRate = Math.max(player.getFireRateRPM(), player2.getFireRateRPM());
-                } else {
-                    savedMaxHealth = player.getMaxHealth();
-                    savedSpeed = player.getSpeed();
-                    savedFireRate = player.getFireRateRPM();
-                }
-                savedSpacecraftType = player.getSpacecraftType();
-                
-                System.out.println("Stats saved for Level 2:");
-                System.out.println("  HP: " + savedMaxHealth);
-                System.out.println("  Speed: " + savedSpeed);
-                System.out.println("  Fire Rate: " + savedFireRate + " RPM");
-                System.out.println("  Spacecraft: " + savedSpacecraftType);
-                
-                // Transition to Level 1 Win Screen
-                currentState = GameState.LEVEL1_WIN;
-                level1Unlocked = true; // Unlock saved stats for next game
-                level2Unlocked = true; // Unlock Level 2 access
-                saveLevel2Progress(); // Save Level 2 unlock status
-                winAnimCurrentFrame = 0;
-                winAnimLastFrameTime = System.currentTimeMillis();
-                System.out.println("Level 1 Complete! Level 2 unlocked! Transitioning to win screen...");
-            }
-        }
-
-        
-        // Auto-shoot (adjusted for manual mode)
-        long currentFireRate = player.getFireRate();
-        if (manualControlMode) {
-            // 1.5x faster in manual mode
-            currentFireRate = (long) (currentFireRate / 1.5);
-        }
-        
-        if (System.currentTimeMillis() - player.getLastShotTime() > currentFireRate) {
-            shootBullet();
-            player.setLastShotTime(System.currentTimeMillis());
-            System.out.println("Bullet fired! Total bullets: " + bullets.size());
+        } else {
+            repaint();
         }
-        
-        // Player2 auto-shoot (if co-op mode active) - ยิงอัตโนมัติเหมือน player1
-        if (coopMode && player2 != null) {
-            long p2FireRate = player2.getFireRate();
-            if (manualControlMode) {
-                p2FireRate = (long) (p2FireRate / 1.5);
-            }
-            
-            if (System.currentTimeMillis() - player2.getLastShotTime() > p2FireRate) {
-                shootBulletPlayer2();
-                player2.setLastShotTime(System.currentTimeMillis());
+    }
+    
+    // Switch between passive (Swing repaint) and active (BufferStrategy) rendering; EDT only
+    private void applyRenderMode() {
+        if (activeRendering) {
+            if (renderSurface == null) {
+                renderSurface = new ActiveRenderSurface(ACTIVE_BUFFER_COUNT);
+                renderSurface.setSync(vsync);
+                renderSurface.addKeyListener(this);
+                add(renderSurface, BorderLayout.CENTER);
             }
+        } else if (renderSurface != null) {
+            remove(renderSurface);
+            renderSurface = null;
         }
-        
-        // Update power-ups
-        Iterator<PowerUp> powerUpIterator = powerUps.iterator();
-        while (powerUpIterator.hasNext()) {
-            PowerUp powerUp = powerUpIterator.next();
-            
-            // Check collision with player1
-            if (powerUp.collidesWith(player)) {
-                applyPowerUp(powerUp, player);
-                powerUpIterator.remove();
-                System.out.println("Player 1 collected power-up: " + powerUp.getType());
-            } 
-            // Check collision with player2 (co-op mode)
-            else if (coopMode && player2 != null && powerUp.collidesWith(player2)) {
-                applyPowerUp(powerUp, player2);
-                powerUpIterator.remove();
-                System.out.println("Player 2 collected power-up: " + powerUp.getType());
-            } 
-            else if (powerUp.isExpired()) {
-                powerUpIterator.remove();
+        revalidate();
+        repaint();
+        requestRenderSurface();
+    }
+    
+    // Ask the EDT to (re)create the buffer strategy and hand focus to the visible surface
+    private void requestRenderSurface() {
+        if (renderSurfaceRequested) return;
+        renderSurfaceRequested = true;
+        SwingUtilities.invokeLater(() -> {
+            renderSurfaceRequested = false;
+            if (renderSurface != null) {
+                renderSurface.ensureBufferStrategy();
+                renderSurface.requestFocusInWindow();
+            } else {
+                requestFocusInWindow();
             }
-        }
-        
-        // Increase difficulty over time
-        long currentElapsed = System.currentTimeMillis() - gameStartTime;
-        int newLevel = (int) (currentElapsed / 20000) + 1; // New level every 20 seconds
-        if (newLevel > level) {
-            level = newLevel;
-            System.out.println("Level up! Now at level: " + level);
-            
-            // Trigger Level Up screen
-            triggerLevelUpScreen();
-        }
-        enemySpawnRate = Math.max(200, 1000 - (level * 100)); // Faster spawning over time
+        });
     }
     
-    private void updateCamera() {
-        // Center camera on player
-        cameraX = player.getX() - SCREEN_WIDTH / 2;
-        cameraY = player.getY() - SCREEN_HEIGHT / 2;
-        
-        // Keep camera within world bounds
-        if (cameraX < 0) cameraX = 0;
-        if (cameraX > WORLD_WIDTH - SCREEN_WIDTH) cameraX = WORLD_WIDTH - SCREEN_WIDTH;
-        if (cameraY < 0) cameraY = 0;
-        if (cameraY > WORLD_HEIGHT - SCREEN_HEIGHT) cameraY = WORLD_HEIGHT - SCREEN_HEIGHT;
+    // Must be called with simLock held
+    private void publishSnapshot() {
+        fillingSnapshot.fill();
+        synchronized (snapshotLock) {
+            RenderSnapshot done = fillingSnapshot;
+            fillingSnapshot = readySnapshot;
+            readySnapshot = done;
+            snapshotReady = true;
+        }
     }
     
-    private void updatePlayerMovement() {
-        if (manualControlMode) {
-            // Manual mode: WASD = movement, Arrow keys = rotation
-            int dirX = 0, dirY = 0;
-            if (leftPressed) dirX -= 1;
-            if (rightPressed) dirX += 1;
-
-            if (upPressed) dirY -= 1;
-            if (downPressed) dirY += 1;
-
-            // Inform player of input direction
-            player.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
-            
-            // Arrow keys control rotation manually
-            if (arrowLeftPressed || arrowRightPressed || arrowUpPressed || arrowDownPressed) {
-                double targetAngle = player.getFacingAngle();
-                
-                // Calculate target angle from arrow keys
-                if (arrowUpPressed && !arrowDownPressed && !arrowLeftPressed && !arrowRightPressed) {
-                    targetAngle = -Math.PI / 2; // Up
-                } else if (arrowDownPressed && !arrowUpPressed && !arrowLeftPressed && !arrowRightPressed) {
-                    targetAngle = Math.PI / 2; // Down
-                } else if (arrowLeftPressed && !arrowRightPressed && !arrowUpPressed && !arrowDownPressed) {
-                    targetAngle = Math.PI; // Left
-                } else if (arrowRightPressed && !arrowLeftPressed && !arrowUpPressed && !arrowDownPressed) {
-                    targetAngle = 0; // Right
-                } else if (arrowUpPressed && arrowRightPressed) {
-                    targetAngle = -Math.PI / 4; // Up-Right
-                } else if (arrowUpPressed && arrowLeftPressed) {
-                    targetAngle = -3 * Math.PI / 4; // Up-Left
-                } else if (arrowDownPressed && arrowRightPressed) {
-                    targetAngle = Math.PI / 4; // Down-Right
-                } else if (arrowDownPressed && arrowLeftPressed) {
-                    targetAngle = 3 * Math.PI / 4; // Down-Left
-                }
-                
-                player.setFacingAngle(targetAngle);
+    // The newest snapshot for a frame; the loop never writes it while it is being painted
+    private RenderSnapshot takeSnapshot() {
+        synchronized (snapshotLock) {
+            if (snapshotReady) {
+                RenderSnapshot done = readySnapshot;
+                readySnapshot = paintingSnapshot;
+                paintingSnapshot = done;
+                snapshotReady = false;
             }
-        } else {
-            // Auto mode: WASD/Arrows = movement, auto-aim at enemies
-            int dirX = 0, dirY = 0;
-            if (leftPressed) dirX -= 1;
-            if (rightPressed) dirX += 1;
-
-            if (upPressed) dirY -= 1;
-            if (downPressed) dirY += 1;
-
-            // Inform player of input direction; actual movement integrated in Player.integrateMovement
-            player.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
+            return paintingSnapshot;
         }
     }
     
-    private void updatePlayer2Movement() {
-        if (player2 == null) return;
-        
-        // Player 2 controlled by arrow keys only (no Shift needed for movement)
-        int dirX = 0, dirY = 0;
-        if (arrowLeftPressed) dirX -= 1;
-        if (arrowRightPressed) dirX += 1;
-
-        if (arrowUpPressed) dirY -= 1;
-        if (arrowDownPressed) dirY += 1;
-
-        // Inform player2 of input direction
-        player2.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
-        
-        // Player2 uses same auto-aim as player1 in auto mode
-        // (rotation handled in player.update())
-    }
-    
-    private void handleBossAttacks(long delta) {
-        if (boss == null || boss.isDead()) return;
-        
-        Boss.AttackPhase phase = boss.getCurrentPhase();
-        
-        switch (phase) {
-            case BARRAGE:
-                // Shoot bullets in grid pattern toward player
-                if (boss.getBarrageTimer() >= boss.getBarrageShotInterval()) {
-                    int bx = (int)boss.getX();
-                    int by = (int)boss.getY();
-                    int px = player.getX();
-                    int py = player.getY();
-                    
-                    // Create 3 bullets in a horizontal line
-                    int spacing = 40;
-                    for (int i = -1; i <= 1; i++) {
-                        int offsetX = i * spacing;
-                        bossBullets.add(new BossBullet(
-                            bx + offsetX, by, 
-                            px + offsetX * 2, py, 
-                            15, 
-                            Color.ORANGE
-                        ));
-                    }
-                    
-                    boss.resetBarrageTimer();
-                    boss.incrementBarrageShots();
-                    System.out.println("Boss barrage shot #" + boss.getBarrageShots());
-                }
-                break;
-                
-            case LASER_SPIN:
-                // Create 6 lasers if not yet created
-                if (!bossLasersCreated) {
-                    bossLasers.clear();
-                    for (int i = 0; i < 6; i++) {
-                        double angle = (Math.PI * 2 / 6) * i;
-                        BossLaser laser = new BossLaser(
-                            boss.getX(), boss.getY(),
-                            angle,
-                            3000, // ยาวเท่าแมพ (WORLD_WIDTH)
-                            25,   // damage เพิ่มเป็น 17-30/0.5s (avg ~23.5)
-                            Color.CYAN,
-                            boss.getHitboxRadius() // ใช้ hitbox ของบอส
-                        );
-                        bossLasers.add(laser);
-                    }
-                    
-                    // Random rotation direction
-                    laserRotationDirection = random.nextBoolean() ? 1.0 : -1.0;
-                    System.out.println("Boss lasers created, rotation: " + (laserRotationDirection > 0 ? "clockwise" : "counter-clockwise"));
-                    bossLasersCreated = true;
-                }
-                
-                // Start rotation after 2 second warmup
-                for (BossLaser laser : bossLasers) {
-                    if (laser.isWarmedUp() && !laser.equals(bossLasers.get(0))) {
-                        // Check if rotation already started
-                    }
-                    if (laser.isWarmedUp()) {
-                        double rotationSpeed = laserRotationDirection * Math.toRadians(30); // 30 deg/s
-                        laser.startRotation(rotationSpeed);
-                    }
-                }
-                break;
-                
-            case HOMING:
-                // Fire 3 homing bullets around boss every 2 seconds
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastHomingBulletSpawn >= HOMING_SPAWN_INTERVAL) {
-                    // Spawn 3 bullets in circle around boss
-                    for (int i = 0; i < 3; i++) {
-                        double spawnAngle = (Math.PI * 2 / 3) * i; // 120 degrees apart
-                        double spawnDist = 50; // ระยะจากบอส
-                        double spawnX = boss.getX() + Math.cos(spawnAngle) * spawnDist;
-                        double spawnY = boss.getY() + Math.sin(spawnAngle) * spawnDist;
-                        
-                        bossBullets.add(new BossBullet(
-                            spawnX, spawnY,
-                            10, // damage
-                            Color.YELLOW,
-                            true, // isHoming
-                            1    // maxRedirects
-                        ));
-                    }
-                    lastHomingBulletSpawn = currentTime;
-                    System.out.println("Boss fired 3 homing bullets!");
-                }
-                break;
-        }
+    // BGM fade-out before the boss arrives (skip in Easter Egg mode)
+    private void updateBGMFade() {
+        long elapsedTime = world.now() - world.getGameStartTime();
+        long timeUntilBoss = World.BOSS_SPAWN_TIME - elapsedTime;
+        boolean bossSpawned = world.isBossSpawned();
         
-        // Clear lasers when not in laser phase
-        if (phase != Boss.AttackPhase.LASER_SPIN && bossLasersCreated) {
-            bossLasers.clear();
-            bossLasersCreated = false;
+        // Start fading out 10 seconds before boss (only in normal mode)
+        if (easterEggMode == 0 && !bossSpawned && !isFadingOut && timeUntilBoss <= FADE_START_BEFORE_BOSS && timeUntilBoss > 0) {
+            isFadingOut = true;
+            // Fade runs sample-accurately on the music thread; decode the boss track's start meanwhile
+            musicPlayer.prebuffer(BOSS_BGM_PATH);
+            musicPlayer.fadeOut(FADE_DURATION);
+            Log.info(Log.Category.AUDIO, "Starting BGM fade-out (10 seconds before boss)");
         }
     }
     
-    private void spawnEnemy() {
-        // Spawn enemies around the camera view (off screen)
-        int side = random.nextInt(4); // 0=top, 1=right, 2=bottom, 3=left
-        int x, y;
-        
-        switch (side) {
-            case 0: // Top
-                x = cameraX + random.nextInt(SCREEN_WIDTH);
-                y = cameraY - 50;
-                break;
-            case 1: // Right
-                x = cameraX + SCREEN_WIDTH + 50;
-                y = cameraY + random.nextInt(SCREEN_HEIGHT);
-                break;
-            case 2: // Bottom
-                x = cameraX + random.nextInt(SCREEN_WIDTH);
-                y = cameraY + SCREEN_HEIGHT + 50;
-                break;
-            default: // Left
-                x = cameraX - 50;
-                y = cameraY + random.nextInt(SCREEN_HEIGHT);
-                break;
-        }
-        
-        // Make sure enemy is within world bounds
-        if (x >= 0 && x < WORLD_WIDTH && y >= 0 && y < WORLD_HEIGHT) {
-            // Count current TYPE1 enemies
-            int type1Count = 0;
-            for (Enemy e : enemies) {
-                if (e.getType() == Enemy.EnemyType.TYPE1) {
-                    type1Count++;
-                }
-            }
-            
-            // Weighted random: TYPE1 rare (5%), TYPE3 common (80%), TYPE2 (15%)
-            int roll = random.nextInt(100);
-            Enemy.EnemyType type;
-            if (roll < 5 && type1Count < type1MaxCap) { // 5% chance and cap not reached
-                type = Enemy.EnemyType.TYPE1;
-            } else if (roll < 20) { // 15% TYPE2
-                type = Enemy.EnemyType.TYPE2;
-            } else { // 80% TYPE3
-                type = Enemy.EnemyType.TYPE3;
-            }
-            // Use player's visible sprite size (player draws at 2x hitbox)
-            int playerSpriteW = player.getWidth() * 2;
-            int playerSpriteH = player.getHeight() * 2;
-            Enemy spawned = new Enemy(x, y, type, playerSpriteW, playerSpriteH);
-            enemies.add(spawned);
-            System.out.println("Spawned enemy type=" + type + " size=" + spawned.getWidth() + "x" + spawned.getHeight() + " (TYPE1 count: " + (type == Enemy.EnemyType.TYPE1 ? type1Count + 1 : type1Count) + "/" + type1MaxCap + ")");
+    // World.Listener callbacks, invoked from world.update() on the loop thread with simLock held
+    @Override
+    public void bossSpawned() {
+        // Play boss music (only in normal mode)
+        if (easterEggMode == 0) {
+            playBossBGM();
         }
     }
     
-    private void spawnBoss() {
-        System.out.println("=== BOSS SPAWNED ===");
-        // Spawn boss near player
-        int spawnX = (int)(player.getX() + 200 + random.nextDouble() * 300); // ด้านขวา player 200-500 px
-        int spawnY = (int)(player.getY() - 200 + random.nextDouble() * 400); // บนหรือล่าง player ±200 px
-        
-        // จำกัดให้อยู่ในขอบเขตแมพ
-        spawnX = Math.max(100, Math.min(WORLD_WIDTH - 100, spawnX));
-        spawnY = Math.max(100, Math.min(WORLD_HEIGHT - 100, spawnY));
-        
-        boss = new Boss(spawnX, spawnY);
+    @Override
+    public void levelUp(int newLevel) {
+        // A replay already carries the pick in its recorded input
+        if (playback != null) return;
+        // Trigger Level Up screen
+        triggerLevelUpScreen();
     }
     
-    private void toggleCoopMode() {
-        coopMode = !coopMode;
-        
-        if (coopMode) {
-            // เปิด co-op mode: สร้าง player2 ด้านซ้ายของ player1 โดยมีสเตทเท่ากับ player1
-            int p1Type = player.getSpacecraftType();
-            int p1MaxHP = player.getMaxHealth();
-            int p1Speed = player.getSpeed();
-            int p1Firerate = player.getFireRateRPM(); // shots per minute
-            
-            // Player 2 มีสเตทเท่ากับ player 1 ทุกอย่าง
-            int p2HP = p1MaxHP;
-            int p2Speed = p1Speed;
-            int p2Firerate = p1Firerate;
-            
-            // Spawn player2 ห่างจาก player1 50px ทางซ้าย
-            // Use custom Player 2 sprite based on spacecraft type
-            String p2Sprite = null;
-            switch (p1Type) {
-                case 0: // Large spacecraft
-                    p2Sprite = "Spacecraft-LargeP2.png";
-                    break;
-                case 1: // Medium spacecraft
-                    p2Sprite = "Spacecraft-MediumP2.png";
-                    break;
-                case 2: // Small spacecraft
-                    p2Sprite = "spacecraftP2.png";
-                    break;
-            }
-            
-            player2 = new Player((int)player.getX() - 50, (int)player.getY(), 
-                                p1Type, p2HP, p2Speed, p2Firerate, p2Sprite);
-            
-            System.out.println("Co-op mode: ON (Player 2 created with same stats as Player 1)");
+    @Override
+    public void level1Complete() {
+        if (playback != null) {
+            // Show the win screen without touching saved progress
+            currentState = GameState.LEVEL1_WIN;
+            winAnimCurrentFrame = 0;
+            winAnimLastFrameTime = System.currentTimeMillis();
+            return;
+        }
+        Player player = world.getPlayer();
+        Player player2 = world.getPlayer2();
+        // Save player stats for level 2 (use the better stats from either player in co-op)
+        if (world.isCoopMode() && player2 != null) {
+            // In co-op mode, both players should have same stats, but just in case
+            savedMaxHealth = Math.max(player.getMaxHealth(), player2.getMaxHealth());
+            savedSpeed = Math.max(player.getSpeed(), player2.getSpeed());
+            savedFireRate = Math.max(player.getFireRateRPM(), player2.getFireRateRPM());
         } else {
-            // ปิด co-op mode: รวม player2 กลับเข้า player1
-            player2 = null;
-            bullets2.clear();
-            System.out.println("Co-op mode: OFF (Player 2 removed)");
+            savedMaxHealth = player.getMaxHealth();
+            savedSpeed = player.getSpeed();
+            savedFireRate = player.getFireRateRPM();
         }
-    }
-    
-    private void spawnBossExplosionParticle() {
-        // Spawn explosion particles around boss death location (similar to old system)
-        int spread = 60;
-        int px = bossFinalX + random.nextInt(spread) - spread/2;
-        int py = bossFinalY + random.nextInt(spread) - spread/2;
+        savedSpacecraftType = player.getSpacecraftType();
         
-        explosionParticles.add(new ExplosionParticle(px, py));
-    }
-    
-    private void spawnBossEnemies() {
-        // Spawn 5-10 enemies, รวมทั้งสามประเภท, TYPE1 สูงสุด 2 ตัว
-        int totalEnemies = 5 + random.nextInt(6); // 5-10
-        int type1Count = 0;
-        int maxType1 = 2;
+        Log.info(Log.Category.SETTINGS, "Stats saved for Level 2:");
+        Log.info(Log.Category.SETTINGS, "  HP: " + savedMaxHealth);
+        Log.info(Log.Category.SETTINGS, "  Speed: " + savedSpeed);
+        Log.info(Log.Category.SETTINGS, "  Fire Rate: " + savedFireRate + " RPM");
+        Log.info(Log.Category.SETTINGS, "  Spacecraft: " + savedSpacecraftType);
         
-        System.out.println("Boss spawning " + totalEnemies + " enemies!");
+        perfOverlay.exportIfVisible();
         
-        for (int i = 0; i < totalEnemies; i++) {
-            // สุ่มประเภท (0=TYPE1, 1=TYPE2, 2=TYPE3)
-            int typeChoice;
-            if (type1Count >= maxType1) {
-                // ถ้า TYPE1 ครบแล้ว สุ่มเฉพาะ TYPE2 หรือ TYPE3
-                typeChoice = 1 + random.nextInt(2); // 1 หรือ 2
-            } else {
-                typeChoice = random.nextInt(3); // 0, 1, หรือ 2
-            }
-            
-            Enemy.EnemyType type;
-            switch (typeChoice) {
-                case 0:
-                    type = Enemy.EnemyType.TYPE1;
-                    type1Count++;
-                    break;
-                case 1:
-                    type = Enemy.EnemyType.TYPE2;
-                    break;
-                default:
-                    type = Enemy.EnemyType.TYPE3;
-                    break;
-            }
-            
-            // สุ่มตำแหน่ง spawn รอบๆ boss
-            double angle = random.nextDouble() * Math.PI * 2;
-            double distance = 150 + random.nextDouble() * 100; // 150-250 px จาก boss
-            int spawnX = (int)(boss.getX() + Math.cos(angle) * distance);
-            int spawnY = (int)(boss.getY() + Math.sin(angle) * distance);
-            
-            // จำกัดให้อยู่ในขอบเขตแมพ
-            spawnX = Math.max(30, Math.min(WORLD_WIDTH - 30, spawnX));
-            spawnY = Math.max(30, Math.min(WORLD_HEIGHT - 30, spawnY));
-            
-            enemies.add(new Enemy(spawnX, spawnY, type));
-        }
-        
-        System.out.println("Spawned: TYPE1=" + type1Count + ", Total=" + totalEnemies);
+        // Transition to Level 1 Win Screen
+        currentState = GameState.LEVEL1_WIN;
+        level1Unlocked = true; // Unlock saved stats for next game
+        level2Unlocked = true; // Unlock Level 2 access
+        saveLevel2Progress(); // Save Level 2 unlock status
+        winAnimCurrentFrame = 0;
+        winAnimLastFrameTime = System.currentTimeMillis();
+        Log.info(Log.Category.GAME, "Level 1 Complete! Level 2 unlocked! Transitioning to win screen...");
     }
     
-    private void shootEnemyBullets(Enemy enemy) {
-        int ex = enemy.getX();
-        int ey = enemy.getY();
-        int px = player.getX();
-        int py = player.getY();
-        
-        switch (enemy.getType()) {
-            case TYPE1:
-                // Start laser charging
-                enemy.startLaser(px, py);
-                System.out.println("Enemy TYPE1 started laser charging!");
-                break;
-            case TYPE3:
-                // Shoot 1 bullet toward player
-                enemyBullets.add(new EnemyBullet(ex, ey, px, py));
-                System.out.println("Enemy TYPE3 fired 1 bullet! Total: " + enemyBullets.size());
-                break;
-                
-            case TYPE2:
-                // Shoot 6 bullets in circle pattern, each accelerating toward player
-                for (int i = 0; i < 6; i++) {
-                    double angle = (Math.PI * 2.0 / 6.0) * i;
-                    enemyBullets.add(new EnemyBullet(ex, ey, angle, px, py));
-                }
-                System.out.println("Enemy TYPE2 fired 6 bullets! Total: " + enemyBullets.size());
-                break;
-        }
+    @Override
+    public void level2GameOver() {
+        handleLevel2GameOver();
     }
     
-    private void shootBullet() {
-        if (manualControlMode) {
-            // Manual mode: shoot in facing direction with 1.5x damage
-            double fireAngle = player.getFacingAngle();
-            double fireSpeed = 10.0;
-            double damageMultiplier = 1.5;
-            Bullet bullet = new Bullet(player.getX(), player.getY(), fireAngle, fireSpeed, damageMultiplier);
-            bullet.setColor(new Color(0, 191, 255)); // สีฟ้า (Deep Sky Blue - RGB)
-            bullets.add(bullet);
-            // Play sound after creating bullet
-            playBulletSound();
-        } else {
-            // Auto mode: aim at nearest target (enemy or boss)
-            Object nearestTarget = null;
-            double nearestDistance = Double.MAX_VALUE;
-            
-            // Check enemies
-            for (Enemy enemy : enemies) {
-                double distance = Math.sqrt(Math.pow(enemy.getX() - player.getX(), 2) + 
-                                         Math.pow(enemy.getY() - player.getY(), 2));
-                if (distance < nearestDistance) {
-                    nearestDistance = distance;
-                    nearestTarget = enemy;
-                }
-            }
-            
-            // Check boss
-            if (boss != null && !boss.isDead()) {
-                double distance = Math.sqrt(Math.pow(boss.getX() - player.getX(), 2) + 
-                                         Math.pow(boss.getY() - player.getY(), 2));
-                if (distance < nearestDistance) {
-                    nearestDistance = distance;
-                    nearestTarget = boss;
+    @Override
+    public void playerShot(Player shooter) {
+        playBulletSound(shooter);
+    }
+    
+    /**
+     * Pool statistics, one line per pooled type
+     */
+    public String getPoolStats() {
+        synchronized (simLock) {
+            return world.getPoolStats();
+        }
+    }
+    
+    /**
+     * Copy of everything a frame draws, taken at the end of a tick.
+     * Filled on the loop thread while simLock is held, into entity copies
+     * that are reused from tick to tick, so nothing is allocated per tick once
+     * the lists have grown. A frame only paints a snapshot the loop is no
+     * longer filling (see takeSnapshot()), so it never sees a position half
+     * way through an update or a pooled object that has been handed out again.
+     */
+    private final class RenderSnapshot {
+        boolean filled = false;
+        GameState state;
+        long now;
+        boolean gameRunning;
+        int cameraX, cameraY;
+        int prevCameraX, prevCameraY;
+        Player player; // playerCopy, or null before the first game
+        Player player2; // player2Copy, or null outside co-op
+        boolean coopMode;
+        boolean manualControlMode;
+        // Sprite lists are drawn grouped by atlas page so each page's texture is drawn in one run
+        final CopyList<Enemy> enemies = new CopyList<>(Enemy::new, Enemy::copyFrom, Enemy::getAtlasPage);
+        final CopyList<Bullet> bullets = new CopyList<>(Bullet::new, Bullet::copyFrom, Bullet::getAtlasPage);
+        final CopyList<Bullet> bullets2 = new CopyList<>(Bullet::new, Bullet::copyFrom, Bullet::getAtlasPage);
+        final CopyList<EnemyBullet> enemyBullets = new CopyList<>(EnemyBullet::new, EnemyBullet::copyFrom, EnemyBullet::getAtlasPage);
+        final CopyList<BossBullet> bossBullets = new CopyList<>(BossBullet::new, BossBullet::copyFrom, BossBullet::getAtlasPage);
+        final CopyList<BossLaser> bossLasers = new CopyList<>(BossLaser::new, BossLaser::copyFrom, null);
+        final CopyList<PowerUp> powerUps = new CopyList<>(PowerUp::new, PowerUp::copyFrom, null);
+        final CopyList<DamagePopup> damagePopups = new CopyList<>(DamagePopup::new, DamagePopup::copyFrom, null);
+        ParticleSystem.View particles;
+        Boss boss; // bossCopy, or null when no boss is on the field
+        boolean bossDeathAnimationActive;
+        float bossDeathAlpha;
+        boolean bossSpawned;
+        int score;
+        int level;
+        int currentLevel;
+        long gameStartTime;
+        
+        private final Player playerCopy = new Player();
+        private final Player player2Copy = new Player();
+        private final Boss bossCopy = new Boss();
+        
+        void fill() {
+            state = currentState;
+            now = world.now();
+            gameRunning = world.isGameRunning();
+            cameraX = world.getCameraX();
+            cameraY = world.getCameraY();
+            prevCameraX = world.getPrevCameraX();
+            prevCameraY = world.getPrevCameraY();
+            Player livePlayer = world.getPlayer();
+            player = livePlayer == null ? null : playerCopy.copyFrom(livePlayer);
+            Player livePlayer2 = world.getPlayer2();
+            player2 = livePlayer2 == null ? null : player2Copy.copyFrom(livePlayer2);
+            coopMode = world.isCoopMode();
+            manualControlMode = world.isManualControlMode();
+            enemies.fill(world.getEnemies());
+            bullets.fill(world.getBullets());
+            bullets2.fill(world.getBullets2());
+            enemyBullets.fill(world.getEnemyBullets());
+            bossBullets.fill(world.getBossBullets());
+            bossLasers.fill(world.getBossLasers());
+            powerUps.fill(world.getPowerUps());
+            damagePopups.fill(world.getDamagePopups());
+            if (particles == null) particles = world.getParticles().newView();
+            world.getParticles().publish(particles);
+            Boss liveBoss = world.getBoss();
+            boss = liveBoss == null ? null : bossCopy.copyFrom(liveBoss);
+            bossDeathAnimationActive = world.isBossDeathAnimationActive();
+            bossDeathAlpha = world.getBossDeathAlpha();
+            bossSpawned = world.isBossSpawned();
+            score = world.getScore();
+            level = world.getLevel();
+            currentLevel = SpaceGame.this.currentLevel;
+            gameStartTime = world.getGameStartTime();
+            filled = true;
+        }
+    }
+    
+    /**
+     * Render copies of one entity list, reused from tick to tick. The loop
+     * thread fills them; the frame that paints them puts them in draw order.
+     */
+    private static final class CopyList<T> {
+        private final Supplier<T> blank;
+        private final BiConsumer<T, T> copy; // (copy, live)
+        private final ToIntFunction<T> page; // atlas page of a copy, or null to keep list order
+        private final ArrayList<T> copies = new ArrayList<>();
+        private final ArrayList<T> drawOrder = new ArrayList<>();
+        private int count = 0;
+        private boolean ordered = false;
+        private int[] pages = new int[0];
+        private int[] pageStart = new int[4];
+        
+        CopyList(Supplier<T> blank, BiConsumer<T, T> copy, ToIntFunction<T> page) {
+            this.blank = blank;
+            this.copy = copy;
+            this.page = page;
+        }
+        
+        // Loop thread: copy the live list
+        void fill(List<? extends T> live) {
+            count = 0;
+            if (live != null) {
+                for (int i = 0, n = live.size(); i < n; i++) {
+                    if (count == copies.size()) copies.add(blank.get());
+                    copy.accept(copies.get(count++), live.get(i));
                 }
             }
-            
-            if (nearestTarget != null) {
-                double targetX, targetY;
-                if (nearestTarget instanceof Enemy) {
-                    Enemy enemy = (Enemy) nearestTarget;
-                    targetX = enemy.getX();
-                    targetY = enemy.getY();
-                } else {
-                    Boss bossTarget = (Boss) nearestTarget;
-                    targetX = bossTarget.getX();
-                    targetY = bossTarget.getY();
-                }
-                
-                // Compute desired angle and set as player's target facing
-                double desiredAngle = Math.atan2(targetY - player.getY(), targetX - player.getX());
-                player.setFacingAngle(desiredAngle);
-
-                // Fire using current facingAngle with Blue color (RGB)
-                double fireAngle = player.getFacingAngle();
-                double fireSpeed = 10.0;
-                Bullet bullet = new Bullet(player.getX(), player.getY(), fireAngle, fireSpeed);
-                bullet.setColor(new Color(0, 191, 255)); // สีฟ้า (Deep Sky Blue - RGB)
-                bullets.add(bullet);
-                // Play sound after creating bullet
-                playBulletSound();
-            }
+            ordered = false;
         }
-    }
-    
-    private void shootBulletPlayer2() {
-        if (player2 == null) return;
         
-        // Player2 always uses auto-aim (same as player1 in auto mode)
-        Object nearestTarget = null;
-        double nearestDistance = Double.MAX_VALUE;
-        
-        // Check enemies
-        for (Enemy enemy : enemies) {
-            double distance = Math.sqrt(Math.pow(enemy.getX() - player2.getX(), 2) + 
-                                     Math.pow(enemy.getY() - player2.getY(), 2));
-            if (distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestTarget = enemy;
+        // Painting thread: the copies in the order to draw them
+        List<T> drawList() {
+            if (!ordered) {
+                order();
+                ordered = true;
             }
+            return drawOrder;
         }
         
-        // Check boss
-        if (boss != null && !boss.isDead()) {
-            double distance = Math.sqrt(Math.pow(boss.getX() - player2.getX(), 2) + 
-                                     Math.pow(boss.getY() - player2.getY(), 2));
-            if (distance < nearestDistance) {
-                nearestDistance = distance;
-                nearestTarget = boss;
-            }
-        }
-        
-        if (nearestTarget != null) {
-            double targetX, targetY;
-            if (nearestTarget instanceof Enemy) {
-                Enemy enemy = (Enemy) nearestTarget;
-                targetX = enemy.getX();
-                targetY = enemy.getY();
-            } else {
-                Boss bossTarget = (Boss) nearestTarget;
-                targetX = bossTarget.getX();
-                targetY = bossTarget.getY();
-            }
-            
-            // Compute desired angle and set as player2's target facing
-            double desiredAngle = Math.atan2(targetY - player2.getY(), targetX - player2.getX());
-            player2.setFacingAngle(desiredAngle);
-
-            // Fire using current facingAngle with Pink-Red color (RGB)
-            double fireAngle = player2.getFacingAngle();
-            double fireSpeed = 10.0;
-            Bullet bullet = new Bullet(player2.getX(), player2.getY(), fireAngle, fireSpeed);
-            bullet.setColor(new Color(255, 38, 71)); // สีแดงออกชมพู (RGB)
-            bullets2.add(bullet);
-            // Play sound after creating bullet
-            playBulletSound();
-        }
-    }
-    
-    private void applyPowerUp(PowerUp powerUp, Player targetPlayer) {
-        // In co-op mode, apply power-up to both players
-        if (coopMode && player2 != null) {
-            switch (powerUp.getType()) {
-                case HEALTH:
-                    player.heal(20);
-                    player2.heal(20);
-                    System.out.println("Co-op: Both players healed +20 HP");
-                    break;
-                case SPEED:
-                    player.increaseSpeed(1);
-                    player2.increaseSpeed(1);
-                    System.out.println("Co-op: Both players speed +1");
-                    break;
-                case FIRE_RATE:
-                    player.increaseFireRate(50);
-                    player2.increaseFireRate(50);
-                    System.out.println("Co-op: Both players fire rate +50");
-                    break;
+        // Counting sort by atlas page (pages are only known on the painting thread, which renders
+        // missing frames); stable, so list order is kept within a page
+        private void order() {
+            drawOrder.clear();
+            if (page == null) {
+                for (int i = 0; i < count; i++) drawOrder.add(copies.get(i));
+                return;
             }
-        } else {
-            // Single player mode - apply only to target
-            switch (powerUp.getType()) {
-                case HEALTH:
-                    targetPlayer.heal(20);
-                    break;
-                case SPEED:
-                    targetPlayer.increaseSpeed(1);
-                    break;
-                case FIRE_RATE:
-                    targetPlayer.increaseFireRate(50);
-                    break;
+            if (pages.length < count) pages = new int[copies.size()];
+            int maxPage = 0;
+            for (int i = 0; i < count; i++) {
+                int p = page.applyAsInt(copies.get(i)) + 1; // -1 (placeholder, no atlas) sorts first
+                pages[i] = p;
+                if (p > maxPage) maxPage = p;
             }
+            if (pageStart.length < maxPage + 2) pageStart = new int[maxPage + 2];
+            Arrays.fill(pageStart, 0, maxPage + 2, 0);
+            for (int i = 0; i < count; i++) pageStart[pages[i] + 1]++;
+            for (int p = 1; p <= maxPage + 1; p++) pageStart[p] += pageStart[p - 1];
+            for (int i = 0; i < count; i++) drawOrder.add(null);
+            for (int i = 0; i < count; i++) drawOrder.set(pageStart[pages[i]]++, copies.get(i));
         }
     }
     
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        // In active mode the canvas covers the panel and is drawn by the loop thread
+        if (activeRendering) return;
+        paintFrame((Graphics2D) g, getWidth(), getHeight());
+        if (vsync) Toolkit.getDefaultToolkit().sync();
+    }
+    
+    // Shared by both render paths: paintComponent (EDT) and ActiveRenderSurface (loop thread)
+    private void paintFrame(Graphics2D g2d, int panelWidth, int panelHeight) {
+        RenderSnapshot s = takeSnapshot();
+        if (!s.filled) return;
+        long paintStart = System.nanoTime();
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Apply scaling and centering if in fullscreen mode
         if (fullscreen) {
-            int panelWidth = getWidth();
-            int panelHeight = getHeight();
             
             // Calculate scale to fit screen while maintaining aspect ratio
             double scaleX = (double) panelWidth / SCREEN_WIDTH;
@@ -1644,7 +690,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             g2d.scale(scale, scale);
         }
         
-        switch (currentState) {
+        switch (s.state) {
             case MENU:
                 drawMainMenu(g2d);
                 break;
@@ -1661,9 +707,9 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 drawExitConfirm(g2d);
                 break;
             case GAME:
-                if (gameRunning) {
+                if (s.gameRunning) {
                     // Set background color based on current level (before camera transform)
-                    if (currentLevel == 2) {
+                    if (s.currentLevel == 2) {
                         // Level 2: Dark red background (#2b0400)
                         g2d.setColor(level2BackgroundColor);
                         g2d.fillRect(-150, 0, SCREEN_WIDTH + 300, SCREEN_HEIGHT);
@@ -1673,153 +719,24 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                         g2d.fillRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
                     }
                     
-                    // Apply camera transformation
-                    g2d.translate(-cameraX, -cameraY);
-                    
-                    // Draw stars background
-                    drawStars(g2d);
-                    
-                    // Draw game objects in world space
-                    player.draw(g2d);
-                    
-                    // Draw player2 if co-op mode active
-                    if (coopMode && player2 != null) {
-                        player2.draw(g2d);
-                    }
-                    
-                    for (Enemy enemy : enemies) {
-                        enemy.draw(g2d);
-                    }
-                    
-                    for (Bullet bullet : bullets) {
-                        bullet.draw(g2d);
-                    }
-                    
-                    // Draw player2 bullets if co-op mode active
-                    if (coopMode && player2 != null) {
-                        for (Bullet bullet : bullets2) {
-                            bullet.draw(g2d);
-                        }
-                    }
-                    
-                    for (EnemyBullet enemyBullet : enemyBullets) {
-                        enemyBullet.draw(g2d);
-                    }
-                    
-                    // Draw boss bullets
-                    for (BossBullet bossBullet : bossBullets) {
-                        bossBullet.draw(g2d);
-                    }
-                    
-                    // Draw boss lasers
-                    for (BossLaser laser : bossLasers) {
-                        laser.draw(g2d);
-                    }
-                    
-                    for (PowerUp powerUp : powerUps) {
-                        powerUp.draw(g2d);
-                    }
-                    
-                    // Draw Boss (with fade effect if dying)
-                    if (boss != null) {
-                        if (bossDeathAnimationActive) {
-                            // Draw fading boss during death animation
-                            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, bossDeathAlpha));
-                            boss.draw(g2d);
-                            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-                        } else if (!boss.isDead()) {
-                            boss.draw(g2d);
-                        }
-                    }
-                    
-                    // Draw damage popups
-                    for (DamagePopup popup : damagePopups) {
-                        popup.draw(g2d);
-                    }
-                    
-                    // Draw explosion particles
-                    for (ExplosionParticle particle : explosionParticles) {
-                        particle.draw(g2d);
-                    }
-                    
-                    // Reset camera transformation for UI
-                    g2d.translate(cameraX, cameraY);
+                    drawWorld(g2d, s, panelWidth, panelHeight);
                     
                     // Draw UI (in screen space)
-                    drawUI(g2d);
+                    drawUI(g2d, s);
                 } else {
                     // Game over - draw stars background (no camera offset)
                     drawStars(g2d);
                     // Draw game over screen in screen space (no translation needed)
-                    drawGameOver(g2d);
+                    drawGameOver(g2d, s);
                 }
                 break;
             
             case PAUSED:
                 // Draw game in background (frozen)
-                if (gameRunning || !gameRunning) { // Draw regardless
-                    AffineTransform old = g2d.getTransform();
-                    g2d.translate(-cameraX, -cameraY);
-                    
-                    // Draw stars background
-                    drawStars(g2d);
-                    
-                    // Draw game objects in world space
-                    player.draw(g2d);
-                    
-                    for (Enemy enemy : enemies) {
-                        enemy.draw(g2d);
-                    }
-                    
-                    for (Bullet bullet : bullets) {
-                        bullet.draw(g2d);
-                    }
-                    
-                    for (EnemyBullet enemyBullet : enemyBullets) {
-                        enemyBullet.draw(g2d);
-                    }
-                    
-                    // Draw boss bullets
-                    for (BossBullet bossBullet : bossBullets) {
-                        bossBullet.draw(g2d);
-                    }
-                    
-                    // Draw boss lasers
-                    for (BossLaser laser : bossLasers) {
-                        laser.draw(g2d);
-                    }
-                    
-                    for (PowerUp powerUp : powerUps) {
-                        powerUp.draw(g2d);
-                    }
-                    
-                    // Draw Boss (with fade effect if dying)
-                    if (boss != null) {
-                        if (bossDeathAnimationActive) {
-                            // Draw fading boss during death animation
-                            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, bossDeathAlpha));
-                            boss.draw(g2d);
-                            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-                        } else if (!boss.isDead()) {
-                            boss.draw(g2d);
-                        }
-                    }
-                    
-                    // Draw damage popups
-                    for (DamagePopup popup : damagePopups) {
-                        popup.draw(g2d);
-                    }
-                    
-                    // Draw explosion particles
-                    for (ExplosionParticle particle : explosionParticles) {
-                        particle.draw(g2d);
-                    }
-                    
-                    g2d.setTransform(old);
-                }
+                drawWorld(g2d, s, panelWidth, panelHeight);
                 
                 // Draw dark overlay
-                g2d.setColor(new Color(0, 0, 0, 150));
+                g2d.setColor(OVERLAY_COLOR);
                 g2d.fillRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
                 
                 // Draw pause menu
@@ -1828,265 +745,341 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 
             case LEVEL1_WIN:
                 // Draw game in background (frozen)
-                if (gameRunning || !gameRunning) { // Draw regardless
-                    AffineTransform old = g2d.getTransform();
-                    g2d.translate(-cameraX, -cameraY);
-                    
-                    // Draw stars background
-                    drawStars(g2d);
-                    
-                    // Draw game objects in world space
-                    player.draw(g2d);
-                    
-                    if (coopMode && player2 != null) {
-                        player2.draw(g2d);
-                    }
-                    
-                    for (Enemy enemy : enemies) {
-                        enemy.draw(g2d);
-                    }
-                    
-                    for (Bullet bullet : bullets) {
-                        bullet.draw(g2d);
-                    }
-                    
-                    for (EnemyBullet enemyBullet : enemyBullets) {
-                        enemyBullet.draw(g2d);
-                    }
-                    
-                    for (PowerUp powerUp : powerUps) {
-                        powerUp.draw(g2d);
-                    }
-                    
-                    // Draw damage popups
-                    for (DamagePopup popup : damagePopups) {
-                        popup.draw(g2d);
-                    }
-                    
-                    // Draw explosion particles
-                    for (ExplosionParticle particle : explosionParticles) {
-                        particle.draw(g2d);
-                    }
-                    
-                    g2d.setTransform(old);
-                }
-                
-                // Draw dark overlay
-                g2d.setColor(new Color(0, 0, 0, 150));
-                g2d.fillRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
-                
-                // Draw Level 1 Win Screen
-                drawLevel1WinScreen(g2d);
-                break;
-            
-            case LEVEL_UP:
-                // Draw game in background (frozen)
-                if (gameRunning || !gameRunning) { // Draw regardless
-                    AffineTransform old = g2d.getTransform();
-                    g2d.translate(-cameraX, -cameraY);
-                    
-                    // Draw stars background
-                    drawStars(g2d);
-                    
-                    // Draw game objects in world space
-                    player.draw(g2d);
-                    
-                    if (coopMode && player2 != null) {
-                        player2.draw(g2d);
-                    }
-                    
-                    for (Enemy enemy : enemies) {
-                        enemy.draw(g2d);
-                    }
-                    
-                    for (Bullet bullet : bullets) {
-                        bullet.draw(g2d);
-                    }
-                    
-                    for (EnemyBullet enemyBullet : enemyBullets) {
-                        enemyBullet.draw(g2d);
-                    }
-                    
-                    for (PowerUp powerUp : powerUps) {
-                        powerUp.draw(g2d);
-                    }
-                    
-                    if (boss != null && !boss.isDead()) {
-                        boss.draw(g2d);
-                    }
-                    
-                    g2d.setTransform(old);
-                }
+                drawWorld(g2d, s, panelWidth, panelHeight);
                 
                 // Draw dark overlay
-                g2d.setColor(new Color(0, 0, 0, 180));
+                g2d.setColor(OVERLAY_COLOR);
+                g2d.fillRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+                
+                // Draw Level 1 Win Screen
+                drawLevel1WinScreen(g2d, s);
+                break;
+            
+            case LEVEL_UP:
+                // Draw game in background (frozen)
+                drawWorld(g2d, s, panelWidth, panelHeight);
+                
+                // Draw dark overlay
+                g2d.setColor(DARK_OVERLAY_COLOR);
                 g2d.fillRect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
                 
                 // Draw Level Up Screen
-                drawLevelUpScreen(g2d);
+                drawLevelUpScreen(g2d, s);
                 break;
         }
+        perfOverlay.recordFrame(System.nanoTime() - paintStart);
     }
     
-    private void drawStars(Graphics2D g2d) {
-        // Draw simple stars that are always visible
-        g2d.setColor(Color.WHITE);
+    // Draw all game objects in world space from a snapshot, using the interpolated camera.
+    // Objects outside the visible area are skipped; beams are clipped to it.
+    private void drawWorld(Graphics2D g2d, RenderSnapshot s, int panelWidth, int panelHeight) {
+        if (s.player == null) return;
         
-        for (int i = 0; i < STAR_COUNT; i++) {
-            // Stars in world coordinates (will be affected by camera transform)
-            int size = starZ[i];
-            if (size == 1) {
-                g2d.setColor(Color.GRAY);
-            } else if (size == 2) {
-                g2d.setColor(Color.LIGHT_GRAY); 
-            } else {
-                g2d.setColor(Color.WHITE);
+        double alpha = renderAlpha;
+        int camX = (int) Math.round(s.prevCameraX + (s.cameraX - s.prevCameraX) * alpha);
+        int camY = (int) Math.round(s.prevCameraY + (s.cameraY - s.prevCameraY) * alpha);
+        
+        // Draw stars background (parallax layers, in screen space)
+        starField.draw(g2d, camX, camY);
+        
+        AffineTransform old = g2d.getTransform();
+        Shape oldClip = g2d.getClip();
+        // Apply camera transformation
+        g2d.translate(-camX, -camY);
+        ViewCuller view = viewCuller;
+        // Clipping to the whole visible area changes nothing on screen; lasers use it to trim their beams
+        g2d.clip(view.begin(g2d, panelWidth, panelHeight, camX, camY, SCREEN_WIDTH, SCREEN_HEIGHT));
+        
+        // Draw game objects in world space, each part way between its last two tick positions
+        drawInterpolated(g2d, s.player, s.player.getX(), s.player.getY(), alpha);
+        
+        // Draw player2 if co-op mode active
+        if (s.coopMode && s.player2 != null) {
+            drawInterpolated(g2d, s.player2, s.player2.getX(), s.player2.getY(), alpha);
+        }
+        
+        for (Enemy enemy : s.enemies.drawList()) {
+            // An enemy with a laser is kept: the beam crosses the screen from off-screen
+            if (enemy.getActiveLaser() != null
+                    || view.isVisible(enemy.getX(), enemy.getY(), Math.max(enemy.getWidth(), enemy.getHeight()) / 2 + 12)) {
+                drawInterpolated(g2d, enemy, enemy.getX(), enemy.getY(), alpha);
+            }
+        }
+        
+        for (Bullet bullet : s.bullets.drawList()) {
+            if (view.isVisible(bullet.getX(), bullet.getY(), bullet.getDrawLength() + 2)) {
+                drawInterpolated(g2d, bullet, bullet.getX(), bullet.getY(), alpha);
+            }
+        }
+        
+        // Draw player2 bullets if co-op mode active
+        if (s.coopMode && s.player2 != null) {
+            for (Bullet bullet : s.bullets2.drawList()) {
+                if (view.isVisible(bullet.getX(), bullet.getY(), bullet.getDrawLength() + 2)) {
+                    drawInterpolated(g2d, bullet, bullet.getX(), bullet.getY(), alpha);
+                }
+            }
+        }
+        
+        for (EnemyBullet enemyBullet : s.enemyBullets.drawList()) {
+            if (view.isVisible(enemyBullet.getX(), enemyBullet.getY(), enemyBullet.getDrawLength() + 2)) {
+                drawInterpolated(g2d, enemyBullet, enemyBullet.getX(), enemyBullet.getY(), alpha);
+            }
+        }
+        
+        // Draw boss bullets (homing glow reaches 1.5x the radius)
+        for (BossBullet bossBullet : s.bossBullets.drawList()) {
+            if (view.isVisible(bossBullet.getX(), bossBullet.getY(), Math.max(8, bossBullet.getRadius() * 1.5))) {
+                drawInterpolated(g2d, bossBullet, bossBullet.getX(), bossBullet.getY(), alpha);
+            }
+        }
+        
+        // Draw boss lasers (they start at the boss, so they move with it)
+        int bossLagX = s.boss == null ? 0 : lag(s.boss.getPrevX(), s.boss.getX(), alpha);
+        int bossLagY = s.boss == null ? 0 : lag(s.boss.getPrevY(), s.boss.getY(), alpha);
+        g2d.translate(bossLagX, bossLagY);
+        for (BossLaser laser : s.bossLasers.drawList()) {
+            laser.draw(g2d);
+        }
+        g2d.translate(-bossLagX, -bossLagY);
+        
+        for (PowerUp powerUp : s.powerUps.drawList()) {
+            if (view.isVisible(powerUp.getX(), powerUp.getY(), 12)) {
+                powerUp.draw(g2d);
+            }
+        }
+        
+        // Draw Boss (with fade effect if dying); health bar and phase text sit outside the sprite
+        if (s.boss != null && view.isVisible(s.boss.getX(), s.boss.getY(), s.boss.getWidth() / 2 + 60)) {
+            if (s.bossDeathAnimationActive) {
+                // Draw fading boss during death animation
+                g2d.setComposite(UiResources.alpha(s.bossDeathAlpha));
+                drawInterpolated(g2d, s.boss, s.boss.getX(), s.boss.getY(), alpha);
+                g2d.setComposite(AlphaComposite.SrcOver);
+            } else if (!s.boss.isDead()) {
+                drawInterpolated(g2d, s.boss, s.boss.getX(), s.boss.getY(), alpha);
+            }
+        }
+        
+        // Draw damage popups
+        for (DamagePopup popup : s.damagePopups.drawList()) {
+            if (view.isVisible(popup.getX(), popup.getY(), 30)) {
+                popup.draw(g2d, s.now);
             }
-            g2d.fillOval(starX[i], starY[i], size, size);
         }
+        
+        // Draw explosion particles
+        s.particles.draw(g2d, view, alpha);
+        
+        // Reset camera transformation for UI
+        g2d.setClip(oldClip);
+        g2d.setTransform(old);
+        perfOverlay.recordCulling(view.getDrawn(), view.getCulled());
     }
     
-    private void drawUI(Graphics2D g2d) {
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
+    // Draw at the interpolated position by shifting the current one; whole pixels keep sprite blits on the fast path
+    private static void drawInterpolated(Graphics2D g2d, Interpolated object, double x, double y, double alpha) {
+        int dx = lag(object.getPrevX(), x, alpha);
+        int dy = lag(object.getPrevY(), y, alpha);
+        if (dx == 0 && dy == 0) {
+            object.draw(g2d);
+            return;
+        }
+        g2d.translate(dx, dy);
+        object.draw(g2d);
+        g2d.translate(-dx, -dy);
+    }
+    
+    // How far behind its current position an object is drawn at this alpha
+    private static int lag(double previous, double current, double alpha) {
+        return (int) Math.round((previous - current) * (1.0 - alpha));
+    }
+    
+    // Screen-space background for menus (camera at the world origin)
+    private void drawStars(Graphics2D g2d) {
+        starField.draw(g2d, 0, 0);
+    }
+    
+    private void drawUI(Graphics2D g2d, RenderSnapshot s) {
+        // Repaint the cached HUD only when something it shows has changed
+        if (hudLayer.needsRepaint(hudState(s))) {
+            Graphics2D hud = hudLayer.beginRepaint(g2d);
+            drawHud(hud, s);
+            hudLayer.endRepaint(hud);
+        }
+        hudLayer.draw(g2d, 0, 0);
         
-        if (coopMode && player2 != null) {
+        if (perfOverlay.isVisible()) {
+            perfOverlay.draw(g2d, SCREEN_WIDTH, SCREEN_HEIGHT);
+        }
+    }
+    
+    // Everything drawHud() reads, as ints; filled into a reused array
+    private int[] hudState(RenderSnapshot s) {
+        int[] st = hudState;
+        boolean coop = s.coopMode && s.player2 != null;
+        st[0] = coop ? 1 : 0;
+        st[1] = s.score;
+        st[2] = s.level;
+        st[3] = s.currentLevel;
+        st[4] = s.bossSpawned ? -1 : bossSecondsLeft(s);
+        st[5] = s.player.getHealth();
+        st[6] = s.player.getMaxHealth();
+        st[7] = s.player.getShieldCurrent();
+        st[8] = s.player.getShieldMax();
+        st[9] = specialCooldownSeconds(s, s.player);
+        st[10] = coop ? specialCooldownSeconds(s, s.player2) : 0;
+        st[11] = s.manualControlMode ? 1 : 0;
+        return st;
+    }
+    
+    private static int bossSecondsLeft(RenderSnapshot s) {
+        long elapsedMs = s.now - s.gameStartTime;
+        long remainingMs = Math.max(0, World.BOSS_SPAWN_TIME - elapsedMs);
+        return (int)(remainingMs / 1000);
+    }
+    
+    // Whole seconds until the special is ready again (0 = ready)
+    private static int specialCooldownSeconds(RenderSnapshot s, Player player) {
+        long remaining = Math.max(0, player.getSpecialCooldownMs() - (s.now - player.getLastSpecialUseTime()));
+        return (int) Math.ceil(remaining / 1000.0);
+    }
+    
+    private void drawHud(Graphics2D g2d, RenderSnapshot s) {
+        if (s.coopMode && s.player2 != null) {
             // Co-op mode: แสดง UI ทั้ง 2 players แบบเหมือนกัน
             // Player 1 UI - ซ้ายบน
-            drawPlayerUI(g2d, player, 10, true, "Player 1 (WASD)", "F");
+            drawPlayerUI(g2d, s, s.player, 10, true, "Player 1 (WASD)", "F");
             
             // Player 2 UI - ขวาบน (copy มาจาก Player 1)
-            drawPlayerUI(g2d, player2, SCREEN_WIDTH - 220, false, "Player 2 (Arrows)", "R-Shift");
+            drawPlayerUI(g2d, s, s.player2, SCREEN_WIDTH - 220, false, "Player 2 (Arrows)", "R-Shift");
             
-            // Timer countdown (กลาง) - Only for Level 1
-            if (currentLevel == 1) {
-                long elapsedMs = System.currentTimeMillis() - gameStartTime;
-                long remainingMs = Math.max(0, BOSS_SPAWN_TIME - elapsedMs);
-                int remainingSeconds = (int)(remainingMs / 1000);
-                int minutes = remainingSeconds / 60;
-                int seconds = remainingSeconds % 60;
-                
-                if (!bossSpawned) {
-                    g2d.setColor(Color.CYAN);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                    String timerText = String.format("Boss in: %d:%02d", minutes, seconds);
-                    g2d.drawString(timerText, SCREEN_WIDTH / 2 - 70, 25);
-                } else {
-                    g2d.setColor(Color.RED);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                    g2d.drawString("BOSS FIGHT!", SCREEN_WIDTH / 2 - 60, 25);
-                }
-            } else if (currentLevel == 2) {
-                // Level 2: Show "Endless Mode" instead of timer
-                g2d.setColor(Color.ORANGE);
-                g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                g2d.drawString("ENDLESS MODE", SCREEN_WIDTH / 2 - 80, 25);
-            }
+            drawLevelBanner(g2d, s);
         } else {
             // Solo mode: แสดง UI แบบเดิม
             // ข้อมูลด้านซ้ายบน (Player 1)
-            g2d.drawString("Score: " + score, 10, 25);
-            g2d.drawString("Level: " + level, 10, 45);
-            g2d.drawString("Health: " + player.getHealth(), 10, 65);
-            
-            // Timer countdown - Only for Level 1
-            if (currentLevel == 1) {
-                long elapsedMs = System.currentTimeMillis() - gameStartTime;
-                long remainingMs = Math.max(0, BOSS_SPAWN_TIME - elapsedMs);
-                int remainingSeconds = (int)(remainingMs / 1000);
-                int minutes = remainingSeconds / 60;
-                int seconds = remainingSeconds % 60;
-                
-                if (!bossSpawned) {
-                    g2d.setColor(Color.CYAN);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                    String timerText = String.format("Boss in: %d:%02d", minutes, seconds);
-                    g2d.drawString(timerText, SCREEN_WIDTH / 2 - 70, 25);
-                } else {
-                    g2d.setColor(Color.RED);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                    g2d.drawString("BOSS FIGHT!", SCREEN_WIDTH / 2 - 60, 25);
-                }
-            } else if (currentLevel == 2) {
-                // Level 2: Show "Endless Mode" instead of timer
-                g2d.setColor(Color.ORANGE);
-                g2d.setFont(new Font("Arial", Font.BOLD, 18));
-                g2d.drawString("ENDLESS MODE", SCREEN_WIDTH / 2 - 80, 25);
-            }
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
-            g2d.setColor(Color.WHITE);
-            
-            // Health bar (scale based on player's max health)
+            int x = 10;
+            x += GlyphCache.drawText(g2d, "Score: ", HUD_FONT, Color.WHITE, x, 25);
+            GlyphCache.drawNumber(g2d, s.score, HUD_FONT, Color.WHITE, x, 25);
+            x = 10;
+            x += GlyphCache.drawText(g2d, "Level: ", HUD_FONT, Color.WHITE, x, 45);
+            GlyphCache.drawNumber(g2d, s.level, HUD_FONT, Color.WHITE, x, 45);
+            x = 10;
+            x += GlyphCache.drawText(g2d, "Health: ", HUD_FONT, Color.WHITE, x, 65);
+            GlyphCache.drawNumber(g2d, s.player.getHealth(), HUD_FONT, Color.WHITE, x, 65);
+            
+            drawLevelBanner(g2d, s);
+            
+            // Health bar (scale based on s.player's max health)
             int hbX = 10;
             int hbY = 75;
             int hbW = 200;
             int hbH = 10;
             g2d.setColor(Color.RED);
-            int healthW = (int) Math.round(((double)player.getHealth() / (double)player.getMaxHealth()) * hbW);
+            int healthW = (int) Math.round(((double)s.player.getHealth() / (double)s.player.getMaxHealth()) * hbW);
             g2d.fillRect(hbX, hbY, healthW, hbH);
             g2d.setColor(Color.WHITE);
             g2d.drawRect(hbX, hbY, hbW, hbH);
 
             // Shield bar (draw only while shield currently > 0)
-            if (player.getShieldCurrent() > 0 && player.getShieldMax() > 0) {
+            if (s.player.getShieldCurrent() > 0 && s.player.getShieldMax() > 0) {
                 int sx = 10;
                 int sy = 90;
                 int sw = 200;
                 int sh = 8;
                 g2d.setColor(Color.BLUE);
-                int shieldW = (int) Math.round(((double)player.getShieldCurrent() / (double)player.getShieldMax()) * sw);
+                int shieldW = (int) Math.round(((double)s.player.getShieldCurrent() / (double)s.player.getShieldMax()) * sw);
                 g2d.fillRect(sx, sy, shieldW, sh);
                 g2d.setColor(Color.WHITE);
                 g2d.drawRect(sx, sy, sw, sh);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-                g2d.drawString("Shield: " + player.getShieldCurrent() + "/" + player.getShieldMax(), sx + sw + 6, sy + sh);
+                drawShieldText(g2d, s.player, Color.WHITE, sx + sw + 6, sy + sh);
             }
 
             // Special cooldown display
-            long lastUse = player.getLastSpecialUseTime();
-            long cd = player.getSpecialCooldownMs();
-            long now = System.currentTimeMillis();
-            long remaining = Math.max(0, cd - (now - lastUse));
-            int cooldownSeconds = (int) Math.ceil(remaining / 1000.0);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-            g2d.setColor(remaining > 0 ? Color.GRAY : Color.GREEN);
-            g2d.drawString("Special (F): " + (remaining > 0 ? (cooldownSeconds + "s") : "Ready"), 10, 115);
+            drawSpecialText(g2d, s, s.player, "F", Color.GREEN, 10, 115);
             
             // Manual mode indicator
-            if (manualControlMode) {
-                g2d.setColor(Color.YELLOW);
-                g2d.setFont(new Font("Arial", Font.BOLD, 16));
-                g2d.drawString("MANUAL MODE", 10, 140);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-                g2d.setColor(Color.ORANGE);
-                g2d.drawString("WASD: Move | Arrows: Aim", 10, 155);
-                g2d.drawString("Damage x1.5 | Fire Rate x1.5", 10, 170);
+            if (s.manualControlMode) {
+                GlyphCache.drawText(g2d, "MANUAL MODE", HUD_FONT, Color.YELLOW, 10, 140);
+                GlyphCache.drawText(g2d, "WASD: Move | Arrows: Aim", HUD_SMALL_FONT, Color.ORANGE, 10, 155);
+                GlyphCache.drawText(g2d, "Damage x1.5 | Fire Rate x1.5", HUD_SMALL_FONT, Color.ORANGE, 10, 170);
+            } else {
+                GlyphCache.drawText(g2d, "Press M for Manual Mode", HUD_SMALL_FONT, Color.CYAN, 10, 140);
+            }
+        }
+        g2d.setColor(Color.WHITE);
+    }
+    
+    // Top-centre banner: boss countdown on level 1, endless mode on level 2
+    private void drawLevelBanner(Graphics2D g2d, RenderSnapshot s) {
+        if (s.currentLevel == 1) {
+            // Timer countdown - Only for Level 1
+            int remainingSeconds = bossSecondsLeft(s);
+            int minutes = remainingSeconds / 60;
+            int seconds = remainingSeconds % 60;
+            
+            if (!s.bossSpawned) {
+                // "Boss in: m:ss"
+                int x = SCREEN_WIDTH / 2 - 70;
+                x += GlyphCache.drawText(g2d, "Boss in: ", BANNER_FONT, Color.CYAN, x, 25);
+                x += GlyphCache.drawNumber(g2d, minutes, BANNER_FONT, Color.CYAN, x, 25);
+                x += GlyphCache.drawText(g2d, seconds < 10 ? ":0" : ":", BANNER_FONT, Color.CYAN, x, 25);
+                GlyphCache.drawNumber(g2d, seconds, BANNER_FONT, Color.CYAN, x, 25);
             } else {
-                g2d.setColor(Color.CYAN);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-                g2d.drawString("Press M for Manual Mode", 10, 140);
+                GlyphCache.drawText(g2d, "BOSS FIGHT!", BANNER_FONT, Color.RED, SCREEN_WIDTH / 2 - 60, 25);
             }
+        } else if (s.currentLevel == 2) {
+            // Level 2: Show "Endless Mode" instead of timer
+            GlyphCache.drawText(g2d, "ENDLESS MODE", BANNER_FONT, Color.ORANGE, SCREEN_WIDTH / 2 - 80, 25);
+        }
+    }
+    
+    // "Shield: current/max"
+    private void drawShieldText(Graphics2D g2d, Player player, Color color, int x, int y) {
+        x += GlyphCache.drawText(g2d, "Shield: ", HUD_SMALL_FONT, color, x, y);
+        x += GlyphCache.drawNumber(g2d, player.getShieldCurrent(), HUD_SMALL_FONT, color, x, y);
+        x += GlyphCache.drawText(g2d, "/", HUD_SMALL_FONT, color, x, y);
+        GlyphCache.drawNumber(g2d, player.getShieldMax(), HUD_SMALL_FONT, color, x, y);
+    }
+    
+    // "Special (key): Ns" while cooling down, "Special (key): Ready" after
+    private void drawSpecialText(Graphics2D g2d, RenderSnapshot s, Player player, String specialKey, Color readyColor, int x, int y) {
+        int cooldownSeconds = specialCooldownSeconds(s, player);
+        Color color = cooldownSeconds > 0 ? Color.GRAY : readyColor;
+        x += GlyphCache.drawText(g2d, "Special (", HUD_SPECIAL_FONT, color, x, y);
+        x += GlyphCache.drawText(g2d, specialKey, HUD_SPECIAL_FONT, color, x, y);
+        x += GlyphCache.drawText(g2d, "): ", HUD_SPECIAL_FONT, color, x, y);
+        if (cooldownSeconds > 0) {
+            x += GlyphCache.drawNumber(g2d, cooldownSeconds, HUD_SPECIAL_FONT, color, x, y);
+            GlyphCache.drawText(g2d, "s", HUD_SPECIAL_FONT, color, x, y);
+        } else {
+            GlyphCache.drawText(g2d, "Ready", HUD_SPECIAL_FONT, color, x, y);
         }
     }
     
-    // Helper method to draw UI for one player
-    private void drawPlayerUI(Graphics2D g2d, Player displayPlayer, int startX, boolean isLeft, String playerName, String specialKey) {
-        Color mainColor = isLeft ? Color.WHITE : new Color(255, 105, 180); // ขาว หรือ ชมพู
-        Color healthBarColor = isLeft ? Color.RED : new Color(255, 50, 100);
+    // Helper method to draw UI for one s.player
+    private void drawPlayerUI(Graphics2D g2d, RenderSnapshot s, Player displayPlayer, int startX, boolean isLeft, String playerName, String specialKey) {
+        Color mainColor = isLeft ? Color.WHITE : PLAYER2_UI_COLOR; // ขาว หรือ ชมพู
+        Color healthBarColor = isLeft ? Color.RED : PLAYER2_HEALTH_COLOR;
         Color shieldBarColor = Color.BLUE;
         Color specialReadyColor = Color.GREEN;
         
         // In co-op mode, always show Player 1's health/shield (shared)
-        Player statsPlayer = player; // Always use player1 for health/shield stats
-        
-        g2d.setColor(mainColor);
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
+        Player statsPlayer = s.player; // Always use player1 for health/shield stats
         
         // Player name & stats
-        g2d.drawString(playerName, startX, 25);
-        g2d.drawString("Score: " + score, startX, 45);
-        g2d.drawString("Level: " + level, startX, 65);
-        g2d.drawString("HP: " + statsPlayer.getHealth() + "/" + statsPlayer.getMaxHealth(), startX, 85);
+        GlyphCache.drawText(g2d, playerName, HUD_FONT, mainColor, startX, 25);
+        int x = startX;
+        x += GlyphCache.drawText(g2d, "Score: ", HUD_FONT, mainColor, x, 45);
+        GlyphCache.drawNumber(g2d, s.score, HUD_FONT, mainColor, x, 45);
+        x = startX;
+        x += GlyphCache.drawText(g2d, "Level: ", HUD_FONT, mainColor, x, 65);
+        GlyphCache.drawNumber(g2d, s.level, HUD_FONT, mainColor, x, 65);
+        x = startX;
+        x += GlyphCache.drawText(g2d, "HP: ", HUD_FONT, mainColor, x, 85);
+        x += GlyphCache.drawNumber(g2d, statsPlayer.getHealth(), HUD_FONT, mainColor, x, 85);
+        x += GlyphCache.drawText(g2d, "/", HUD_FONT, mainColor, x, 85);
+        GlyphCache.drawNumber(g2d, statsPlayer.getMaxHealth(), HUD_FONT, mainColor, x, 85);
         
         // Health bar
         int hbX = startX;
@@ -2110,20 +1103,12 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             g2d.fillRect(sx, sy, shieldW, sh);
             g2d.setColor(mainColor);
             g2d.drawRect(sx, sy, sw, sh);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-            g2d.drawString("Shield: " + statsPlayer.getShieldCurrent() + "/" + statsPlayer.getShieldMax(), sx, sy + sh + 12);
-        }
-        
-        // Special cooldown (use the actual player's cooldown)
-        long lastUse = displayPlayer.getLastSpecialUseTime();
-        long cd = displayPlayer.getSpecialCooldownMs();
-        long now = System.currentTimeMillis();
-        long remaining = Math.max(0, cd - (now - lastUse));
-        int cooldownSeconds = (int) Math.ceil(remaining / 1000.0);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-        g2d.setColor(remaining > 0 ? Color.GRAY : specialReadyColor);
+            drawShieldText(g2d, statsPlayer, mainColor, sx, sy + sh + 12);
+        }
+        
+        // Special cooldown (use the actual s.player's cooldown)
         int specialY = (statsPlayer.getShieldCurrent() > 0) ? 135 : 125;
-        g2d.drawString("Special (" + specialKey + "): " + (remaining > 0 ? (cooldownSeconds + "s") : "Ready"), startX, specialY);
+        drawSpecialText(g2d, s, displayPlayer, specialKey, specialReadyColor, startX, specialY);
         
         g2d.setColor(Color.WHITE);
     }
@@ -2134,7 +1119,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(UiResources.font(Font.BOLD, 48));
         FontMetrics titleFm = g2d.getFontMetrics();
     String title = "Beyond the Red Eclipse: Exodus";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
@@ -2142,14 +1127,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw subtitle
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.ITALIC, 16));
+        g2d.setFont(UiResources.font(Font.ITALIC, 16));
         FontMetrics subtitleFm = g2d.getFontMetrics();
         String subtitle = "...";
         int subtitleX = (SCREEN_WIDTH - subtitleFm.stringWidth(subtitle)) / 2;
         g2d.drawString(subtitle, subtitleX, 180);
         
         // Draw menu options
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(UiResources.font(Font.BOLD, 24));
         FontMetrics menuFm = g2d.getFontMetrics();
         
         for (int i = 0; i < mainMenuOptions.length; i++) {
@@ -2165,13 +1150,13 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         // Draw saved stats indicator if level 1 completed
         if (level1Unlocked && savedMaxHealth > 0) {
             g2d.setColor(Color.GREEN);
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
+            g2d.setFont(UiResources.font(Font.BOLD, 16));
             FontMetrics statsFm = g2d.getFontMetrics();
             String statsTitle = "Level 1 Completed - Saved Stats:";
             int statsX = (SCREEN_WIDTH - statsFm.stringWidth(statsTitle)) / 2;
             g2d.drawString(statsTitle, statsX, 440);
             
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+            g2d.setFont(UiResources.font(Font.PLAIN, 14));
             FontMetrics detailFm = g2d.getFontMetrics();
             String statsDetail = "HP: " + savedMaxHealth + " | Speed: " + savedSpeed + " | Fire Rate: " + savedFireRate + " RPM";
             int detailX = (SCREEN_WIDTH - detailFm.stringWidth(statsDetail)) / 2;
@@ -2185,7 +1170,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
     g2d.drawString("Use ↑↓ to navigate, ENTER to select/change, ESC to go back", 10, SCREEN_HEIGHT - 20);
     }
     
@@ -2195,14 +1180,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(UiResources.font(Font.BOLD, 48));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "SELECT LEVEL";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
         g2d.drawString(title, titleX, 150);
         
         // Draw level options
-        g2d.setFont(new Font("Arial", Font.BOLD, 32));
+        g2d.setFont(UiResources.font(Font.BOLD, 32));
         FontMetrics levelFm = g2d.getFontMetrics();
         
         // Level 1
@@ -2217,7 +1202,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         }
         
         // Level 1 description
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(UiResources.font(Font.PLAIN, 16));
         FontMetrics descFm = g2d.getFontMetrics();
         g2d.setColor(Color.GRAY);
         String level1Desc = "Fight enemies and defeat the boss";
@@ -2225,7 +1210,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         g2d.drawString(level1Desc, level1DescX, 310);
         
         // Level 2
-        g2d.setFont(new Font("Arial", Font.BOLD, 32));
+        g2d.setFont(UiResources.font(Font.BOLD, 32));
         String level2Text = "Level 2 - Endless Mode";
         int level2X = (SCREEN_WIDTH - levelFm.stringWidth(level2Text)) / 2;
         
@@ -2234,7 +1219,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             g2d.setColor(Color.DARK_GRAY);
             g2d.drawString("🔒 " + level2Text, (SCREEN_WIDTH - levelFm.stringWidth("🔒 " + level2Text)) / 2, 380);
             
-            g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+            g2d.setFont(UiResources.font(Font.PLAIN, 16));
             g2d.setColor(Color.RED);
             String lockedMsg = "Complete Level 1 to unlock";
             int lockedX = (SCREEN_WIDTH - descFm.stringWidth(lockedMsg)) / 2;
@@ -2250,7 +1235,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             }
             
             // Level 2 description
-            g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+            g2d.setFont(UiResources.font(Font.PLAIN, 16));
             g2d.setColor(Color.GRAY);
             String level2Desc = "Survive endless waves - No boss - High score mode";
             int level2DescX = (SCREEN_WIDTH - descFm.stringWidth(level2Desc)) / 2;
@@ -2258,8 +1243,8 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             
             // High score
             if (level2HighScore > 0) {
-                g2d.setColor(new Color(255, 215, 0)); // Gold color
-                g2d.setFont(new Font("Arial", Font.BOLD, 18));
+                g2d.setColor(GOLD_COLOR);
+                g2d.setFont(UiResources.font(Font.BOLD, 18));
                 String highScoreText = "High Score: " + level2HighScore;
                 int highScoreX = (SCREEN_WIDTH - g2d.getFontMetrics().stringWidth(highScoreText)) / 2;
                 g2d.drawString(highScoreText, highScoreX, 440);
@@ -2268,7 +1253,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
         g2d.drawString("Use ↑↓ to navigate, ENTER to select, ESC to go back", 10, SCREEN_HEIGHT - 20);
     }
     
@@ -2278,14 +1263,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 36));
+        g2d.setFont(UiResources.font(Font.BOLD, 36));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "OPTIONS";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
         g2d.drawString(title, titleX, 150);
         
         // Draw options
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setFont(UiResources.font(Font.BOLD, 20));
         FontMetrics optionsFm = g2d.getFontMetrics();
         
         for (int i = 0; i < optionsMenuItems.length; i++) {
@@ -2300,8 +1285,8 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-        g2d.drawString("Use ↑↓ to navigate, ←→ to adjust volume, ENTER to toggle fullscreen, ESC to back", 10, SCREEN_HEIGHT - 20);
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
+        g2d.drawString("Use ↑↓ to navigate, ←→ to adjust, ENTER to toggle, ESC to back", 10, SCREEN_HEIGHT - 20);
     }
     
     private void drawExitConfirm(Graphics2D g2d) {
@@ -2310,14 +1295,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw confirmation message
         g2d.setColor(Color.RED);
-        g2d.setFont(new Font("Arial", Font.BOLD, 32));
+        g2d.setFont(UiResources.font(Font.BOLD, 32));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "EXIT GAME?";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
         g2d.drawString(title, titleX, SCREEN_HEIGHT / 2 - 50);
         
         // Draw options
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(UiResources.font(Font.BOLD, 24));
         FontMetrics optionsFm = g2d.getFontMetrics();
         
         String[] exitOptions = {"Yes", "No"};
@@ -2333,21 +1318,21 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
         g2d.drawString("Use ↑↓ to navigate, ENTER to confirm, ESC to cancel", 10, SCREEN_HEIGHT - 20);
     }
     
     private void drawPauseMenu(Graphics2D g2d) {
         // Draw title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(UiResources.font(Font.BOLD, 48));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "PAUSED";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
         g2d.drawString(title, titleX, SCREEN_HEIGHT / 2 - 100);
         
         // Draw options
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(UiResources.font(Font.BOLD, 24));
         FontMetrics optionsFm = g2d.getFontMetrics();
         
         for (int i = 0; i < pauseMenuOptions.length; i++) {
@@ -2362,11 +1347,11 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
         g2d.drawString("Use ↑↓ to navigate, ENTER to select, ESC to resume", 10, SCREEN_HEIGHT - 20);
     }
     
-    private void drawLevel1WinScreen(Graphics2D g2d) {
+    private void drawLevel1WinScreen(Graphics2D g2d, RenderSnapshot s) {
         // Update animation frame
         long currentTime = System.currentTimeMillis();
         if (currentTime - winAnimLastFrameTime >= WIN_ANIM_FRAME_DURATION) {
@@ -2380,7 +1365,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             int animHeight = 200;
             int animX = (SCREEN_WIDTH - animWidth) / 2;
             int animY = SCREEN_HEIGHT / 2 - 270;
-            g2d.drawImage(winAnimFrames[winAnimCurrentFrame], animX, animY, animWidth, animHeight, null);
+            winAnimFrames[winAnimCurrentFrame].draw(g2d, animX, animY, animWidth, animHeight);
         } else {
             // Fallback: draw placeholder circle if image not loaded
             g2d.setColor(Color.ORANGE);
@@ -2389,7 +1374,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw "BOSS ELIMINATED" title
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(UiResources.font(Font.BOLD, 48));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "BOSS ELIMINATED";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
@@ -2397,7 +1382,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw level complete message
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 32));
+        g2d.setFont(UiResources.font(Font.BOLD, 32));
         FontMetrics msgFm = g2d.getFontMetrics();
         String levelMsg = "LEVEL 1 COMPLETE";
         int levelX = (SCREEN_WIDTH - msgFm.stringWidth(levelMsg)) / 2;
@@ -2405,41 +1390,41 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw unlock message
         g2d.setColor(Color.GREEN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(UiResources.font(Font.BOLD, 24));
         FontMetrics unlockFm = g2d.getFontMetrics();
         String unlockMsg = "LEVEL 2 UNLOCKED";
         int unlockX = (SCREEN_WIDTH - unlockFm.stringWidth(unlockMsg)) / 2;
         g2d.drawString(unlockMsg, unlockX, SCREEN_HEIGHT / 2 + 90);
         
-        // Draw score
+        // Draw s.score
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 20));
+        g2d.setFont(UiResources.font(Font.BOLD, 20));
         FontMetrics scoreFm = g2d.getFontMetrics();
-        String scoreText = "Final Score: " + score;
+        String scoreText = "Final Score: " + s.score;
         int scoreX = (SCREEN_WIDTH - scoreFm.stringWidth(scoreText)) / 2;
         g2d.drawString(scoreText, scoreX, SCREEN_HEIGHT / 2 + 140);
         
         // Draw instructions
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(UiResources.font(Font.PLAIN, 16));
         FontMetrics instrFm = g2d.getFontMetrics();
         String instr = "Press ENTER to return to Main Menu";
         int instrX = (SCREEN_WIDTH - instrFm.stringWidth(instr)) / 2;
         g2d.drawString(instr, instrX, SCREEN_HEIGHT - 40);
     }
     
-    private void drawGameOver(Graphics2D g2d) {
+    private void drawGameOver(Graphics2D g2d, RenderSnapshot s) {
         g2d.setColor(Color.RED);
-        g2d.setFont(new Font("Arial", Font.BOLD, 48));
+        g2d.setFont(UiResources.font(Font.BOLD, 48));
         FontMetrics fm = g2d.getFontMetrics();
         String gameOverText = "GAME OVER";
         int x = (SCREEN_WIDTH - fm.stringWidth(gameOverText)) / 2;
         g2d.drawString(gameOverText, x, SCREEN_HEIGHT / 2 - 50);
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(UiResources.font(Font.BOLD, 24));
         fm = g2d.getFontMetrics();
-        String scoreText = "Final Score: " + score;
+        String scoreText = "Final Score: " + s.score;
         x = (SCREEN_WIDTH - fm.stringWidth(scoreText)) / 2;
         g2d.drawString(scoreText, x, SCREEN_HEIGHT / 2);
         
@@ -2448,10 +1433,10 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         g2d.drawString(restartText, x, SCREEN_HEIGHT / 2 + 50);
     }
     
-    private void drawLevelUpScreen(Graphics2D g2d) {
+    private void drawLevelUpScreen(Graphics2D g2d, RenderSnapshot s) {
         // Title
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font("Arial", Font.BOLD, 56));
+        g2d.setFont(UiResources.font(Font.BOLD, 56));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "LEVEL UP!";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
@@ -2459,21 +1444,21 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Subtitle
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 20));
+        g2d.setFont(UiResources.font(Font.PLAIN, 20));
         FontMetrics subtitleFm = g2d.getFontMetrics();
         String subtitle = "Choose one upgrade:";
         int subtitleX = (SCREEN_WIDTH - subtitleFm.stringWidth(subtitle)) / 2;
         g2d.drawString(subtitle, subtitleX, 170);
         
-        // Get current player stats
-        int currentMaxHP = player.getMaxHealth();
-        int currentSpeed = player.getSpeed();
-        int currentFireRate = player.getFireRateRPM();
+        // Get current s.player stats
+        int currentMaxHP = s.player.getMaxHealth();
+        int currentSpeed = s.player.getSpeed();
+        int currentFireRate = s.player.getFireRateRPM();
         
-        // Calculate upgrades
-        pendingHealthUpgrade = (int) (currentMaxHP * 0.2); // +20% HP
-        pendingSpeedUpgrade = (int) (currentSpeed * 0.15); // +15% Speed
-        pendingFireRateUpgrade = (int) (currentFireRate * 0.1); // +10% Fire Rate
+        // Calculate upgrades (the same amounts World.applyLevelUpgrade grants)
+        int pendingHealthUpgrade = (int) (currentMaxHP * 0.2); // +20% HP
+        int pendingSpeedUpgrade = (int) (currentSpeed * 0.15); // +15% Speed
+        int pendingFireRateUpgrade = (int) (currentFireRate * 0.1); // +10% Fire Rate
         
         // Draw upgrade options
         String[] options = {
@@ -2499,21 +1484,21 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             
             // Highlight selected option
             if (i == selectedLevelUpOption) {
-                g2d.setColor(new Color(255, 255, 0, 100));
+                g2d.setColor(SELECTION_GLOW_COLOR);
                 g2d.fillRoundRect(SCREEN_WIDTH / 2 - 250, y - 40, 500, 80, 20, 20);
                 g2d.setColor(Color.YELLOW);
-                g2d.setStroke(new BasicStroke(3));
+                g2d.setStroke(UiResources.stroke(3));
                 g2d.drawRoundRect(SCREEN_WIDTH / 2 - 250, y - 40, 500, 80, 20, 20);
             }
             
             // Option name
             g2d.setColor(i == selectedLevelUpOption ? Color.YELLOW : Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 28));
+            g2d.setFont(UiResources.font(Font.BOLD, 28));
             FontMetrics optionFm = g2d.getFontMetrics();
             g2d.drawString(options[i], SCREEN_WIDTH / 2 - 230, y);
             
             // Before => After values
-            g2d.setFont(new Font("Arial", Font.PLAIN, 22));
+            g2d.setFont(UiResources.font(Font.PLAIN, 22));
             FontMetrics valueFm = g2d.getFontMetrics();
             String valueText = beforeValues[i] + " " + units[i] + "  =>  " + afterValues[i] + " " + units[i];
             g2d.setColor(i == selectedLevelUpOption ? Color.CYAN : Color.LIGHT_GRAY);
@@ -2522,7 +1507,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Controls hint
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(UiResources.font(Font.PLAIN, 16));
         FontMetrics controlsFm = g2d.getFontMetrics();
         String controls = "Use ↑↓ to select, ENTER to confirm";
         int controlsX = (SCREEN_WIDTH - controlsFm.stringWidth(controls)) / 2;
@@ -2535,7 +1520,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Draw title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font("Arial", Font.BOLD, 36));
+        g2d.setFont(UiResources.font(Font.BOLD, 36));
         FontMetrics titleFm = g2d.getFontMetrics();
         String title = "SELECT SPACECRAFT";
         int titleX = (SCREEN_WIDTH - titleFm.stringWidth(title)) / 2;
@@ -2553,14 +1538,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             // Highlight selected spacecraft
             if (i == selectedSpacecraft) {
                 g2d.setColor(Color.YELLOW);
-                g2d.setStroke(new BasicStroke(3));
+                g2d.setStroke(UiResources.stroke(3));
                 g2d.drawRect(x - 85, baseY - 85, 170, 170);
-                g2d.setStroke(new BasicStroke(1));
+                g2d.setStroke(UiResources.stroke(1));
             }
             
             // Draw spacecraft sprite
             if (spacecraftMenuSprites[i] != null) {
-                g2d.drawImage(spacecraftMenuSprites[i], x - 75, baseY - 75, 150, 150, null);
+                spacecraftMenuSprites[i].draw(g2d, x - 75, baseY - 75, 150, 150);
             } else {
                 // Placeholder
                 g2d.setColor(Color.GRAY);
@@ -2569,7 +1554,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             
             // Draw ship name
             g2d.setColor(i == selectedSpacecraft ? Color.YELLOW : Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(UiResources.font(Font.BOLD, 20));
             FontMetrics nameFm = g2d.getFontMetrics();
             g2d.drawString(shipNames[i], x - nameFm.stringWidth(shipNames[i])/2, baseY + 110);
         }
@@ -2578,28 +1563,35 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         int statsX = 100;
         int statsY = 450;
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setFont(UiResources.font(Font.BOLD, 18));
         
         g2d.drawString("STATS:", statsX, statsY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(UiResources.font(Font.PLAIN, 16));
         g2d.drawString("HP: " + spacecraftStats[0][selectedSpacecraft], statsX, statsY + 30);
         g2d.drawString("Speed: " + spacecraftStats[1][selectedSpacecraft], statsX, statsY + 55);
         g2d.drawString("Fire Rate: " + spacecraftStats[2][selectedSpacecraft] + " shots/min", statsX, statsY + 80);
         
         // Draw special ability
-        g2d.setFont(new Font("Arial", Font.BOLD, 18));
+        g2d.setFont(UiResources.font(Font.BOLD, 18));
         g2d.drawString("SPECIAL:", statsX, statsY + 120);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        g2d.setFont(UiResources.font(Font.PLAIN, 16));
         g2d.drawString(specialAbilityDescriptions[selectedSpacecraft], statsX, statsY + 145);
         
         // Draw controls
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        g2d.setFont(UiResources.font(Font.PLAIN, 14));
         g2d.drawString("Use ← → to select, ENTER to confirm, ESC to back", 10, SCREEN_HEIGHT - 20);
     }
     
     @Override
     public void keyPressed(KeyEvent e) {
+        synchronized (simLock) {
+            handleKeyPressed(e);
+            publishSnapshot();
+        }
+    }
+    
+    private void handleKeyPressed(KeyEvent e) {
         int key = e.getKeyCode();
         
         switch (currentState) {
@@ -2647,12 +1639,12 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             if (keySequence.endsWith(SECRET_CODE_SPECIAL)) {
                 saveEasterEggMode(1);
                 playBGM(); // Restart BGM with special mode
-                System.out.println("Special mode activated! (drifx entered)");
+                Log.info(Log.Category.GAME, "Special mode activated! (drifx entered)");
                 keySequence = ""; // Reset
             } else if (keySequence.endsWith(SECRET_CODE_NORMAL)) {
                 saveEasterEggMode(0);
                 playBGM(); // Restart BGM with normal mode
-                System.out.println("Normal mode activated! (brex entered)");
+                Log.info(Log.Category.GAME, "Normal mode activated! (brex entered)");
                 keySequence = ""; // Reset
             } else if (keySequence.endsWith("reset")) {
                 // Reset saved stats
@@ -2661,7 +1653,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 savedFireRate = 0;
                 savedSpacecraftType = 0;
                 level1Unlocked = false;
-                System.out.println("Saved stats reset! Next game will start fresh.");
+                Log.info(Log.Category.SETTINGS, "Saved stats reset! Next game will start fresh.");
                 keySequence = ""; // Reset
             }
         }
@@ -2749,6 +1741,11 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             } else if (selectedOptionsItem == 1) { // SFX Volume
                 sfxVolume = Math.max(0, sfxVolume - 5);
                 refreshOptionsItems();
+                sfxMixer.setVolume(sfxVolume);
+            } else if (selectedOptionsItem == 4) { // Rotation quality
+                cycleRotationQuality(-1);
+            } else if (selectedOptionsItem == 5) { // Frame cap
+                cycleFrameCap(-1);
             }
         } else if (key == KeyEvent.VK_RIGHT || key == KeyEvent.VK_EQUALS) {
             // Increase volume
@@ -2759,6 +1756,11 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             } else if (selectedOptionsItem == 1) { // SFX Volume
                 sfxVolume = Math.min(100, sfxVolume + 5);
                 refreshOptionsItems();
+                sfxMixer.setVolume(sfxVolume);
+            } else if (selectedOptionsItem == 4) { // Rotation quality
+                cycleRotationQuality(1);
+            } else if (selectedOptionsItem == 5) { // Frame cap
+                cycleFrameCap(1);
             }
         } else if (key == KeyEvent.VK_ENTER) {
             switch (selectedOptionsItem) {
@@ -2771,7 +1773,24 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                     toggleFullscreen(fullscreen);
                     refreshOptionsItems();
                     break;
-                case 3: // Back
+                case 3: // Renderer toggle (active BufferStrategy / passive Swing)
+                    activeRendering = !activeRendering;
+                    applyRenderMode();
+                    refreshOptionsItems();
+                    break;
+                case 4: // Rotation quality
+                    cycleRotationQuality(1);
+                    break;
+                case 5: // Frame cap
+                    cycleFrameCap(1);
+                    break;
+                case 6: // VSync toggle
+                    vsync = !vsync;
+                    if (renderSurface != null) renderSurface.setSync(vsync);
+                    applyFrameCap();
+                    refreshOptionsItems();
+                    break;
+                case 7: // Back
                     // Save settings before returning
                     saveSettings();
                     // Return to the state we came from (MENU or PAUSED)
@@ -2812,7 +1831,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             // Return to previous state
             if (lastStateBeforeExitConfirm == GameState.GAME) {
                 currentState = GameState.GAME;
-                gameRunning = true;
+                world.setGameRunning(true);
             } else {
                 currentState = GameState.MENU;
                 selectedMenuOption = 0;
@@ -2821,6 +1840,12 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     }
     
     private void handleGameInput(int key, KeyEvent e) {
+        boolean gameRunning = world.isGameRunning();
+        Player player = world.getPlayer();
+        Player player2 = world.getPlayer2();
+        boolean coopMode = world.isCoopMode();
+        boolean manualControlMode = world.isManualControlMode();
+        
         // If game over, ESC should go to menu, not pause
         if (key == KeyEvent.VK_ESCAPE) {
             if (!gameRunning) {
@@ -2838,6 +1863,35 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             }
         }
         
+        // F3 toggles the performance overlay
+        if (key == KeyEvent.VK_F3) {
+            perfOverlay.toggle();
+            return;
+        }
+        
+        // F4 dumps the texture atlas pages and layout for debugging
+        if (key == KeyEvent.VK_F4) {
+            dumpTextureAtlas();
+            return;
+        }
+        
+        // F6 cycles slow motion / fast forward, F7 freezes time, F8 runs one step while frozen
+        if (key == KeyEvent.VK_F6) {
+            double scale = nextTimeScale(simClock.getTimeScale());
+            simClock.setTimeScale(scale);
+            Log.info(Log.Category.GAME, "Time scale: " + scale + "x");
+            return;
+        }
+        if (key == KeyEvent.VK_F7) {
+            simClock.setPaused(!simClock.isPaused());
+            Log.info(Log.Category.GAME, "Time " + (simClock.isPaused() ? "frozen (F8 steps one tick)" : "running"));
+            return;
+        }
+        if (key == KeyEvent.VK_F8) {
+            simClock.requestStep();
+            return;
+        }
+        
         // P key only pauses if game is running
         if (key == KeyEvent.VK_P && gameRunning) {
             currentState = GameState.PAUSED;
@@ -2845,77 +1899,67 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             return;
         }
         
+        // A replay plays its recorded input; the keyboard only pauses or leaves
+        if (playback != null) return;
+        
+        // Specials and mode toggles are queued and applied at the start of the next tick,
+        // so a replay sees them on the same tick
+        
         // J key toggles co-op mode (ต้องอยู่โหมด Auto เท่านั้น)
         if (key == KeyEvent.VK_J && gameRunning) {
-            if (!manualControlMode) {
-                toggleCoopMode();
-            } else {
-                System.out.println("Cannot enter Co-op mode from Manual mode! Press M to switch to Auto mode first.");
-            }
+            world.queueAction(World.INPUT_TOGGLE_COOP);
             return;
         }
         
         // F key for player1 special ability
         if (key == KeyEvent.VK_F && gameRunning) {
-            fPressed = true;
-            if (player != null) player.useSpecial(WORLD_WIDTH, WORLD_HEIGHT);
+            if (player != null) world.queueAction(World.INPUT_SPECIAL);
         }
         
         // Right Shift key for player2 special ability (co-op mode)
         if (key == KeyEvent.VK_SHIFT && e.getKeyLocation() == KeyEvent.KEY_LOCATION_RIGHT && gameRunning && coopMode && player2 != null) {
-            rightShiftPressed = true;
-            player2.useSpecial(WORLD_WIDTH, WORLD_HEIGHT);
+            world.queueAction(World.INPUT_SPECIAL2);
         }
         
         // M key toggles manual control mode (ต้องอยู่โหมด Auto เท่านั้น)
         if (key == KeyEvent.VK_M) {
-            if (!coopMode) {
-                manualControlMode = !manualControlMode;
-                System.out.println("Manual control mode: " + (manualControlMode ? "ON" : "OFF"));
-            } else {
-                System.out.println("Cannot enter Manual mode from Co-op mode! Press J to exit Co-op mode first.");
-            }
+            world.queueAction(World.INPUT_TOGGLE_MANUAL);
             return;
         }
         
         // Handle movement keys based on mode
         if (manualControlMode) {
             // Manual mode: WASD = movement only
-            if (key == KeyEvent.VK_W) upPressed = true;
-            if (key == KeyEvent.VK_S) downPressed = true;
-            if (key == KeyEvent.VK_A) leftPressed = true;
-            if (key == KeyEvent.VK_D) rightPressed = true;
+            if (key == KeyEvent.VK_W) world.setInput(World.INPUT_UP, true);
+            if (key == KeyEvent.VK_S) world.setInput(World.INPUT_DOWN, true);
+            if (key == KeyEvent.VK_A) world.setInput(World.INPUT_LEFT, true);
+            if (key == KeyEvent.VK_D) world.setInput(World.INPUT_RIGHT, true);
             
             // Arrow keys = aiming/rotation
-            if (key == KeyEvent.VK_UP) arrowUpPressed = true;
-            if (key == KeyEvent.VK_DOWN) arrowDownPressed = true;
-            if (key == KeyEvent.VK_LEFT) arrowLeftPressed = true;
-            if (key == KeyEvent.VK_RIGHT) arrowRightPressed = true;
+            if (key == KeyEvent.VK_UP) world.setInput(World.INPUT_ARROW_UP, true);
+            if (key == KeyEvent.VK_DOWN) world.setInput(World.INPUT_ARROW_DOWN, true);
+            if (key == KeyEvent.VK_LEFT) world.setInput(World.INPUT_ARROW_LEFT, true);
+            if (key == KeyEvent.VK_RIGHT) world.setInput(World.INPUT_ARROW_RIGHT, true);
         } else if (coopMode) {
             // Co-op mode: WASD = Player1, Arrow keys = Player2
-            if (key == KeyEvent.VK_W) upPressed = true;
-            if (key == KeyEvent.VK_S) downPressed = true;
-            if (key == KeyEvent.VK_A) leftPressed = true;
-            if (key == KeyEvent.VK_D) rightPressed = true;
+            if (key == KeyEvent.VK_W) world.setInput(World.INPUT_UP, true);
+            if (key == KeyEvent.VK_S) world.setInput(World.INPUT_DOWN, true);
+            if (key == KeyEvent.VK_A) world.setInput(World.INPUT_LEFT, true);
+            if (key == KeyEvent.VK_D) world.setInput(World.INPUT_RIGHT, true);
             
             // Arrow keys สำหรับ Player2 เท่านั้น (ไม่ควบคุม Player1)
-            if (key == KeyEvent.VK_UP) arrowUpPressed = true;
-            if (key == KeyEvent.VK_DOWN) arrowDownPressed = true;
-            if (key == KeyEvent.VK_LEFT) arrowLeftPressed = true;
-            if (key == KeyEvent.VK_RIGHT) arrowRightPressed = true;
+            if (key == KeyEvent.VK_UP) world.setInput(World.INPUT_ARROW_UP, true);
+            if (key == KeyEvent.VK_DOWN) world.setInput(World.INPUT_ARROW_DOWN, true);
+            if (key == KeyEvent.VK_LEFT) world.setInput(World.INPUT_ARROW_LEFT, true);
+            if (key == KeyEvent.VK_RIGHT) world.setInput(World.INPUT_ARROW_RIGHT, true);
         } else {
             // Auto mode (Solo): WASD only - arrow keys disabled
-            if (key == KeyEvent.VK_W) upPressed = true;
-            if (key == KeyEvent.VK_S) downPressed = true;
-            if (key == KeyEvent.VK_A) leftPressed = true;
-            if (key == KeyEvent.VK_D) rightPressed = true;
+            if (key == KeyEvent.VK_W) world.setInput(World.INPUT_UP, true);
+            if (key == KeyEvent.VK_S) world.setInput(World.INPUT_DOWN, true);
+            if (key == KeyEvent.VK_A) world.setInput(World.INPUT_LEFT, true);
+            if (key == KeyEvent.VK_D) world.setInput(World.INPUT_RIGHT, true);
         }
         
-        if (key == KeyEvent.VK_F) {
-            // activate special ability (if player exists)
-            if (player != null) player.useSpecial(WORLD_WIDTH, WORLD_HEIGHT);
-        }
-
         if (key == KeyEvent.VK_R && !gameRunning) {
             restartGame();
         }
@@ -2939,16 +1983,9 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 case 2: // Return to Main Menu
                     currentState = GameState.MENU;
                     selectedMenuOption = 0;
-                    gameRunning = false;
                     // Reset game state
-                    enemies = new ArrayList<>();
-                    bullets = new ArrayList<>();
-                    enemyBullets = new ArrayList<>();
-                    damagePopups = new ArrayList<>();
-                    explosionParticles = new ArrayList<>();
-                    boss = null;
-                    bossSpawned = false;
-                    player = null;
+                    saveRecording();
+                    world.clear();
                     // Stop in-game BGM mode and play menu BGM
                     isInGameBGM = false;
                     playBGM();
@@ -2965,28 +2002,16 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             // Return to main menu
             currentState = GameState.MENU;
             selectedMenuOption = 0;
-            gameRunning = false;
             
             // Reset game state
-            enemies = new ArrayList<>();
-            bullets = new ArrayList<>();
-            bullets2 = new ArrayList<>();
-            enemyBullets = new ArrayList<>();
-            damagePopups = new ArrayList<>();
-            explosionParticles = new ArrayList<>();
-            boss = null;
-            bossSpawned = false;
-            bossDeathAnimationActive = false;
-            player = null;
-            player2 = null;
-            coopMode = false;
+            world.clear();
             
             // Stop in-game BGM mode and play menu BGM
             isInGameBGM = false;
             stopBGM();
             playBGM();
             
-            System.out.println("Returned to main menu. Level 2 is now available.");
+            Log.info(Log.Category.GAME, "Returned to main menu. Level 2 is now available.");
         }
     }
     
@@ -2996,12 +2021,12 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         } else if (key == KeyEvent.VK_DOWN) {
             selectedLevelUpOption = (selectedLevelUpOption + 1) % 3;
         } else if (key == KeyEvent.VK_ENTER) {
-            // Apply selected upgrade
-            applyLevelUpgrade();
+            // Apply selected upgrade (at the start of the next tick)
+            world.queueAction(World.upgradeInput(selectedLevelUpOption));
             
             // Resume game
             currentState = stateBeforeLevelUp;
-            System.out.println("Upgrade applied! Resuming game...");
+            Log.info(Log.Category.GAME, "Upgrade applied! Resuming game...");
         }
     }
     
@@ -3010,52 +2035,11 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         stateBeforeLevelUp = currentState;
         currentState = GameState.LEVEL_UP;
         selectedLevelUpOption = 0;
-        System.out.println("Level Up screen triggered!");
-    }
-    
-    private void applyLevelUpgrade() {
-        // Apply upgrade based on selection
-        switch (selectedLevelUpOption) {
-            case 0: // Max Health
-                player.increaseMaxHealth(pendingHealthUpgrade);
-                if (coopMode && player2 != null) {
-                    player2.increaseMaxHealth(pendingHealthUpgrade);
-                }
-                System.out.println("Max Health increased by " + pendingHealthUpgrade);
-                break;
-            case 1: // Move Speed
-                player.increaseSpeed(pendingSpeedUpgrade);
-                if (coopMode && player2 != null) {
-                    player2.increaseSpeed(pendingSpeedUpgrade);
-                }
-                System.out.println("Move Speed increased by " + pendingSpeedUpgrade);
-                break;
-            case 2: // Fire Rate
-                player.increaseFireRate(pendingFireRateUpgrade);
-                if (coopMode && player2 != null) {
-                    player2.increaseFireRate(pendingFireRateUpgrade);
-                }
-                System.out.println("Fire Rate increased by " + pendingFireRateUpgrade + " RPM");
-                break;
-        }
-        
-        // Reset pending upgrades
-        pendingHealthUpgrade = 0;
-        pendingSpeedUpgrade = 0;
-        pendingFireRateUpgrade = 0;
+        Log.info(Log.Category.GAME, "Level Up screen triggered!");
     }
-
     
     private void startNewGame() {
         currentState = GameState.GAME;
-        gameRunning = true;
-        // Reset game state
-        score = 0;
-        level = 1;
-        enemySpawnRate = 1000;
-        gameStartTime = System.currentTimeMillis();
-        lastEnemySpawn = System.currentTimeMillis();
-        lastUpdateTimeMillis = System.currentTimeMillis();
         
         // Create player with selected spacecraft stats
         // If level 2 unlocked and we have saved stats, use them
@@ -3065,10 +2049,10 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             hp = savedMaxHealth;
             speed = savedSpeed;
             firerate = savedFireRate;
-            System.out.println("Starting with saved Level 1 stats:");
-            System.out.println("  HP: " + hp);
-            System.out.println("  Speed: " + speed);
-            System.out.println("  Fire Rate: " + firerate + " RPM");
+            Log.info(Log.Category.SETTINGS, "Starting with saved Level 1 stats:");
+            Log.info(Log.Category.SETTINGS, "  HP: " + hp);
+            Log.info(Log.Category.SETTINGS, "  Speed: " + speed);
+            Log.info(Log.Category.SETTINGS, "  Fire Rate: " + firerate + " RPM");
         } else {
             // Use base stats from spacecraft selection
             hp = spacecraftStats[0][selectedSpacecraft];
@@ -3076,48 +2060,25 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             firerate = spacecraftStats[2][selectedSpacecraft];
         }
         
-        player = new Player(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, selectedSpacecraft, hp, speed, firerate);
-        
-        // Reset co-op mode and player2
-        coopMode = false;
-        player2 = null;
-        bullets2 = new ArrayList<>();
-        
-        // Clear/reset all game objects
-        enemies = new ArrayList<>();
-        bullets = new ArrayList<>();
-        enemyBullets = new ArrayList<>();
-        powerUps = new ArrayList<>();
-        damagePopups = new ArrayList<>();
-        explosionParticles = new ArrayList<>();
-        boss = null;
-        bossSpawned = false;
+        // Reset the simulation (player, enemies, boss, camera, co-op/manual modes)
+        saveRecording();
+        long seed = random.nextLong();
+        if (playback != null) {
+            seed = playback.getSeed();
+            hp = playback.getHp();
+            speed = playback.getSpeed();
+            firerate = playback.getFirerate();
+        }
+        world.setSeed(seed);
+        world.startGame(currentLevel, selectedSpacecraft, hp, speed, firerate);
+        perfOverlay.reset();
+        if (playback == null) {
+            recording = new Replay(seed, currentLevel, selectedSpacecraft, hp, speed, firerate,
+                    gameLoop.getStepNanos(), simClock.millis(), simClock.getCarryNanos());
+        }
         
         // Reset BGM fade-out state
         isFadingOut = false;
-        fadeStartTime = 0;
-        bossSpawned = false;
-        type1MaxCap = 1 + random.nextInt(6);
-        lastCapUpdate = System.currentTimeMillis();
-        
-        // Reset boss death animation
-        bossDeathAnimationActive = false;
-        bossDeathAlpha = 1.0f;
-        
-        // Reset boss attack systems
-        bossBullets.clear();
-        bossLasers.clear();
-        bossLasersCreated = false;
-        lastHomingBulletSpawn = 0;
-        lastBossCollisionDamage = 0;
-        lastBossLaserDamage = 0;
-        
-        // Reset camera
-        cameraX = 0;
-        cameraY = 0;
-        
-        // Reset manual mode
-        manualControlMode = false;
         
         // Play in-game BGM
         isInGameBGM = true;
@@ -3127,32 +2088,67 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
     
     @Override
     public void keyReleased(KeyEvent e) {
-        int key = e.getKeyCode();
-        
-        // Release special ability keys
-        if (key == KeyEvent.VK_F) fPressed = false;
-        
-        // Check if it's Right Shift specifically
-        if (key == KeyEvent.VK_SHIFT && e.getKeyLocation() == KeyEvent.KEY_LOCATION_RIGHT) {
-            rightShiftPressed = false;
+        synchronized (simLock) {
+            handleKeyReleased(e);
         }
+    }
+    
+    private void handleKeyReleased(KeyEvent e) {
+        if (playback != null) return;
+        int key = e.getKeyCode();
         
         // Release movement keys
-        if (key == KeyEvent.VK_W) upPressed = false;
-        if (key == KeyEvent.VK_S) downPressed = false;
-        if (key == KeyEvent.VK_A) leftPressed = false;
-        if (key == KeyEvent.VK_D) rightPressed = false;
+        if (key == KeyEvent.VK_W) world.setInput(World.INPUT_UP, false);
+        if (key == KeyEvent.VK_S) world.setInput(World.INPUT_DOWN, false);
+        if (key == KeyEvent.VK_A) world.setInput(World.INPUT_LEFT, false);
+        if (key == KeyEvent.VK_D) world.setInput(World.INPUT_RIGHT, false);
         
         // Release arrow keys
-        if (key == KeyEvent.VK_UP) arrowUpPressed = false;
-        if (key == KeyEvent.VK_DOWN) arrowDownPressed = false;
-        if (key == KeyEvent.VK_LEFT) arrowLeftPressed = false;
-        if (key == KeyEvent.VK_RIGHT) arrowRightPressed = false;
+        if (key == KeyEvent.VK_UP) world.setInput(World.INPUT_ARROW_UP, false);
+        if (key == KeyEvent.VK_DOWN) world.setInput(World.INPUT_ARROW_DOWN, false);
+        if (key == KeyEvent.VK_LEFT) world.setInput(World.INPUT_ARROW_LEFT, false);
+        if (key == KeyEvent.VK_RIGHT) world.setInput(World.INPUT_ARROW_RIGHT, false);
     }
     
     @Override
     public void keyTyped(KeyEvent e) {}
     
+    // Next faster entry of TIME_SCALES, wrapping round to the slowest
+    private static double nextTimeScale(double scale) {
+        for (double next : TIME_SCALES) {
+            if (next > scale) return next;
+        }
+        return TIME_SCALES[0];
+    }
+    
+    // Write the finished run to replays/ off the loop thread
+    private void saveRecording() {
+        final Replay finished = recording;
+        if (finished == null) return;
+        recording = null;
+        finished.finish(world.stateChecksum());
+        Thread saver = new Thread(() -> {
+            try {
+                File file = finished.save();
+                Log.info(Log.Category.GAME, "Replay saved to " + file.getPath() + " (" + finished.getTicks() + " ticks)");
+            } catch (IOException e) {
+                Log.warn(Log.Category.GAME, "Could not save replay: " + e.getMessage());
+            }
+        }, "ReplaySaver");
+        saver.start();
+    }
+    
+    // Last recorded tick has run: report whether the World stayed in sync, then freeze it and hand the keyboard back
+    private void finishPlayback() {
+        if (world.stateChecksum() == playback.getChecksum()) {
+            Log.info(Log.Category.GAME, "Replay finished after " + playbackTick + " ticks, in sync");
+        } else {
+            Log.warn(Log.Category.GAME, "Replay finished after " + playbackTick + " ticks but DESYNCED (checksum mismatch)");
+        }
+        world.setGameRunning(false);
+        playback = null;
+    }
+    
     private void restartGame() {
         // Simply call startNewGame which already handles everything properly
         startNewGame();
@@ -3162,10 +2158,21 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         Window w = SwingUtilities.getWindowAncestor(this);
         if (!(w instanceof JFrame)) return;
         JFrame frame = (JFrame) w;
+        GraphicsDevice device = frame.getGraphicsConfiguration().getDevice();
+
+        // Leave exclusive mode before reconfiguring the frame
+        if (device.getFullScreenWindow() == frame) {
+            device.setFullScreenWindow(null);
+        }
 
         frame.dispose();
         frame.setUndecorated(enable);
-        if (enable) {
+        if (enable && device.isFullScreenSupported()) {
+            // Exclusive fullscreen: the frame owns the display, paintFrame scales to fit
+            this.setPreferredSize(device.getDefaultConfiguration().getBounds().getSize());
+            device.setFullScreenWindow(frame);
+        } else if (enable) {
+            // Fallback: borderless maximized window, scaled in paintFrame
             // Get screen dimensions
             Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
             frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
@@ -3180,6 +2187,10 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         }
         frame.setVisible(true);
         frame.revalidate();
+        // Frame peers were recreated, so the canvas needs a fresh buffer strategy
+        requestRenderSurface();
+        // The window may now be on a display with a different refresh rate
+        applyFrameCap();
     }
     
     public boolean isFullscreenEnabled() {
@@ -3205,7 +2216,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 reader.close();
                 if (line != null && line.trim().equals("1")) {
                     easterEggMode = 1;
-                    System.out.println("Special mode activated!");
+                    Log.info(Log.Category.GAME, "Special mode activated!");
                 } else {
                     easterEggMode = 0;
                 }
@@ -3214,7 +2225,7 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             }
         } catch (IOException e) {
             easterEggMode = 0;
-            System.out.println("Could not load Easter egg mode: " + e.getMessage());
+            Log.warn(Log.Category.SETTINGS, "Could not load Easter egg mode: " + e.getMessage());
         }
     }
     
@@ -3224,10 +2235,74 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             writer.write(String.valueOf(mode));
             writer.close();
             easterEggMode = mode;
-            System.out.println("Easter egg mode saved: " + mode);
+            Log.info(Log.Category.SETTINGS, "Easter egg mode saved: " + mode);
         } catch (IOException e) {
-            System.out.println("Could not save Easter egg mode: " + e.getMessage());
+            Log.warn(Log.Category.SETTINGS, "Could not save Easter egg mode: " + e.getMessage());
+        }
+    }
+    
+    // Write the atlas off the input thread, like the metrics export
+    private void dumpTextureAtlas() {
+        File dir = new File("atlas-dump");
+        Thread dumper = new Thread(() -> {
+            try {
+                TextureAtlas.dump(dir);
+                Log.info(Log.Category.RENDER, "Texture atlas dumped to " + dir.getPath() + " (" + TextureAtlas.getSpriteCount()
+                        + " sprites, " + TextureAtlas.getSpritePageCount() + " sprite pages, " + TextureAtlas.getFramePageCount() + " frame pages)");
+            } catch (Exception e) {
+                Log.warn(Log.Category.RENDER, "Could not dump texture atlas: " + e.getMessage());
+            }
+        }, "AtlasDump");
+        dumper.setDaemon(true);
+        dumper.start();
+    }
+    
+    // Step through RotationAtlas.ANGLE_STEP_OPTIONS (wrapping); cached rotations are rebuilt lazily
+    private void cycleRotationQuality(int direction) {
+        int[] options = RotationAtlas.ANGLE_STEP_OPTIONS;
+        int index = 0;
+        for (int i = 0; i < options.length; i++) {
+            if (options[i] == RotationAtlas.getAngleSteps()) index = i;
+        }
+        index = (index + direction + options.length) % options.length;
+        RotationAtlas.setAngleSteps(options[index]);
+        refreshOptionsItems();
+    }
+    
+    // Step through FRAME_CAP_OPTIONS (wrapping)
+    private void cycleFrameCap(int direction) {
+        int index = 0;
+        for (int i = 0; i < FRAME_CAP_OPTIONS.length; i++) {
+            if (FRAME_CAP_OPTIONS[i] == frameCap) index = i;
         }
+        index = (index + direction + FRAME_CAP_OPTIONS.length) % FRAME_CAP_OPTIONS.length;
+        frameCap = FRAME_CAP_OPTIONS[index];
+        applyFrameCap();
+        refreshOptionsItems();
+    }
+    
+    private String frameCapLabel() {
+        if (frameCap == FRAME_CAP_DISPLAY) return "Display (" + displayRefreshRate() + " FPS)";
+        if (frameCap == 0) return vsync ? "Uncapped (VSync " + displayRefreshRate() + " FPS)" : "Uncapped";
+        return frameCap + " FPS";
+    }
+    
+    // Rendering is independent of the tick rate; frames between ticks are interpolated.
+    // With VSync on, frames past the refresh rate are never shown, so Uncapped paces at the
+    // display rate and the loop sleeps out the rest of the frame instead of spinning
+    private void applyFrameCap() {
+        boolean display = frameCap == FRAME_CAP_DISPLAY || (frameCap == 0 && vsync);
+        gameLoop.setMaxFps(display ? displayRefreshRate() : frameCap);
+    }
+    
+    // Refresh rate of the display the game is on, or DEFAULT_REFRESH_RATE if it can't be told
+    private int displayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return DEFAULT_REFRESH_RATE;
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        GraphicsDevice device = config != null ? config.getDevice()
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        int rate = device.getDisplayMode().getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate;
     }
     
     // Settings System Methods
@@ -3239,21 +2314,40 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 bgmVolume = Integer.parseInt(reader.readLine());
                 sfxVolume = Integer.parseInt(reader.readLine());
                 fullscreen = Boolean.parseBoolean(reader.readLine());
+                // Added later; older settings files stop after the fullscreen line
+                String renderLine = reader.readLine();
+                activeRendering = renderLine == null || Boolean.parseBoolean(renderLine);
+                // Added later; older settings files stop after the renderer line
+                String rotationLine = reader.readLine();
+                RotationAtlas.setAngleSteps(rotationLine == null ? RotationAtlas.DEFAULT_ANGLE_STEPS : Integer.parseInt(rotationLine));
+                // Added later; older settings files stop after the rotation line
+                String frameCapLine = reader.readLine();
+                frameCap = frameCapLine == null ? FRAME_CAP_DISPLAY : Math.max(FRAME_CAP_DISPLAY, Integer.parseInt(frameCapLine));
+                String vsyncLine = reader.readLine();
+                vsync = vsyncLine == null || Boolean.parseBoolean(vsyncLine);
                 reader.close();
-                System.out.println("Settings loaded: BGM=" + bgmVolume + ", SFX=" + sfxVolume + ", Fullscreen=" + fullscreen);
+                Log.info(Log.Category.AUDIO, "Settings loaded: BGM=" + bgmVolume + ", SFX=" + sfxVolume + ", Fullscreen=" + fullscreen + ", ActiveRendering=" + activeRendering + ", RotationAngles=" + RotationAtlas.getAngleSteps() + ", FrameCap=" + frameCap + ", VSync=" + vsync);
             } else {
                 // Default settings
                 bgmVolume = 80;
                 sfxVolume = 80;
                 fullscreen = false;
-                System.out.println("No settings file found, using defaults");
+                activeRendering = true;
+                RotationAtlas.setAngleSteps(RotationAtlas.DEFAULT_ANGLE_STEPS);
+                frameCap = FRAME_CAP_DISPLAY;
+                vsync = true;
+                Log.info(Log.Category.SETTINGS, "No settings file found, using defaults");
             }
         } catch (Exception e) {
             // Use defaults on error
             bgmVolume = 80;
             sfxVolume = 80;
             fullscreen = false;
-            System.out.println("Could not load settings: " + e.getMessage());
+            activeRendering = true;
+            RotationAtlas.setAngleSteps(RotationAtlas.DEFAULT_ANGLE_STEPS);
+            frameCap = FRAME_CAP_DISPLAY;
+            vsync = true;
+            Log.warn(Log.Category.SETTINGS, "Could not load settings: " + e.getMessage());
         }
     }
     
@@ -3263,10 +2357,14 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             writer.write(String.valueOf(bgmVolume) + "\n");
             writer.write(String.valueOf(sfxVolume) + "\n");
             writer.write(String.valueOf(fullscreen) + "\n");
+            writer.write(String.valueOf(activeRendering) + "\n");
+            writer.write(String.valueOf(RotationAtlas.getAngleSteps()) + "\n");
+            writer.write(String.valueOf(frameCap) + "\n");
+            writer.write(String.valueOf(vsync) + "\n");
             writer.close();
-            System.out.println("Settings saved: BGM=" + bgmVolume + ", SFX=" + sfxVolume + ", Fullscreen=" + fullscreen);
+            Log.info(Log.Category.AUDIO, "Settings saved: BGM=" + bgmVolume + ", SFX=" + sfxVolume + ", Fullscreen=" + fullscreen + ", ActiveRendering=" + activeRendering + ", RotationAngles=" + RotationAtlas.getAngleSteps() + ", FrameCap=" + frameCap + ", VSync=" + vsync);
         } catch (IOException e) {
-            System.out.println("Could not save settings: " + e.getMessage());
+            Log.warn(Log.Category.SETTINGS, "Could not save settings: " + e.getMessage());
         }
     }
     
@@ -3280,13 +2378,13 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             if (line1 != null && line2 != null) {
                 level2Unlocked = Boolean.parseBoolean(line1);
                 level2HighScore = Integer.parseInt(line2);
-                System.out.println("Level 2 progress loaded: Unlocked=" + level2Unlocked + ", High Score=" + level2HighScore);
+                Log.info(Log.Category.SETTINGS, "Level 2 progress loaded: Unlocked=" + level2Unlocked + ", High Score=" + level2HighScore);
             }
         } catch (IOException | NumberFormatException e) {
             // Default values if file doesn't exist
             level2Unlocked = false;
             level2HighScore = 0;
-            System.out.println("No level 2 progress found, starting fresh.");
+            Log.info(Log.Category.SETTINGS, "No level 2 progress found, starting fresh.");
         }
     }
     
@@ -3296,23 +2394,26 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             writer.write(String.valueOf(level2Unlocked) + "\n");
             writer.write(String.valueOf(level2HighScore) + "\n");
             writer.close();
-            System.out.println("Level 2 progress saved: Unlocked=" + level2Unlocked + ", High Score=" + level2HighScore);
+            Log.info(Log.Category.SETTINGS, "Level 2 progress saved: Unlocked=" + level2Unlocked + ", High Score=" + level2HighScore);
         } catch (IOException e) {
-            System.out.println("Could not save level 2 progress: " + e.getMessage());
+            Log.warn(Log.Category.SETTINGS, "Could not save level 2 progress: " + e.getMessage());
         }
     }
     
     private void handleLevel2GameOver() {
+        if (playback != null) return; // replays don't count towards progress
+        
         // Unlock Level 2 if not already unlocked
         boolean wasLocked = !level2Unlocked;
         level2Unlocked = true;
         
         // Update high score if current score is higher
         boolean isNewRecord = false;
+        int score = world.getScore();
         if (score > level2HighScore) {
             level2HighScore = score;
             isNewRecord = true;
-            System.out.println("NEW RECORD! High Score: " + level2HighScore);
+            Log.info(Log.Category.GAME, "NEW RECORD! High Score: " + level2HighScore);
         }
         
         // Save progress
@@ -3320,47 +2421,32 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
         
         // Print status
         if (wasLocked) {
-            System.out.println("Level 2 unlocked!");
+            Log.info(Log.Category.GAME, "Level 2 unlocked!");
         }
         if (isNewRecord) {
-            System.out.println("New high score in Level 2: " + level2HighScore);
+            Log.info(Log.Category.GAME, "New high score in Level 2: " + level2HighScore);
         }
     }
     
     // Audio System Methods
     private void initializeAudio() {
+        musicPlayer.setListener(this::onMusicTrackStarted);
         try {
-            // Pre-load sound effects pool for bullet sounds
+            // Decode the bullet sound once; the mixer plays it from memory
             String soundPath = "src/Sound/SFX/Laser Beam.wav";
             File soundFile = new File(soundPath);
             
             if (soundFile.exists()) {
-                for (int i = 0; i < SFX_POOL_SIZE; i++) {
-                    try {
-                        AudioInputStream audioStream = AudioSystem.getAudioInputStream(soundFile);
-                        sfxPool[i] = AudioSystem.getClip();
-                        sfxPool[i].open(audioStream);
-                        
-                        // Set volume for each clip
-                        if (sfxPool[i].isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                            FloatControl volumeControl = (FloatControl) sfxPool[i].getControl(FloatControl.Type.MASTER_GAIN);
-                            float dB = (float) (Math.log(sfxVolume / 100.0) * 20.0);
-                            dB = Math.max(volumeControl.getMinimum(), Math.min(dB, volumeControl.getMaximum()));
-                            volumeControl.setValue(dB);
-                        }
-                    } catch (Exception e) {
-                        System.out.println("Could not load SFX clip " + i + ": " + e.getMessage());
-                    }
-                }
-                System.out.println("SFX pool initialized with " + SFX_POOL_SIZE + " clips");
+                bulletSoundId = sfxMixer.load(soundPath, BULLET_SOUND_INSTANCES);
             } else {
-                System.out.println("SFX file not found: " + soundPath);
+                Log.warn(Log.Category.AUDIO, "SFX file not found: " + soundPath);
             }
+            sfxMixer.setVolume(sfxVolume);
             
             audioInitialized = true;
-            System.out.println("Audio system initialized");
+            Log.info(Log.Category.AUDIO, "Audio system initialized");
         } catch (Exception e) {
-            System.out.println("Audio system initialization failed: " + e.getMessage());
+            Log.warn(Log.Category.AUDIO, "Audio system initialization failed: " + e.getMessage());
             audioInitialized = false;
         }
     }
@@ -3382,34 +2468,26 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
                 if (!testFile.exists()) {
                     bgmPath = "bin/Sound/BMG/dar_start.wav";
                 }
-                System.out.println("Playing Special Mode BGM: dar_start.wav");
+                Log.info(Log.Category.AUDIO, "Playing Special Mode BGM: dar_start.wav");
             } else {
                 // Normal mode - play Start BGM.wav
                 bgmPath = "src/Sound/BMG/Start BGM.wav";
-                System.out.println("Playing Normal Mode BGM: Start BGM.wav");
+                Log.info(Log.Category.AUDIO, "Playing Normal Mode BGM: Start BGM.wav");
             }
             
             File bgmFile = new File(bgmPath);
             if (!bgmFile.exists()) {
-                System.out.println("BGM file not found: " + bgmPath);
+                Log.warn(Log.Category.AUDIO, "BGM file not found: " + bgmPath);
                 return;
             }
             
-            // Load and play WAV file
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bgmFile);
-            bgmClip = AudioSystem.getClip();
-            bgmClip.open(audioStream);
-            
-            // Set volume
+            // Stream and loop continuously
             updateBGMVolume();
-            
-            // Loop continuously
-            bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
-            bgmClip.start();
-            System.out.println("BGM started successfully");
+            musicPlayer.play(bgmPath, true);
+            Log.info(Log.Category.AUDIO, "BGM started successfully");
             
         } catch (Exception e) {
-            System.out.println("Could not play BGM: " + e.getMessage());
+            Log.warn(Log.Category.AUDIO, "Could not play BGM: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -3421,66 +2499,57 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             // Stop current BGM if playing
             stopBGM();
             
-            String bgmPath;
-            
-            if (easterEggMode == 1) {
-                // Special mode: use Dar_ingame files
-                if (isFirstGameBGM) {
-                    bgmPath = "bin/Sound/BMG/Dar_ingame.wav";
-                    System.out.println("Playing first in-game BGM (Special): Dar_ingame.wav");
-                    isFirstGameBGM = false;
-                } else {
-                    int choice = random.nextInt(2);
-                    if (choice == 0) {
-                        bgmPath = "bin/Sound/BMG/Dar_ingame.wav";
-                    } else {
-                        bgmPath = "bin/Sound/BMG/Dar_ingame2.wav";
-                    }
-                    System.out.println("Playing random in-game BGM (Special): " + bgmPath);
-                }
-            } else {
-                // Normal mode: use Nor_ingame files
-                int choice = random.nextInt(2);
-                if (choice == 0) {
-                    bgmPath = "bin/Sound/BMG/Nor_ingame1.wav";
-                } else {
-                    bgmPath = "bin/Sound/BMG/Nor_ingame2.wav";
-                }
-                System.out.println("Playing random in-game BGM (Normal): " + bgmPath);
-            }
+            String bgmPath = nextInGameBGMPath();
             
             File bgmFile = new File(bgmPath);
             if (!bgmFile.exists()) {
-                System.out.println("In-game BGM file not found: " + bgmPath);
+                Log.warn(Log.Category.AUDIO, "In-game BGM file not found: " + bgmPath);
                 return;
             }
             
-            // Load and play WAV file
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bgmFile);
-            bgmClip = AudioSystem.getClip();
-            bgmClip.open(audioStream);
-            
-            // Set volume
+            // Don't loop - onMusicTrackStarted queues the next random song to follow gaplessly
             updateBGMVolume();
-            
-            // Add listener for when song ends - play next random song
-            bgmClip.addLineListener(event -> {
-                if (event.getType() == LineEvent.Type.STOP && isInGameBGM && !bossSpawned && !isFadingOut) {
-                    // Song ended naturally, play next random one
-                    SwingUtilities.invokeLater(() -> playInGameBGM());
-                }
-            });
-            
-            // Start playing (don't loop - we'll handle random selection when it ends)
-            bgmClip.start();
-            System.out.println("In-game BGM started successfully");
+            musicPlayer.play(bgmPath, false);
+            Log.info(Log.Category.AUDIO, "In-game BGM started successfully");
             
         } catch (Exception e) {
-            System.out.println("Could not play in-game BGM: " + e.getMessage());
+            Log.warn(Log.Category.AUDIO, "Could not play in-game BGM: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    // Pick the next in-game song (first one is fixed in Special mode)
+    private String nextInGameBGMPath() {
+        String bgmPath;
+        
+        if (easterEggMode == 1) {
+            // Special mode: use Dar_ingame files
+            if (isFirstGameBGM) {
+                bgmPath = "bin/Sound/BMG/Dar_ingame.wav";
+                Log.info(Log.Category.AUDIO, "Playing first in-game BGM (Special): Dar_ingame.wav");
+                isFirstGameBGM = false;
+            } else {
+                int choice = random.nextInt(2);
+                if (choice == 0) {
+                    bgmPath = "bin/Sound/BMG/Dar_ingame.wav";
+                } else {
+                    bgmPath = "bin/Sound/BMG/Dar_ingame2.wav";
+                }
+                Log.info(Log.Category.AUDIO, "Playing random in-game BGM (Special): " + bgmPath);
+            }
+        } else {
+            // Normal mode: use Nor_ingame files
+            int choice = random.nextInt(2);
+            if (choice == 0) {
+                bgmPath = "bin/Sound/BMG/Nor_ingame1.wav";
+            } else {
+                bgmPath = "bin/Sound/BMG/Nor_ingame2.wav";
+            }
+            Log.info(Log.Category.AUDIO, "Playing random in-game BGM (Normal): " + bgmPath);
+        }
+        return bgmPath;
+    }
+    
     private void playBossBGM() {
         if (!audioInitialized) return;
         
@@ -3488,133 +2557,68 @@ public class SpaceGame extends JPanel implements ActionListener, KeyListener {
             // Stop current BGM if playing
             stopBGM();
             
-            String bgmPath = "bin/Sound/BMG/BossSong.wav";
-            System.out.println("Playing Boss BGM: " + bgmPath);
+            String bgmPath = BOSS_BGM_PATH;
+            Log.info(Log.Category.AUDIO, "Playing Boss BGM: " + bgmPath);
             
             File bgmFile = new File(bgmPath);
             if (!bgmFile.exists()) {
-                System.out.println("Boss BGM file not found: " + bgmPath);
+                Log.warn(Log.Category.AUDIO, "Boss BGM file not found: " + bgmPath);
                 return;
             }
             
-            // Load and play WAV file
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bgmFile);
-            bgmClip = AudioSystem.getClip();
-            bgmClip.open(audioStream);
-            
-            // Set volume
+            // Loop boss music (already prebuffered during the fade-out)
             updateBGMVolume();
-            
-            // Loop boss music
-            bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
-            bgmClip.start();
-            System.out.println("Boss BGM started successfully");
+            musicPlayer.play(bgmPath, true);
+            Log.info(Log.Category.AUDIO, "Boss BGM started successfully");
             
         } catch (Exception e) {
-            System.out.println("Could not play Boss BGM: " + e.getMessage());
+            Log.warn(Log.Category.AUDIO, "Could not play Boss BGM: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
     private void stopBGM() {
-        if (bgmClip != null) {
-            if (bgmClip.isRunning()) {
-                bgmClip.stop();
-            }
-            bgmClip.close();
-            bgmClip = null;
-            System.out.println("BGM stopped");
-        }
+        musicPlayer.stop();
+        Log.info(Log.Category.AUDIO, "BGM stopped");
         isFadingOut = false;
     }
     
     private void updateBGMVolume() {
-        if (bgmClip != null && bgmClip.isOpen()) {
-            try {
-                FloatControl volumeControl = (FloatControl) bgmClip.getControl(FloatControl.Type.MASTER_GAIN);
-                // Convert 0-100 to decibels (range typically -80.0 to 6.0)
-                float dB = (float) (Math.log(bgmVolume / 100.0) * 20.0);
-                // Clamp to valid range
-                dB = Math.max(volumeControl.getMinimum(), Math.min(dB, volumeControl.getMaximum()));
-                volumeControl.setValue(dB);
-                System.out.println("BGM volume set to: " + bgmVolume + "% (" + dB + " dB)");
-            } catch (Exception e) {
-                System.out.println("Could not adjust BGM volume: " + e.getMessage());
-            }
+        // Applied by the music thread, ramped over one buffer
+        musicPlayer.setVolume(bgmVolume);
+        Log.info(Log.Category.AUDIO, "BGM volume set to: " + bgmVolume + "%");
+    }
+    
+    // Runs on the music thread each time a track starts
+    private void onMusicTrackStarted(String path) {
+        if (isInGameBGM && !world.isBossSpawned() && !isFadingOut && !path.equals(BOSS_BGM_PATH)) {
+            // Queue the next random song so it follows this one without a gap
+            musicPlayer.queue(nextInGameBGMPath());
         }
     }
     
     private void playSFX(String soundPath) {
         if (!audioInitialized) return;
         
-        try {
-            File soundFile = new File(soundPath);
-            if (!soundFile.exists()) {
-                System.out.println("SFX file not found: " + soundPath);
-                return;
-            }
-            
-            // Create a new clip for SFX (don't reuse to allow overlapping sounds)
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(soundFile);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            
-            // Set SFX volume
-            try {
-                FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                float dB = (float) (Math.log(sfxVolume / 100.0) * 20.0);
-                dB = Math.max(volumeControl.getMinimum(), Math.min(dB, volumeControl.getMaximum()));
-                volumeControl.setValue(dB);
-            } catch (Exception e) {
-                System.out.println("Could not adjust SFX volume: " + e.getMessage());
-            }
-            
-            clip.start();
-            
-            // Clean up after playing
-            clip.addLineListener(event -> {
-                if (event.getType() == LineEvent.Type.STOP) {
-                    clip.close();
-                }
-            });
-            
-        } catch (Exception e) {
-            System.out.println("Could not play SFX: " + e.getMessage());
-            e.printStackTrace();
+        File soundFile = new File(soundPath);
+        if (!soundFile.exists()) {
+            Log.warn(Log.Category.AUDIO, "SFX file not found: " + soundPath);
+            return;
         }
+        
+        // Decoded on first use, then played from memory (overlapping calls get their own voices)
+        sfxMixer.play(sfxMixer.load(soundPath, SfxMixer.MAX_VOICES), 1f, 0f, SfxMixer.PRIORITY_NORMAL);
     }
     
-    private void playBulletSound() {
-        if (!audioInitialized || sfxPool == null) return;
+    private void playBulletSound(Player shooter) {
+        if (!audioInitialized) return;
         
-        try {
-            // Use round-robin pooling for non-blocking sound playback
-            Clip clip = sfxPool[sfxPoolIndex];
-            
-            if (clip != null && clip.isOpen()) {
-                // Stop and rewind the clip if it's playing
-                if (clip.isRunning()) {
-                    clip.stop();
-                }
-                clip.setFramePosition(0);
-                
-                // Update volume in case it changed
-                if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                    FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                    float dB = (float) (Math.log(sfxVolume / 100.0) * 20.0);
-                    dB = Math.max(volumeControl.getMinimum(), Math.min(dB, volumeControl.getMaximum()));
-                    volumeControl.setValue(dB);
-                }
-                
-                // Play the sound
-                clip.start();
-                
-                // Move to next clip in pool (round-robin)
-                sfxPoolIndex = (sfxPoolIndex + 1) % SFX_POOL_SIZE;
-            }
-        } catch (Exception e) {
-            System.out.println("Could not play bullet sound from pool: " + e.getMessage());
+        // Pan by where the shooter is on screen; lowest priority so shots never cut off other sounds
+        float pan = 0f;
+        if (shooter != null) {
+            float screenX = (shooter.getX() - world.getCameraX()) / (float) SCREEN_WIDTH;
+            pan = Math.max(-1f, Math.min(1f, (screenX * 2f - 1f) * SHOT_PAN_WIDTH));
         }
+        sfxMixer.play(bulletSoundId, 1f, pan, SfxMixer.PRIORITY_LOW);
     }
 }
-
@@ -0,0 +1,224 @@
+import java.awt.*;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+/**
+ * Parallax star background baked into tiles that are generated on demand.
+ *
+ * Every star has a world position and a depth Z from 1 (far, small) to 3
+ * (near, large); Z picks the layer it is drawn in. Each layer scrolls at its
+ * own fraction of the camera speed and is cut into TILE_SIZE square
+ * VolatileImage tiles. Stars are not stored: the world is split into
+ * CELL_SIZE cells whose stars come from a hash of the field seed and the
+ * cell, so any tile can be rebuilt at any time from the cells under it.
+ * Each layer keeps its tiles in a fixed ring a little larger than the view,
+ * indexed by column and row modulo the ring size, so a frame only creates or
+ * blits the tiles that intersect the view and a tile scrolling in simply
+ * takes over the slot (and image) of one that scrolled out. Memory and cost
+ * depend on the screen size, not the world size. Tiles whose contents the
+ * system drops (display mode change, another app grabbing video memory) are
+ * repainted on the next frame they are needed.
+ */
+public class StarField {
+    public static final int TILE_SIZE = 128;
+    private static final int CELL_SIZE = 128; // world pixels per star generation cell
+    private static final int LAYERS = 3;
+    private static final double[] SCROLL = { 0.5, 0.75, 1.0 }; // by layer, far to near
+    private static final Color[] COLORS = { Color.GRAY, Color.LIGHT_GRAY, Color.WHITE };
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final int worldWidth, worldHeight;
+    private final int viewWidth, viewHeight;
+    private final double starsPerCell; // mean star count of a full cell, all depths
+    private final Layer[] layers = new Layer[LAYERS];
+
+    /**
+     * One depth of stars in its own scrolled coordinate space
+     */
+    private static final class Layer {
+        final int size;          // star diameter, equal to the stars' Z
+        final double scroll;     // fraction of the camera offset
+        final int cols, rows;
+        final long width, height; // cols/rows * TILE_SIZE, the space world positions are scaled into
+        final int ringCols, ringRows;
+        final Tile[] ring;
+
+        Layer(int size, double scroll, long width, long height, int viewWidth, int viewHeight) {
+            this.size = size;
+            this.scroll = scroll;
+            this.cols = (int) ((width + TILE_SIZE - 1) / TILE_SIZE);
+            this.rows = (int) ((height + TILE_SIZE - 1) / TILE_SIZE);
+            this.width = (long) cols * TILE_SIZE;
+            this.height = (long) rows * TILE_SIZE;
+            // Up to view / TILE_SIZE + 2 tiles are visible; one more keeps a tile just off screen
+            this.ringCols = Math.min(cols, viewWidth / TILE_SIZE + 3);
+            this.ringRows = Math.min(rows, viewHeight / TILE_SIZE + 3);
+            this.ring = new Tile[ringCols * ringRows];
+            for (int i = 0; i < ring.length; i++) ring[i] = new Tile();
+        }
+    }
+
+    /**
+     * A ring slot: the tile at (col, row) with its stars relative to the tile
+     */
+    private static final class Tile {
+        int col = -1, row = -1;
+        int count;
+        int[] starX = new int[8], starY = new int[8];
+        VolatileImage image; // kept across owners, repainted when the slot changes tile
+        boolean painted;
+    }
+
+    /**
+     * @param seed Picks the star pattern
+     * @param density Stars per square world pixel, over all depths
+     */
+    public StarField(long seed, double density, int worldWidth, int worldHeight, int viewWidth, int viewHeight) {
+        this.seed = seed;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.starsPerCell = density * CELL_SIZE * CELL_SIZE;
+        for (int l = 0; l < LAYERS; l++) {
+            // A layer scrolling at s only needs to cover view + s * (world - view)
+            long width = viewWidth + (long) Math.ceil(SCROLL[l] * (worldWidth - viewWidth));
+            long height = viewHeight + (long) Math.ceil(SCROLL[l] * (worldHeight - viewHeight));
+            layers[l] = new Layer(l + 1, SCROLL[l], width, height, viewWidth, viewHeight);
+        }
+    }
+
+    /**
+     * Draw in screen space for the given camera position (0,0 for menus)
+     */
+    public synchronized void draw(Graphics2D g2d, int cameraX, int cameraY) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        for (Layer layer : layers) {
+            int ox = (int) Math.round(cameraX * layer.scroll);
+            int oy = (int) Math.round(cameraY * layer.scroll);
+            int c0 = Math.max(0, ox / TILE_SIZE);
+            int c1 = Math.min(layer.cols - 1, (ox + viewWidth - 1) / TILE_SIZE);
+            int r0 = Math.max(0, oy / TILE_SIZE);
+            int r1 = Math.min(layer.rows - 1, (oy + viewHeight - 1) / TILE_SIZE);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    Tile tile = tile(layer, c, r);
+                    if (tile.count == 0) continue;
+                    VolatileImage image = validImage(layer, tile, gc);
+                    g2d.drawImage(image, c * TILE_SIZE - ox, r * TILE_SIZE - oy, null);
+                    // Lost while drawing: validImage() repaints it next frame
+                }
+            }
+        }
+    }
+
+    // The ring slot for (c, r), regenerated if it currently holds another tile
+    private Tile tile(Layer layer, int c, int r) {
+        Tile tile = layer.ring[(r % layer.ringRows) * layer.ringCols + c % layer.ringCols];
+        if (tile.col != c || tile.row != r) {
+            tile.col = c;
+            tile.row = r;
+            tile.painted = false;
+            collectStars(layer, tile);
+        }
+        return tile;
+    }
+
+    // Fill the tile with the stars of its layer whose oval touches it
+    private void collectStars(Layer layer, Tile tile) {
+        tile.count = 0;
+        int tx = tile.col * TILE_SIZE;
+        int ty = tile.row * TILE_SIZE;
+        // World area that scales into the tile, widened by a star size and rounding
+        long wx0 = (tx - layer.size) * (long) worldWidth / layer.width - 1;
+        long wx1 = (tx + TILE_SIZE) * (long) worldWidth / layer.width + 1;
+        long wy0 = (ty - layer.size) * (long) worldHeight / layer.height - 1;
+        long wy1 = (ty + TILE_SIZE) * (long) worldHeight / layer.height + 1;
+        int cx0 = (int) Math.max(0, wx0 / CELL_SIZE), cx1 = (int) Math.min((worldWidth - 1) / CELL_SIZE, wx1 / CELL_SIZE);
+        int cy0 = (int) Math.max(0, wy0 / CELL_SIZE), cy1 = (int) Math.min((worldHeight - 1) / CELL_SIZE, wy1 / CELL_SIZE);
+        double limit = Math.exp(-starsPerCell);
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                // Star generator for one cell; the same cell always gives the same stars
+                long s = seed;
+                s = (s + cx) * GOLDEN;
+                s = (s + cy) * GOLDEN;
+                // Poisson-distributed star count (stars are sparse, so Knuth's method is cheap)
+                double p = unit(s += GOLDEN);
+                while (p > limit) {
+                    p *= unit(s += GOLDEN);
+                    int x = cx * CELL_SIZE + below(s += GOLDEN, CELL_SIZE);
+                    int y = cy * CELL_SIZE + below(s += GOLDEN, CELL_SIZE);
+                    int z = below(s += GOLDEN, LAYERS) + 1; // Size 1-3
+                    if (z != layer.size || x >= worldWidth || y >= worldHeight) continue;
+                    int lx = (int) (x * layer.width / worldWidth) - tx;
+                    int ly = (int) (y * layer.height / worldHeight) - ty;
+                    if (lx + layer.size <= 0 || ly + layer.size <= 0 || lx >= TILE_SIZE || ly >= TILE_SIZE) continue;
+                    if (tile.count == tile.starX.length) {
+                        tile.starX = Arrays.copyOf(tile.starX, tile.count * 2);
+                        tile.starY = Arrays.copyOf(tile.starY, tile.count * 2);
+                    }
+                    tile.starX[tile.count] = lx;
+                    tile.starY[tile.count] = ly;
+                    tile.count++;
+                }
+            }
+        }
+    }
+
+    // splitmix64 finaliser: a well mixed 64-bit value from a counter
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Uniform in [0, 1)
+    private static double unit(long s) {
+        return (mix(s) >>> 11) * 0x1.0p-53;
+    }
+
+    // Uniform in [0, bound)
+    private static int below(long s, int bound) {
+        return (int) (((mix(s) >>> 32) * bound) >>> 32);
+    }
+
+    // The tile's image, created or repainted if its contents are missing or belong to another tile
+    private VolatileImage validImage(Layer layer, Tile tile, GraphicsConfiguration gc) {
+        VolatileImage image = tile.image;
+        int status = image == null ? VolatileImage.IMAGE_INCOMPATIBLE : image.validate(gc);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            if (image != null) image.flush();
+            image = gc.createCompatibleVolatileImage(TILE_SIZE, TILE_SIZE, Transparency.TRANSLUCENT);
+            tile.image = image;
+            paintTile(layer, tile, image);
+        } else if (status == VolatileImage.IMAGE_RESTORED || !tile.painted || image.contentsLost()) {
+            paintTile(layer, tile, image);
+        }
+        return image;
+    }
+
+    private static void paintTile(Layer layer, Tile tile, VolatileImage image) {
+        Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(COLORS[layer.size - 1]);
+        for (int i = 0; i < tile.count; i++) {
+            g2d.fillOval(tile.starX[i], tile.starY[i], layer.size, layer.size);
+        }
+        g2d.dispose();
+        tile.painted = true;
+    }
+
+    // Getters
+    public int getCachedTileCount() {
+        int n = 0;
+        for (Layer layer : layers) {
+            for (Tile tile : layer.ring) if (tile.col >= 0) n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,278 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Sprite pages shared by everything the game draws from images.
+ *
+ * Source sprites (everything under Pic/, see AssetCache.packAll()) are copied
+ * into a few large pages in the screen's compatible format, and each one is
+ * described by a Region (page + rectangle). RotationAtlas frames and
+ * GlyphCache text are packed the same way into separate frame pages, which
+ * are dropped when the rotation quality changes. Drawing a Region blits from
+ * its page, so Java2D keeps one cached texture per page instead of one per
+ * sprite, and callers can sort their draws by getPage() to avoid switching
+ * textures.
+ *
+ * Pages are filled with a skyline packer: each page tracks the top edge of
+ * what is already placed, and a region goes at the lowest (then leftmost)
+ * spot on the first page where it fits, otherwise on a new page.
+ * dump() writes every page and the layout for debugging.
+ */
+public final class TextureAtlas {
+    public static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2; // transparent gap so scaled draws don't bleed
+
+    private static final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private static final PageSet spritePages = new PageSet("sprite");
+    private static final PageSet framePages = new PageSet("frame");
+    private static int nextPageId = 0;
+    private static volatile int frameGeneration = 0; // bumped by clearFrames()
+
+    private TextureAtlas() {
+    }
+
+    /**
+     * One rectangle on a page
+     */
+    public static final class Region {
+        private final String name;
+        private final BufferedImage page;
+        private final int pageId;
+        private final int x, y, width, height;
+
+        private Region(String name, BufferedImage page, int pageId, int x, int y, int width, int height) {
+            this.name = name;
+            this.page = page;
+            this.pageId = pageId;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Draw at its own size with the top-left corner at (dx, dy)
+         */
+        public void draw(Graphics2D g2d, int dx, int dy) {
+            g2d.drawImage(page, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * Draw scaled into the given rectangle
+         */
+        public void draw(Graphics2D g2d, int dx, int dy, int dw, int dh) {
+            g2d.drawImage(page, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * Graphics for painting into this region, clipped to it with (0,0) at its top-left
+         */
+        Graphics2D createGraphics() {
+            Graphics2D g2d = page.createGraphics();
+            g2d.clipRect(x, y, width, height);
+            g2d.translate(x, y);
+            return g2d;
+        }
+
+        /**
+         * Standalone view of the region's pixels (shares the page's memory)
+         */
+        public BufferedImage toImage() {
+            return page.getSubimage(x, y, width, height);
+        }
+
+        // Getters
+        public String getName() { return name; }
+        public int getPage() { return pageId; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    /**
+     * Copy a sprite into the sprite pages under the given name.
+     * Adding a name twice returns the first region.
+     */
+    public static synchronized Region add(String name, BufferedImage image) {
+        Region existing = regions.get(name);
+        if (existing != null) return existing;
+        Region region = spritePages.allocate(name, image.getWidth(), image.getHeight());
+        Graphics2D g2d = region.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        regions.put(name, region);
+        return region;
+    }
+
+    /**
+     * @return region of a sprite added earlier, or null
+     */
+    public static Region get(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Reserve an empty (transparent) region on the frame pages, for RotationAtlas and GlyphCache
+     */
+    public static synchronized Region allocateFrame(int width, int height) {
+        return framePages.allocate(null, width, height);
+    }
+
+    /**
+     * Forget all frame pages. Regions handed out earlier stay drawable (their
+     * pages are not reused), they just stop being shared with new ones.
+     */
+    public static synchronized void clearFrames() {
+        framePages.clear();
+        frameGeneration++;
+    }
+
+    /**
+     * Write every page as atlas-<kind>-<id>.png plus atlas-layout.txt into a directory
+     */
+    public static void dump(File dir) throws IOException {
+        List<Page> pages = new ArrayList<>();
+        List<Region> named = new ArrayList<>(regions.values());
+        synchronized (TextureAtlas.class) {
+            pages.addAll(spritePages.pages);
+            pages.addAll(framePages.pages);
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("could not create " + dir);
+        }
+        named.sort((a, b) -> a.pageId != b.pageId ? Integer.compare(a.pageId, b.pageId) : a.name.compareTo(b.name));
+        try (PrintWriter out = new PrintWriter(new FileWriter(new File(dir, "atlas-layout.txt")))) {
+            out.println("# page kind size regions used%");
+            for (Page page : pages) {
+                out.printf("page %d %s %dx%d %d %.1f%%%n", page.id, page.kind, page.image.getWidth(),
+                        page.image.getHeight(), page.regionCount,
+                        100.0 * page.usedArea / (page.image.getWidth() * (double) page.image.getHeight()));
+                ImageIO.write(page.image, "png", new File(dir, "atlas-" + page.kind + "-" + page.id + ".png"));
+            }
+            out.println("# name page x y width height");
+            for (Region r : named) {
+                out.printf("%s %d %d %d %d %d%n", r.name, r.pageId, r.x, r.y, r.width, r.height);
+            }
+        }
+    }
+
+    // Stats
+    public static synchronized int getSpritePageCount() { return spritePages.pages.size(); }
+    public static synchronized int getFramePageCount() { return framePages.pages.size(); }
+    public static int getSpriteCount() { return regions.size(); }
+    public static int getFrameGeneration() { return frameGeneration; }
+
+    private static final class Page {
+        final int id;
+        final String kind;
+        final BufferedImage image;
+        final List<int[]> skyline = new ArrayList<>(); // {x, y, width} segments, left to right
+        int regionCount = 0;
+        long usedArea = 0;
+
+        Page(int id, String kind, BufferedImage image) {
+            this.id = id;
+            this.kind = kind;
+            this.image = image;
+            skyline.add(new int[] { 0, 0, image.getWidth() });
+        }
+
+        // Top-left of a w x h slot, or null if it doesn't fit
+        Point place(int w, int h) {
+            int bestY = Integer.MAX_VALUE;
+            int bestX = 0;
+            int bestIndex = -1;
+            for (int i = 0; i < skyline.size(); i++) {
+                int x = skyline.get(i)[0];
+                if (x + w > image.getWidth()) break;
+                // Resting height: the highest segment under the span x..x+w
+                int y = 0;
+                for (int k = i; k < skyline.size() && skyline.get(k)[0] < x + w; k++) {
+                    y = Math.max(y, skyline.get(k)[1]);
+                }
+                if (y + h <= image.getHeight() && y < bestY) {
+                    bestY = y;
+                    bestX = x;
+                    bestIndex = i;
+                }
+            }
+            if (bestIndex < 0) return null;
+
+            // Raise the skyline under the new region
+            int right = bestX + w;
+            int i = bestIndex;
+            while (i < skyline.size() && skyline.get(i)[0] < right) {
+                int[] seg = skyline.get(i);
+                int segRight = seg[0] + seg[2];
+                if (segRight <= right) {
+                    skyline.remove(i);
+                } else {
+                    seg[2] = segRight - right;
+                    seg[0] = right;
+                    break;
+                }
+            }
+            skyline.add(bestIndex, new int[] { bestX, bestY + h, w });
+            // Merge neighbours at the same height
+            for (int k = skyline.size() - 1; k > 0; k--) {
+                int[] a = skyline.get(k - 1);
+                int[] b = skyline.get(k);
+                if (a[1] == b[1]) {
+                    a[2] += b[2];
+                    skyline.remove(k);
+                }
+            }
+            regionCount++;
+            usedArea += (long) w * h;
+            return new Point(bestX, bestY);
+        }
+    }
+
+    private static final class PageSet {
+        final String kind;
+        final List<Page> pages = new ArrayList<>();
+
+        PageSet(String kind) {
+            this.kind = kind;
+        }
+
+        // Earlier pages first so gaps left by big sprites still get used
+        Region allocate(String name, int width, int height) {
+            int w = width + PADDING;
+            int h = height + PADDING;
+            for (Page page : pages) {
+                Point p = page.place(w, h);
+                if (p != null) return new Region(name, page.image, page.id, p.x, p.y, width, height);
+            }
+            // Oversized sprites get a page of their own
+            Page page = new Page(nextPageId++, kind,
+                    createPage(Math.max(PAGE_SIZE, w), Math.max(PAGE_SIZE, h)));
+            pages.add(page);
+            Point p = page.place(w, h);
+            return new Region(name, page.image, page.id, p.x, p.y, width, height);
+        }
+
+        void clear() {
+            pages.clear();
+        }
+    }
+
+    private static BufferedImage createPage(int w, int h) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+    }
+}
@@ -0,0 +1,115 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared immutable drawing resources.
+ *
+ * Fonts, strokes and alpha composites are created once here and handed out
+ * by value, so draw code never allocates them per frame. Colours that fade
+ * get a 256-step alpha ramp built on first use. metrics() gives FontMetrics
+ * without a Graphics, for measuring text before drawing it.
+ */
+public final class UiResources {
+    public static final String FONT_FAMILY = "Arial";
+    private static final int MAX_FONT_SIZE = 72;
+    private static final int MAX_STROKE_WIDTH = 32;
+
+    private static final Font[][] fonts = new Font[Font.BOLD + Font.ITALIC + 1][MAX_FONT_SIZE + 1];
+    private static final Font[] monospacedFonts = new Font[MAX_FONT_SIZE + 1];
+    private static final BasicStroke[] strokes = new BasicStroke[MAX_STROKE_WIDTH + 1];
+    private static final BasicStroke[] roundStrokes = new BasicStroke[MAX_STROKE_WIDTH + 1];
+    private static final AlphaComposite[] composites = new AlphaComposite[256];
+    private static final Map<Color, Color[]> alphaRamps = new ConcurrentHashMap<>();
+    private static final Map<Font, FontMetrics> metrics = new ConcurrentHashMap<>();
+    private static final Graphics2D measure;
+
+    static {
+        for (int style = 0; style < fonts.length; style++) {
+            for (int size = 1; size <= MAX_FONT_SIZE; size++) {
+                fonts[style][size] = new Font(FONT_FAMILY, style, size);
+            }
+        }
+        for (int size = 1; size <= MAX_FONT_SIZE; size++) {
+            monospacedFonts[size] = new Font(Font.MONOSPACED, Font.PLAIN, size);
+        }
+        for (int w = 0; w <= MAX_STROKE_WIDTH; w++) {
+            strokes[w] = new BasicStroke(w);
+            roundStrokes[w] = new BasicStroke(w, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        }
+        for (int a = 0; a < composites.length; a++) {
+            composites[a] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, a / 255f);
+        }
+        // Same hints as the game's frames, so measured widths match drawn ones
+        measure = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        measure.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    private UiResources() {
+    }
+
+    /**
+     * Arial in the given style (Font.PLAIN/BOLD/ITALIC) and point size
+     */
+    public static Font font(int style, int size) {
+        return fonts[style][Math.max(1, Math.min(MAX_FONT_SIZE, size))];
+    }
+
+    /**
+     * Plain monospaced font (for column-aligned debug text) in the given point size
+     */
+    public static Font monospaced(int size) {
+        return monospacedFonts[Math.max(1, Math.min(MAX_FONT_SIZE, size))];
+    }
+
+    /**
+     * Plain stroke of a whole-pixel width
+     */
+    public static BasicStroke stroke(int width) {
+        return strokes[Math.max(0, Math.min(MAX_STROKE_WIDTH, width))];
+    }
+
+    /**
+     * Stroke with round caps and joins
+     */
+    public static BasicStroke roundStroke(int width) {
+        return roundStrokes[Math.max(0, Math.min(MAX_STROKE_WIDTH, width))];
+    }
+
+    /**
+     * SRC_OVER composite with the alpha (0..1) rounded to 1/255
+     */
+    public static AlphaComposite alpha(float alpha) {
+        return composites[Math.round(Math.max(0f, Math.min(1f, alpha)) * 255)];
+    }
+
+    /**
+     * The colour with its alpha replaced (0..255)
+     */
+    public static Color withAlpha(Color color, int alpha) {
+        Color[] ramp = alphaRamps.get(color);
+        if (ramp == null) {
+            ramp = alphaRamps.computeIfAbsent(color, UiResources::buildRamp);
+        }
+        return ramp[Math.max(0, Math.min(255, alpha))];
+    }
+
+    private static Color[] buildRamp(Color color) {
+        Color[] ramp = new Color[256];
+        for (int a = 0; a < ramp.length; a++) {
+            ramp[a] = new Color(color.getRed(), color.getGreen(), color.getBlue(), a);
+        }
+        return ramp;
+    }
+
+    public static FontMetrics metrics(Font font) {
+        FontMetrics fm = metrics.get(font);
+        if (fm == null) {
+            synchronized (measure) {
+                fm = metrics.computeIfAbsent(font, measure::getFontMetrics);
+            }
+        }
+        return fm;
+    }
+}
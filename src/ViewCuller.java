@@ -0,0 +1,93 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+
+/**
+ * Camera culling for the world draw lists.
+ *
+ * begin() works out which part of the world is on screen this frame (the
+ * camera rectangle, or more in fullscreen where the letterbox bars show the
+ * world too) and grows it by MARGIN. isVisible() is then a box test against
+ * that area, which also counts drawn and culled objects for the performance
+ * overlay. clipLine() trims long beams to the clip so only the visible part
+ * is stroked.
+ */
+public class ViewCuller {
+    public static final int MARGIN = 32;
+
+    private int left, top, right, bottom;
+    private int drawn, culled;
+
+    /**
+     * Start a frame. Call with the camera transform already applied.
+     * @return the visible world area (including the margin)
+     */
+    public Rectangle begin(Graphics2D g2d, int panelWidth, int panelHeight, int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        Rectangle view;
+        try {
+            AffineTransform toWorld = g2d.getTransform().createInverse();
+            view = toWorld.createTransformedShape(new Rectangle(0, 0, panelWidth, panelHeight)).getBounds();
+        } catch (NoninvertibleTransformException e) {
+            view = new Rectangle(cameraX, cameraY, viewWidth, viewHeight);
+        }
+        view.grow(MARGIN, MARGIN);
+        left = view.x;
+        top = view.y;
+        right = view.x + view.width;
+        bottom = view.y + view.height;
+        drawn = 0;
+        culled = 0;
+        return view;
+    }
+
+    /**
+     * Whether an object centred at (x, y) reaching extent pixels out in every direction is on screen.
+     * Counts the answer.
+     */
+    public boolean isVisible(double x, double y, double extent) {
+        if (x + extent < left || x - extent > right || y + extent < top || y - extent > bottom) {
+            culled++;
+            return false;
+        }
+        drawn++;
+        return true;
+    }
+
+    /**
+     * Trim the segment {x1, y1, x2, y2} in place to the bounds (Liang-Barsky).
+     * @param bounds Clip in user space, or null for no clipping
+     * @return false if no part of the segment is inside
+     */
+    public static boolean clipLine(double[] line, Rectangle bounds) {
+        if (bounds == null) return true;
+        double x1 = line[0], y1 = line[1];
+        double dx = line[2] - x1;
+        double dy = line[3] - y1;
+        double t0 = 0, t1 = 1;
+        double[] p = { -dx, dx, -dy, dy };
+        double[] q = { x1 - bounds.x, bounds.x + bounds.width - x1, y1 - bounds.y, bounds.y + bounds.height - y1 };
+        for (int i = 0; i < 4; i++) {
+            if (p[i] == 0) {
+                if (q[i] < 0) return false; // parallel and outside
+            } else {
+                double t = q[i] / p[i];
+                if (p[i] < 0) {
+                    if (t > t1) return false;
+                    if (t > t0) t0 = t;
+                } else {
+                    if (t < t0) return false;
+                    if (t < t1) t1 = t;
+                }
+            }
+        }
+        line[0] = x1 + t0 * dx;
+        line[1] = y1 + t0 * dy;
+        line[2] = x1 + t1 * dx;
+        line[3] = y1 + t1 * dy;
+        return true;
+    }
+
+    // Getters
+    public int getDrawn() { return drawn; }
+    public int getCulled() { return culled; }
+}
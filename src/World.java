@@ -0,0 +1,1714 @@
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import managers.CommandBuffer;
+import managers.SpatialHashGrid;
+
+/**
+ * The game rules without any Swing: spawning, boss attacks, collisions,
+ * power-ups and level progression.
+ *
+ * Time comes from a GameClock that the caller advances one fixed step at a
+ * time, and every roll from one seeded Random, so the same World can run
+ * inside SpaceGame's game loop or headless as fast as the CPU allows (see
+ * HeadlessRunner), and a replay repeats it exactly. Anything outside the simulation
+ * (music, screens, saving progress) is reported through a Listener.
+ * Not thread-safe: SpaceGame steps it under its simLock.
+ *
+ * The world size comes from -Dbrex.worldWidth / -Dbrex.worldHeight (default
+ * 3000x2100, up to MAX_WORLD_SIZE, the largest size played through
+ * headless); only the chunks around the players are
+ * simulated (see WorldChunks), so large worlds cost no more per tick.
+ */
+public class World {
+    
+    public static final int VIEW_WIDTH = 1000;   // หน้าจอที่เห็น
+    public static final int VIEW_HEIGHT = 700;   // หน้าจอที่เห็น
+    public static final int DEFAULT_WORLD_WIDTH = 3000;
+    public static final int DEFAULT_WORLD_HEIGHT = 2100;
+    public static final int MAX_WORLD_SIZE = 100_000;
+    public static final int WORLD_WIDTH = worldSize("brex.worldWidth", DEFAULT_WORLD_WIDTH, VIEW_WIDTH);    // โลกทั้งหมด (3x ใหญ่กว่า)
+    public static final int WORLD_HEIGHT = worldSize("brex.worldHeight", DEFAULT_WORLD_HEIGHT, VIEW_HEIGHT); // โลกทั้งหมด (3x ใหญ่กว่า)
+    private static final int BOSS_LASER_LENGTH = DEFAULT_WORLD_WIDTH; // ยาวเท่าแมพเดิม
+    
+    // Input bits, see setInput()
+    public static final int INPUT_UP = 1;
+    public static final int INPUT_DOWN = 1 << 1;
+    public static final int INPUT_LEFT = 1 << 2;
+    public static final int INPUT_RIGHT = 1 << 3;
+    public static final int INPUT_ARROW_UP = 1 << 4;
+    public static final int INPUT_ARROW_DOWN = 1 << 5;
+    public static final int INPUT_ARROW_LEFT = 1 << 6;
+    public static final int INPUT_ARROW_RIGHT = 1 << 7;
+    // One-shot actions, see queueAction(); applied at the start of the next update()
+    public static final int INPUT_SPECIAL = 1 << 8;
+    public static final int INPUT_SPECIAL2 = 1 << 9;
+    public static final int INPUT_TOGGLE_COOP = 1 << 10;
+    public static final int INPUT_TOGGLE_MANUAL = 1 << 11;
+    public static final int INPUT_UPGRADE_HP = 1 << 12;
+    public static final int INPUT_UPGRADE_SPEED = 1 << 13;
+    public static final int INPUT_UPGRADE_FIRERATE = 1 << 14;
+    private static final int ACTION_BITS = INPUT_SPECIAL | INPUT_SPECIAL2 | INPUT_TOGGLE_COOP | INPUT_TOGGLE_MANUAL
+            | INPUT_UPGRADE_HP | INPUT_UPGRADE_SPEED | INPUT_UPGRADE_FIRERATE;
+    
+    /**
+     * Events the game reacts to outside the simulation.
+     * Everything defaults to a no-op, so a headless run can ignore them.
+     */
+    public interface Listener {
+        default void bossSpawned() {}
+        default void levelUp(int newLevel) {}
+        default void level1Complete() {}
+        default void level2GameOver() {}
+        default void playerShot(Player shooter) {}
+    }
+    
+    private final GameClock clock;
+    private final Listener listener;
+    private final Random random;
+    private long now;
+    private long tickCount = 0;
+    private int input = 0;
+    private int tickInput = 0; // input as seen by the last update(), actions included
+    
+    private Player player;
+    private Player player2; // Co-op mode player 2
+    private boolean coopMode = false; // Co-op mode active
+    private boolean manualControlMode = false;
+    private final ArrayList<Bullet> bullets2 = new ArrayList<>(); // Player 2 bullets
+    private final ArrayList<Enemy> enemies = new ArrayList<>();
+    private final ArrayList<Bullet> bullets = new ArrayList<>();
+    private final ArrayList<EnemyBullet> enemyBullets = new ArrayList<>();
+    private final ArrayList<PowerUp> powerUps = new ArrayList<>();
+    private final ArrayList<DamagePopup> damagePopups = new ArrayList<>();
+    private final ParticleSystem particles = new ParticleSystem(1024, 50000);
+    private final WorldChunks chunks = new WorldChunks(WORLD_WIDTH, WORLD_HEIGHT);
+    private final JobSystem jobs = JobSystem.shared(); // parallel per-entity updates
+    private int score;
+    private int level;
+    private int currentLevel = 1; // 1 or 2
+    private int enemySpawnRate;
+    private long gameStartTime;
+    private long lastEnemySpawn;
+    private boolean gameRunning;
+    
+    // Boss
+    private Boss boss;
+    private boolean bossSpawned = false;
+    public static final long BOSS_SPAWN_TIME = 25000; // 3.5 minutes in milliseconds
+    
+    // Boss attack system
+    private final ArrayList<BossBullet> bossBullets = new ArrayList<>();
+    private final ArrayList<BossLaser> bossLasers = new ArrayList<>();
+    private boolean bossLasersCreated = false;
+    private double laserRotationDirection = 1.0; // 1.0 = clockwise, -1.0 = counter-clockwise
+    private long lastHomingBulletSpawn = 0; // เวลาที่ spawn homing bullet ครั้งล่าสุด
+    private static final long HOMING_SPAWN_INTERVAL = 2000; // spawn ทุก 2 วินาที
+    
+    // Boss damage cooldowns
+    private long lastBossCollisionDamage = 0;
+    private long lastBossLaserDamage = 0;
+    private static final long BOSS_DAMAGE_COOLDOWN = 500; // 0.5 วินาที
+    
+    // Collision broad-phase, rebuilt every tick
+    private final SpatialHashGrid<Object> targetGrid = new SpatialHashGrid<>(); // enemies + boss
+    private final SpatialHashGrid<Object> hazardGrid = new SpatialHashGrid<>(); // enemy/boss bullets
+    private final List<Object> gridCandidates = new ArrayList<>();
+    
+    // Pools for short-lived entities; see releasePooledEntities()
+    private final ObjectPool<Bullet> bulletPool = new ObjectPool<>("Bullet", Bullet::new, 256);
+    private final ObjectPool<EnemyBullet> enemyBulletPool = new ObjectPool<>("EnemyBullet", EnemyBullet::new, 256);
+    private final ObjectPool<BossBullet> bossBulletPool = new ObjectPool<>("BossBullet", BossBullet::new, 128);
+    private final ObjectPool<DamagePopup> popupPool = new ObjectPool<>("DamagePopup", DamagePopup::new, 64);
+    
+    // Kills, spawns, popups and player damage recorded during a tick; commands.flush() applies them at its end
+    private final CommandBuffer commands = new CommandBuffer();
+    private final CommandBuffer.Channel<Enemy> enemyCommands = commands.channel(enemies, null);
+    private final CommandBuffer.Channel<Bullet> bulletCommands = commands.channel(bullets, bulletPool::release);
+    private final CommandBuffer.Channel<Bullet> bullet2Commands = commands.channel(bullets2, bulletPool::release);
+    private final CommandBuffer.Channel<EnemyBullet> enemyBulletCommands = commands.channel(enemyBullets, enemyBulletPool::release);
+    private final CommandBuffer.Channel<BossBullet> bossBulletCommands = commands.channel(bossBullets, bossBulletPool::release);
+    private final CommandBuffer.Channel<DamagePopup> popupCommands = commands.channel(damagePopups, popupPool::release);
+    private final CommandBuffer.Channel<PowerUp> powerUpCommands = commands.channel(powerUps, null);
+    
+    public static final double PLAYER_BULLET_SPEED = 600.0; // pixels per second
+    
+    // Shared bullet/popup colours so firing doesn't allocate
+    private static final Color PLAYER1_BULLET_COLOR = new Color(0, 191, 255);
+    private static final Color PLAYER2_BULLET_COLOR = new Color(255, 38, 71);
+    private static final Color PLAYER2_HIT_COLOR = new Color(255, 105, 180);
+    
+    private static final int ENEMY_DEATH_PARTICLES = 16;
+    
+    // Per-second aggregated log lines instead of one println per event
+    private static final Log.Counter BULLETS_FIRED = Log.counter(Log.Category.COMBAT, "bullets fired");
+    private static final Log.Counter ENEMIES_SPAWNED = Log.counter(Log.Category.SPAWN, "enemies spawned");
+    private static final Log.Counter ENEMIES_DESTROYED = Log.counter(Log.Category.COMBAT, "enemies destroyed");
+    private static final Log.Counter ENEMY_ATTACKS = Log.counter(Log.Category.COMBAT, "enemy attacks");
+    private static final Log.Counter PLAYER_HITS = Log.counter(Log.Category.COMBAT, "player hits taken");
+    
+    // Boss death animation
+    private boolean bossDeathAnimationActive = false;
+    private long bossDeathStartTime = 0;
+    private static final long BOSS_DEATH_DURATION = 8000; // 8 seconds
+    private int bossFinalX, bossFinalY; // Store boss position when it dies
+    private float bossDeathAlpha = 1.0f; // For fading boss sprite
+    private static final int BOSS_DEATH_PARTICLES_PER_SECOND = 180; // 3 per tick at 60Hz
+    private int bossDeathParticles = 0; // spawned so far in this animation
+    
+    // TYPE1 enemy spawn cap
+    private int type1MaxCap = 1; // Random 1-6
+    private long lastCapUpdate = 0;
+    
+    // Camera System
+    private int cameraX, cameraY;
+    private int prevCameraX, prevCameraY; // camera at the previous tick (for interpolation)
+    
+    // World edge length from a system property, kept between the view size and MAX_WORLD_SIZE
+    private static int worldSize(String property, int defaultSize, int viewSize) {
+        int size = Integer.getInteger(property, defaultSize);
+        if (size < viewSize || size > MAX_WORLD_SIZE) {
+            int clamped = Math.max(viewSize, Math.min(MAX_WORLD_SIZE, size));
+            Log.warn(Log.Category.GAME, property + "=" + size + " is out of range, using " + clamped);
+            return clamped;
+        }
+        return size;
+    }
+    
+    /**
+     * @param clock Time source for every timer in the simulation; read once at the start of each update()
+     * @param seed Seed for all random rolls (spawns, damage, drops, boss phases)
+     * @param listener Receives boss/level/game-over events
+     */
+    public World(GameClock clock, long seed, Listener listener) {
+        this.clock = clock;
+        this.listener = listener;
+        this.random = new Random(seed);
+        now = clock.millis();
+        SimContext.install(now, random);
+        
+        player = new Player(WORLD_WIDTH / 2, WORLD_HEIGHT / 2);
+        player2 = null; // Co-op player starts as null
+        boss = null;
+        bossSpawned = false;
+        type1MaxCap = 1 + random.nextInt(6); // Random 1-6
+        lastCapUpdate = now;
+        
+        // Initialize camera
+        cameraX = 0;
+        cameraY = 0;
+        score = 0;
+        level = 1;
+        enemySpawnRate = 1000; // milliseconds between spawns
+        gameStartTime = now;
+        lastEnemySpawn = now;
+        gameRunning = true;
+    }
+    
+    /**
+     * Reset everything for a fresh run
+     * @param levelNumber 1 = boss level, 2 = endless mode
+     */
+    public void startGame(int levelNumber, int spacecraftType, int hp, int speed, int firerate) {
+        now = clock.millis();
+        SimContext.install(now, random);
+        currentLevel = levelNumber;
+        gameRunning = true;
+        input &= ~ACTION_BITS; // actions queued during the previous run
+        // Reset game state
+        score = 0;
+        level = 1;
+        enemySpawnRate = 1000;
+        gameStartTime = now;
+        lastEnemySpawn = now;
+        
+        player = new Player(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, spacecraftType, hp, speed, firerate);
+        
+        // Reset co-op mode and player2
+        coopMode = false;
+        player2 = null;
+        
+        // Clear/reset all game objects (pooled ones go back to their pools)
+        releasePooledEntities();
+        enemies.clear();
+        powerUps.clear();
+        boss = null;
+        bossSpawned = false;
+        type1MaxCap = 1 + random.nextInt(6);
+        lastCapUpdate = now;
+        
+        // Reset boss death animation
+        bossDeathAnimationActive = false;
+        bossDeathAlpha = 1.0f;
+        
+        // Reset boss attack systems
+        bossLasers.clear();
+        bossLasersCreated = false;
+        lastHomingBulletSpawn = 0;
+        lastBossCollisionDamage = 0;
+        lastBossLaserDamage = 0;
+        
+        // Reset camera
+        cameraX = 0;
+        cameraY = 0;
+        
+        // Reset manual mode
+        manualControlMode = false;
+    }
+    
+    /**
+     * Drop the current run (returning to the menu)
+     */
+    public void clear() {
+        gameRunning = false;
+        enemies.clear();
+        releasePooledEntities();
+        boss = null;
+        bossSpawned = false;
+        bossDeathAnimationActive = false;
+        player = null;
+        player2 = null;
+        coopMode = false;
+    }
+    
+    /**
+     * Player a homing boss bullet steers toward: the closer one in co-op mode
+     * @param player2 Second player, or null outside co-op
+     */
+    private Player homingTarget(BossBullet bullet, Player player2) {
+        if (player2 != null) {
+            // Calculate distance to both players
+            double distToP1 = Math.sqrt(Math.pow(player.getX() - bullet.getX(), 2) + Math.pow(player.getY() - bullet.getY(), 2));
+            double distToP2 = Math.sqrt(Math.pow(player2.getX() - bullet.getX(), 2) + Math.pow(player2.getY() - bullet.getY(), 2));
+            if (distToP2 < distToP1) {
+                return player2;
+            }
+        }
+        return player;
+    }
+    
+    /**
+     * Remember the camera and every moving object's position before the tick that is about to run
+     * (frames drawn between ticks interpolate from these)
+     */
+    public void storePreviousPositions() {
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
+        if (player != null) player.storePrevious();
+        if (player2 != null) player2.storePrevious();
+        if (boss != null) boss.storePrevious();
+        for (Enemy enemy : enemies) enemy.storePrevious();
+        for (Bullet bullet : bullets) bullet.storePrevious();
+        for (Bullet bullet : bullets2) bullet.storePrevious();
+        for (EnemyBullet bullet : enemyBullets) bullet.storePrevious();
+        for (BossBullet bullet : bossBullets) bullet.storePrevious();
+        particles.storePrevious();
+    }
+    
+    /**
+     * Advance the simulation by one step
+     * @param delta Step length in milliseconds
+     */
+    public void update(long delta) {
+        now = clock.millis();
+        SimContext.install(now, random);
+        tickCount++;
+        tickInput = input;
+        input &= ~ACTION_BITS;
+        applyActions(tickInput);
+
+    // Update player: movement & rotation
+    updatePlayerMovement();
+    // integrate movement with inertia
+    player.integrateMovement(delta, WORLD_WIDTH, WORLD_HEIGHT);
+    // update rotation smoothing
+    player.update(delta);
+    // update any timed special effects (double-fire expiration, etc.)
+    player.updateSpecials(now);
+    
+    // Update player2 if co-op mode active
+    if (coopMode && player2 != null) {
+        updatePlayer2Movement();
+        player2.integrateMovement(delta, WORLD_WIDTH, WORLD_HEIGHT);
+        player2.update(delta);
+        player2.updateSpecials(now);
+    }
+        
+        // Update camera to follow player
+        updateCamera();
+        chunks.update(player, coopMode ? player2 : null);
+        
+        // Update TYPE1 max cap every 15 seconds
+        if (now - lastCapUpdate > 15000) {
+            type1MaxCap = 1 + random.nextInt(6); // Random 1-6
+            lastCapUpdate = now;
+            Log.info(Log.Category.GAME, "TYPE1 max cap updated: " + type1MaxCap);
+        }
+        
+        long elapsedTime = now - gameStartTime;
+        
+        // Check for Boss spawn at 3.5 minutes (only in Level 1)
+        if (currentLevel == 1 && !bossSpawned && elapsedTime >= BOSS_SPAWN_TIME) {
+            spawnBoss();
+            bossSpawned = true;
+            listener.bossSpawned();
+        }
+        
+        // Spawn enemies
+        // In Level 1: stop spawning when boss appears
+        // In Level 2: spawn continuously (endless mode)
+        boolean shouldSpawnEnemies = (currentLevel == 1 && !bossSpawned) || (currentLevel == 2);
+        if (shouldSpawnEnemies && now - lastEnemySpawn > enemySpawnRate) {
+            spawnEnemy();
+            lastEnemySpawn = now;
+            ENEMIES_SPAWNED.increment();
+            if (Log.isDebug(Log.Category.SPAWN)) Log.debug(Log.Category.SPAWN, "Enemy spawned! Total enemies: " + enemies.size());
+        }
+        
+        // Update enemies: movement in parallel (targeting considers player2 in co-op mode),
+        // then removal and shooting in list order
+        Player target2 = coopMode ? player2 : null;
+        final long tickNow = now;
+        jobs.forEach(enemies, enemy -> enemy.update(player, target2, tickNow, delta));
+        for (Enemy enemy : enemies) {
+            // Remove if off screen
+            if (enemy.isOffScreen(VIEW_WIDTH, VIEW_HEIGHT, cameraX, cameraY)) {
+                enemyCommands.kill(enemy);
+                if (Log.isDebug(Log.Category.SPAWN)) Log.debug(Log.Category.SPAWN, "Enemy removed (off screen)");
+                continue;
+            }
+            
+            // Enemy shooting based on fire rate
+            long currentTime = now;
+            if (currentTime - enemy.getLastShotTime() > enemy.getFireRate()) {
+                shootEnemyBullets(enemy);
+                enemy.setLastShotTime(currentTime);
+            }
+        }
+        
+        // Bucket enemies + boss, then test contacts only against enemies near each player
+        rebuildTargetGrid();
+        checkEnemyContacts();
+        
+        // Update bullets: move in parallel, then expiry and hits in list order
+        jobs.forEach(bullets, bullet -> bullet.update(delta));
+        for (Bullet bullet : bullets) {
+            // Remove if expired (1 minute) or out of the active chunks
+            if (bullet.isExpired(now) || !chunks.isActive(bullet.getX(), bullet.getY())) {
+                bulletCommands.kill(bullet);
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Bullet expired! Total bullets: " + bullets.size());
+                continue;
+            }
+
+            // Check bullet against enemies/boss in neighbouring grid cells
+            Object target = findBulletTarget(bullet);
+            if (target instanceof Enemy) {
+                Enemy enemy = (Enemy) target;
+                int dmg = bullet.getDamage();
+                enemy.takeDamage(dmg);
+                popup(enemy.getX(), enemy.getY(), dmg, Color.YELLOW);
+                bulletCommands.kill(bullet);
+
+                if (enemy.isDead()) {
+                    // Dead enemies stay in the grid and list until the flush; findBulletTarget skips them
+                    enemyCommands.kill(enemy);
+                    score += 10;
+                    spawnEnemyDeathBurst(enemy);
+                    ENEMIES_DESTROYED.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy destroyed! Score: " + score);
+
+                    // Chance to spawn power-up
+                    // Level 1: 10% chance (1/10)
+                    // Level 2: 5% chance (1/20) - harder to get powerups
+                    int dropChance = (currentLevel == 2) ? 20 : 10;
+                    if (random.nextInt(dropChance) == 0) {
+                        powerUpCommands.spawn(new PowerUp(enemy.getX(), enemy.getY()));
+                    }
+                } else {
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy hit! HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
+                }
+            }
+            // Check bullet-boss collision
+            else if (target != null && target == boss) {
+                int dmg = bullet.getDamage();
+                boss.takeDamage(dmg);
+                popup(boss.getX(), boss.getY(), dmg, Color.RED);
+                bulletCommands.kill(bullet);
+                if (Log.isDebug(Log.Category.BOSS)) Log.debug(Log.Category.BOSS, "Boss hit! HP: " + boss.getHealth() + "/" + boss.getMaxHealth());
+
+                if (boss.isDead()) {
+                    Log.info(Log.Category.BOSS, "=== BOSS DEFEATED ===");
+                    // Deactivate all boss lasers
+                    for (BossLaser laser : bossLasers) {
+                        laser.deactivate();
+                    }
+                    // Start boss death animation
+                    if (!bossDeathAnimationActive) {
+                        bossDeathAnimationActive = true;
+                        bossDeathStartTime = now;
+                        bossDeathParticles = 0;
+                        bossFinalX = (int) boss.getX();
+                        bossFinalY = (int) boss.getY();
+                    }
+                    score += 500;
+                }
+            }
+        }
+        
+        // Update player2 bullets (co-op mode)
+        if (coopMode && player2 != null) {
+            jobs.forEach(bullets2, bullet -> bullet.update(delta));
+            for (Bullet bullet : bullets2) {
+                // Remove if expired or out of the active chunks
+                if (bullet.isExpired(now) || !chunks.isActive(bullet.getX(), bullet.getY())) {
+                    bullet2Commands.kill(bullet);
+                    continue;
+                }
+                
+                // Check bullet against enemies/boss in neighbouring grid cells
+                Object target = findBulletTarget(bullet);
+                if (target instanceof Enemy) {
+                    Enemy enemy = (Enemy) target;
+                    int dmg = bullet.getDamage();
+                    enemy.takeDamage(dmg);
+                    popup(enemy.getX(), enemy.getY(), dmg, PLAYER2_HIT_COLOR);
+                    bullet2Commands.kill(bullet);
+                    
+                    if (enemy.isDead()) {
+                        enemyCommands.kill(enemy);
+                        score += 10;
+                        spawnEnemyDeathBurst(enemy);
+                        ENEMIES_DESTROYED.increment();
+                        
+                        // Level 2: harder powerup drops (5% vs 10%)
+                        int dropChance = (currentLevel == 2) ? 20 : 10;
+                        if (random.nextInt(dropChance) == 0) {
+                            powerUpCommands.spawn(new PowerUp(enemy.getX(), enemy.getY()));
+                        }
+                    }
+                }
+                // Check bullet-boss collision
+                else if (target != null && target == boss) {
+                    int dmg = bullet.getDamage();
+                    boss.takeDamage(dmg);
+                    popup((int)boss.getX(), (int)boss.getY(), dmg, PLAYER2_HIT_COLOR);
+                    bullet2Commands.kill(bullet);
+                    
+                    if (boss.isDead()) {
+                        Log.info(Log.Category.BOSS, "=== BOSS DEFEATED (by Player2) ===");
+                        // Deactivate all boss lasers
+                        for (BossLaser laser : bossLasers) {
+                            laser.deactivate();
+                        }
+                        // Start boss death animation
+                        if (!bossDeathAnimationActive) {
+                            bossDeathAnimationActive = true;
+                            bossDeathStartTime = now;
+                            bossDeathParticles = 0;
+                            bossFinalX = (int) boss.getX();
+                            bossFinalY = (int) boss.getY();
+                        }
+                        score += 500;
+                    }
+                }
+            }
+        }
+        
+        // Update enemy bullets
+        jobs.forEach(enemyBullets, bullet -> bullet.update(delta));
+        for (EnemyBullet enemyBullet : enemyBullets) {
+            // Remove if expired (1 minute) or out of the active chunks
+            if (enemyBullet.isExpired(now) || !chunks.isActive(enemyBullet.getX(), enemyBullet.getY())) {
+                enemyBulletCommands.kill(enemyBullet);
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy bullet expired!");
+            }
+        }
+        
+        // Enemy bullets vs players - only bullets bucketed near each player are tested
+        checkEnemyBulletHits();
+        
+        // Update Boss
+        if (boss != null && !boss.isDead()) {
+            // Update boss targeting - consider player2 if in co-op mode
+            if (coopMode && player2 != null) {
+                boss.update(player, player2, delta);
+            } else {
+                boss.update(player, delta);
+            }
+            
+            // Boss attack phase system
+            handleBossAttacks(delta);
+            
+            // Boss enemy spawn system (5-10 enemies, cooldown 10-15s)
+            if (boss.shouldSpawnEnemies(now)) {
+                spawnBossEnemies();
+            }
+            
+            // Boss collision with player (10-20 damage per 0.5s)
+            if (boss.collidesWith(player)) {
+                long currentTime = now;
+                if (currentTime - lastBossCollisionDamage >= BOSS_DAMAGE_COOLDOWN) {
+                    int damage = 10 + random.nextInt(11); // 10-20
+                    commands.damage(player, damage);
+                    popup(player.getX(), player.getY(), damage, Color.RED); // สีเดียวกับศัตรู
+                    lastBossCollisionDamage = currentTime;
+                    PLAYER_HITS.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit by Boss collision! Damage: " + damage);
+                }
+            }
+            
+            // Boss collision with player2 (co-op mode)
+            if (coopMode && player2 != null && boss.collidesWith(player2)) {
+                long currentTime = now;
+                if (currentTime - lastBossCollisionDamage >= BOSS_DAMAGE_COOLDOWN) {
+                    int damage = 10 + random.nextInt(11); // 10-20
+                    commands.damage(player2, damage);
+                    popup(player2.getX(), player2.getY(), damage, Color.RED);
+                    lastBossCollisionDamage = currentTime;
+                    PLAYER_HITS.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player 2 hit by Boss collision! Damage: " + damage);
+                }
+            }
+        }
+        
+        // Update boss bullets: homing and movement in parallel, then removal in list order
+        Player homing2 = coopMode ? player2 : null;
+        jobs.forEach(bossBullets, bullet -> bullet.update(homingTarget(bullet, homing2), delta));
+        for (BossBullet bullet : bossBullets) {
+            if (bullet.isExpired(now) || !chunks.isActive(bullet.getX(), bullet.getY())) {
+                bossBulletCommands.kill(bullet);
+            }
+        }
+        
+        // Boss bullets vs players - only bullets bucketed near each player are tested
+        checkBossBulletHits();
+        
+        // Update boss lasers
+        double dt = delta / 1000.0;
+        for (BossLaser laser : bossLasers) {
+            if (laser.isActive() && boss != null && !boss.isDead()) {
+                laser.updatePosition(boss.getX(), boss.getY());
+                laser.update(dt);
+                
+                // Boss laser damage to player 1 (17-30 per 0.5s)
+                if (laser.collidesWith(player)) {
+                    long currentTime = now;
+                    if (currentTime - lastBossLaserDamage >= BOSS_DAMAGE_COOLDOWN) {
+                        int damage = 17 + random.nextInt(14); // 17-30
+                        commands.damage(player, damage);
+                        popup(player.getX(), player.getY(), damage, Color.RED); // สีเดียวกับศัตรู
+                        lastBossLaserDamage = currentTime;
+                        PLAYER_HITS.increment();
+                        if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit by boss laser! Damage: " + damage);
+                    }
+                }
+                
+                // Boss laser damage to player 2 (co-op mode)
+                if (coopMode && player2 != null && laser.collidesWith(player2)) {
+                    long currentTime = now;
+                    if (currentTime - lastBossLaserDamage >= BOSS_DAMAGE_COOLDOWN) {
+                        int damage = 17 + random.nextInt(14); // 17-30
+                        commands.damage(player2, damage);
+                        popup(player2.getX(), player2.getY(), damage, Color.RED);
+                        lastBossLaserDamage = currentTime;
+                        PLAYER_HITS.increment();
+                        if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player 2 hit by boss laser! Damage: " + damage);
+                    }
+                }
+            }
+        }
+        
+        // Check laser hits from TYPE1 enemies
+        for (Enemy enemy : enemies) {
+            if (enemy.getType() == Enemy.EnemyType.TYPE1 && !enemyCommands.isKilled(enemy)) {
+                LaserBeam laser = enemy.getActiveLaser();
+                // Check player 1
+                if (laser != null && laser.hitsPlayer(player)) {
+                    int dmg = laser.getDamage();
+                    commands.damage(player, dmg);
+                    popup(player.getX(), player.getY(), dmg, Color.ORANGE);
+                    PLAYER_HITS.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit by laser! (damage: " + dmg + ")");
+                }
+                
+                // Check player 2 (co-op mode)
+                if (coopMode && player2 != null && laser != null && laser.hitsPlayer(player2)) {
+                    int dmg = laser.getDamage();
+                    commands.damage(player2, dmg);
+                    popup(player2.getX(), player2.getY(), dmg, Color.ORANGE);
+                    PLAYER_HITS.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player 2 hit by laser! (damage: " + dmg + ")");
+                }
+            }
+        }
+        
+        // Update damage popups
+        for (DamagePopup popup : damagePopups) {
+            popup.update(delta);
+            if (popup.isExpired(now)) {
+                popupCommands.kill(popup);
+            }
+        }
+        
+        // Update explosion particles
+        particles.update(delta, jobs);
+        
+        // Update boss death animation
+        if (bossDeathAnimationActive) {
+            long elapsed = now - bossDeathStartTime;
+            
+            // Continuously spawn explosion particles during death animation, at a fixed rate per second
+            long due = elapsed * BOSS_DEATH_PARTICLES_PER_SECOND / 1000;
+            while (bossDeathParticles < due) {
+                spawnBossExplosionParticle();
+                bossDeathParticles++;
+            }
+            
+            // Fade boss sprite over 8 seconds
+            bossDeathAlpha = Math.max(0f, 1f - ((float)elapsed / (float)BOSS_DEATH_DURATION));
+            
+            // End animation after duration
+            if (elapsed >= BOSS_DEATH_DURATION) {
+                bossDeathAnimationActive = false;
+                boss = null; // Finally remove boss
+                
+                listener.level1Complete();
+            }
+        }
+
+        
+        // Auto-shoot (adjusted for manual mode)
+        long currentFireRate = player.getFireRate();
+        if (manualControlMode) {
+            // 1.5x faster in manual mode
+            currentFireRate = (long) (currentFireRate / 1.5);
+        }
+        
+        if (now - player.getLastShotTime() > currentFireRate) {
+            shootBullet();
+            player.setLastShotTime(now);
+            BULLETS_FIRED.increment();
+            if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Bullet fired! Total bullets: " + bullets.size());
+        }
+        
+        // Player2 auto-shoot (if co-op mode active) - ยิงอัตโนมัติเหมือน player1
+        if (coopMode && player2 != null) {
+            long p2FireRate = player2.getFireRate();
+            if (manualControlMode) {
+                p2FireRate = (long) (p2FireRate / 1.5);
+            }
+            
+            if (now - player2.getLastShotTime() > p2FireRate) {
+                shootBulletPlayer2();
+                player2.setLastShotTime(now);
+            }
+        }
+        
+        // Update power-ups
+        for (PowerUp powerUp : powerUps) {
+            
+            // Check collision with player1
+            if (powerUp.collidesWith(player)) {
+                applyPowerUp(powerUp, player);
+                powerUpCommands.kill(powerUp);
+                Log.info(Log.Category.COMBAT, "Player 1 collected power-up: " + powerUp.getType());
+            } 
+            // Check collision with player2 (co-op mode)
+            else if (coopMode && player2 != null && powerUp.collidesWith(player2)) {
+                applyPowerUp(powerUp, player2);
+                powerUpCommands.kill(powerUp);
+                Log.info(Log.Category.COMBAT, "Player 2 collected power-up: " + powerUp.getType());
+            } 
+            else if (powerUp.isExpired(now)) {
+                powerUpCommands.kill(powerUp);
+            }
+        }
+        
+        // Increase difficulty over time
+        long currentElapsed = now - gameStartTime;
+        int newLevel = (int) (currentElapsed / 20000) + 1; // New level every 20 seconds
+        if (newLevel > level) {
+            level = newLevel;
+            Log.info(Log.Category.GAME, "Level up! Now at level: " + level);
+            
+            // Let the game show the Level Up screen
+            listener.levelUp(level);
+        }
+        enemySpawnRate = Math.max(200, 1000 - (level * 100)); // Faster spawning over time
+        
+        // Apply this tick's damage, kills and spawns, then see who didn't survive it
+        commands.flush();
+        resolvePlayerDeaths();
+    }
+    
+    // Game over when player 1 (shared health in co-op) is out of health; player 2 just leaves
+    private void resolvePlayerDeaths() {
+        if (gameRunning && player.getHealth() <= 0) {
+            Log.info(Log.Category.COMBAT, "Game Over! Final Score: " + score);
+            gameRunning = false;
+            
+            // Handle Level 2 completion/high score
+            if (currentLevel == 2) {
+                listener.level2GameOver();
+            }
+            
+            // ลบ Player2 ออกเมื่อ Game Over
+            if (coopMode && player2 != null) {
+                player2 = null;
+                coopMode = false;
+            }
+        }
+        if (coopMode && player2 != null && player2.getHealth() <= 0) {
+            Log.info(Log.Category.COMBAT, "Player 2 destroyed!");
+            player2 = null;
+            coopMode = false;
+            bulletPool.releaseAll(bullets2);
+        }
+    }
+    
+    // Record a damage number to show at (x, y)
+    private void popup(double x, double y, int damage, Color color) {
+        popupCommands.spawn(popupPool.acquire().reset(x, y, damage, color));
+    }
+    
+    // Return every pooled bullet/popup still in play to its pool and drop all particles
+    private void releasePooledEntities() {
+        commands.clear();
+        bulletPool.releaseAll(bullets);
+        bulletPool.releaseAll(bullets2);
+        enemyBulletPool.releaseAll(enemyBullets);
+        bossBulletPool.releaseAll(bossBullets);
+        popupPool.releaseAll(damagePopups);
+        particles.clear();
+    }
+    
+    // Call once per tick, after the render snapshot has been taken
+    public void recyclePools() {
+        bulletPool.recycle();
+        enemyBulletPool.recycle();
+        bossBulletPool.recycle();
+        popupPool.recycle();
+    }
+    
+    /**
+     * Blank bullets from the world's pools, for code that fills getBullets() /
+     * getEnemyBullets() directly (the benchmarks). They go back to the pools with
+     * everything else on the next startGame().
+     */
+    Bullet acquireBullet() {
+        return bulletPool.acquire();
+    }
+    
+    EnemyBullet acquireEnemyBullet() {
+        return enemyBulletPool.acquire();
+    }
+    
+    /**
+     * Pool statistics, one line per pooled type
+     */
+    public String getPoolStats() {
+        return bulletPool + "\n" + enemyBulletPool + "\n" + bossBulletPool + "\n"
+                + popupPool + "\nParticles: " + particles.getCount() + " live, peak "
+                + particles.getPeakCount() + ", dropped " + particles.getDropped();
+    }
+    
+    // Rebuild the broad-phase grid of things player bullets can hit
+    private void rebuildTargetGrid() {
+        targetGrid.clear();
+        for (Enemy enemy : enemies) {
+            if (enemy.isDead() || enemyCommands.isKilled(enemy)) continue;
+            int reach = Math.max(enemy.getHitboxRadius(), Math.max(enemy.getWidth(), enemy.getHeight()) / 2 + 1);
+            targetGrid.insert(enemy, enemy.getX(), enemy.getY(), reach);
+        }
+        if (boss != null && !boss.isDead()) {
+            targetGrid.insert(boss, boss.getX(), boss.getY(), boss.getHitboxRadius() + 4);
+        }
+    }
+    
+    /**
+     * Find what a player bullet hits this tick.
+     * Enemies take priority over the boss, matching the old list-scan order.
+     * @return the hit Enemy, the Boss, or null
+     */
+    private Object findBulletTarget(Bullet bullet) {
+        gridCandidates.clear();
+        targetGrid.query(bullet.getX(), bullet.getY(), 0, gridCandidates);
+        Object hit = null;
+        for (Object candidate : gridCandidates) {
+            if (candidate instanceof Enemy) {
+                Enemy enemy = (Enemy) candidate;
+                if (!enemy.isDead() && bullet.collidesWith(enemy)) {
+                    hit = enemy;
+                    break;
+                }
+            } else if (candidate == boss && !boss.isDead() && bullet.collidesWith(boss)) {
+                hit = boss;
+            }
+        }
+        gridCandidates.clear();
+        return hit;
+    }
+    
+    // Enemy ramming damage, tested only against enemies near each player
+    private void checkEnemyContacts() {
+        boolean rammed = false;
+        
+        // Check collision with player
+        gridCandidates.clear();
+        targetGrid.query(player.getX(), player.getY(), player.getHitboxRadius(), gridCandidates);
+        for (Object candidate : gridCandidates) {
+            if (!(candidate instanceof Enemy)) continue;
+            Enemy enemy = (Enemy) candidate;
+            if (enemy.collidesWith(player)) {
+                // consumeDamage respects shield first
+                commands.damage(player, 10);
+                enemyCommands.kill(enemy);
+                rammed = true;
+                PLAYER_HITS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit! (damage: 10)");
+            }
+        }
+        
+        // Check collision with player2 (co-op mode)
+        if (coopMode && player2 != null) {
+            gridCandidates.clear();
+            targetGrid.query(player2.getX(), player2.getY(), player2.getHitboxRadius(), gridCandidates);
+            for (Object candidate : gridCandidates) {
+                if (!(candidate instanceof Enemy) || enemyCommands.isKilled((Enemy) candidate)) continue;
+                Enemy enemy = (Enemy) candidate;
+                if (enemy.collidesWith(player2)) {
+                    commands.damage(player2, 10);
+                    enemyCommands.kill(enemy);
+                    rammed = true;
+                    PLAYER_HITS.increment();
+                    if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player 2 hit! (damage: 10)");
+                }
+            }
+        }
+        gridCandidates.clear();
+        
+        // Rammers die on contact; take them out of the grid before bullets are tested
+        if (rammed) {
+            rebuildTargetGrid();
+        }
+    }
+    
+    // Enemy bullets vs players via the hazard grid
+    private void checkEnemyBulletHits() {
+        hazardGrid.clear();
+        for (EnemyBullet enemyBullet : enemyBullets) {
+            if (enemyBulletCommands.isKilled(enemyBullet)) continue;
+            hazardGrid.insert(enemyBullet, enemyBullet.getX(), enemyBullet.getY(), 0);
+        }
+        
+        // Check collision with player
+        gridCandidates.clear();
+        hazardGrid.query(player.getX(), player.getY(), player.getHitboxRadius(), gridCandidates);
+        for (Object candidate : gridCandidates) {
+            EnemyBullet enemyBullet = (EnemyBullet) candidate;
+            if (enemyBullet.collidesWith(player)) {
+                int dmg = enemyBullet.getDamage();
+                commands.damage(player, dmg);
+                popup(player.getX(), player.getY(), dmg, Color.RED);
+                enemyBulletCommands.kill(enemyBullet);
+                PLAYER_HITS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit by bullet! (damage: " + dmg + ")");
+            }
+        }
+        
+        // Check collision with player2 (co-op mode) - ใช้เลือดร่วมกับ Player1
+        if (coopMode && player2 != null) {
+            gridCandidates.clear();
+            hazardGrid.query(player2.getX(), player2.getY(), player2.getHitboxRadius(), gridCandidates);
+            for (Object candidate : gridCandidates) {
+                EnemyBullet enemyBullet = (EnemyBullet) candidate;
+                if (enemyBulletCommands.isKilled(enemyBullet) || !enemyBullet.collidesWith(player2)) continue;
+                int dmg = enemyBullet.getDamage();
+                commands.damage(player, dmg); // หัก HP จาก Player1 (ใช้เลือดร่วมกัน)
+                popup(player2.getX(), player2.getY(), dmg, Color.RED);
+                enemyBulletCommands.kill(enemyBullet);
+                PLAYER_HITS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player2 hit by bullet! Shared health (damage: " + dmg + ")");
+            }
+        }
+        gridCandidates.clear();
+        hazardGrid.clear();
+    }
+    
+    // Boss bullets vs players via the hazard grid
+    private void checkBossBulletHits() {
+        hazardGrid.clear();
+        for (BossBullet bullet : bossBullets) {
+            if (bossBulletCommands.isKilled(bullet)) continue;
+            hazardGrid.insert(bullet, bullet.getX(), bullet.getY(), bullet.getRadius());
+        }
+        
+        // Check collision with player 1
+        gridCandidates.clear();
+        hazardGrid.query(player.getX(), player.getY(), player.getHitboxRadius(), gridCandidates);
+        for (Object candidate : gridCandidates) {
+            BossBullet bullet = (BossBullet) candidate;
+            if (bullet.collidesWith(player)) {
+                commands.damage(player, bullet.getDamage());
+                popup(player.getX(), player.getY(), bullet.getDamage(), Color.RED); // สีเดียวกับศัตรู
+                bossBulletCommands.kill(bullet);
+                PLAYER_HITS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player hit by boss bullet! (damage: " + bullet.getDamage() + ")");
+            }
+        }
+        
+        // Check collision with player 2 (co-op mode)
+        if (coopMode && player2 != null) {
+            gridCandidates.clear();
+            hazardGrid.query(player2.getX(), player2.getY(), player2.getHitboxRadius(), gridCandidates);
+            for (Object candidate : gridCandidates) {
+                BossBullet bullet = (BossBullet) candidate;
+                if (bossBulletCommands.isKilled(bullet) || !bullet.collidesWith(player2)) continue;
+                commands.damage(player2, bullet.getDamage());
+                popup(player2.getX(), player2.getY(), bullet.getDamage(), Color.RED);
+                bossBulletCommands.kill(bullet);
+                PLAYER_HITS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Player 2 hit by boss bullet! (damage: " + bullet.getDamage() + ")");
+            }
+        }
+        gridCandidates.clear();
+        hazardGrid.clear();
+    }
+    
+    private void updateCamera() {
+        // Center camera on player
+        cameraX = player.getX() - VIEW_WIDTH / 2;
+        cameraY = player.getY() - VIEW_HEIGHT / 2;
+        
+        // Keep camera within world bounds
+        if (cameraX < 0) cameraX = 0;
+        if (cameraX > WORLD_WIDTH - VIEW_WIDTH) cameraX = WORLD_WIDTH - VIEW_WIDTH;
+        if (cameraY < 0) cameraY = 0;
+        if (cameraY > WORLD_HEIGHT - VIEW_HEIGHT) cameraY = WORLD_HEIGHT - VIEW_HEIGHT;
+    }
+    
+    private void updatePlayerMovement() {
+        boolean upPressed = isPressed(INPUT_UP), downPressed = isPressed(INPUT_DOWN);
+        boolean leftPressed = isPressed(INPUT_LEFT), rightPressed = isPressed(INPUT_RIGHT);
+        boolean arrowUpPressed = isPressed(INPUT_ARROW_UP), arrowDownPressed = isPressed(INPUT_ARROW_DOWN);
+        boolean arrowLeftPressed = isPressed(INPUT_ARROW_LEFT), arrowRightPressed = isPressed(INPUT_ARROW_RIGHT);
+        if (manualControlMode) {
+            // Manual mode: WASD = movement, Arrow keys = rotation
+            int dirX = 0, dirY = 0;
+            if (leftPressed) dirX -= 1;
+            if (rightPressed) dirX += 1;
+
+            if (upPressed) dirY -= 1;
+            if (downPressed) dirY += 1;
+
+            // Inform player of input direction
+            player.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
+            
+            // Arrow keys control rotation manually
+            if (arrowLeftPressed || arrowRightPressed || arrowUpPressed || arrowDownPressed) {
+                double targetAngle = player.getFacingAngle();
+                
+                // Calculate target angle from arrow keys
+                if (arrowUpPressed && !arrowDownPressed && !arrowLeftPressed && !arrowRightPressed) {
+                    targetAngle = -Math.PI / 2; // Up
+                } else if (arrowDownPressed && !arrowUpPressed && !arrowLeftPressed && !arrowRightPressed) {
+                    targetAngle = Math.PI / 2; // Down
+                } else if (arrowLeftPressed && !arrowRightPressed && !arrowUpPressed && !arrowDownPressed) {
+                    targetAngle = Math.PI; // Left
+                } else if (arrowRightPressed && !arrowLeftPressed && !arrowUpPressed && !arrowDownPressed) {
+                    targetAngle = 0; // Right
+                } else if (arrowUpPressed && arrowRightPressed) {
+                    targetAngle = -Math.PI / 4; // Up-Right
+                } else if (arrowUpPressed && arrowLeftPressed) {
+                    targetAngle = -3 * Math.PI / 4; // Up-Left
+                } else if (arrowDownPressed && arrowRightPressed) {
+                    targetAngle = Math.PI / 4; // Down-Right
+                } else if (arrowDownPressed && arrowLeftPressed) {
+                    targetAngle = 3 * Math.PI / 4; // Down-Left
+                }
+                
+                player.setFacingAngle(targetAngle);
+            }
+        } else {
+            // Auto mode: WASD/Arrows = movement, auto-aim at enemies
+            int dirX = 0, dirY = 0;
+            if (leftPressed) dirX -= 1;
+            if (rightPressed) dirX += 1;
+
+            if (upPressed) dirY -= 1;
+            if (downPressed) dirY += 1;
+
+            // Inform player of input direction; actual movement integrated in Player.integrateMovement
+            player.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
+        }
+    }
+    
+    private void updatePlayer2Movement() {
+        if (player2 == null) return;
+        boolean arrowUpPressed = isPressed(INPUT_ARROW_UP), arrowDownPressed = isPressed(INPUT_ARROW_DOWN);
+        boolean arrowLeftPressed = isPressed(INPUT_ARROW_LEFT), arrowRightPressed = isPressed(INPUT_ARROW_RIGHT);
+        
+        // Player 2 controlled by arrow keys only (no Shift needed for movement)
+        int dirX = 0, dirY = 0;
+        if (arrowLeftPressed) dirX -= 1;
+        if (arrowRightPressed) dirX += 1;
+
+        if (arrowUpPressed) dirY -= 1;
+        if (arrowDownPressed) dirY += 1;
+
+        // Inform player2 of input direction
+        player2.move(dirX, dirY, WORLD_WIDTH, WORLD_HEIGHT);
+        
+        // Player2 uses same auto-aim as player1 in auto mode
+        // (rotation handled in player.update())
+    }
+    
+    private void handleBossAttacks(long delta) {
+        if (boss == null || boss.isDead()) return;
+        
+        Boss.AttackPhase phase = boss.getCurrentPhase();
+        
+        switch (phase) {
+            case BARRAGE:
+                // Shoot bullets in grid pattern toward player
+                if (boss.getBarrageTimer() >= boss.getBarrageShotInterval()) {
+                    int bx = (int)boss.getX();
+                    int by = (int)boss.getY();
+                    int px = player.getX();
+                    int py = player.getY();
+                    
+                    // Create 3 bullets in a horizontal line
+                    int spacing = 40;
+                    for (int i = -1; i <= 1; i++) {
+                        int offsetX = i * spacing;
+                        bossBulletCommands.spawn(bossBulletPool.acquire().reset(
+                            bx + offsetX, by, 
+                            px + offsetX * 2, py, 
+                            15, 
+                            Color.ORANGE
+                        ));
+                    }
+                    
+                    boss.resetBarrageTimer();
+                    boss.incrementBarrageShots();
+                    if (Log.isDebug(Log.Category.BOSS)) Log.debug(Log.Category.BOSS, "Boss barrage shot #" + boss.getBarrageShots());
+                }
+                break;
+                
+            case LASER_SPIN:
+                // Create 6 lasers if not yet created
+                if (!bossLasersCreated) {
+                    bossLasers.clear();
+                    for (int i = 0; i < 6; i++) {
+                        double angle = (Math.PI * 2 / 6) * i;
+                        BossLaser laser = new BossLaser(
+                            boss.getX(), boss.getY(),
+                            angle,
+                            BOSS_LASER_LENGTH,
+                            25,   // damage เพิ่มเป็น 17-30/0.5s (avg ~23.5)
+                            Color.CYAN,
+                            boss.getHitboxRadius() // ใช้ hitbox ของบอส
+                        );
+                        bossLasers.add(laser);
+                    }
+                    
+                    // Random rotation direction
+                    laserRotationDirection = random.nextBoolean() ? 1.0 : -1.0;
+                    Log.info(Log.Category.BOSS, "Boss lasers created, rotation: " + (laserRotationDirection > 0 ? "clockwise" : "counter-clockwise"));
+                    bossLasersCreated = true;
+                }
+                
+                // Start rotation after 2 second warmup
+                for (BossLaser laser : bossLasers) {
+                    if (laser.isWarmedUp() && !laser.equals(bossLasers.get(0))) {
+                        // Check if rotation already started
+                    }
+                    if (laser.isWarmedUp()) {
+                        double rotationSpeed = laserRotationDirection * Math.toRadians(30); // 30 deg/s
+                        laser.startRotation(rotationSpeed);
+                    }
+                }
+                break;
+                
+            case HOMING:
+                // Fire 3 homing bullets around boss every 2 seconds
+                long currentTime = now;
+                if (currentTime - lastHomingBulletSpawn >= HOMING_SPAWN_INTERVAL) {
+                    // Spawn 3 bullets in circle around boss
+                    for (int i = 0; i < 3; i++) {
+                        double spawnAngle = (Math.PI * 2 / 3) * i; // 120 degrees apart
+                        double spawnDist = 50; // ระยะจากบอส
+                        double spawnX = boss.getX() + Math.cos(spawnAngle) * spawnDist;
+                        double spawnY = boss.getY() + Math.sin(spawnAngle) * spawnDist;
+                        
+                        bossBulletCommands.spawn(bossBulletPool.acquire().reset(
+                            spawnX, spawnY,
+                            10, // damage
+                            Color.YELLOW,
+                            true, // isHoming
+                            1    // maxRedirects
+                        ));
+                    }
+                    lastHomingBulletSpawn = currentTime;
+                    Log.info(Log.Category.BOSS, "Boss fired 3 homing bullets!");
+                }
+                break;
+        }
+        
+        // Clear lasers when not in laser phase
+        if (phase != Boss.AttackPhase.LASER_SPIN && bossLasersCreated) {
+            bossLasers.clear();
+            bossLasersCreated = false;
+        }
+    }
+    
+    private void spawnEnemy() {
+        // Spawn enemies around the camera view (off screen)
+        int side = random.nextInt(4); // 0=top, 1=right, 2=bottom, 3=left
+        int x, y;
+        
+        switch (side) {
+            case 0: // Top
+                x = cameraX + random.nextInt(VIEW_WIDTH);
+                y = cameraY - 50;
+                break;
+            case 1: // Right
+                x = cameraX + VIEW_WIDTH + 50;
+                y = cameraY + random.nextInt(VIEW_HEIGHT);
+                break;
+            case 2: // Bottom
+                x = cameraX + random.nextInt(VIEW_WIDTH);
+                y = cameraY + VIEW_HEIGHT + 50;
+                break;
+            default: // Left
+                x = cameraX - 50;
+                y = cameraY + random.nextInt(VIEW_HEIGHT);
+                break;
+        }
+        
+        // Make sure enemy is within world bounds
+        if (x >= 0 && x < WORLD_WIDTH && y >= 0 && y < WORLD_HEIGHT) {
+            // Count current TYPE1 enemies
+            int type1Count = 0;
+            for (Enemy e : enemies) {
+                if (e.getType() == Enemy.EnemyType.TYPE1) {
+                    type1Count++;
+                }
+            }
+            
+            // Weighted random: TYPE1 rare (5%), TYPE3 common (80%), TYPE2 (15%)
+            int roll = random.nextInt(100);
+            Enemy.EnemyType type;
+            if (roll < 5 && type1Count < type1MaxCap) { // 5% chance and cap not reached
+                type = Enemy.EnemyType.TYPE1;
+            } else if (roll < 20) { // 15% TYPE2
+                type = Enemy.EnemyType.TYPE2;
+            } else { // 80% TYPE3
+                type = Enemy.EnemyType.TYPE3;
+            }
+            // Use player's visible sprite size (player draws at 2x hitbox)
+            int playerSpriteW = player.getWidth() * 2;
+            int playerSpriteH = player.getHeight() * 2;
+            Enemy spawned = new Enemy(x, y, type, playerSpriteW, playerSpriteH);
+            enemyCommands.spawn(spawned);
+            if (Log.isDebug(Log.Category.SPAWN)) Log.debug(Log.Category.SPAWN, "Spawned enemy type=" + type + " size=" + spawned.getWidth() + "x" + spawned.getHeight() + " (TYPE1 count: " + (type == Enemy.EnemyType.TYPE1 ? type1Count + 1 : type1Count) + "/" + type1MaxCap + ")");
+        }
+    }
+    
+    private void spawnBoss() {
+        Log.info(Log.Category.BOSS, "=== BOSS SPAWNED ===");
+        // Spawn boss near player
+        int spawnX = (int)(player.getX() + 200 + random.nextDouble() * 300); // ด้านขวา player 200-500 px
+        int spawnY = (int)(player.getY() - 200 + random.nextDouble() * 400); // บนหรือล่าง player ±200 px
+        
+        // จำกัดให้อยู่ในขอบเขตแมพ
+        spawnX = Math.max(100, Math.min(WORLD_WIDTH - 100, spawnX));
+        spawnY = Math.max(100, Math.min(WORLD_HEIGHT - 100, spawnY));
+        
+        // Movement targets: the band along the top of the map (x 100..width-100, y 50..200).
+        // Past the default size, a band as wide as the default map around the spawn point,
+        // at the top of the view the player is in
+        int roamMinX = 100;
+        int roamMaxX = WORLD_WIDTH - 100;
+        if (WORLD_WIDTH > DEFAULT_WORLD_WIDTH) {
+            roamMinX = Math.max(100, Math.min(WORLD_WIDTH - DEFAULT_WORLD_WIDTH + 100, spawnX - DEFAULT_WORLD_WIDTH / 2));
+            roamMaxX = roamMinX + DEFAULT_WORLD_WIDTH - 200;
+        }
+        int roamTop = WORLD_HEIGHT > DEFAULT_WORLD_HEIGHT ? Math.max(50, cameraY + 50) : 50;
+        boss = new Boss(spawnX, spawnY, roamMinX, roamMaxX, roamTop);
+    }
+    
+    // Specials, mode toggles and Level Up picks queued since the last tick
+    private void applyActions(int actions) {
+        if ((actions & INPUT_TOGGLE_COOP) != 0) {
+            if (!manualControlMode) {
+                toggleCoopMode();
+            } else {
+                Log.warn(Log.Category.GAME, "Cannot enter Co-op mode from Manual mode! Press M to switch to Auto mode first.");
+            }
+        }
+        if ((actions & INPUT_TOGGLE_MANUAL) != 0) {
+            if (!coopMode) {
+                manualControlMode = !manualControlMode;
+                Log.info(Log.Category.GAME, "Manual control mode: " + (manualControlMode ? "ON" : "OFF"));
+            } else {
+                Log.warn(Log.Category.GAME, "Cannot enter Manual mode from Co-op mode! Press J to exit Co-op mode first.");
+            }
+        }
+        if ((actions & INPUT_SPECIAL) != 0) {
+            player.useSpecial(WORLD_WIDTH, WORLD_HEIGHT);
+        }
+        if ((actions & INPUT_SPECIAL2) != 0 && coopMode && player2 != null) {
+            player2.useSpecial(WORLD_WIDTH, WORLD_HEIGHT);
+        }
+        for (int option = 0; option < 3; option++) {
+            if ((actions & upgradeInput(option)) != 0) {
+                applyLevelUpgrade(option);
+            }
+        }
+    }
+    
+    public void toggleCoopMode() {
+        coopMode = !coopMode;
+        
+        if (coopMode) {
+            // เปิด co-op mode: สร้าง player2 ด้านซ้ายของ player1 โดยมีสเตทเท่ากับ player1
+            int p1Type = player.getSpacecraftType();
+            int p1MaxHP = player.getMaxHealth();
+            int p1Speed = player.getSpeed();
+            int p1Firerate = player.getFireRateRPM(); // shots per minute
+            
+            // Player 2 มีสเตทเท่ากับ player 1 ทุกอย่าง
+            int p2HP = p1MaxHP;
+            int p2Speed = p1Speed;
+            int p2Firerate = p1Firerate;
+            
+            // Spawn player2 ห่างจาก player1 50px ทางซ้าย
+            // Use custom Player 2 sprite based on spacecraft type
+            String p2Sprite = null;
+            switch (p1Type) {
+                case 0: // Large spacecraft
+                    p2Sprite = "Spacecraft-LargeP2.png";
+                    break;
+                case 1: // Medium spacecraft
+                    p2Sprite = "Spacecraft-MediumP2.png";
+                    break;
+                case 2: // Small spacecraft
+                    p2Sprite = "spacecraftP2.png";
+                    break;
+            }
+            
+            player2 = new Player((int)player.getX() - 50, (int)player.getY(), 
+                                p1Type, p2HP, p2Speed, p2Firerate, p2Sprite);
+            
+            Log.info(Log.Category.GAME, "Co-op mode: ON (Player 2 created with same stats as Player 1)");
+        } else {
+            // ปิด co-op mode: รวม player2 กลับเข้า player1
+            player2 = null;
+            bulletPool.releaseAll(bullets2);
+            Log.info(Log.Category.GAME, "Co-op mode: OFF (Player 2 removed)");
+        }
+    }
+    
+    private void spawnBossExplosionParticle() {
+        // Spawn explosion particles around boss death location (similar to old system)
+        int spread = 60;
+        int px = bossFinalX + random.nextInt(spread) - spread/2;
+        int py = bossFinalY + random.nextInt(spread) - spread/2;
+        
+        particles.spawnExplosion(px, py, random);
+    }
+    
+    // Small burst where an enemy was destroyed
+    private void spawnEnemyDeathBurst(Enemy enemy) {
+        particles.burst(enemy.getX(), enemy.getY(), ENEMY_DEATH_PARTICLES, random);
+    }
+    
+    private void spawnBossEnemies() {
+        // Spawn 5-10 enemies, รวมทั้งสามประเภท, TYPE1 สูงสุด 2 ตัว
+        int totalEnemies = 5 + random.nextInt(6); // 5-10
+        int type1Count = 0;
+        int maxType1 = 2;
+        
+        Log.info(Log.Category.BOSS, "Boss spawning " + totalEnemies + " enemies!");
+        
+        for (int i = 0; i < totalEnemies; i++) {
+            // สุ่มประเภท (0=TYPE1, 1=TYPE2, 2=TYPE3)
+            int typeChoice;
+            if (type1Count >= maxType1) {
+                // ถ้า TYPE1 ครบแล้ว สุ่มเฉพาะ TYPE2 หรือ TYPE3
+                typeChoice = 1 + random.nextInt(2); // 1 หรือ 2
+            } else {
+                typeChoice = random.nextInt(3); // 0, 1, หรือ 2
+            }
+            
+            Enemy.EnemyType type;
+            switch (typeChoice) {
+                case 0:
+                    type = Enemy.EnemyType.TYPE1;
+                    type1Count++;
+                    break;
+                case 1:
+                    type = Enemy.EnemyType.TYPE2;
+                    break;
+                default:
+                    type = Enemy.EnemyType.TYPE3;
+                    break;
+            }
+            
+            // สุ่มตำแหน่ง spawn รอบๆ boss
+            double angle = random.nextDouble() * Math.PI * 2;
+            double distance = 150 + random.nextDouble() * 100; // 150-250 px จาก boss
+            int spawnX = (int)(boss.getX() + Math.cos(angle) * distance);
+            int spawnY = (int)(boss.getY() + Math.sin(angle) * distance);
+            
+            // จำกัดให้อยู่ในขอบเขตแมพ
+            spawnX = Math.max(30, Math.min(WORLD_WIDTH - 30, spawnX));
+            spawnY = Math.max(30, Math.min(WORLD_HEIGHT - 30, spawnY));
+            
+            enemyCommands.spawn(new Enemy(spawnX, spawnY, type));
+        }
+        
+        Log.info(Log.Category.SPAWN, "Spawned: TYPE1=" + type1Count + ", Total=" + totalEnemies);
+    }
+    
+    private void shootEnemyBullets(Enemy enemy) {
+        int ex = enemy.getX();
+        int ey = enemy.getY();
+        int px = player.getX();
+        int py = player.getY();
+        
+        switch (enemy.getType()) {
+            case TYPE1:
+                // Start laser charging
+                enemy.startLaser(px, py);
+                ENEMY_ATTACKS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy TYPE1 started laser charging!");
+                break;
+            case TYPE3:
+                // Shoot 1 bullet toward player
+                enemyBulletCommands.spawn(enemyBulletPool.acquire().reset(ex, ey, px, py));
+                ENEMY_ATTACKS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy TYPE3 fired 1 bullet!");
+                break;
+                
+            case TYPE2:
+                // Shoot 6 bullets in circle pattern, each accelerating toward player
+                for (int i = 0; i < 6; i++) {
+                    double angle = (Math.PI * 2.0 / 6.0) * i;
+                    enemyBulletCommands.spawn(enemyBulletPool.acquire().reset(ex, ey, angle, px, py));
+                }
+                ENEMY_ATTACKS.increment();
+                if (Log.isDebug(Log.Category.COMBAT)) Log.debug(Log.Category.COMBAT, "Enemy TYPE2 fired 6 bullets!");
+                break;
+        }
+    }
+    
+    private void shootBullet() {
+        if (manualControlMode) {
+            // Manual mode: shoot in facing direction with 1.5x damage
+            double fireAngle = player.getFacingAngle();
+            double damageMultiplier = 1.5;
+            Bullet bullet = bulletPool.acquire().reset(player.getX(), player.getY(), fireAngle, PLAYER_BULLET_SPEED, damageMultiplier);
+            bullet.setColor(PLAYER1_BULLET_COLOR); // สีฟ้า (Deep Sky Blue - RGB)
+            bulletCommands.spawn(bullet);
+            // Play sound after creating bullet
+            listener.playerShot(player);
+        } else {
+            // Auto mode: aim at nearest target (enemy or boss)
+            Object nearestTarget = null;
+            double nearestDistance = Double.MAX_VALUE;
+            
+            // Check enemies
+            for (Enemy enemy : enemies) {
+                if (enemyCommands.isKilled(enemy)) continue;
+                double distance = Math.sqrt(Math.pow(enemy.getX() - player.getX(), 2) + 
+                                         Math.pow(enemy.getY() - player.getY(), 2));
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearestTarget = enemy;
+                }
+            }
+            
+            // Check boss
+            if (boss != null && !boss.isDead()) {
+                double distance = Math.sqrt(Math.pow(boss.getX() - player.getX(), 2) + 
+                                         Math.pow(boss.getY() - player.getY(), 2));
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearestTarget = boss;
+                }
+            }
+            
+            if (nearestTarget != null) {
+                double targetX, targetY;
+                if (nearestTarget instanceof Enemy) {
+                    Enemy enemy = (Enemy) nearestTarget;
+                    targetX = enemy.getX();
+                    targetY = enemy.getY();
+                } else {
+                    Boss bossTarget = (Boss) nearestTarget;
+                    targetX = bossTarget.getX();
+                    targetY = bossTarget.getY();
+                }
+                
+                // Compute desired angle and set as player's target facing
+                double desiredAngle = Math.atan2(targetY - player.getY(), targetX - player.getX());
+                player.setFacingAngle(desiredAngle);
+
+                // Fire using current facingAngle with Blue color (RGB)
+                double fireAngle = player.getFacingAngle();
+                Bullet bullet = bulletPool.acquire().reset(player.getX(), player.getY(), fireAngle, PLAYER_BULLET_SPEED);
+                bullet.setColor(PLAYER1_BULLET_COLOR); // สีฟ้า (Deep Sky Blue - RGB)
+                bulletCommands.spawn(bullet);
+                // Play sound after creating bullet
+                listener.playerShot(player);
+            }
+        }
+    }
+    
+    private void shootBulletPlayer2() {
+        if (player2 == null) return;
+        
+        // Player2 always uses auto-aim (same as player1 in auto mode)
+        Object nearestTarget = null;
+        double nearestDistance = Double.MAX_VALUE;
+        
+        // Check enemies
+        for (Enemy enemy : enemies) {
+            if (enemyCommands.isKilled(enemy)) continue;
+            double distance = Math.sqrt(Math.pow(enemy.getX() - player2.getX(), 2) + 
+                                     Math.pow(enemy.getY() - player2.getY(), 2));
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearestTarget = enemy;
+            }
+        }
+        
+        // Check boss
+        if (boss != null && !boss.isDead()) {
+            double distance = Math.sqrt(Math.pow(boss.getX() - player2.getX(), 2) + 
+                                     Math.pow(boss.getY() - player2.getY(), 2));
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearestTarget = boss;
+            }
+        }
+        
+        if (nearestTarget != null) {
+            double targetX, targetY;
+            if (nearestTarget instanceof Enemy) {
+                Enemy enemy = (Enemy) nearestTarget;
+                targetX = enemy.getX();
+                targetY = enemy.getY();
+            } else {
+                Boss bossTarget = (Boss) nearestTarget;
+                targetX = bossTarget.getX();
+                targetY = bossTarget.getY();
+            }
+            
+            // Compute desired angle and set as player2's target facing
+            double desiredAngle = Math.atan2(targetY - player2.getY(), targetX - player2.getX());
+            player2.setFacingAngle(desiredAngle);
+
+            // Fire using current facingAngle with Pink-Red color (RGB)
+            double fireAngle = player2.getFacingAngle();
+            Bullet bullet = bulletPool.acquire().reset(player2.getX(), player2.getY(), fireAngle, PLAYER_BULLET_SPEED);
+            bullet.setColor(PLAYER2_BULLET_COLOR); // สีแดงออกชมพู (RGB)
+            bullet2Commands.spawn(bullet);
+            // Play sound after creating bullet
+            listener.playerShot(player2);
+        }
+    }
+    
+    private void applyPowerUp(PowerUp powerUp, Player targetPlayer) {
+        // In co-op mode, apply power-up to both players
+        if (coopMode && player2 != null) {
+            switch (powerUp.getType()) {
+                case HEALTH:
+                    player.heal(20);
+                    player2.heal(20);
+                    Log.info(Log.Category.GAME, "Co-op: Both players healed +20 HP");
+                    break;
+                case SPEED:
+                    player.increaseSpeed(1);
+                    player2.increaseSpeed(1);
+                    Log.info(Log.Category.GAME, "Co-op: Both players speed +1");
+                    break;
+                case FIRE_RATE:
+                    player.increaseFireRate(50);
+                    player2.increaseFireRate(50);
+                    Log.info(Log.Category.GAME, "Co-op: Both players fire rate +50");
+                    break;
+            }
+        } else {
+            // Single player mode - apply only to target
+            switch (powerUp.getType()) {
+                case HEALTH:
+                    targetPlayer.heal(20);
+                    break;
+                case SPEED:
+                    targetPlayer.increaseSpeed(1);
+                    break;
+                case FIRE_RATE:
+                    targetPlayer.increaseFireRate(50);
+                    break;
+            }
+        }
+    }    
+    /**
+     * Apply the Level Up reward picked by the player
+     * @param option 0 = Max Health (+20%), 1 = Move Speed (+15%), 2 = Fire Rate (+10%)
+     */
+    public void applyLevelUpgrade(int option) {
+        int healthUpgrade = getHealthUpgrade();
+        int speedUpgrade = getSpeedUpgrade();
+        int fireRateUpgrade = getFireRateUpgrade();
+        
+        // Apply upgrade based on selection
+        switch (option) {
+            case 0: // Max Health
+                player.increaseMaxHealth(healthUpgrade);
+                if (coopMode && player2 != null) {
+                    player2.increaseMaxHealth(healthUpgrade);
+                }
+                Log.info(Log.Category.GAME, "Max Health increased by " + healthUpgrade);
+                break;
+            case 1: // Move Speed
+                player.increaseSpeed(speedUpgrade);
+                if (coopMode && player2 != null) {
+                    player2.increaseSpeed(speedUpgrade);
+                }
+                Log.info(Log.Category.GAME, "Move Speed increased by " + speedUpgrade);
+                break;
+            case 2: // Fire Rate
+                player.increaseFireRate(fireRateUpgrade);
+                if (coopMode && player2 != null) {
+                    player2.increaseFireRate(fireRateUpgrade);
+                }
+                Log.info(Log.Category.GAME, "Fire Rate increased by " + fireRateUpgrade + " RPM");
+                break;
+        }
+    }
+    
+    // Upgrade amounts offered on the Level Up screen, based on player 1's current stats
+    public int getHealthUpgrade() { return (int) (player.getMaxHealth() * 0.2); } // +20% HP
+    public int getSpeedUpgrade() { return (int) (player.getSpeed() * 0.15); } // +15% Speed
+    public int getFireRateUpgrade() { return (int) (player.getFireRateRPM() * 0.1); } // +10% Fire Rate
+    
+    // Input
+    public void setInput(int bits, boolean pressed) {
+        if (pressed) {
+            input |= bits;
+        } else {
+            input &= ~bits;
+        }
+    }
+    
+    /**
+     * Queue one-shot actions (INPUT_SPECIAL, INPUT_TOGGLE_COOP, ...) for the next update().
+     * Going through the input mask keeps them on tick boundaries, so a replay applies them identically.
+     */
+    public void queueAction(int bits) {
+        input |= bits & ACTION_BITS;
+    }
+    
+    /**
+     * Input bit for a Level Up pick
+     * @param option 0 = Max Health, 1 = Move Speed, 2 = Fire Rate
+     */
+    public static int upgradeInput(int option) {
+        return INPUT_UPGRADE_HP << option;
+    }
+    
+    /**
+     * Held keys plus queued actions for the next update(); a replay sets one recorded mask per tick
+     */
+    public void setInputMask(int mask) { input = mask; }
+    public int getInputMask() { return input; }
+    
+    /**
+     * Restart the random sequence, e.g. before startGame() so the run can be replayed from the seed
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+    
+    /**
+     * Hash of the score, players and enemies; two runs that stayed in sync give the same value
+     */
+    public int stateChecksum() {
+        int hash = 17;
+        hash = 31 * hash + score;
+        hash = 31 * hash + level;
+        hash = 31 * hash + Long.hashCode(tickCount);
+        hash = 31 * hash + playerChecksum(player);
+        hash = 31 * hash + playerChecksum(player2);
+        for (Enemy enemy : enemies) {
+            hash = 31 * hash + enemy.getX();
+            hash = 31 * hash + enemy.getY();
+            hash = 31 * hash + enemy.getHealth();
+        }
+        hash = 31 * hash + bullets.size();
+        hash = 31 * hash + enemyBullets.size();
+        hash = 31 * hash + bossBullets.size();
+        if (boss != null) {
+            hash = 31 * hash + boss.getHealth();
+        }
+        return hash;
+    }
+    
+    private static int playerChecksum(Player p) {
+        if (p == null) return 0;
+        return (31 * p.getX() + p.getY()) * 31 + p.getHealth();
+    }
+    
+    private boolean isPressed(int bit) {
+        return (input & bit) != 0;
+    }
+    
+    public void setManualControlMode(boolean manual) { manualControlMode = manual; }
+    public void setGameRunning(boolean running) { gameRunning = running; }
+    
+    // Getters
+    public long now() { return now; }
+    public long getTickCount() { return tickCount; }
+    public int getTickInput() { return tickInput; }
+    public Player getPlayer() { return player; }
+    public Player getPlayer2() { return player2; }
+    public boolean isCoopMode() { return coopMode; }
+    public boolean isManualControlMode() { return manualControlMode; }
+    public List<Enemy> getEnemies() { return enemies; }
+    public List<Bullet> getBullets() { return bullets; }
+    public List<Bullet> getBullets2() { return bullets2; }
+    public List<EnemyBullet> getEnemyBullets() { return enemyBullets; }
+    public List<BossBullet> getBossBullets() { return bossBullets; }
+    public List<BossLaser> getBossLasers() { return bossLasers; }
+    public List<PowerUp> getPowerUps() { return powerUps; }
+    public List<DamagePopup> getDamagePopups() { return damagePopups; }
+    public ParticleSystem getParticles() { return particles; }
+    public WorldChunks getChunks() { return chunks; }
+    public Boss getBoss() { return boss; }
+    public boolean isBossSpawned() { return bossSpawned; }
+    public boolean isBossDeathAnimationActive() { return bossDeathAnimationActive; }
+    public float getBossDeathAlpha() { return bossDeathAlpha; }
+    public int getScore() { return score; }
+    public int getLevel() { return level; }
+    public int getCurrentLevel() { return currentLevel; }
+    public long getGameStartTime() { return gameStartTime; }
+    public boolean isGameRunning() { return gameRunning; }
+    public int getCameraX() { return cameraX; }
+    public int getCameraY() { return cameraY; }
+    public int getPrevCameraX() { return prevCameraX; }
+    public int getPrevCameraY() { return prevCameraY; }
+    
+    /**
+     * Everything currently alive in the world, players and particles excluded
+     */
+    public int getEntityCount() {
+        return enemies.size() + bullets.size() + bullets2.size() + enemyBullets.size()
+                + bossBullets.size() + bossLasers.size() + powerUps.size() + damagePopups.size()
+                + (boss != null ? 1 : 0);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * The world cut into CHUNK_SIZE squares, with the chunks near a player active.
+ *
+ * Only the active area is simulated: enemies and their spawns already follow
+ * the camera, and projectiles that leave the active chunks are dropped
+ * instead of flying on for their whole lifetime. Nothing is stored per chunk,
+ * so a 100k x 100k world costs no more memory or CPU than the default map;
+ * the active area is worked out again each tick from the player positions.
+ *
+ * On the default 3000x2100 map every chunk is within ACTIVE_RADIUS of the
+ * player, so the whole map stays active.
+ */
+public final class WorldChunks {
+    public static final int CHUNK_SIZE = 1024;
+    public static final int ACTIVE_RADIUS = 2; // chunks kept active on each side of a player's chunk
+
+    private final int worldWidth, worldHeight;
+    private final int cols, rows;
+
+    // Active rectangle around each player in world pixels (second one repeats the first in solo play)
+    private int minX1, minY1, maxX1, maxY1;
+    private int minX2, minY2, maxX2, maxY2;
+
+    public WorldChunks(int worldWidth, int worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.cols = (worldWidth + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.rows = (worldHeight + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        maxX1 = maxX2 = worldWidth;
+        maxY1 = maxY2 = worldHeight;
+    }
+
+    /**
+     * Recompute the active chunks from the players' positions
+     * @param player2 Second player in co-op mode, or null
+     */
+    public void update(Player player, Player player2) {
+        int c = chunkCol(player.getX()), r = chunkRow(player.getY());
+        minX1 = Math.max(0, c - ACTIVE_RADIUS) * CHUNK_SIZE;
+        minY1 = Math.max(0, r - ACTIVE_RADIUS) * CHUNK_SIZE;
+        maxX1 = Math.min(worldWidth, (c + ACTIVE_RADIUS + 1) * CHUNK_SIZE);
+        maxY1 = Math.min(worldHeight, (r + ACTIVE_RADIUS + 1) * CHUNK_SIZE);
+        if (player2 == null) {
+            minX2 = minX1; minY2 = minY1; maxX2 = maxX1; maxY2 = maxY1;
+            return;
+        }
+        c = chunkCol(player2.getX());
+        r = chunkRow(player2.getY());
+        minX2 = Math.max(0, c - ACTIVE_RADIUS) * CHUNK_SIZE;
+        minY2 = Math.max(0, r - ACTIVE_RADIUS) * CHUNK_SIZE;
+        maxX2 = Math.min(worldWidth, (c + ACTIVE_RADIUS + 1) * CHUNK_SIZE);
+        maxY2 = Math.min(worldHeight, (r + ACTIVE_RADIUS + 1) * CHUNK_SIZE);
+    }
+
+    /**
+     * Whether a point lies in an active chunk (points outside the world never do)
+     */
+    public boolean isActive(double x, double y) {
+        return (x >= minX1 && x < maxX1 && y >= minY1 && y < maxY1)
+            || (x >= minX2 && x < maxX2 && y >= minY2 && y < maxY2);
+    }
+
+    private int chunkCol(int x) {
+        return Math.max(0, Math.min(cols - 1, x / CHUNK_SIZE));
+    }
+
+    private int chunkRow(int y) {
+        return Math.max(0, Math.min(rows - 1, y / CHUNK_SIZE));
+    }
+
+    // Getters
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public long getChunkCount() { return (long) cols * rows; }
+    public int getActiveChunkCount() {
+        int one = ((maxX1 - minX1 + CHUNK_SIZE - 1) / CHUNK_SIZE) * ((maxY1 - minY1 + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        int two = ((maxX2 - minX2 + CHUNK_SIZE - 1) / CHUNK_SIZE) * ((maxY2 - minY2 + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        int overlapW = Math.max(0, Math.min(maxX1, maxX2) - Math.max(minX1, minX2));
+        int overlapH = Math.max(0, Math.min(maxY1, maxY2) - Math.max(minY1, minY2));
+        int overlap = ((overlapW + CHUNK_SIZE - 1) / CHUNK_SIZE) * ((overlapH + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        return one + two - overlap;
+    }
+}
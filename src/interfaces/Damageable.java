@@ -0,0 +1,12 @@
+package interfaces;
+
+/**
+ * Interface for objects that can take damage through a deferred command
+ */
+public interface Damageable {
+    /**
+     * Apply damage (shields, armour etc. are up to the implementation)
+     * @param amount Damage points
+     */
+    void consumeDamage(int amount);
+}
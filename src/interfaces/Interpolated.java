@@ -0,0 +1,22 @@
+package interfaces;
+
+/**
+ * Interface for objects drawn between simulation ticks, part way from their
+ * previous position to their current one
+ */
+public interface Interpolated extends Drawable {
+    /**
+     * Remember the current position as where the coming tick starts from
+     */
+    void storePrevious();
+
+    /**
+     * X coordinate at the start of the last tick, in the same form as getX()
+     */
+    double getPrevX();
+
+    /**
+     * Y coordinate at the start of the last tick, in the same form as getY()
+     */
+    double getPrevY();
+}
@@ -16,30 +16,49 @@ public class CollisionManager {
         void handleCollision(T first, U second);
     }
     
+    // Broad-phase grid, rebuilt from the second list on every checkCollisions call
+    private final SpatialHashGrid<Collidable> grid;
+    private final List<Collidable> candidates = new ArrayList<>();
+    
+    public CollisionManager() {
+        this(SpatialHashGrid.DEFAULT_CELL_SIZE);
+    }
+    
+    public CollisionManager(int cellSize) {
+        this.grid = new SpatialHashGrid<>(cellSize);
+    }
+    
     /**
      * Check collisions between two lists of collidable objects
-     * and invoke handler for each collision
+     * and invoke handler for each collision.
+     * The second list is bucketed into a spatial hash so each object in the
+     * first list is only tested against objects in neighbouring cells.
      */
+    @SuppressWarnings("unchecked")
     public <T extends Collidable, U extends Collidable> void checkCollisions(
             List<T> firstList, 
             List<U> secondList, 
             CollisionHandler<T, U> handler) {
         
-        List<T> toRemoveFirst = new ArrayList<>();
-        List<U> toRemoveSecond = new ArrayList<>();
+        grid.clear();
+        for (U second : secondList) {
+            grid.insert(second, second.getCenterX(), second.getCenterY(), second.getCollisionRadius());
+        }
         
         for (T first : firstList) {
-            if (toRemoveFirst.contains(first)) continue;
+            candidates.clear();
+            grid.query(first.getCenterX(), first.getCenterY(), first.getCollisionRadius(), candidates);
             
-            for (U second : secondList) {
-                if (toRemoveSecond.contains(second)) continue;
-                
+            for (Collidable candidate : candidates) {
+                U second = (U) candidate;
                 if (first.collidesWith(second)) {
                     handler.handleCollision(first, second);
                     // Note: Handler is responsible for marking objects for removal
                 }
             }
         }
+        candidates.clear();
+        grid.clear();
     }
     
     /**
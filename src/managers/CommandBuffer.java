@@ -0,0 +1,146 @@
+package managers;
+
+import interfaces.Damageable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Per-tick record of changes to entity lists, applied in one flush.
+ *
+ * Each entity list gets a Channel. While a tick runs, code only records
+ * commands: spawn() and kill() on a channel, damage() on the buffer. Lists
+ * are never changed mid-iteration. flush() then applies the damage in the
+ * order it was recorded, removes every killed entity with one compacting
+ * pass per list (order of the survivors is kept), and appends the spawns.
+ * Each list operation is therefore O(1) amortised, however many entities
+ * die in the same tick.
+ *
+ * Killed entities stay in their list until the flush; loops that run later
+ * in the same tick should skip them with isKilled().
+ */
+public class CommandBuffer {
+    private final List<Channel<?>> channels = new ArrayList<>();
+    private final List<Damageable> damageTargets = new ArrayList<>();
+    private int[] damageAmounts = new int[16];
+
+    /**
+     * Pending spawns and kills for one list
+     */
+    public static final class Channel<T> {
+        private final List<T> list;
+        private final Consumer<? super T> onRemove;
+        private final List<T> spawns = new ArrayList<>();
+        private final Set<T> kills = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Channel(List<T> list, Consumer<? super T> onRemove) {
+            this.list = list;
+            this.onRemove = onRemove;
+        }
+
+        /**
+         * Add the entity to the list at the next flush
+         */
+        public void spawn(T entity) {
+            spawns.add(entity);
+        }
+
+        /**
+         * Remove the entity from the list at the next flush
+         * @return false if it was already killed this tick
+         */
+        public boolean kill(T entity) {
+            return kills.add(entity);
+        }
+
+        public boolean isKilled(T entity) {
+            return kills.contains(entity);
+        }
+
+        private void flush() {
+            if (!kills.isEmpty()) {
+                // Compact survivors to the front, then drop the tail
+                int size = list.size();
+                int write = 0;
+                for (int read = 0; read < size; read++) {
+                    T entity = list.get(read);
+                    if (kills.contains(entity)) {
+                        if (onRemove != null) onRemove.accept(entity);
+                    } else {
+                        if (write != read) list.set(write, entity);
+                        write++;
+                    }
+                }
+                for (int i = size - 1; i >= write; i--) {
+                    list.remove(i);
+                }
+            }
+            for (int i = 0; i < spawns.size(); i++) {
+                T entity = spawns.get(i);
+                if (kills.contains(entity)) {
+                    // Spawned and killed in the same tick
+                    if (onRemove != null) onRemove.accept(entity);
+                } else {
+                    list.add(entity);
+                }
+            }
+            spawns.clear();
+            kills.clear();
+        }
+
+        private void discard() {
+            spawns.clear();
+            kills.clear();
+        }
+    }
+
+    /**
+     * Register a list
+     * @param onRemove Called for each killed entity at the flush (e.g. return to its pool), or null
+     */
+    public <T> Channel<T> channel(List<T> list, Consumer<? super T> onRemove) {
+        Channel<T> channel = new Channel<>(list, onRemove);
+        channels.add(channel);
+        return channel;
+    }
+
+    /**
+     * Damage the target at the next flush
+     */
+    public void damage(Damageable target, int amount) {
+        int n = damageTargets.size();
+        if (n == damageAmounts.length) {
+            int[] grown = new int[n * 2];
+            System.arraycopy(damageAmounts, 0, grown, 0, n);
+            damageAmounts = grown;
+        }
+        damageTargets.add(target);
+        damageAmounts[n] = amount;
+    }
+
+    /**
+     * Apply everything recorded since the last flush: damage, then kills and spawns per channel
+     */
+    public void flush() {
+        for (int i = 0; i < damageTargets.size(); i++) {
+            damageTargets.get(i).consumeDamage(damageAmounts[i]);
+        }
+        damageTargets.clear();
+        for (Channel<?> channel : channels) {
+            channel.flush();
+        }
+    }
+
+    /**
+     * Drop everything recorded since the last flush without applying it
+     */
+    public void clear() {
+        damageTargets.clear();
+        for (Channel<?> channel : channels) {
+            channel.discard();
+        }
+    }
+}
@@ -11,27 +11,27 @@ import java.util.List;
  */
 public class EntityManager {
     private List<GameObject> entities;
-    private List<GameObject> entitiesToAdd;
-    private List<GameObject> entitiesToRemove;
+    private CommandBuffer commands;
+    private CommandBuffer.Channel<GameObject> channel;
     
     public EntityManager() {
         entities = new ArrayList<>();
-        entitiesToAdd = new ArrayList<>();
-        entitiesToRemove = new ArrayList<>();
+        commands = new CommandBuffer();
+        channel = commands.channel(entities, null);
     }
     
     /**
      * Add an entity to be added on next update
      */
     public void addEntity(GameObject entity) {
-        entitiesToAdd.add(entity);
+        channel.spawn(entity);
     }
     
     /**
      * Mark an entity for removal on next update
      */
     public void removeEntity(GameObject entity) {
-        entitiesToRemove.add(entity);
+        channel.kill(entity);
     }
     
     /**
@@ -39,10 +39,7 @@ public class EntityManager {
      */
     public void updateAll(long deltaMs) {
         // Process additions and removals
-        entities.removeAll(entitiesToRemove);
-        entities.addAll(entitiesToAdd);
-        entitiesToAdd.clear();
-        entitiesToRemove.clear();
+        commands.flush();
         
         // Update all entities
         for (GameObject entity : entities) {
@@ -78,8 +75,7 @@ public class EntityManager {
      */
     public void clear() {
         entities.clear();
-        entitiesToAdd.clear();
-        entitiesToRemove.clear();
+        commands.clear();
     }
     
     /**
@@ -0,0 +1,131 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform spatial hash used as a collision broad-phase.
+ *
+ * Each item is stored once, in the bucket of the cell containing its center.
+ * Queries widen the searched area by the largest radius inserted so far, so
+ * callers get every item whose bounds could overlap the query circle and then
+ * run their own exact (narrow-phase) test on the candidates.
+ *
+ * Cells are hashed into a fixed number of buckets, so the grid works for any
+ * world size; bucket storage is reused between rebuilds to avoid garbage.
+ */
+public class SpatialHashGrid<T> {
+    // Roughly one enemy sprite per cell (30x21 cells on the default 3000x2100 world)
+    public static final int DEFAULT_CELL_SIZE = 100;
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+
+    private final int cellSize;
+    private final int bucketMask;
+    private final List<T>[] buckets;
+    private final int[] usedBuckets;
+    private int usedBucketCount = 0;
+    private final int[] bucketStamp;
+    private int queryStamp = 0;
+    private double maxRadius = 0;
+    private int size = 0;
+
+    public SpatialHashGrid() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_BUCKET_COUNT);
+    }
+
+    public SpatialHashGrid(int cellSize) {
+        this(cellSize, DEFAULT_BUCKET_COUNT);
+    }
+
+    /**
+     * @param cellSize Cell edge length in world pixels
+     * @param bucketCount Number of hash buckets (rounded up to a power of two)
+     */
+    @SuppressWarnings("unchecked")
+    public SpatialHashGrid(int cellSize, int bucketCount) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0");
+        int n = Integer.highestOneBit(Math.max(16, bucketCount - 1)) << 1;
+        this.cellSize = cellSize;
+        this.bucketMask = n - 1;
+        this.buckets = (List<T>[]) new List<?>[n];
+        this.usedBuckets = new int[n];
+        this.bucketStamp = new int[n];
+    }
+
+    /**
+     * Remove all items (bucket storage is kept for reuse)
+     */
+    public void clear() {
+        for (int i = 0; i < usedBucketCount; i++) {
+            buckets[usedBuckets[i]].clear();
+        }
+        usedBucketCount = 0;
+        maxRadius = 0;
+        size = 0;
+    }
+
+    /**
+     * Register an item at a center position
+     * @param radius Half the item's largest extent (used to widen queries)
+     */
+    public void insert(T item, double x, double y, double radius) {
+        int b = bucketOf(cellOf(x), cellOf(y));
+        List<T> bucket = buckets[b];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets[b] = bucket;
+        }
+        if (bucket.isEmpty()) {
+            usedBuckets[usedBucketCount++] = b;
+        }
+        bucket.add(item);
+        if (radius > maxRadius) maxRadius = radius;
+        size++;
+    }
+
+    /**
+     * Collect candidates that may overlap the given circle into out.
+     * Each stored item is reported at most once per query.
+     */
+    public void query(double x, double y, double radius, List<? super T> out) {
+        if (size == 0) return;
+        double reach = radius + maxRadius;
+        int minCx = cellOf(x - reach);
+        int maxCx = cellOf(x + reach);
+        int minCy = cellOf(y - reach);
+        int maxCy = cellOf(y + reach);
+
+        // Stamp visited buckets so hash collisions between cells don't report duplicates
+        queryStamp++;
+        if (queryStamp == 0) {
+            Arrays.fill(bucketStamp, 0);
+            queryStamp = 1;
+        }
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int b = bucketOf(cx, cy);
+                if (bucketStamp[b] == queryStamp) continue;
+                bucketStamp[b] = queryStamp;
+                List<T> bucket = buckets[b];
+                if (bucket != null && !bucket.isEmpty()) {
+                    out.addAll(bucket);
+                }
+            }
+        }
+    }
+
+    private int cellOf(double coord) {
+        return (int) Math.floor(coord / cellSize);
+    }
+
+    private int bucketOf(int cx, int cy) {
+        int h = cx * 73856093 ^ cy * 19349663;
+        return (h ^ (h >>> 16)) & bucketMask;
+    }
+
+    // Getters
+    public int getCellSize() { return cellSize; }
+    public int size() { return size; }
+}